@@ -4,11 +4,32 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import com.fbehrens.dsal.arrays.competition.StaticLookup;
+import com.fbehrens.dsal.arrays.competition.TopK;
+import com.fbehrens.dsal.heaps.competition.EventScheduling;
+import com.fbehrens.dsal.heaps.competition.TaskScheduling;
 import com.fbehrens.dsal.lists.AbstractList;
 import com.fbehrens.dsal.lists.SimpleLinkedList;
+import com.fbehrens.dsal.lists.competition.BlockingHandoff;
+import com.fbehrens.dsal.lists.competition.ConcurrentQueues;
 import com.fbehrens.dsal.lists.competition.ListAppendingAndPrepending;
+import com.fbehrens.dsal.lists.competition.ListAsQueue;
 import com.fbehrens.dsal.lists.competition.ListAsStack;
+import com.fbehrens.dsal.lists.competition.ListIterationAndEdits;
+import com.fbehrens.dsal.lists.competition.NodeRecycling;
+import com.fbehrens.dsal.lists.competition.PositionalEdits;
+import com.fbehrens.dsal.lists.competition.SelfOrganizingLookups;
+import com.fbehrens.dsal.lists.competition.StacksAndQueues;
+import com.fbehrens.dsal.sorting.competition.ExternalSort;
+import com.fbehrens.dsal.sorting.competition.InputPatterns;
+import com.fbehrens.dsal.sorting.competition.ParallelSort;
+import com.fbehrens.dsal.sorting.competition.RandomSelection;
 import com.fbehrens.dsal.sorting.competition.RandomSort;
+import com.fbehrens.dsal.sorting.competition.RecordSort;
+import com.fbehrens.dsal.sorting.competition.SortCounts;
+import com.fbehrens.dsal.trees.competition.ConcurrentReadWrite;
+import com.fbehrens.dsal.trees.competition.SnapshotVersions;
+import com.fbehrens.dsal.trees.competition.UrlLookup;
 
 /**
  * Compares the run times of competitors.
@@ -29,7 +50,28 @@ public class RuntimeComparator {
 		// add groups of competitors here
 		groups.append(new ListAppendingAndPrepending());
 		groups.append(new ListAsStack());
+		groups.append(new ListAsQueue());
+		groups.append(new ListIterationAndEdits());
+		groups.append(new PositionalEdits());
+		groups.append(new StacksAndQueues());
+		groups.append(new ConcurrentQueues());
+		groups.append(new BlockingHandoff());
+		groups.append(new NodeRecycling());
+		groups.append(new SelfOrganizingLookups());
 		groups.append(new RandomSort());
+		groups.append(new RandomSelection());
+		groups.append(new InputPatterns());
+		groups.append(new SortCounts());
+		groups.append(new ParallelSort());
+		groups.append(new RecordSort());
+		groups.append(new ExternalSort());
+		groups.append(new SnapshotVersions());
+		groups.append(new UrlLookup());
+		groups.append(new ConcurrentReadWrite());
+		groups.append(new StaticLookup());
+		groups.append(new TopK());
+		groups.append(new TaskScheduling());
+		groups.append(new EventScheduling());
 
 		for (CompetitorGroup group : groups) {
 			compare(group);
@@ -48,6 +90,14 @@ public class RuntimeComparator {
 
 		default void takeDown() {
 		}
+
+		/**
+		 * Returns additional measurements of the last run (e.g. memory usage)
+		 * that are printed next to the timing, or null if there are none.
+		 */
+		default String getReport() {
+			return null;
+		}
 	}
 
 	public interface CompetitorGroup {
@@ -55,27 +105,50 @@ public class RuntimeComparator {
 			return this.getClass().getSimpleName();
 		}
 
+		/**
+		 * Returns the competitors of this group, or an empty array if the
+		 * group cannot run in this environment and is to be skipped.
+		 */
 		Competitor[] getCompetitors();
+
+		/**
+		 * Called after all competitors of this group have run (or one of them
+		 * has failed), e.g. to delete input files which they share.
+		 */
+		default void takeDown() {
+		}
 	}
 
 	private static class Result {
 		public long timing;
 		public Competitor competitor;
+		public String report;
 	}
 
 	private static void compare(CompetitorGroup group) {
+		Competitor[] competitors = group.getCompetitors();
+		if (competitors.length == 0) {
+			System.out.println("Skipping: " + group.getName());
+			System.out.println();
+			return;
+		}
 		System.out.println("Comparing: " + group.getName());
-		List<Result> results = new ArrayList<>(group.getCompetitors().length);
-		for (Competitor competitor : group.getCompetitors()) {
-			competitor.prepare();
-			long start = System.nanoTime();
-			competitor.run();
-			long end = System.nanoTime();
-			competitor.takeDown();
-			Result result = new Result();
-			result.competitor = competitor;
-			result.timing = end - start;
-			results.add(result);
+		List<Result> results = new ArrayList<>(competitors.length);
+		try {
+			for (Competitor competitor : competitors) {
+				competitor.prepare();
+				long start = System.nanoTime();
+				competitor.run();
+				long end = System.nanoTime();
+				competitor.takeDown();
+				Result result = new Result();
+				result.competitor = competitor;
+				result.timing = end - start;
+				result.report = competitor.getReport();
+				results.add(result);
+			}
+		} finally {
+			group.takeDown();
 		}
 
 		results.sort(new Comparator<Result>() {
@@ -89,6 +162,9 @@ public class RuntimeComparator {
 		for (Result result : results) {
 			String formattedTime = String.format("%f s", result.timing / Math.pow(10, 9));
 			System.out.println(result.competitor.getName() + ": " + formattedTime);
+			if (result.report != null) {
+				System.out.println("    " + result.report);
+			}
 		}
 		System.out.println();
 	}
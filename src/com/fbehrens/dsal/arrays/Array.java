@@ -33,7 +33,7 @@ public class Array<D> {
 	 */
 	@SuppressWarnings("unchecked")
 	private void realloc() {
-		if (size >= a.length) {
+		if (size > a.length) {
 			D[] b = (D[]) new Object[2 * size];
 			for (int i = 0; i < a.length; i++)
 				if (a[i] != null)
@@ -60,7 +60,7 @@ public class Array<D> {
 
 	/**
 	 * Ensures that after this call this array can access all elements with
-	 * index i &le; s in constant time and sets the size to s.
+	 * index i &lt; s in constant time and sets the size to s.
 	 * 
 	 * @param s
 	 *            Resize the array to have at least capacity s, if the current
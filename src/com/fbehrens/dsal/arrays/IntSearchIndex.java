@@ -0,0 +1,152 @@
+package com.fbehrens.dsal.arrays;
+
+/**
+ * A static search index for int keys, like {@link SearchIndex} but the keys
+ * are stored in an int[] so that no boxed keys have to be dereferenced.
+ */
+public class IntSearchIndex {
+	/*
+	 * the keys in the chosen layout; in the van Emde Boas layout the tree is
+	 * padded to a perfect tree with Integer.MAX_VALUE
+	 */
+	private final int[] t;
+
+	private final int n;
+
+	private final SearchLayout layout;
+
+	/*
+	 * the height of the perfect tree in the van Emde Boas layout
+	 */
+	private final int h;
+
+	/*
+	 * whether Integer.MAX_VALUE is a key, as it cannot be distinguished from
+	 * the padding
+	 */
+	private final boolean containsmax;
+
+	/**
+	 * Builds an index in the Eytzinger layout. Requires that sorted is sorted.
+	 * (linear time)
+	 *
+	 * @param sorted
+	 *            The sorted keys, the array is not changed.
+	 */
+	public IntSearchIndex(int[] sorted) {
+		this(sorted, SearchLayout.EYTZINGER);
+	}
+
+	/**
+	 * Builds an index in the given layout. Requires that sorted is sorted.
+	 * (linear time)
+	 *
+	 * @param sorted
+	 *            The sorted keys, the array is not changed.
+	 * @param layout
+	 *            The memory layout of the index.
+	 */
+	public IntSearchIndex(int[] sorted, SearchLayout layout) {
+		this.n = sorted.length;
+		this.layout = layout;
+		this.containsmax = n > 0 && sorted[n - 1] == Integer.MAX_VALUE;
+		int[] order;
+		if (layout == SearchLayout.EYTZINGER) {
+			this.h = 0;
+			order = SearchLayout.eytzinger(n);
+			order[0] = n;
+		} else {
+			this.h = SearchLayout.height(n);
+			order = SearchLayout.vanemdeboas(h);
+		}
+		t = new int[order.length];
+		for (int p = 0; p < order.length; p++)
+			t[p] = order[p] < n ? sorted[order[p]] : Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Builds an index in the given layout from a sorted {@link OArray}.
+	 * (linear time)
+	 *
+	 * @param sorted
+	 *            The sorted keys, the array is not changed.
+	 * @param layout
+	 *            The memory layout of the index.
+	 */
+	public IntSearchIndex(OArray<Integer> sorted, SearchLayout layout) {
+		this(unbox(sorted), layout);
+	}
+
+	private static int[] unbox(OArray<Integer> sorted) {
+		int[] keys = new int[sorted.size()];
+		for (int i = 0; i < keys.length; i++)
+			keys[i] = sorted.get(i);
+		return keys;
+	}
+
+	/**
+	 * Returns the number of keys in this index.
+	 */
+	public int size() {
+		return n;
+	}
+
+	/**
+	 * Checks whether this index is empty.
+	 */
+	public boolean isempty() {
+		return n == 0;
+	}
+
+	/**
+	 * Returns the layout of this index.
+	 */
+	public SearchLayout layout() {
+		return layout;
+	}
+
+	/**
+	 * Checks whether x is contained in this index. (O(log(n)) time)
+	 *
+	 * @param x
+	 *            The key to search for.
+	 * @return true iff x is contained in this index.
+	 */
+	public boolean contains(int x) {
+		if (layout == SearchLayout.EYTZINGER) {
+			int k = 1;
+			/*
+			 * the comparison is compiled to a conditional move, not a jump
+			 */
+			while (k <= n)
+				k = 2 * k + (t[k] < x ? 1 : 0);
+			k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+			return k != 0 && t[k] == x;
+		}
+		if (x == Integer.MAX_VALUE)
+			return containsmax;
+		if (n == 0)
+			return false;
+		int p = (int) vanemdeboas(0, h, x);
+		return p >= 0 && t[p] == x;
+	}
+
+	/**
+	 * Searches x in the perfect tree of height h which is stored in the van
+	 * Emde Boas layout starting at position base.
+	 *
+	 * @return In the upper 32 bits the path to the leaf (one bit per level, 1
+	 *         = go to the right), in the lower 32 bits the position of the
+	 *         ceiling of x in this tree, or -1 if there is none.
+	 */
+	private long vanemdeboas(int base, int h, int x) {
+		if (h == 1)
+			return t[base] < x ? 1L << 32 | 0xFFFFFFFFL : base;
+		int ht = h / 2, hb = h - ht;
+		long top = vanemdeboas(base, ht, x);
+		int path = (int) (top >>> 32);
+		long bottom = vanemdeboas(base + (1 << ht) - 1 + path * ((1 << hb) - 1), hb, x);
+		long ceiling = (int) bottom >= 0 ? bottom : top;
+		return ((long) (path << hb | (int) (bottom >>> 32))) << 32 | (ceiling & 0xFFFFFFFFL);
+	}
+}
@@ -1,7 +1,8 @@
 package com.fbehrens.dsal.arrays;
 
-import com.fbehrens.dsal.Pair;
-import com.fbehrens.dsal.lists.Stack;
+import java.util.Iterator;
+
+import com.fbehrens.dsal.sorting.SortCounter;
 
 /**
  * An (O)rdered array is like an array but there additional methods to sort an
@@ -10,7 +11,9 @@ import com.fbehrens.dsal.lists.Stack;
  * an array {@link #binsearch(Comparable)}. Finally, there are methods like
  * {@link #insert(Comparable)} and {@link #extract_min()} which should only be
  * used if the array has a heap-structure and which ensure that the
- * heap-structure is guaranteed afterwards.
+ * heap-structure is guaranteed afterwards. The k largest elements can be
+ * selected without sorting by {@link #topK(int)}. The comparisons, swaps and
+ * moves can be counted by a {@link SortCounter}.
  * 
  * @author Rossmanith
  *
@@ -20,6 +23,16 @@ import com.fbehrens.dsal.lists.Stack;
  * @see Comparable
  */
 public class OArray<D extends Comparable<D>> extends Array<D> {
+	private SortCounter counter = SortCounter.NONE;
+
+	/**
+	 * Counts the comparisons, swaps and moves of all following operations with
+	 * counter, or stops counting if it is {@link SortCounter#NONE}.
+	 */
+	public void setCounter(SortCounter counter) {
+		this.counter = counter;
+	}
+
 	/**
 	 * Sorts this array in place in O(n log(n)) time using the heap-sort
 	 * algorithm.
@@ -27,12 +40,9 @@ public class OArray<D extends Comparable<D>> extends Array<D> {
 	public void heapsort() {
 		int s = size();
 		/*
-		 * first construct a heap from this array in O(n log(n))
+		 * first construct a heap from this array in O(n)
 		 */
-		for (int i = 0; i < s; i++) {
-
-			bubble_up(i);
-		}
+		heapify();
 		/*
 		 * second perform the sorting in O(n log(n))
 		 */
@@ -44,17 +54,104 @@ public class OArray<D extends Comparable<D>> extends Array<D> {
 			swap(i, s - 1 - i);
 	}
 
+	/**
+	 * Rearranges this array such that it has the heap-property, in O(n) time.
+	 * Bubbles down every inner node, starting with the last one, so that most
+	 * elements move only a short distance.
+	 */
+	public void heapify() {
+		int s = size();
+		for (int i = s / 2 - 1; i >= 0; i--)
+			bubble_down(i, s);
+	}
+
 	/**
 	 * Under the condition that the array is a heap, this method sorts the array
 	 * in reverse order.
 	 */
 	private void reverse_sort() {
 		for (int i = size() - 1; i > 0; i--) {
-			swap(0, i);
+			D d = at(i);
+			put(i, at(0));
+			bounce(d, i);
+		}
+
+	}
 
-			bubble_down(0, i);
+	/**
+	 * Floyd's variant of bubbling down, assuming that the array has size s and
+	 * that position 0 is empty: the hole is moved to a leaf along the smaller
+	 * children without comparing with d, and then d is bubbled up from there.
+	 * As d comes from a leaf it usually stays near the bottom, so this needs
+	 * about half of the comparisons of {@link #bubble_down(int, int)}.
+	 * 
+	 * @param d
+	 *            The element to insert into the hole.
+	 * @param s
+	 *            The current size of the (logical) heap.
+	 */
+	private void bounce(D d, int s) {
+		int i = 0, j;
+		while ((j = 2 * i + 1) < s) {
+			if (j + 1 < s && less(j + 1, j))
+				j++;
+			put(i, at(j));
+			i = j;
+		}
+		while (i > 0 && compare(d, at((i - 1) / 2)) < 0) {
+			put(i, at((i - 1) / 2));
+			i = (i - 1) / 2;
 		}
+		put(i, d);
+	}
+
+	/**
+	 * Returns the k largest elements of this array in decreasing order, in
+	 * O(n log(k)) time and O(k) additional space. This array is not changed.
+	 * 
+	 * @param k
+	 *            The number of elements, must be non-negative.
+	 * @return An array with min(k, size) elements.
+	 */
+	public OArray<D> topK(int k) {
+		OArray<D> top = new OArray<D>();
+		for (int i = 0; i < size; i++)
+			top.offer(at(i), k);
+		top.reverse_sort();
+		return top;
+	}
 
+	/**
+	 * Returns the k largest elements delivered by input in decreasing order.
+	 * The elements are streamed through a heap of size k, so only O(k) space
+	 * is needed and the running time is O(n log(k)) for n elements.
+	 * 
+	 * @param input
+	 *            The elements to select from.
+	 * @param k
+	 *            The number of elements, must be non-negative.
+	 * @return An array with at most k elements.
+	 */
+	public static <D extends Comparable<D>> OArray<D> topK(Iterator<? extends D> input, int k) {
+		OArray<D> top = new OArray<D>();
+		while (input.hasNext())
+			top.offer(input.next(), k);
+		top.reverse_sort();
+		return top;
+	}
+
+	/**
+	 * Provided that this array is a heap of at most k elements, adds d if this
+	 * array has less than k elements or if d is larger than the minimum, which
+	 * is then replaced by d.
+	 */
+	private void offer(D d, int k) {
+		if (size < k)
+			insert(d);
+		else if (k > 0 && compare(at(0), d) < 0) {
+			put(0, d);
+			bubble_down(0, size);
+		}
 	}
 
 	/**
@@ -67,7 +164,40 @@ public class OArray<D extends Comparable<D>> extends Array<D> {
 	 * @return true if a[i] < a[j], false, otherwise.
 	 */
 	private boolean less(int i, int j) {
-		return get(i).compareTo(get(j)) < 0;
+		return compare(at(i), at(j)) < 0;
+	}
+
+	/**
+	 * Compares d and e, counting the comparison.
+	 */
+	private int compare(D d, D e) {
+		counter.compared();
+		return d.compareTo(e);
+	}
+
+	/**
+	 * Returns the element at position i without the size check of
+	 * {@link #get(int)}. (The internal array is an Object[], so it must not be
+	 * accessed as a D[] in this class.)
+	 * 
+	 * @param i
+	 *            Valid range is 0 &le; i < size.
+	 */
+	@SuppressWarnings("unchecked")
+	private D at(int i) {
+		return (D) ((Object[]) a)[i];
+	}
+
+	/**
+	 * Stores d at position i without the size check and reallocation of
+	 * {@link #set(int, Object)}.
+	 * 
+	 * @param i
+	 *            Valid range is 0 &le; i < size.
+	 */
+	private void put(int i, D d) {
+		counter.moved(1);
+		((Object[]) a)[i] = d;
 	}
 
 	/**
@@ -79,9 +209,11 @@ public class OArray<D extends Comparable<D>> extends Array<D> {
 	 *            Valid range is 0 &le; j < size.
 	 */
 	private void swap(int i, int j) {
-		D temp = get(i);
-		set(i, get(j));
-		set(j, temp);
+		counter.swapped();
+		Object[] b = a;
+		Object temp = b[i];
+		b[i] = b[j];
+		b[j] = temp;
 	}
 
 	/**
@@ -166,7 +298,7 @@ public class OArray<D extends Comparable<D>> extends Array<D> {
 	 * 
 	 * @return The minimal element of this array.
 	 */
-	D extract_min() {
+	public D extract_min() {
 		D m = get(0);
 		swap(0, size() - 1);
 		resize(size() - 1);
@@ -175,80 +307,152 @@ public class OArray<D extends Comparable<D>> extends Array<D> {
 	}
 
 	/**
-	 * Sorts this array using the quicksort-algorithm. (with runtimes O(n
-	 * log(n)) in the average, and O(n<sup>2</sup>) in the worst case. The worst
-	 * case occurs for example when invoking quicksort on an already sorted
-	 * array.)
+	 * Sorts this array using the quicksort-algorithm in its introsort variant
+	 * (with runtime O(n log(n)) in the worst case). The pivot is the median of
+	 * three elements (of nine elements for large subarrays), subarrays of at
+	 * most 16 elements are sorted by insertion sort, and subarrays for which
+	 * the partitioning gets deeper than 2 log(n) are sorted by heapsort.
 	 */
 	public void quicksort() {
+		if (size < 2)
+			return;
 		/*
-		 * the stack is the todo list, i.e. for each entry (l,r) in the stack we
-		 * have to sort array between positions l to r.
+		 * the stack is the todo list, i.e. for each entry (l,r,depth) in the
+		 * stack we have to sort array between positions l to r. As the smaller
+		 * subarray is always sorted first, there are at most log(n) entries.
 		 */
-		Stack<Pair<Integer, Integer>> stack = new Stack<Pair<Integer, Integer>>();
-		stack.push(new Pair<Integer, Integer>(0, size - 1));
+		int[] stack = new int[3 * 32];
+		int top = 0;
+		int l = 0, r = size - 1;
+		int depth = 2 * (31 - Integer.numberOfLeadingZeros(size));
+		while (true) {
+			if (r - l < 16)
+				insertionsort(l, r);
+			else if (depth == 0)
+				heapsort(l, r);
+			else {
+				depth--;
+				int i = partition(l, r);
+				/*
+				 * push the larger subarray, continue with the smaller one
+				 */
+				if (i - l < r - i) {
+					stack[top++] = i + 1;
+					stack[top++] = r;
+					stack[top++] = depth;
+					r = i - 1;
+				} else {
+					stack[top++] = l;
+					stack[top++] = i - 1;
+					stack[top++] = depth;
+					l = i + 1;
+				}
+				continue;
+			}
+			if (top == 0)
+				return;
+			depth = stack[--top];
+			r = stack[--top];
+			l = stack[--top];
+		}
+	}
+
+	/**
+	 * Partitions the subarray between positions l and r around the median of
+	 * three (or nine) elements.
+	 * 
+	 * @return The position of the pivot afterwards: all elements to the left
+	 *         are not larger, all elements to the right not smaller.
+	 */
+	private int partition(int l, int r) {
+		int m = (l + r) >>> 1;
+		if (r - l >= 128) {
+			int s = (r - l) / 8;
+			m = median(median(l, l + s, l + 2 * s), median(m - s, m, m + s), median(r - 2 * s, r - s, r));
+		} else
+			m = median(l, m, r);
+		swap(l, m);
+		D pivot = at(l);
 		/*
-		 * first move smallest element to the beginning of the array. works as
-		 * sentinal.
+		 * i walks from the left to the middle, j walks from the right to the
+		 * middle. Both stop at elements equal to the pivot, so that many equal
+		 * elements are split evenly.
 		 */
-		for (int i = 1; i < size; i++)
-			if (get(0).compareTo(get(i)) > 0) {
-				D t = get(0);
-				set(0, get(i));
-				set(i, t);
+		int i = l, j = r + 1;
+		while (true) {
+			while (compare(at(++i), pivot) < 0)
+				if (i == r)
+					break;
+			while (compare(pivot, at(--j)) < 0)
+				;
+			if (i >= j)
+				break;
+			swap(i, j);
+		}
+		swap(l, j);
+		return j;
+	}
 
-			}
-		while (!stack.isempty()) {
-			Pair<Integer, Integer> p = stack.pop();
-			int l = p.first(), r = p.second();
-			/*
-			 * i walks from the left to the middle j walks from the right to the
-			 * middle
-			 */
-			int i = l - 1, j = r;
-			/*
-			 * choose pivot element (here: element at right bound)
-			 */
-			D t, pivot = get(j);
-			do {
-				/*
-				 * walk to next positions i and j where i and j need to be
-				 * swapped (i cannot get larger as r) (j cannot get smaller as
-				 * l, as we first moved the smallest element to the beginning of
-				 * the array) (note that in the end - if i and j cross - one
-				 * additional swap is performed which has to be undone)
-				 */
-				do {
-					i++;
-				} while (get(i).compareTo(pivot) < 0);
-				do {
-					j--;
-				} while (get(j).compareTo(pivot) > 0);
-				/*
-				 * and do the swap
-				 */
-				t = get(i);
-				set(i, get(j));
-				set(j, t);
+	/**
+	 * Returns the position of the median of the elements at positions i, j
+	 * and k.
+	 */
+	private int median(int i, int j, int k) {
+		if (less(i, j)) {
+			if (less(j, k))
+				return j;
+			return less(i, k) ? k : i;
+		}
+		if (less(i, k))
+			return i;
+		return less(j, k) ? k : j;
+	}
 
-			} while (i < j);
-			/*
-			 * undo additional swap step and swap pivot into the middle.
-			 */
-			set(j, get(i));
-			set(i, get(r));
-			set(r, t);
+	/**
+	 * Sorts the subarray between positions l and r by insertion sort.
+	 */
+	private void insertionsort(int l, int r) {
+		for (int i = l + 1; i <= r; i++) {
+			D d = at(i);
+			int j = i - 1;
+			while (j >= l && compare(d, at(j)) < 0) {
+				put(j + 1, at(j));
+				j--;
+			}
+			put(j + 1, d);
+		}
+	}
 
-			/*
-			 * sort left and right subarrays of pivot position if these arrays
-			 * have at least size 2
-			 */
-			if (r - i > 1)
-				stack.push(new Pair<Integer, Integer>(i + 1, r));
-			if (i - l > 1)
-				stack.push(new Pair<Integer, Integer>(l, i - 1));
+	/**
+	 * Sorts the subarray between positions l and r by heapsort, using a heap
+	 * with the maximum at position l.
+	 */
+	private void heapsort(int l, int r) {
+		int n = r - l + 1;
+		for (int i = n / 2 - 1; i >= 0; i--)
+			sift_down(l, i, n);
+		for (int s = n - 1; s > 0; s--) {
+			swap(l, l + s);
+			sift_down(l, 0, s);
 		}
+	}
 
+	/**
+	 * Bubbles down the element at position i of the max-heap of size s which
+	 * starts at position l.
+	 */
+	private void sift_down(int l, int i, int s) {
+		D d = at(l + i);
+		int j;
+		while ((j = 2 * i + 1) < s) {
+			if (j + 1 < s && less(l + j, l + j + 1))
+				j++;
+			if (compare(d, at(l + j)) >= 0)
+				break;
+			put(l + i, at(l + j));
+			i = j;
+		}
+		put(l + i, d);
 	}
 
 	/**
@@ -263,7 +467,7 @@ public class OArray<D extends Comparable<D>> extends Array<D> {
 		int l = 0, r = size - 1, m, c;
 		while (l <= r) {
 			m = (l + r) / 2;
-			c = d.compareTo(get(m));
+			c = compare(d, get(m));
 			if (c == 0)
 				return true;
 			if (c < 0)
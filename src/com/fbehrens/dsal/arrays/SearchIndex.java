@@ -0,0 +1,171 @@
+package com.fbehrens.dsal.arrays;
+
+/**
+ * A static search index over the elements of a sorted {@link OArray}. The
+ * elements are copied into a plain array in a {@link SearchLayout} which is
+ * friendlier to the cache than a sorted array, and the index cannot be changed
+ * afterwards. Searching requires O(log(n)) comparisons like
+ * {@link OArray#binsearch(Comparable)}, but it loads fewer cache lines and in
+ * the Eytzinger layout the descent has no unpredictable branch. For int and
+ * long keys use {@link IntSearchIndex} and {@link LongSearchIndex}, which do
+ * not have to dereference boxed keys.
+ *
+ * @param <D>
+ *            The type of the elements in the index.
+ */
+public class SearchIndex<D extends Comparable<D>> {
+	/*
+	 * the elements in the chosen layout; in the van Emde Boas layout the tree
+	 * is padded to a perfect tree with nulls which are larger than every
+	 * element (an Object[], read through at())
+	 */
+	private final Object[] t;
+
+	private final int n;
+
+	private final SearchLayout layout;
+
+	/*
+	 * the height of the perfect tree in the van Emde Boas layout
+	 */
+	private final int h;
+
+	/**
+	 * Builds an index in the Eytzinger layout. Requires that sorted is sorted.
+	 * (linear time)
+	 *
+	 * @param sorted
+	 *            The sorted elements, the array is not changed.
+	 */
+	public SearchIndex(OArray<D> sorted) {
+		this(sorted, SearchLayout.EYTZINGER);
+	}
+
+	/**
+	 * Builds an index in the given layout. Requires that sorted is sorted.
+	 * (linear time)
+	 *
+	 * @param sorted
+	 *            The sorted elements, the array is not changed.
+	 * @param layout
+	 *            The memory layout of the index.
+	 */
+	public SearchIndex(OArray<D> sorted, SearchLayout layout) {
+		this.n = sorted.size();
+		this.layout = layout;
+		int[] order;
+		if (layout == SearchLayout.EYTZINGER) {
+			this.h = 0;
+			order = SearchLayout.eytzinger(n);
+			order[0] = n;
+		} else {
+			this.h = SearchLayout.height(n);
+			order = SearchLayout.vanemdeboas(h);
+		}
+		t = new Object[order.length];
+		for (int p = 0; p < order.length; p++)
+			if (order[p] < n)
+				t[p] = sorted.get(order[p]);
+	}
+
+	/**
+	 * Returns the element at position p of the layout.
+	 */
+	@SuppressWarnings("unchecked")
+	private D at(int p) {
+		return (D) t[p];
+	}
+
+	/**
+	 * Returns the number of elements in this index.
+	 */
+	public int size() {
+		return n;
+	}
+
+	/**
+	 * Checks whether this index is empty.
+	 */
+	public boolean isempty() {
+		return n == 0;
+	}
+
+	/**
+	 * Returns the layout of this index.
+	 */
+	public SearchLayout layout() {
+		return layout;
+	}
+
+	/**
+	 * Checks whether d is contained in this index. (O(log(n)) time)
+	 *
+	 * @param d
+	 *            The element to search for.
+	 * @return true iff d is contained in this index.
+	 */
+	public boolean contains(D d) {
+		D c = ceiling(d);
+		return c != null && c.compareTo(d) == 0;
+	}
+
+	/**
+	 * Returns the smallest element which is not smaller than d. (O(log(n))
+	 * time)
+	 *
+	 * @param d
+	 *            The element to search for.
+	 * @return The smallest element e with e &ge; d, or null if all elements are
+	 *         smaller than d.
+	 */
+	public D ceiling(D d) {
+		if (layout == SearchLayout.EYTZINGER) {
+			int k = eytzinger(d);
+			return k == 0 ? null : at(k);
+		}
+		if (n == 0)
+			return null;
+		int p = (int) vanemdeboas(0, h, d);
+		return p < 0 ? null : at(p);
+	}
+
+	/**
+	 * Descends to a leaf, every comparison appends one bit to k (1 = go to the
+	 * right). The ceiling is the node where we went to the left for the last
+	 * time, so the trailing 1-bits and one 0-bit are removed.
+	 *
+	 * @return The position of the ceiling of d, or 0 if there is none.
+	 */
+	private int eytzinger(D d) {
+		int k = 1;
+		while (k <= n)
+			k = 2 * k + (at(k).compareTo(d) < 0 ? 1 : 0);
+		return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+	}
+
+	/**
+	 * Searches d in the perfect tree of height h which is stored in the van
+	 * Emde Boas layout starting at position base.
+	 *
+	 * @return In the upper 32 bits the path to the leaf (one bit per level, 1
+	 *         = go to the right), in the lower 32 bits the position of the
+	 *         ceiling of d in this tree, or -1 if there is none.
+	 */
+	private long vanemdeboas(int base, int h, D d) {
+		if (h == 1) {
+			D e = at(base);
+			if (e != null && e.compareTo(d) < 0)
+				return 1L << 32 | 0xFFFFFFFFL;
+			return base;
+		}
+		int ht = h / 2, hb = h - ht;
+		long top = vanemdeboas(base, ht, d);
+		int path = (int) (top >>> 32);
+		long bottom = vanemdeboas(base + (1 << ht) - 1 + path * ((1 << hb) - 1), hb, d);
+		/*
+		 * a ceiling in the bottom tree lies below the one in the top tree
+		 */
+		long ceiling = (int) bottom >= 0 ? bottom : top;
+		return ((long) (path << hb | (int) (bottom >>> 32))) << 32 | (ceiling & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,94 @@
+package com.fbehrens.dsal.arrays;
+
+/**
+ * The memory layouts of a {@link SearchIndex}. Both layouts store the sorted
+ * elements as a (complete) binary search tree in an array, without any
+ * pointers. Compared to binary search in a sorted array, the elements which
+ * are visited one after another by a search are stored close to each other,
+ * so that fewer cache lines (and pages) have to be loaded.
+ */
+public enum SearchLayout {
+	/**
+	 * The tree is stored in breadth-first order like a heap: the children of
+	 * position k are stored at 2k and 2k+1 (the root is at position 1). The
+	 * first levels of the tree share few cache lines, and the 16 descendants
+	 * four levels below a node are stored consecutively.
+	 */
+	EYTZINGER,
+	/**
+	 * van Emde Boas layout: the tree of height h is cut in the middle into a
+	 * top tree of height h/2 and the bottom trees below it, which are stored
+	 * recursively one after another. A search touches O(log<sub>B</sub> n)
+	 * blocks for every block size B (cache-oblivious).
+	 */
+	VAN_EMDE_BOAS;
+
+	/**
+	 * Computes the Eytzinger order for n sorted elements.
+	 *
+	 * @return An array o of length n+1 where o[k] is the index (in the sorted
+	 *         order) of the element stored at position k, 1 &le; k &le; n.
+	 */
+	static int[] eytzinger(int n) {
+		int[] order = new int[n + 1];
+		eytzinger(order, 1, 0);
+		return order;
+	}
+
+	/**
+	 * In-order traversal of the subtree at position k, the first element of
+	 * the subtree gets index i.
+	 *
+	 * @return The index of the next element after the subtree.
+	 */
+	private static int eytzinger(int[] order, int k, int i) {
+		if (k < order.length) {
+			i = eytzinger(order, 2 * k, i);
+			order[k] = i++;
+			i = eytzinger(order, 2 * k + 1, i);
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the height of the smallest perfect binary tree with at least n
+	 * nodes.
+	 */
+	static int height(int n) {
+		return 32 - Integer.numberOfLeadingZeros(n);
+	}
+
+	/**
+	 * Computes the van Emde Boas order of a perfect tree of height h.
+	 *
+	 * @return An array o of length 2<sup>h</sup>-1 where o[p] is the index (in
+	 *         the sorted order) of the element stored at position p.
+	 */
+	static int[] vanemdeboas(int h) {
+		int[] order = new int[(1 << h) - 1];
+		if (h > 0)
+			vanemdeboas(order, 0, h, 0, 1);
+		return order;
+	}
+
+	/**
+	 * Lays out the perfect tree of height h whose in-order elements have the
+	 * sorted indices lo, lo+stride, lo+2*stride, ..., starting at position
+	 * base.
+	 */
+	private static void vanemdeboas(int[] order, int base, int h, int lo, int stride) {
+		if (h == 1) {
+			order[base] = lo;
+			return;
+		}
+		int ht = h / 2, hb = h - ht;
+		int bottomsize = (1 << hb) - 1;
+		/*
+		 * the elements of the top tree separate the bottom trees
+		 */
+		vanemdeboas(order, base, ht, lo + bottomsize * stride, stride << hb);
+		int b = base + (1 << ht) - 1;
+		for (int i = 0; i < 1 << ht; i++, b += bottomsize)
+			vanemdeboas(order, b, hb, lo + ((i << hb) * stride), stride);
+	}
+}
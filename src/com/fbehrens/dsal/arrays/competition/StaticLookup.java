@@ -0,0 +1,202 @@
+package com.fbehrens.dsal.arrays.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.arrays.IntSearchIndex;
+import com.fbehrens.dsal.arrays.LongSearchIndex;
+import com.fbehrens.dsal.arrays.OArray;
+import com.fbehrens.dsal.arrays.SearchIndex;
+import com.fbehrens.dsal.arrays.SearchLayout;
+
+/**
+ * Looks up random keys (half of them present) in a large read-only table of
+ * sorted keys: binary search in the {@link OArray} against the search indexes
+ * in both layouts. Building the tables is not measured.
+ */
+public class StaticLookup implements RuntimeComparator.CompetitorGroup {
+
+	/*
+	 * the boxed OArray needs about 20 bytes per key, so the table is smaller
+	 * than the 10^8 keys where the int indexes show their full advantage
+	 */
+	private static final int KEYS = 10000000;
+	private static final int LOOKUPS = 5000000;
+
+	private static OArray<Integer> table;
+	private static int[] keys, queries;
+	private static int expected;
+
+	/*
+	 * generates the same table and queries for all competitors: the even
+	 * numbers are stored, odd queries are misses
+	 */
+	private static void generate() {
+		if (table != null) {
+			return;
+		}
+		table = new OArray<Integer>();
+		table.resize(KEYS);
+		keys = new int[KEYS];
+		for (int i = 0; i < KEYS; i++) {
+			keys[i] = 2 * i;
+			table.set(i, 2 * i);
+		}
+		Random r = new Random(42);
+		queries = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			queries[i] = r.nextInt(2 * KEYS);
+			if (queries[i] % 2 == 0) {
+				expected++;
+			}
+		}
+	}
+
+	private static void check(int found) {
+		if (found != expected) {
+			throw new IllegalStateException("found " + found + " instead of " + expected + " keys");
+		}
+	}
+
+	private static class BinsearchCompetitor implements RuntimeComparator.Competitor {
+		@Override
+		public void prepare() {
+			generate();
+		}
+
+		@Override
+		public void run() {
+			int found = 0;
+			for (int q : queries) {
+				if (table.binsearch(q)) {
+					found++;
+				}
+			}
+			check(found);
+		}
+	}
+
+	private static class SearchIndexCompetitor implements RuntimeComparator.Competitor {
+		private final SearchLayout layout;
+		private SearchIndex<Integer> index;
+
+		SearchIndexCompetitor(SearchLayout layout) {
+			this.layout = layout;
+		}
+
+		@Override
+		public String getName() {
+			return "SearchIndexCompetitor (" + layout + ")";
+		}
+
+		@Override
+		public void prepare() {
+			generate();
+			index = new SearchIndex<Integer>(table, layout);
+		}
+
+		@Override
+		public void run() {
+			int found = 0;
+			for (int q : queries) {
+				if (index.contains(q)) {
+					found++;
+				}
+			}
+			check(found);
+		}
+
+		@Override
+		public void takeDown() {
+			index = null;
+		}
+	}
+
+	private static class IntSearchIndexCompetitor implements RuntimeComparator.Competitor {
+		private final SearchLayout layout;
+		private IntSearchIndex index;
+
+		IntSearchIndexCompetitor(SearchLayout layout) {
+			this.layout = layout;
+		}
+
+		@Override
+		public String getName() {
+			return "IntSearchIndexCompetitor (" + layout + ")";
+		}
+
+		@Override
+		public void prepare() {
+			generate();
+			index = new IntSearchIndex(keys, layout);
+		}
+
+		@Override
+		public void run() {
+			int found = 0;
+			for (int q : queries) {
+				if (index.contains(q)) {
+					found++;
+				}
+			}
+			check(found);
+		}
+
+		@Override
+		public void takeDown() {
+			index = null;
+		}
+	}
+
+	private static class LongSearchIndexCompetitor implements RuntimeComparator.Competitor {
+		private final SearchLayout layout;
+		private LongSearchIndex index;
+
+		LongSearchIndexCompetitor(SearchLayout layout) {
+			this.layout = layout;
+		}
+
+		@Override
+		public String getName() {
+			return "LongSearchIndexCompetitor (" + layout + ")";
+		}
+
+		@Override
+		public void prepare() {
+			generate();
+			long[] k = new long[KEYS];
+			for (int i = 0; i < KEYS; i++) {
+				k[i] = keys[i];
+			}
+			index = new LongSearchIndex(k, layout);
+		}
+
+		@Override
+		public void run() {
+			int found = 0;
+			for (int q : queries) {
+				if (index.contains(q)) {
+					found++;
+				}
+			}
+			check(found);
+		}
+
+		@Override
+		public void takeDown() {
+			index = null;
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[] { new BinsearchCompetitor(), new SearchIndexCompetitor(SearchLayout.EYTZINGER),
+				new SearchIndexCompetitor(SearchLayout.VAN_EMDE_BOAS),
+				new IntSearchIndexCompetitor(SearchLayout.EYTZINGER),
+				new IntSearchIndexCompetitor(SearchLayout.VAN_EMDE_BOAS),
+				new LongSearchIndexCompetitor(SearchLayout.EYTZINGER),
+				new LongSearchIndexCompetitor(SearchLayout.VAN_EMDE_BOAS) };
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.fbehrens.dsal.arrays.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.arrays.OArray;
+
+/**
+ * Selects the largest elements of a large random array: by sorting the whole
+ * array with {@link OArray#heapsort()} and by streaming it through a small
+ * heap with {@link OArray#topK(int)}.
+ */
+public class TopK implements RuntimeComparator.CompetitorGroup {
+
+	private static final int ELEMENTS = 2000000;
+	private static final int K = 100;
+
+	private static long seed = System.currentTimeMillis();
+
+	private static OArray<Integer> generate() {
+		Random r = new Random(seed);
+		OArray<Integer> array = new OArray<Integer>();
+		array.resize(ELEMENTS);
+		for (int i = 0; i < ELEMENTS; i++) {
+			array.set(i, r.nextInt());
+		}
+		return array;
+	}
+
+	private static class HeapsortCompetitor implements RuntimeComparator.Competitor {
+		private OArray<Integer> array;
+
+		@Override
+		public void prepare() {
+			array = generate();
+		}
+
+		@Override
+		public void run() {
+			array.heapsort();
+			OArray<Integer> top = new OArray<Integer>();
+			for (int i = 0; i < K; i++) {
+				top.set(i, array.get(ELEMENTS - 1 - i));
+			}
+		}
+
+		@Override
+		public void takeDown() {
+			array = null;
+		}
+	}
+
+	private static class TopKCompetitor implements RuntimeComparator.Competitor {
+		private OArray<Integer> array;
+
+		@Override
+		public void prepare() {
+			array = generate();
+		}
+
+		@Override
+		public void run() {
+			array.topK(K);
+		}
+
+		@Override
+		public void takeDown() {
+			array = null;
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[] { new HeapsortCompetitor(), new TopKCompetitor() };
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.fbehrens.dsal.arrays.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.arrays.OArray;
+
+public class OArrayTest {
+
+	private static final int[] SIZES = { 0, 1, 2, 3, 10, 100, 1000 };
+
+	/*
+	 * random values from a small range, so there are many duplicates
+	 */
+	private static int[] randomValues(int n, Random r) {
+		int[] a = new int[n];
+		for (int i = 0; i < n; i++)
+			a[i] = r.nextInt(Math.max(1, n / 2));
+		return a;
+	}
+
+	private static OArray<Integer> toOArray(int[] a) {
+		OArray<Integer> o = new OArray<Integer>();
+		for (int i = 0; i < a.length; i++)
+			o.set(i, a[i]);
+		return o;
+	}
+
+	private static void assertHeap(OArray<Integer> o) {
+		for (int i = 1; i < o.size(); i++)
+			assertTrue(o.get((i - 1) / 2) <= o.get(i));
+	}
+
+	private static void assertContents(int[] expected, OArray<Integer> o) {
+		assertEquals(expected.length, o.size());
+		for (int i = 0; i < expected.length; i++)
+			assertEquals(expected[i], (int) o.get(i));
+	}
+
+	@Test
+	public void heapify() {
+		Random r = new Random(1);
+		for (int n : SIZES) {
+			int[] a = randomValues(n, r);
+			OArray<Integer> o = toOArray(a);
+			o.heapify();
+			assertHeap(o);
+			// heapify only permutes the elements
+			int[] b = new int[n];
+			for (int i = 0; i < n; i++)
+				b[i] = o.get(i);
+			Arrays.sort(a);
+			Arrays.sort(b);
+			assertEquals(true, Arrays.equals(a, b));
+		}
+	}
+
+	@Test
+	public void heapsort() {
+		// the sorting phase moves every element with bounce
+		Random r = new Random(2);
+		for (int n : SIZES) {
+			int[] a = randomValues(n, r);
+			OArray<Integer> o = toOArray(a);
+			o.heapsort();
+			Arrays.sort(a);
+			assertContents(a, o);
+		}
+		int[] sorted = { 1, 2, 3, 4, 5, 6, 7 };
+		OArray<Integer> o = toOArray(sorted);
+		o.heapsort();
+		assertContents(sorted, o);
+		int[] equal = { 3, 3, 3, 3, 3 };
+		o = toOArray(equal);
+		o.heapsort();
+		assertContents(equal, o);
+	}
+
+	/*
+	 * the k largest elements of a in decreasing order
+	 */
+	private static int[] largest(int[] a, int k) {
+		int[] s = a.clone();
+		Arrays.sort(s);
+		int m = Math.min(k, s.length);
+		int[] top = new int[m];
+		for (int i = 0; i < m; i++)
+			top[i] = s[s.length - 1 - i];
+		return top;
+	}
+
+	@Test
+	public void topK() {
+		Random r = new Random(3);
+		for (int n : SIZES)
+			for (int k : new int[] { 0, 1, 5, n, n + 1 }) {
+				int[] a = randomValues(n, r);
+				OArray<Integer> o = toOArray(a);
+				int[] expected = largest(a, k);
+				assertContents(expected, o.topK(k));
+				// this array is not changed
+				assertContents(a, o);
+				ArrayList<Integer> list = new ArrayList<Integer>();
+				for (int x : a)
+					list.add(x);
+				assertContents(expected, OArray.topK(list.iterator(), k));
+			}
+	}
+
+	@Test
+	public void insertAndExtractMin() {
+		Random r = new Random(4);
+		int[] a = randomValues(500, r);
+		OArray<Integer> o = new OArray<Integer>();
+		for (int x : a) {
+			o.insert(x);
+			assertHeap(o);
+		}
+		Arrays.sort(a);
+		for (int x : a) {
+			assertEquals(x, (int) o.extract_min());
+			assertHeap(o);
+		}
+		assertEquals(true, o.isempty());
+	}
+}
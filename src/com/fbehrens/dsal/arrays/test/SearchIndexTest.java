@@ -0,0 +1,145 @@
+package com.fbehrens.dsal.arrays.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.arrays.IntSearchIndex;
+import com.fbehrens.dsal.arrays.LongSearchIndex;
+import com.fbehrens.dsal.arrays.OArray;
+import com.fbehrens.dsal.arrays.SearchIndex;
+import com.fbehrens.dsal.arrays.SearchLayout;
+
+public class SearchIndexTest {
+
+	/*
+	 * empty, tiny, perfect (2^k - 1), power of two and odd sizes
+	 */
+	private static final int[] SIZES = { 0, 1, 2, 3, 7, 8, 15, 16, 17, 100, 1000, 1023, 1024, 1025 };
+
+	/*
+	 * sorted random keys with duplicates; the gaps between them leave room
+	 * for keys which are not contained
+	 */
+	private static int[] sortedKeys(int n, Random r) {
+		int[] a = new int[n];
+		for (int i = 0; i < n; i++)
+			a[i] = 2 * r.nextInt(Math.max(1, 2 * n)) - n;
+		Arrays.sort(a);
+		return a;
+	}
+
+	private static OArray<Integer> toOArray(int[] a) {
+		OArray<Integer> o = new OArray<Integer>();
+		for (int i = 0; i < a.length; i++)
+			o.set(i, a[i]);
+		return o;
+	}
+
+	/*
+	 * the expected ceiling by binary search in the sorted array: the first
+	 * element which is not smaller than x
+	 */
+	private static Integer ceiling(int[] a, int x) {
+		int i = Arrays.binarySearch(a, x);
+		if (i < 0)
+			i = -i - 1;
+		else
+			while (i > 0 && a[i - 1] == x)
+				i--;
+		return i < a.length ? a[i] : null;
+	}
+
+	@Test
+	public void searchIndex() {
+		Random r = new Random(1);
+		for (SearchLayout layout : SearchLayout.values())
+			for (int n : SIZES) {
+				int[] a = sortedKeys(n, r);
+				SearchIndex<Integer> index = new SearchIndex<Integer>(toOArray(a), layout);
+				assertEquals(layout, index.layout());
+				assertEquals(n, index.size());
+				assertEquals(n == 0, index.isempty());
+				for (int x = -n - 2; x <= 3 * n + 2; x++) {
+					assertEquals(Arrays.binarySearch(a, x) >= 0, index.contains(x));
+					assertEquals(ceiling(a, x), index.ceiling(x));
+				}
+			}
+	}
+
+	@Test
+	public void intSearchIndex() {
+		Random r = new Random(2);
+		for (SearchLayout layout : SearchLayout.values())
+			for (int n : SIZES) {
+				int[] a = sortedKeys(n, r);
+				IntSearchIndex index = new IntSearchIndex(a, layout);
+				IntSearchIndex boxed = new IntSearchIndex(toOArray(a), layout);
+				assertEquals(layout, index.layout());
+				assertEquals(n, index.size());
+				assertEquals(n, boxed.size());
+				assertEquals(n == 0, index.isempty());
+				for (int x = -n - 2; x <= 3 * n + 2; x++) {
+					boolean expected = Arrays.binarySearch(a, x) >= 0;
+					assertEquals(expected, index.contains(x));
+					assertEquals(expected, boxed.contains(x));
+				}
+			}
+	}
+
+	@Test
+	public void longSearchIndex() {
+		Random r = new Random(3);
+		for (SearchLayout layout : SearchLayout.values())
+			for (int n : SIZES) {
+				long[] a = new long[n];
+				for (int i = 0; i < n; i++)
+					a[i] = r.nextLong();
+				Arrays.sort(a);
+				OArray<Long> o = new OArray<Long>();
+				for (int i = 0; i < n; i++)
+					o.set(i, a[i]);
+				LongSearchIndex index = new LongSearchIndex(a, layout);
+				LongSearchIndex boxed = new LongSearchIndex(o, layout);
+				assertEquals(layout, index.layout());
+				assertEquals(n, index.size());
+				assertEquals(n, boxed.size());
+				for (int i = 0; i < n; i++) {
+					assertEquals(true, index.contains(a[i]));
+					assertEquals(true, boxed.contains(a[i]));
+				}
+				for (int i = 0; i < 1000; i++) {
+					long x = r.nextLong();
+					boolean expected = Arrays.binarySearch(a, x) >= 0;
+					assertEquals(expected, index.contains(x));
+					assertEquals(expected, boxed.contains(x));
+				}
+				assertEquals(Arrays.binarySearch(a, Long.MIN_VALUE) >= 0, index.contains(Long.MIN_VALUE));
+				assertEquals(Arrays.binarySearch(a, Long.MAX_VALUE) >= 0, index.contains(Long.MAX_VALUE));
+			}
+	}
+
+	@Test
+	public void extremeKeys() {
+		int[] a = { Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE };
+		long[] l = { Long.MIN_VALUE, -1, 0, Long.MAX_VALUE };
+		for (SearchLayout layout : SearchLayout.values()) {
+			IntSearchIndex ints = new IntSearchIndex(a, layout);
+			LongSearchIndex longs = new LongSearchIndex(l, layout);
+			SearchIndex<Integer> index = new SearchIndex<Integer>(toOArray(a), layout);
+			for (int i = 0; i < a.length; i++) {
+				assertEquals(true, ints.contains(a[i]));
+				assertEquals(true, longs.contains(l[i]));
+				assertEquals(a[i], (int) index.ceiling(a[i]));
+			}
+			assertEquals(false, ints.contains(1));
+			assertEquals(false, longs.contains(1));
+			assertEquals(Integer.MAX_VALUE, (int) index.ceiling(1));
+		}
+		assertNull(new SearchIndex<Integer>(new OArray<Integer>()).ceiling(0));
+	}
+}
@@ -0,0 +1,249 @@
+package com.fbehrens.dsal.heaps;
+
+import java.util.Arrays;
+
+/**
+ * A d-ary heap (see {@link DaryHeap}) where every element gets a handle when
+ * it is inserted. The handle can be used to change the priority of the
+ * element or to remove it from the heap in O(log(n)) time. Handles are small
+ * non-negative integers; the handle of an element which has been removed is
+ * reused by later insertions.
+ *
+ * @param <D>
+ *            The type of the elements, which must be comparable.
+ */
+public class IndexedDaryHeap<D extends Comparable<D>> implements PriorityQueue<D> {
+	/*
+	 * the elements and their handles, both in heap order, positions 0 ...
+	 * size-1 are used. The elements are kept in heap order (instead of being
+	 * looked up by their handle) so that comparing the children of a node
+	 * reads consecutive array entries.
+	 */
+	private Object[] keys;
+	private int[] handles;
+
+	private int size;
+
+	/*
+	 * the position in the heap of each handle, or -1 if the handle is unused
+	 */
+	private int[] pos;
+
+	/*
+	 * the number of handles which have been given out so far, and a stack of
+	 * handles which are free again
+	 */
+	private int used;
+	private int[] free;
+	private int nfree;
+
+	private final int d;
+
+	/**
+	 * Creates an empty 4-ary heap.
+	 */
+	public IndexedDaryHeap() {
+		this(4);
+	}
+
+	/**
+	 * Creates an empty d-ary heap.
+	 *
+	 * @param d
+	 *            The number of children of each node, must be at least 2.
+	 */
+	public IndexedDaryHeap(int d) {
+		if (d < 2)
+			throw new IllegalArgumentException("d must be at least 2: " + d);
+		this.d = d;
+		keys = new Object[16];
+		handles = new int[16];
+		pos = new int[16];
+		free = new int[16];
+	}
+
+	@SuppressWarnings("unchecked")
+	private D at(int i) {
+		return (D) keys[i];
+	}
+
+	/**
+	 * Inserts x into this heap. (O(log(n)) time)
+	 *
+	 * @param x
+	 *            The element to insert.
+	 * @return The handle of x, which is valid until x is removed.
+	 */
+	public int add(D x) {
+		int h;
+		if (nfree > 0)
+			h = free[--nfree];
+		else {
+			if (used == pos.length)
+				pos = Arrays.copyOf(pos, 2 * used);
+			h = used++;
+		}
+		if (size == keys.length) {
+			keys = Arrays.copyOf(keys, 2 * size);
+			handles = Arrays.copyOf(handles, 2 * size);
+		}
+		bubble_up(x, h, size++);
+		return h;
+	}
+
+	@Override
+	public void insert(D x) {
+		add(x);
+	}
+
+	@Override
+	public D min() {
+		return at(0);
+	}
+
+	/**
+	 * Returns the handle of a minimal element. May only be called if this heap
+	 * is non-empty.
+	 */
+	public int min_handle() {
+		return handles[0];
+	}
+
+	@Override
+	public D extract_min() {
+		return remove_at(0);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks whether h is the handle of an element in this heap.
+	 */
+	public boolean contains(int h) {
+		return h >= 0 && h < used && pos[h] >= 0;
+	}
+
+	/**
+	 * Returns the element with handle h. Requires that {@link #contains(int)}
+	 * holds for h.
+	 */
+	public D get(int h) {
+		return at(pos[h]);
+	}
+
+	/**
+	 * Replaces the element with handle h by the smaller (or equal) element x.
+	 * Requires that {@link #contains(int)} holds for h. (O(log<sub>d</sub>(n))
+	 * time)
+	 *
+	 * @throws IllegalArgumentException
+	 *             if x is larger than the current element.
+	 */
+	public void decrease_key(int h, D x) {
+		int i = pos[h];
+		if (x.compareTo(at(i)) > 0)
+			throw new IllegalArgumentException("new key is larger than the current key");
+		bubble_up(x, h, i);
+	}
+
+	/**
+	 * Replaces the element with handle h by x, which may be smaller or larger.
+	 * Requires that {@link #contains(int)} holds for h. (O(d
+	 * log<sub>d</sub>(n)) time)
+	 */
+	public void change_key(int h, D x) {
+		int i = pos[h];
+		if (x.compareTo(at(i)) <= 0)
+			bubble_up(x, h, i);
+		else
+			bubble_down(x, h, i);
+	}
+
+	/**
+	 * Removes the element with handle h from this heap. Requires that
+	 * {@link #contains(int)} holds for h. (O(d log<sub>d</sub>(n)) time)
+	 *
+	 * @return The removed element.
+	 */
+	public D remove(int h) {
+		return remove_at(pos[h]);
+	}
+
+	/**
+	 * Removes the element at position i, fills the hole with the last element
+	 * and frees the handle.
+	 */
+	private D remove_at(int i) {
+		D x = at(i);
+		int h = handles[i];
+		size--;
+		if (i < size) {
+			D last = at(size);
+			int lasthandle = handles[size];
+			if (i > 0 && last.compareTo(at((i - 1) / d)) < 0)
+				bubble_up(last, lasthandle, i);
+			else
+				bubble_down(last, lasthandle, i);
+		}
+		keys[size] = null;
+		pos[h] = -1;
+		if (nfree == free.length)
+			free = Arrays.copyOf(free, 2 * nfree);
+		free[nfree++] = h;
+		return x;
+	}
+
+	/**
+	 * Stores x with handle h at position i of the heap.
+	 */
+	private void place(D x, int h, int i) {
+		keys[i] = x;
+		handles[i] = h;
+		pos[h] = i;
+	}
+
+	/**
+	 * Moves the hole at position i up until x (with handle h) can be stored
+	 * there.
+	 */
+	private void bubble_up(D x, int h, int i) {
+		while (i > 0) {
+			int p = (i - 1) / d;
+			D parent = at(p);
+			if (parent.compareTo(x) <= 0)
+				break;
+			place(parent, handles[p], i);
+			i = p;
+		}
+		place(x, h, i);
+	}
+
+	/**
+	 * Moves the hole at position i down to the smallest child until x (with
+	 * handle h) can be stored there.
+	 */
+	private void bubble_down(D x, int h, int i) {
+		int c;
+		while ((c = d * i + 1) < size) {
+			/*
+			 * the bound check is part of the condition, see DaryHeap
+			 */
+			int first = c;
+			D m = at(c);
+			for (int j = first + 1; j < first + d; j++) {
+				if (j < size && at(j).compareTo(m) < 0) {
+					m = at(j);
+					c = j;
+				}
+			}
+			if (x.compareTo(m) <= 0)
+				break;
+			place(m, handles[c], i);
+			i = c;
+		}
+		place(x, h, i);
+	}
+}
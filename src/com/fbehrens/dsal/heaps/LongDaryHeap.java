@@ -0,0 +1,139 @@
+package com.fbehrens.dsal.heaps;
+
+import java.util.Arrays;
+
+/**
+ * A d-ary heap (see {@link DaryHeap}) with primitive long priorities, each
+ * with an int value (e.g. the index of a task). Priorities and values are
+ * stored in two arrays, so no objects are allocated and no references are
+ * followed when comparing priorities.
+ */
+public class LongDaryHeap {
+	/*
+	 * the priorities and values in heap order, positions 0 ... size-1 are used
+	 */
+	private long[] priorities;
+	private int[] values;
+
+	private int size;
+
+	private final int d;
+
+	/**
+	 * Creates an empty 4-ary heap.
+	 */
+	public LongDaryHeap() {
+		this(4);
+	}
+
+	/**
+	 * Creates an empty d-ary heap.
+	 *
+	 * @param d
+	 *            The number of children of each node, must be at least 2.
+	 */
+	public LongDaryHeap(int d) {
+		if (d < 2)
+			throw new IllegalArgumentException("d must be at least 2: " + d);
+		this.d = d;
+		priorities = new long[16];
+		values = new int[16];
+	}
+
+	/**
+	 * Inserts value with the given priority into this heap. (O(log(n)) time)
+	 */
+	public void insert(long priority, int value) {
+		if (size == priorities.length) {
+			priorities = Arrays.copyOf(priorities, 2 * size);
+			values = Arrays.copyOf(values, 2 * size);
+		}
+		bubble_up(priority, value, size++);
+	}
+
+	/**
+	 * Returns the minimal priority. May only be called if this heap is
+	 * non-empty.
+	 */
+	public long min() {
+		return priorities[0];
+	}
+
+	/**
+	 * Returns the value with the minimal priority. May only be called if this
+	 * heap is non-empty.
+	 */
+	public int min_value() {
+		return values[0];
+	}
+
+	/**
+	 * Removes the element with the minimal priority and returns its value. May
+	 * only be called if this heap is non-empty. (O(d log<sub>d</sub>(n)) time)
+	 */
+	public int extract_min() {
+		int m = values[0];
+		size--;
+		if (size > 0)
+			bubble_down(priorities[size], values[size], 0);
+		return m;
+	}
+
+	/**
+	 * Returns the number of elements in this heap.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks whether this heap is empty.
+	 */
+	public boolean isempty() {
+		return size == 0;
+	}
+
+	/**
+	 * Moves the hole at position i up until the element can be stored there.
+	 */
+	private void bubble_up(long priority, int value, int i) {
+		while (i > 0) {
+			int p = (i - 1) / d;
+			if (priorities[p] <= priority)
+				break;
+			priorities[i] = priorities[p];
+			values[i] = values[p];
+			i = p;
+		}
+		priorities[i] = priority;
+		values[i] = value;
+	}
+
+	/**
+	 * Moves the hole at position i down to the smallest child until the
+	 * element can be stored there.
+	 */
+	private void bubble_down(long priority, int value, int i) {
+		int c;
+		while ((c = d * i + 1) < size) {
+			/*
+			 * the bound check is part of the condition, see DaryHeap
+			 */
+			int first = c;
+			long m = priorities[c];
+			for (int j = first + 1; j < first + d; j++) {
+				if (j < size && priorities[j] < m) {
+					m = priorities[j];
+					c = j;
+				}
+			}
+			if (priority <= m)
+				break;
+			priorities[i] = m;
+			values[i] = values[c];
+			i = c;
+		}
+		priorities[i] = priority;
+		values[i] = value;
+	}
+}
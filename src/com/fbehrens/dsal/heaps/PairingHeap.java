@@ -0,0 +1,202 @@
+package com.fbehrens.dsal.heaps;
+
+/**
+ * A pairing heap is a heap-ordered tree where every node has an arbitrary
+ * number of children. Inserting, melding and decreasing a key only link two
+ * trees (constant time), the work is done when the minimum is removed: then
+ * the children of the root are linked in pairs from left to right, and the
+ * resulting trees are linked from right to left (amortized O(log(n)) time).
+ *
+ * @param <D>
+ *            The type of the elements, which must be comparable.
+ */
+public class PairingHeap<D extends Comparable<D>> implements PriorityQueue<D> {
+	/**
+	 * A node of a pairing heap, which serves as a handle to an element.
+	 *
+	 * @param <D>
+	 *            The type of the element.
+	 */
+	public static final class Node<D> {
+		private D key;
+		/*
+		 * the leftmost child, the right sibling, and the left sibling or (for
+		 * the leftmost child) the parent; prev is null for a root
+		 */
+		private Node<D> child, sibling, prev;
+
+		private Node(D key) {
+			this.key = key;
+		}
+
+		/**
+		 * Returns the element of this node.
+		 */
+		public D key() {
+			return key;
+		}
+	}
+
+	private Node<D> root;
+
+	private int size;
+
+	/**
+	 * Inserts x into this heap. (constant time)
+	 *
+	 * @param x
+	 *            The element to insert.
+	 * @return The node of x, which can be used for {@link #decrease_key} and
+	 *         {@link #remove} until x is removed.
+	 */
+	public Node<D> add(D x) {
+		Node<D> node = new Node<D>(x);
+		root = root == null ? node : link(root, node);
+		size++;
+		return node;
+	}
+
+	@Override
+	public void insert(D x) {
+		add(x);
+	}
+
+	@Override
+	public D min() {
+		return root.key;
+	}
+
+	@Override
+	public D extract_min() {
+		D m = root.key;
+		root = combine(root.child);
+		size--;
+		return m;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Replaces the element of the given node by the smaller (or equal) element
+	 * x. The node must belong to this heap. (constant time)
+	 *
+	 * @throws IllegalArgumentException
+	 *             if x is larger than the current element.
+	 */
+	public void decrease_key(Node<D> node, D x) {
+		if (x.compareTo(node.key) > 0)
+			throw new IllegalArgumentException("new key is larger than the current key");
+		node.key = x;
+		if (node != root) {
+			cut(node);
+			root = link(root, node);
+		}
+	}
+
+	/**
+	 * Removes the given node from this heap. The node must belong to this heap.
+	 * (amortized O(log(n)) time)
+	 */
+	public void remove(Node<D> node) {
+		if (node == root) {
+			extract_min();
+			return;
+		}
+		cut(node);
+		Node<D> rest = combine(node.child);
+		if (rest != null)
+			root = link(root, rest);
+		size--;
+	}
+
+	/**
+	 * Moves all elements of other into this heap, other is empty afterwards.
+	 * (constant time)
+	 */
+	public void meld(PairingHeap<D> other) {
+		if (other.root != null)
+			root = root == null ? other.root : link(root, other.root);
+		size += other.size;
+		other.root = null;
+		other.size = 0;
+	}
+
+	/**
+	 * Links the roots a and b: the root with the larger key becomes the
+	 * leftmost child of the other one.
+	 *
+	 * @return The new root.
+	 */
+	private Node<D> link(Node<D> a, Node<D> b) {
+		if (b.key.compareTo(a.key) < 0) {
+			Node<D> t = a;
+			a = b;
+			b = t;
+		}
+		b.prev = a;
+		b.sibling = a.child;
+		if (a.child != null)
+			a.child.prev = b;
+		a.child = b;
+		a.sibling = null;
+		a.prev = null;
+		return a;
+	}
+
+	/**
+	 * Removes the subtree of node (which is not the root) from its parent.
+	 */
+	private void cut(Node<D> node) {
+		if (node.prev.child == node)
+			node.prev.child = node.sibling;
+		else
+			node.prev.sibling = node.sibling;
+		if (node.sibling != null)
+			node.sibling.prev = node.prev;
+		node.sibling = null;
+		node.prev = null;
+	}
+
+	/**
+	 * Combines the list of trees starting with first into one tree, with the
+	 * two-pass method.
+	 *
+	 * @return The root of the combined tree, or null if the list is empty.
+	 */
+	private Node<D> combine(Node<D> first) {
+		if (first == null)
+			return null;
+		/*
+		 * first pass: link pairs from left to right, the results are kept in
+		 * reverse order in a list which is linked through prev
+		 */
+		Node<D> pairs = null;
+		while (first != null) {
+			Node<D> a = first, b = first.sibling;
+			if (b == null) {
+				first = null;
+			} else {
+				first = b.sibling;
+				a = link(a, b);
+			}
+			a.sibling = null;
+			a.prev = pairs;
+			pairs = a;
+		}
+		/*
+		 * second pass: link the trees from right to left
+		 */
+		Node<D> result = pairs;
+		pairs = pairs.prev;
+		while (pairs != null) {
+			Node<D> next = pairs.prev;
+			result = link(result, pairs);
+			pairs = next;
+		}
+		result.prev = null;
+		return result;
+	}
+}
@@ -0,0 +1,43 @@
+package com.fbehrens.dsal.heaps;
+
+/**
+ * A priority queue stores elements and delivers them in increasing order. All
+ * heaps of this package implement this interface so they can be used
+ * interchangeably.
+ *
+ * @param <D>
+ *            The type of the elements, which must be comparable.
+ */
+public interface PriorityQueue<D extends Comparable<D>> {
+	/**
+	 * Inserts d into this priority queue.
+	 *
+	 * @param d
+	 *            The element to insert.
+	 */
+	public void insert(D d);
+
+	/**
+	 * Returns a minimal element of this priority queue without removing it.
+	 * May only be called if this priority queue is non-empty.
+	 */
+	public D min();
+
+	/**
+	 * Returns and removes a minimal element of this priority queue. May only
+	 * be called if this priority queue is non-empty.
+	 */
+	public D extract_min();
+
+	/**
+	 * Returns the number of elements in this priority queue.
+	 */
+	public int size();
+
+	/**
+	 * Checks whether this priority queue is empty.
+	 */
+	default public boolean isempty() {
+		return size() == 0;
+	}
+}
@@ -0,0 +1,160 @@
+package com.fbehrens.dsal.heaps;
+
+import java.util.Arrays;
+
+/**
+ * A radix heap is a monotone priority queue for long priorities: a new
+ * priority must not be smaller than the last priority which has been removed.
+ * This is the case e.g. for event simulations, where an event is never
+ * scheduled before the current time, and for Dijkstra's algorithm.
+ * <p>
+ * An element with priority p is stored in bucket i, where i-1 is the highest
+ * bit in which p differs from the last removed minimum (bucket 0 holds the
+ * priorities which are equal to it). When bucket 0 is empty, the first
+ * non-empty bucket is scanned for its minimum, which becomes the new last
+ * minimum, and its elements are redistributed to lower buckets. Every element
+ * moves to a lower bucket at most 64 times, so inserting takes constant time
+ * and removing the minimum takes amortized O(log(C)) time, where C is the
+ * largest difference between priorities. Each element may carry an int value.
+ */
+public class RadixHeap implements PriorityQueue<Long> {
+	/*
+	 * the priorities and values of the buckets, and the number of elements in
+	 * each bucket
+	 */
+	private final long[][] priorities = new long[65][];
+	private final int[][] values = new int[65][];
+	private final int[] sizes = new int[65];
+
+	private int size;
+
+	/*
+	 * the last removed minimum
+	 */
+	private long last = Long.MIN_VALUE;
+
+	/**
+	 * Creates an empty radix heap.
+	 */
+	public RadixHeap() {
+		for (int i = 0; i < 65; i++) {
+			priorities[i] = new long[4];
+			values[i] = new int[4];
+		}
+	}
+
+	/**
+	 * Inserts value with the given priority. (constant time)
+	 *
+	 * @throws IllegalArgumentException
+	 *             if priority is smaller than the last removed minimum.
+	 */
+	public void insert(long priority, int value) {
+		if (priority < last)
+			throw new IllegalArgumentException("priority " + priority + " is smaller than the last minimum " + last);
+		add(bucket(priority), priority, value);
+		size++;
+	}
+
+	/**
+	 * Inserts the given priority with value 0. (constant time)
+	 */
+	public void insert(long priority) {
+		insert(priority, 0);
+	}
+
+	@Override
+	public void insert(Long priority) {
+		insert(priority.longValue(), 0);
+	}
+
+	@Override
+	public Long min() {
+		return min_priority();
+	}
+
+	/**
+	 * Returns the minimal priority. May only be called if this heap is
+	 * non-empty.
+	 */
+	public long min_priority() {
+		pull();
+		return priorities[0][sizes[0] - 1];
+	}
+
+	/**
+	 * Returns the value of an element with minimal priority. May only be
+	 * called if this heap is non-empty.
+	 */
+	public int min_value() {
+		pull();
+		return values[0][sizes[0] - 1];
+	}
+
+	/**
+	 * Removes an element with minimal priority. May only be called if this
+	 * heap is non-empty.
+	 */
+	public void delete_min() {
+		pull();
+		sizes[0]--;
+		size--;
+	}
+
+	@Override
+	public Long extract_min() {
+		long m = min_priority();
+		delete_min();
+		return m;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the bucket of priority p, p &ge; last.
+	 */
+	private int bucket(long p) {
+		return 64 - Long.numberOfLeadingZeros(p ^ last);
+	}
+
+	private void add(int b, long p, int v) {
+		int s = sizes[b];
+		if (s == priorities[b].length) {
+			priorities[b] = Arrays.copyOf(priorities[b], 2 * s);
+			values[b] = Arrays.copyOf(values[b], 2 * s);
+		}
+		priorities[b][s] = p;
+		values[b][s] = v;
+		sizes[b] = s + 1;
+	}
+
+	/**
+	 * Ensures that bucket 0 is non-empty, by redistributing the first
+	 * non-empty bucket.
+	 */
+	private void pull() {
+		if (sizes[0] > 0)
+			return;
+		int b = 1;
+		while (sizes[b] == 0)
+			b++;
+		long[] p = priorities[b];
+		int[] v = values[b];
+		int s = sizes[b];
+		long m = p[0];
+		for (int i = 1; i < s; i++)
+			if (p[i] < m)
+				m = p[i];
+		last = m;
+		/*
+		 * all elements of bucket b agree with the new minimum in the bits
+		 * above b-1, so they move to lower buckets
+		 */
+		sizes[b] = 0;
+		for (int i = 0; i < s; i++)
+			add(bucket(p[i]), p[i], v[i]);
+	}
+}
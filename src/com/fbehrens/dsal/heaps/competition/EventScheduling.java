@@ -0,0 +1,217 @@
+package com.fbehrens.dsal.heaps.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.arrays.OArray;
+import com.fbehrens.dsal.heaps.IndexedDaryHeap;
+import com.fbehrens.dsal.heaps.PairingHeap;
+import com.fbehrens.dsal.heaps.RadixHeap;
+
+/**
+ * A discrete event simulation: a fixed number of events is pending, the
+ * earliest one is processed and scheduled again at a later time, and every
+ * fourth step another pending event is moved to an earlier time (but not
+ * before the next time step). Heaps with decrease-key move the event, the other
+ * heaps insert it again and skip the outdated entry when it comes up.
+ */
+public class EventScheduling implements RuntimeComparator.CompetitorGroup {
+
+	private static final int EVENTS = 200000;
+	private static final int STEPS = 4000000;
+	private static final int MAX_DELAY = 1000000;
+
+	private static long seed = System.currentTimeMillis();
+
+	/**
+	 * An entry of the event queue, ordered by time and then by id.
+	 */
+	private static final class Event implements Comparable<Event> {
+		final long time;
+		final int id;
+
+		Event(long time, int id) {
+			this.time = time;
+			this.id = id;
+		}
+
+		@Override
+		public int compareTo(Event o) {
+			return time < o.time ? -1 : time > o.time ? 1 : Integer.compare(id, o.id);
+		}
+	}
+
+	/**
+	 * The simulation, which is the same for all heaps: the current time of
+	 * each event, the random decisions and the number of processed events.
+	 */
+	private static abstract class Simulation implements RuntimeComparator.Competitor {
+		protected long[] time;
+		private Random r;
+		private long checksum;
+
+		abstract void schedule(int id, long t);
+
+		abstract void reschedule(int id, long t);
+
+		/*
+		 * removes the next (up to date) event and returns its id
+		 */
+		abstract int next();
+
+		@Override
+		public void run() {
+			r = new Random(seed);
+			time = new long[EVENTS];
+			for (int id = 0; id < EVENTS; id++) {
+				time[id] = r.nextInt(MAX_DELAY);
+				schedule(id, time[id]);
+			}
+			for (int step = 0; step < STEPS; step++) {
+				int id = next();
+				long now = time[id];
+				checksum += now;
+				time[id] = now + 1 + r.nextInt(MAX_DELAY);
+				schedule(id, time[id]);
+				if (step % 4 == 0) {
+					int other = r.nextInt(EVENTS);
+					long earlier = Math.max(now + 1, time[other] - r.nextInt(MAX_DELAY));
+					if (earlier < time[other]) {
+						time[other] = earlier;
+						reschedule(other, earlier);
+					}
+				}
+			}
+		}
+
+		@Override
+		public String getReport() {
+			return "checksum " + checksum;
+		}
+	}
+
+	private static class OArrayCompetitor extends Simulation {
+		private OArray<Event> heap;
+
+		@Override
+		public void prepare() {
+			heap = new OArray<Event>();
+		}
+
+		@Override
+		void schedule(int id, long t) {
+			heap.insert(new Event(t, id));
+		}
+
+		@Override
+		void reschedule(int id, long t) {
+			heap.insert(new Event(t, id));
+		}
+
+		@Override
+		int next() {
+			while (true) {
+				Event e = heap.extract_min();
+				if (e.time == time[e.id]) {
+					return e.id;
+				}
+			}
+		}
+	}
+
+	private static class IndexedDaryHeapCompetitor extends Simulation {
+		private IndexedDaryHeap<Event> heap;
+		private int[] handles;
+
+		@Override
+		public void prepare() {
+			heap = new IndexedDaryHeap<Event>();
+			handles = new int[EVENTS];
+		}
+
+		@Override
+		void schedule(int id, long t) {
+			handles[id] = heap.add(new Event(t, id));
+		}
+
+		@Override
+		void reschedule(int id, long t) {
+			heap.decrease_key(handles[id], new Event(t, id));
+		}
+
+		@Override
+		int next() {
+			return heap.extract_min().id;
+		}
+	}
+
+	private static class PairingHeapCompetitor extends Simulation {
+		private PairingHeap<Event> heap;
+		private PairingHeap.Node<Event>[] nodes;
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public void prepare() {
+			heap = new PairingHeap<Event>();
+			nodes = new PairingHeap.Node[EVENTS];
+		}
+
+		@Override
+		void schedule(int id, long t) {
+			nodes[id] = heap.add(new Event(t, id));
+		}
+
+		@Override
+		void reschedule(int id, long t) {
+			heap.decrease_key(nodes[id], new Event(t, id));
+		}
+
+		@Override
+		int next() {
+			return heap.extract_min().id;
+		}
+	}
+
+	/*
+	 * the priority is time * EVENTS + id, so that simultaneous events are
+	 * processed in the same order as by the other heaps
+	 */
+	private static class RadixHeapCompetitor extends Simulation {
+		private RadixHeap heap;
+
+		@Override
+		public void prepare() {
+			heap = new RadixHeap();
+		}
+
+		@Override
+		void schedule(int id, long t) {
+			heap.insert(t * EVENTS + id, id);
+		}
+
+		@Override
+		void reschedule(int id, long t) {
+			heap.insert(t * EVENTS + id, id);
+		}
+
+		@Override
+		int next() {
+			while (true) {
+				long t = heap.min_priority() / EVENTS;
+				int id = heap.min_value();
+				heap.delete_min();
+				if (t == time[id]) {
+					return id;
+				}
+			}
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[] { new OArrayCompetitor(), new IndexedDaryHeapCompetitor(),
+				new PairingHeapCompetitor(), new RadixHeapCompetitor() };
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.fbehrens.dsal.heaps.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.arrays.OArray;
+import com.fbehrens.dsal.heaps.DaryHeap;
+import com.fbehrens.dsal.heaps.IndexedDaryHeap;
+import com.fbehrens.dsal.heaps.LongDaryHeap;
+import com.fbehrens.dsal.heaps.PriorityQueue;
+
+/**
+ * A scheduler holds a fixed number of tasks; it repeatedly takes the task with
+ * the smallest deadline and reschedules it with a later deadline (the "hold"
+ * model). The binary heap of {@link OArray} is compared with the d-ary heaps.
+ */
+public class TaskScheduling implements RuntimeComparator.CompetitorGroup {
+
+	private static final int TASKS = 1000000;
+	private static final int OPERATIONS = 5000000;
+
+	private static long seed = System.currentTimeMillis();
+
+	private static void hold(PriorityQueue<Long> queue) {
+		Random r = new Random(seed);
+		for (int i = 0; i < TASKS; i++) {
+			queue.insert((long) r.nextInt(TASKS));
+		}
+		for (int i = 0; i < OPERATIONS; i++) {
+			queue.insert(queue.extract_min() + r.nextInt(TASKS));
+		}
+	}
+
+	private static class OArrayCompetitor implements RuntimeComparator.Competitor {
+		@Override
+		public void run() {
+			Random r = new Random(seed);
+			OArray<Long> heap = new OArray<Long>();
+			for (int i = 0; i < TASKS; i++) {
+				heap.insert((long) r.nextInt(TASKS));
+			}
+			for (int i = 0; i < OPERATIONS; i++) {
+				heap.insert(heap.extract_min() + r.nextInt(TASKS));
+			}
+		}
+	}
+
+	private static class DaryHeapCompetitor implements RuntimeComparator.Competitor {
+		private final int d;
+
+		DaryHeapCompetitor(int d) {
+			this.d = d;
+		}
+
+		@Override
+		public String getName() {
+			return "DaryHeapCompetitor (d=" + d + ")";
+		}
+
+		@Override
+		public void run() {
+			hold(new DaryHeap<Long>(d));
+		}
+	}
+
+	private static class IndexedDaryHeapCompetitor implements RuntimeComparator.Competitor {
+		@Override
+		public void run() {
+			hold(new IndexedDaryHeap<Long>());
+		}
+	}
+
+	private static class LongDaryHeapCompetitor implements RuntimeComparator.Competitor {
+		@Override
+		public void run() {
+			Random r = new Random(seed);
+			LongDaryHeap heap = new LongDaryHeap();
+			for (int i = 0; i < TASKS; i++) {
+				heap.insert(r.nextInt(TASKS), i);
+			}
+			for (int i = 0; i < OPERATIONS; i++) {
+				long deadline = heap.min();
+				int task = heap.extract_min();
+				heap.insert(deadline + r.nextInt(TASKS), task);
+			}
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[] { new OArrayCompetitor(), new DaryHeapCompetitor(2), new DaryHeapCompetitor(4),
+				new DaryHeapCompetitor(8), new IndexedDaryHeapCompetitor(), new LongDaryHeapCompetitor() };
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.fbehrens.dsal.heaps.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.arrays.Array;
+import com.fbehrens.dsal.heaps.DaryHeap;
+import com.fbehrens.dsal.heaps.PriorityQueue;
+
+public class DaryHeapTest extends PriorityQueueTest {
+
+	public PriorityQueue<Long> getQueue() {
+		return new DaryHeap<>();
+	}
+
+	@Test
+	public void binaryAndWide() {
+		for (int d : new int[] { 2, 3, 8 }) {
+			DaryHeap<Integer> heap = new DaryHeap<>(d);
+			for (int i = 0; i < 1000; i++) {
+				heap.insert((i * 7919) % 1000);
+			}
+			for (int i = 0; i < 1000; i++) {
+				assertEquals(i, (int) heap.extract_min());
+			}
+		}
+	}
+
+	@Test
+	public void fromArray() {
+		Array<Integer> elements = new Array<>();
+		for (int i = 0; i < 1000; i++) {
+			elements.set(i, 999 - i);
+		}
+		DaryHeap<Integer> heap = new DaryHeap<>(4, elements);
+		assertEquals(1000, heap.size());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, (int) heap.extract_min());
+		}
+		assertEquals(0, (int) elements.get(999));
+	}
+}
@@ -0,0 +1,77 @@
+package com.fbehrens.dsal.heaps.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.heaps.IndexedDaryHeap;
+import com.fbehrens.dsal.heaps.PriorityQueue;
+
+public class IndexedDaryHeapTest extends PriorityQueueTest {
+
+	public PriorityQueue<Long> getQueue() {
+		return new IndexedDaryHeap<>();
+	}
+
+	@Test
+	public void handles() {
+		IndexedDaryHeap<Integer> heap = new IndexedDaryHeap<>();
+		int a = heap.add(10), b = heap.add(20), c = heap.add(30);
+		assertEquals(20, (int) heap.get(b));
+		heap.decrease_key(c, 5);
+		assertEquals(c, heap.min_handle());
+		assertEquals(10, (int) heap.remove(a));
+		assertFalse(heap.contains(a));
+		assertTrue(heap.contains(b));
+		heap.change_key(c, 25);
+		assertEquals(20, (int) heap.extract_min());
+		assertEquals(25, (int) heap.extract_min());
+		assertTrue(heap.isempty());
+		try {
+			int d = heap.add(1);
+			heap.decrease_key(d, 2);
+			fail("increasing a key with decrease_key must fail");
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void randomOperations() {
+		// keys are unique (key * 100000 + handle), so the expected minimum is
+		// unambiguous
+		Random random = new Random(17);
+		IndexedDaryHeap<Long> heap = new IndexedDaryHeap<>(3);
+		TreeSet<Long> expected = new TreeSet<>();
+		for (int i = 0; i < 50000; i++) {
+			int op = random.nextInt(4);
+			if (op == 0 || expected.isEmpty()) {
+				int h = heap.add(Long.MAX_VALUE);
+				long key = random.nextInt(1000000) * 100000L + h;
+				heap.decrease_key(h, key);
+				expected.add(key);
+			} else if (op == 1) {
+				assertEquals(expected.pollFirst(), heap.extract_min());
+			} else {
+				Long higher = expected.higher(random.nextInt(1000000) * 100000L);
+				long key = higher == null ? expected.first() : higher;
+				int h = (int) (key % 100000);
+				assertEquals(key, (long) heap.get(h));
+				expected.remove(key);
+				if (op == 2) {
+					assertEquals(key, (long) heap.remove(h));
+				} else {
+					long changed = random.nextInt(1000000) * 100000L + h;
+					heap.change_key(h, changed);
+					expected.add(changed);
+				}
+			}
+			assertEquals(expected.size(), heap.size());
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.fbehrens.dsal.heaps.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.heaps.LongDaryHeap;
+
+public class LongDaryHeapTest {
+
+	@Test
+	public void sortsRandomPriorities() {
+		Random random = new Random();
+		LongDaryHeap heap = new LongDaryHeap();
+		long[] priorities = new long[10000];
+		for (int i = 0; i < priorities.length; i++) {
+			priorities[i] = random.nextLong();
+			heap.insert(priorities[i], i);
+		}
+		long[] copy = priorities.clone();
+		Arrays.sort(copy);
+		for (long p : copy) {
+			assertEquals(p, heap.min());
+			assertEquals(p, priorities[heap.extract_min()]);
+		}
+		assertTrue(heap.isempty());
+	}
+
+	@Test
+	public void valuesFollowPriorities() {
+		LongDaryHeap heap = new LongDaryHeap(2);
+		heap.insert(30, 3);
+		heap.insert(10, 1);
+		heap.insert(20, 2);
+		assertEquals(1, heap.min_value());
+		assertEquals(1, heap.extract_min());
+		assertEquals(2, heap.extract_min());
+		assertEquals(3, heap.extract_min());
+		assertEquals(0, heap.size());
+	}
+}
@@ -0,0 +1,91 @@
+package com.fbehrens.dsal.heaps.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.heaps.PairingHeap;
+import com.fbehrens.dsal.heaps.PriorityQueue;
+
+public class PairingHeapTest extends PriorityQueueTest {
+
+	public PriorityQueue<Long> getQueue() {
+		return new PairingHeap<>();
+	}
+
+	@Test
+	public void decreaseKeyAndRemove() {
+		PairingHeap<Integer> heap = new PairingHeap<>();
+		PairingHeap.Node<Integer> a = heap.add(10), b = heap.add(20), c = heap.add(30);
+		heap.add(40);
+		heap.decrease_key(c, 5);
+		assertEquals(5, (int) heap.min());
+		heap.remove(a);
+		assertEquals(3, heap.size());
+		assertEquals(5, (int) heap.extract_min());
+		assertEquals(20, (int) b.key());
+		heap.remove(b);
+		assertEquals(40, (int) heap.extract_min());
+		assertTrue(heap.isempty());
+		try {
+			heap.decrease_key(heap.add(1), 2);
+			fail("increasing a key with decrease_key must fail");
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void meld() {
+		PairingHeap<Integer> one = new PairingHeap<>(), two = new PairingHeap<>();
+		for (int i = 0; i < 100; i++) {
+			(i % 2 == 0 ? one : two).insert(i);
+		}
+		one.meld(two);
+		assertEquals(100, one.size());
+		assertTrue(two.isempty());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, (int) one.extract_min());
+		}
+	}
+
+	@Test
+	public void randomOperations() {
+		// keys are unique (key * 100000 + index), so the expected minimum is
+		// unambiguous
+		Random random = new Random(23);
+		PairingHeap<Long> heap = new PairingHeap<>();
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		PairingHeap.Node<Long>[] nodes = new PairingHeap.Node[100000];
+		TreeSet<Long> expected = new TreeSet<>();
+		int next = 0;
+		for (int i = 0; i < 50000; i++) {
+			int op = random.nextInt(4);
+			if (op == 0 || expected.isEmpty()) {
+				long key = random.nextInt(1000000) * 100000L + next;
+				nodes[next++] = heap.add(key);
+				expected.add(key);
+			} else if (op == 1) {
+				assertEquals(expected.pollFirst(), heap.extract_min());
+			} else {
+				Long higher = expected.higher(random.nextInt(1000000) * 100000L);
+				long key = higher == null ? expected.first() : higher;
+				PairingHeap.Node<Long> node = nodes[(int) (key % 100000)];
+				assertEquals(key, (long) node.key());
+				expected.remove(key);
+				if (op == 2) {
+					heap.remove(node);
+				} else {
+					long smaller = key - random.nextInt((int) (key / 100000) + 1) * 100000L;
+					heap.decrease_key(node, smaller);
+					expected.add(smaller);
+				}
+			}
+			assertEquals(expected.size(), heap.size());
+		}
+	}
+}
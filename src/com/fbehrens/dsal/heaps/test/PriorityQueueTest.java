@@ -0,0 +1,89 @@
+package com.fbehrens.dsal.heaps.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fbehrens.dsal.heaps.PriorityQueue;
+
+public abstract class PriorityQueueTest {
+	private static Random random = new Random();
+	private PriorityQueue<Long> queue;
+
+	public abstract PriorityQueue<Long> getQueue();
+
+	@Before
+	public void setUp() {
+		queue = getQueue();
+	}
+
+	@Test
+	public void empty() {
+		assertTrue(queue.isempty());
+		assertEquals(0, queue.size());
+		queue.insert(7L);
+		assertFalse(queue.isempty());
+		assertEquals(7L, (long) queue.extract_min());
+		assertTrue(queue.isempty());
+	}
+
+	@Test
+	public void minDoesNotRemove() {
+		queue.insert(5L);
+		queue.insert(3L);
+		queue.insert(9L);
+		assertEquals(3L, (long) queue.min());
+		assertEquals(3L, (long) queue.min());
+		assertEquals(3, queue.size());
+	}
+
+	@Test
+	public void sortsRandomElements() {
+		long[] elements = new long[10000];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = random.nextInt(1000000);
+			queue.insert(elements[i]);
+		}
+		assertEquals(elements.length, queue.size());
+		Arrays.sort(elements);
+		for (long e : elements) {
+			assertEquals(e, (long) queue.extract_min());
+		}
+		assertTrue(queue.isempty());
+	}
+
+	@Test
+	public void duplicates() {
+		for (int i = 0; i < 100; i++) {
+			queue.insert((long) (i % 3));
+		}
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i < 34 ? 0 : i < 67 ? 1 : 2, (long) queue.extract_min());
+		}
+	}
+
+	@Test
+	public void interleaved() {
+		// new elements are never smaller than the last extracted one, so that
+		// monotone priority queues can be tested as well
+		java.util.PriorityQueue<Long> expected = new java.util.PriorityQueue<>();
+		long last = 0;
+		for (int i = 0; i < 20000; i++) {
+			if (expected.isEmpty() || random.nextInt(3) > 0) {
+				long e = last + random.nextInt(1000);
+				queue.insert(e);
+				expected.add(e);
+			} else {
+				last = expected.poll();
+				assertEquals(last, (long) queue.extract_min());
+			}
+			assertEquals(expected.size(), queue.size());
+		}
+	}
+}
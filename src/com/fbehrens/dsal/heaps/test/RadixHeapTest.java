@@ -0,0 +1,63 @@
+package com.fbehrens.dsal.heaps.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.heaps.PriorityQueue;
+import com.fbehrens.dsal.heaps.RadixHeap;
+
+public class RadixHeapTest extends PriorityQueueTest {
+
+	public PriorityQueue<Long> getQueue() {
+		return new RadixHeap();
+	}
+
+	@Test
+	public void negativeAndExtremePriorities() {
+		RadixHeap heap = new RadixHeap();
+		long[] priorities = { Long.MAX_VALUE, -5, 0, Long.MIN_VALUE, 5, -1 };
+		for (long p : priorities) {
+			heap.insert(p);
+		}
+		assertEquals(Long.MIN_VALUE, heap.min_priority());
+		heap.delete_min();
+		assertEquals(-5, (long) heap.extract_min());
+		heap.insert(-3);
+		assertEquals(-3, (long) heap.extract_min());
+		assertEquals(-1, (long) heap.extract_min());
+		assertEquals(0, (long) heap.extract_min());
+		assertEquals(5, (long) heap.extract_min());
+		assertEquals(Long.MAX_VALUE, (long) heap.extract_min());
+		assertTrue(heap.isempty());
+	}
+
+	@Test
+	public void values() {
+		RadixHeap heap = new RadixHeap();
+		heap.insert(30, 3);
+		heap.insert(10, 1);
+		heap.insert(20, 2);
+		assertEquals(1, heap.min_value());
+		heap.delete_min();
+		assertEquals(20, heap.min_priority());
+		assertEquals(2, heap.min_value());
+	}
+
+	@Test
+	public void monotone() {
+		RadixHeap heap = new RadixHeap();
+		heap.insert(10);
+		heap.insert(20);
+		heap.delete_min();
+		try {
+			heap.insert(5);
+			fail("priorities below the last minimum must be rejected");
+		} catch (IllegalArgumentException e) {
+		}
+		heap.insert(10);
+		assertEquals(10, heap.min_priority());
+	}
+}
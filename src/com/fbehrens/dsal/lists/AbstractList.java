@@ -77,4 +77,92 @@ public interface AbstractList<VALUE> extends Iterable<VALUE> {
 	default public boolean isEmpty(){
 		return size() == 0;
 	}
+	
+	/**
+	 * Removes the first n elements from the list.
+	 */
+	default public void removeFirst(int n){
+		if(n < 0 || n > size()){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size());
+		}
+		for(int i = 0; i < n; i++){
+			pop();
+		}
+	}
+	
+	/**
+	 * Removes the last n elements from the list.
+	 */
+	default public void removeLast(int n){
+		if(n < 0 || n > size()){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size());
+		}
+		for(int i = 0; i < n; i++){
+			dequeue();
+		}
+	}
+	
+	/**
+	 * Appends all values of the supplied list, in order, to the end of this
+	 * list. The supplied list is not changed.
+	 */
+	default public void appendAll(AbstractList<? extends VALUE> values){
+		if(values == this){
+			// the iterator need not survive appends (a tree list rebalances
+			// below it), so the elements are copied before the first append
+			Object[] copy = new Object[size()];
+			int i = 0;
+			for(VALUE value : this){
+				copy[i++] = value;
+			}
+			for(Object value : copy){
+				@SuppressWarnings("unchecked") // copied from this list
+				VALUE v = (VALUE) value;
+				append(v);
+			}
+			return;
+		}
+		for(VALUE value : values){
+			append(value);
+		}
+	}
+	
+	/**
+	 * Removes all elements from this list and appends them, in order, to the
+	 * supplied list. Lists of the same kind can move their nodes over instead
+	 * of copying the elements one by one.
+	 * 
+	 * @return the number of elements that were moved
+	 */
+	default public int drainTo(AbstractList<? super VALUE> target){
+		if(target == this){
+			throw new IllegalArgumentException("cannot drain a list into itself");
+		}
+		int count = size();
+		for(VALUE value : this){
+			target.append(value);
+		}
+		clear();
+		return count;
+	}
+	
+	/**
+	 * Removes all elements from the list.
+	 */
+	default public void clear(){
+		removeFirst(size());
+	}
+	
+	/**
+	 * Returns a view of the elements at the positions from (inclusive) to to
+	 * (exclusive). Nothing is copied: the view reads the elements from this
+	 * list when it is accessed, and it cannot be changed. It may only be used
+	 * as long as the size of this list does not change.
+	 */
+	default public AbstractList<VALUE> subList(int from, int to){
+		if(from < 0 || to > size() || from > to){
+			throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + size());
+		}
+		return new SubList<>(this, from, to);
+	}
 }
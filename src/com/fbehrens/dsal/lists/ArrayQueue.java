@@ -0,0 +1,95 @@
+package com.fbehrens.dsal.lists;
+
+/**
+ * An array-based implementation of a queue, i.e. FIFO-buffer. In contrast to
+ * {@link Queue} no node is allocated per element: the elements are stored in
+ * a ring buffer which is doubled when it is full, so enqueue needs amortized
+ * constant time and all other operations constant time.
+ * 
+ * @param <D>
+ *            The type of the data to store in the queue.
+ */
+public class ArrayQueue<D> {
+	/**
+	 * The elements of the queue in a ring buffer: the front element is at
+	 * position head, the following ones behind it, wrapping around at the end
+	 * of the array. The length of the array is a power of two.
+	 */
+	private Object[] queue;
+	private int head;
+	private int size;
+
+	/**
+	 * Creates an empty queue.
+	 */
+	public ArrayQueue() {
+		queue = new Object[16];
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Checks whether the queue is empty.
+	 * 
+	 * @return true, iff there are no elements stored in this queue.
+	 */
+	public boolean isempty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns and removes the element at the front of this queue. Requires that
+	 * this queue is non-empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public D dequeue() {
+		D x = (D) queue[head];
+		queue[head] = null;
+		head = (head + 1) & (queue.length - 1);
+		size--;
+		return x;
+	}
+
+	/**
+	 * Returns the element at the front of this queue without removing it.
+	 * Requires that this queue is non-empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public D front() {
+		return (D) queue[head];
+	}
+
+	/**
+	 * Inserts the given element x at the end of this queue. (amortized
+	 * constant time)
+	 * 
+	 * @param x
+	 *            The element to store in this queue.
+	 */
+	public void enqueue(D x) {
+		if (size == queue.length)
+			grow();
+		queue[(head + size) & (queue.length - 1)] = x;
+		size++;
+	}
+
+	/**
+	 * Doubles the length of the array, the elements are moved to its
+	 * beginning.
+	 */
+	private void grow() {
+		Object[] larger = new Object[2 * queue.length];
+		int firstpart = queue.length - head;
+		System.arraycopy(queue, head, larger, 0, firstpart);
+		System.arraycopy(queue, 0, larger, firstpart, head);
+		queue = larger;
+		head = 0;
+	}
+
+	/**
+	 * Returns the number of elements in this queue.
+	 */
+	public int size() {
+		return size;
+	}
+}
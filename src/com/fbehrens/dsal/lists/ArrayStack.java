@@ -0,0 +1,85 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.Arrays;
+
+/**
+ * An array-based implementation of a stack (LIFO-buffer). In contrast to
+ * {@link Stack} no node is allocated per element: the elements are stored in
+ * an array which is doubled when it is full, so push needs amortized constant
+ * time and all other operations constant time.
+ * 
+ * @param <D>
+ *            The type of the data to store in the stack.
+ */
+public class ArrayStack<D> {
+	/**
+	 * The elements of the stack, the top-most one at position size-1.
+	 */
+	private Object[] stack;
+	private int size;
+
+	/**
+	 * Creates an empty stack.
+	 */
+	public ArrayStack() {
+		stack = new Object[16];
+		size = 0;
+	}
+
+	/**
+	 * Checks whether this stack is empty.
+	 * 
+	 * @return true, iff there are no elements stored in this stack.
+	 */
+	public boolean isempty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns and removes the top-most element of this stack. May only be
+	 * called if this stack is non-empty.
+	 */
+	public D pop() {
+		@SuppressWarnings("unchecked")
+		D x = (D) stack[--size];
+		stack[size] = null;
+		return x;
+	}
+
+	/**
+	 * Returns the top-most element of this stack without removing it. May only
+	 * be called if this stack is non-empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public D top() {
+		return (D) stack[size - 1];
+	}
+
+	/**
+	 * Pushes the given element x on the top of this stack. (amortized constant
+	 * time)
+	 * 
+	 * @param x
+	 *            The element to store in this stack.
+	 */
+	public void push(D x) {
+		if (size == stack.length)
+			stack = Arrays.copyOf(stack, 2 * size);
+		stack[size++] = x;
+	}
+
+	/**
+	 * Removes all elements from this stack.
+	 */
+	public void clear() {
+		Arrays.fill(stack, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of elements in this stack.
+	 */
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,302 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A banker's queue stores a list in two singly linked stacks: the front
+ * stack holds the beginning of the list with the first element on top, the
+ * back stack holds the end of the list with the last element on top. So
+ * both ends of the list can be accessed in constant time although no node
+ * knows its predecessor.
+ *
+ * If an element is removed from an empty stack, the other stack is split in
+ * the middle and its older half is reversed onto the empty stack. This costs
+ * time linear in the size of the moved half, but afterwards both stacks
+ * have to lose about half of their elements before the next move, so every
+ * operation takes constant amortized time, even if both ends are used.
+ *
+ * Runtimes:
+ * 	- append/prepend: O(1)
+ * 	- pop/dequeue/firstElement/lastElement: O(1) amortized
+ *  - contains/delete: O(n)
+ *  - equals/toString: O(n)
+ */
+public class BankersQueue<VALUE> implements AbstractList<VALUE>{
+
+	private static class Node<VALUE> {
+		private final VALUE value;
+		private Node<VALUE> next;
+
+		private Node(VALUE value, Node<VALUE> next){
+			this.value = value;
+			this.next = next;
+		}
+	}
+
+	// the tops of the stacks, null if a stack is empty
+	private Node<VALUE> front, back;
+	private int frontSize, backSize;
+
+	public BankersQueue(){
+		this.front = null;
+		this.back = null;
+		this.frontSize = 0;
+		this.backSize = 0;
+	}
+
+	@Override
+	public void append(VALUE value){
+		back = new Node<>(value, back);
+		backSize++;
+	}
+
+	@Override
+	public void prepend(VALUE value){
+		front = new Node<>(value, front);
+		frontSize++;
+	}
+
+	/*
+	 * moves the bottom (older) half of the non-empty stack onto the empty
+	 * one, in reversed order; returns the new top of the stack that receives
+	 * them
+	 */
+	private static <VALUE> Node<VALUE> moveHalf(Node<VALUE> from, int fromSize){
+		int keep = fromSize / 2;
+		Node<VALUE> moved = from;
+		Node<VALUE> lastKept = null;
+		for(int i = 0; i < keep; i++){
+			lastKept = moved;
+			moved = moved.next;
+		}
+		if(lastKept != null){
+			lastKept.next = null;
+		}
+		return reverse(moved);
+	}
+
+	/*
+	 * reverses the chain of nodes starting at top, returns the new top
+	 */
+	private static <VALUE> Node<VALUE> reverse(Node<VALUE> top){
+		Node<VALUE> reversed = null;
+		while(top != null){
+			Node<VALUE> next = top.next;
+			top.next = reversed;
+			reversed = top;
+			top = next;
+		}
+		return reversed;
+	}
+
+	/*
+	 * makes sure that the front stack is not empty, if the list is not
+	 */
+	private void fillFront(){
+		if(front == null && back != null){
+			int moved = backSize - backSize / 2;
+			Node<VALUE> kept = backSize / 2 == 0 ? null : back;
+			front = moveHalf(back, backSize);
+			back = kept;
+			frontSize = moved;
+			backSize -= moved;
+		}
+	}
+
+	/*
+	 * makes sure that the back stack is not empty, if the list is not
+	 */
+	private void fillBack(){
+		if(back == null && front != null){
+			int moved = frontSize - frontSize / 2;
+			Node<VALUE> kept = frontSize / 2 == 0 ? null : front;
+			back = moveHalf(front, frontSize);
+			front = kept;
+			backSize = moved;
+			frontSize -= moved;
+		}
+	}
+
+	@Override
+	public VALUE firstElement(){
+		fillFront();
+		return front == null ? null : front.value;
+	}
+
+	@Override
+	public VALUE lastElement(){
+		fillBack();
+		return back == null ? null : back.value;
+	}
+
+	@Override
+	public VALUE pop(){
+		fillFront();
+		if(front == null){
+			return null;
+		}
+		VALUE toReturn = front.value;
+		front = front.next;
+		frontSize--;
+		return toReturn;
+	}
+
+	@Override
+	public VALUE dequeue(){
+		fillBack();
+		if(back == null){
+			return null;
+		}
+		VALUE toReturn = back.value;
+		back = back.next;
+		backSize--;
+		return toReturn;
+	}
+
+	@Override
+	public void delete(VALUE valueToDelete){
+		// the first occurrence is the topmost one in the front stack, or else
+		// the bottommost one in the back stack
+		int index = indexIn(front, valueToDelete, true);
+		if(index >= 0){
+			front = removeAt(front, index);
+			frontSize--;
+			return;
+		}
+		index = indexIn(back, valueToDelete, false);
+		if(index >= 0){
+			back = removeAt(back, index);
+			backSize--;
+		}
+	}
+
+	/*
+	 * the distance from top of the topmost (or bottommost) node with the
+	 * given value, or -1
+	 */
+	private static <VALUE> int indexIn(Node<VALUE> top, VALUE toFind, boolean topmost){
+		int result = -1, index = 0;
+		for(Node<VALUE> n = top; n != null; n = n.next, index++){
+			if(toFind == null ? n.value == null : toFind.equals(n.value)){
+				result = index;
+				if(topmost){
+					break;
+				}
+			}
+		}
+		return result;
+	}
+
+	/*
+	 * removes the node at the given distance from top, returns the new top
+	 */
+	private static <VALUE> Node<VALUE> removeAt(Node<VALUE> top, int index){
+		if(index == 0){
+			return top.next;
+		}
+		Node<VALUE> before = top;
+		for(int i = 1; i < index; i++){
+			before = before.next;
+		}
+		before.next = before.next.next;
+		return top;
+	}
+
+	@Override
+	public boolean contains(VALUE toFind){
+		return indexIn(front, toFind, true) >= 0 || indexIn(back, toFind, true) >= 0;
+	}
+
+	@Override
+	public int size(){
+		return frontSize + backSize;
+	}
+
+	@Override
+	public void clear(){
+		front = back = null;
+		frontSize = backSize = 0;
+	}
+
+	@Override
+	public Iterator<VALUE> iterator(){
+		// the back stack has to be read from the bottom, so it is moved onto
+		// the bottom of the front stack first (linear time, like iterating)
+		if(back != null){
+			Node<VALUE> reversed = reverse(back);
+			if(front == null){
+				front = reversed;
+			} else {
+				Node<VALUE> bottom = front;
+				while(bottom.next != null){
+					bottom = bottom.next;
+				}
+				bottom.next = reversed;
+			}
+			back = null;
+			frontSize += backSize;
+			backSize = 0;
+		}
+		return new Iterator<VALUE>(){
+			private Node<VALUE> currentlyAt = front;
+			@Override
+			public boolean hasNext(){
+				return currentlyAt != null;
+			}
+			@Override
+			public VALUE next(){
+				if(currentlyAt == null){
+					throw new NoSuchElementException();
+				}
+				VALUE value = currentlyAt.value;
+				currentlyAt = currentlyAt.next;
+				return value;
+			}
+			@Override
+			public void remove(){
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object obj){
+		if(!(obj instanceof BankersQueue)){
+			return false;
+		}
+		BankersQueue<?> other = (BankersQueue<?>) obj;
+		if(other.size() != size()){
+			return false;
+		}
+		Iterator<?> otherIter = other.iterator();
+		for(VALUE selfVal : this){
+			Object otherVal = otherIter.next();
+			if(selfVal == null ? otherVal != null : !selfVal.equals(otherVal)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode(){
+		int hash = 1;
+		for(VALUE value : this){
+			hash = 31 * hash + (value == null ? 0 : value.hashCode());
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder result = new StringBuilder("[");
+		for(VALUE value : this){
+			if(result.length() > 1){
+				result.append(',');
+			}
+			result.append(value);
+		}
+		return result.append(']').toString();
+	}
+}
@@ -0,0 +1,266 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded queue (FIFO-buffer) which blocks the threads that use it: take
+ * waits until the queue is non-empty, put waits until it is not full. The
+ * elements are stored in a ring buffer guarded by one lock. Waiting threads
+ * are parked on the conditions of this lock rather than on a monitor, so a
+ * virtual thread which waits releases its carrier thread (a
+ * synchronized-block would pin it).
+ *
+ * A consumer which is woken up can take many elements at once with
+ * {@link #takeBatch(AbstractList, int)}: it acquires the lock once, and the
+ * producers which wait for space are signalled once per batch instead of
+ * once per element.
+ *
+ * @param <D>
+ *            The type of the data to store in the queue, null is not allowed.
+ */
+public class BoundedBlockingQueue<D> {
+	/**
+	 * The elements in a ring buffer: the front element is at position head,
+	 * the following ones behind it, wrapping around at the end of the array.
+	 */
+	private final Object[] queue;
+	private int head;
+	private int size;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+
+	/**
+	 * Creates an empty queue which can hold capacity elements.
+	 */
+	public BoundedBlockingQueue(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("capacity: " + capacity);
+		queue = new Object[capacity];
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of elements this queue can hold.
+	 */
+	public int capacity() {
+		return queue.length;
+	}
+
+	/**
+	 * Returns the number of elements in the queue.
+	 */
+	public int size() {
+		lock.lock();
+		try {
+			return size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the queue is empty.
+	 */
+	public boolean isempty() {
+		return size() == 0;
+	}
+
+	/*
+	 * the following methods require that the lock is held
+	 */
+
+	private void insert(D x) {
+		int tail = head + size;
+		if (tail >= queue.length)
+			tail -= queue.length;
+		queue[tail] = x;
+		size++;
+		notEmpty.signal();
+	}
+
+	@SuppressWarnings("unchecked")
+	private D remove() {
+		D x = (D) queue[head];
+		queue[head] = null;
+		if (++head == queue.length)
+			head = 0;
+		size--;
+		notFull.signal();
+		return x;
+	}
+
+	/*
+	 * moves up to max elements to batch (none if max <= 0), signals all
+	 * producers that may proceed now
+	 */
+	@SuppressWarnings("unchecked")
+	private int removeAll(AbstractList<? super D> batch, int max) {
+		int n = Math.max(0, Math.min(max, size));
+		for (int i = 0; i < n; i++) {
+			batch.append((D) queue[head]);
+			queue[head] = null;
+			if (++head == queue.length)
+				head = 0;
+		}
+		size -= n;
+		if (n == 1)
+			notFull.signal();
+		else if (n > 1)
+			notFull.signalAll();
+		return n;
+	}
+
+	/**
+	 * Inserts the given element x at the end of this queue, waiting until
+	 * there is space for it.
+	 *
+	 * @param x
+	 *            The element to store in this queue, must be non-null.
+	 */
+	public void put(D x) throws InterruptedException {
+		if (x == null)
+			throw new NullPointerException();
+		lock.lockInterruptibly();
+		try {
+			while (size == queue.length)
+				notFull.await();
+			insert(x);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Inserts the given element x at the end of this queue if there is space
+	 * for it.
+	 *
+	 * @return false, iff the queue is full and x was not inserted.
+	 */
+	public boolean offer(D x) {
+		if (x == null)
+			throw new NullPointerException();
+		lock.lock();
+		try {
+			if (size == queue.length)
+				return false;
+			insert(x);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Inserts the given element x at the end of this queue, waiting at most
+	 * the given time until there is space for it.
+	 *
+	 * @return false, iff the time elapsed and x was not inserted.
+	 */
+	public boolean offer(D x, long timeout, TimeUnit unit) throws InterruptedException {
+		if (x == null)
+			throw new NullPointerException();
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while (size == queue.length) {
+				if (nanos <= 0)
+					return false;
+				nanos = notFull.awaitNanos(nanos);
+			}
+			insert(x);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns and removes the element at the front of this queue, waiting
+	 * until there is one.
+	 */
+	public D take() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (size == 0)
+				notEmpty.await();
+			return remove();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns and removes the element at the front of this queue.
+	 *
+	 * @return The front element, or null if the queue is empty.
+	 */
+	public D poll() {
+		lock.lock();
+		try {
+			return size == 0 ? null : remove();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns and removes the element at the front of this queue, waiting at
+	 * most the given time until there is one.
+	 *
+	 * @return The front element, or null if the time elapsed.
+	 */
+	public D poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while (size == 0) {
+				if (nanos <= 0)
+					return null;
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			return remove();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes up to max elements from the front of this queue and appends
+	 * them to batch in their order, without waiting.
+	 *
+	 * @return The number of elements moved to batch, 0 if max &le; 0.
+	 */
+	public int drainTo(AbstractList<? super D> batch, int max) {
+		lock.lock();
+		try {
+			return removeAll(batch, max);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until this queue is non-empty, then removes up to max elements
+	 * from its front and appends them to batch in their order.
+	 *
+	 * @return The number of elements moved to batch, at least 1 if max is;
+	 *         0 without waiting if max &le; 0.
+	 */
+	public int takeBatch(AbstractList<? super D> batch, int max) throws InterruptedException {
+		if (max <= 0)
+			return 0;
+		lock.lockInterruptibly();
+		try {
+			while (size == 0)
+				notEmpty.await();
+			return removeAll(batch, max);
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free bounded queue (FIFO-buffer) for many producer and consumer
+ * threads, the ring buffer of Vyukov. Every slot of the ring carries a
+ * sequence number which tells the threads whose turn it is: a slot with
+ * sequence number p may be filled by the producer which claims position p,
+ * afterwards its sequence number is p + 1 and it may be emptied by the
+ * consumer which claims position p, which sets it to p + capacity for the
+ * next round. Producers and consumers claim positions by a compare-and-set
+ * on one counter each, so they only contend among themselves, and no memory
+ * is allocated after the construction.
+ *
+ * The two counters are written by every operation, so they are kept far
+ * apart (and away from the neighbours of the queue) in memory to avoid false
+ * sharing of cache lines between producers and consumers.
+ *
+ * @param <D>
+ *            The type of the data to store in the queue, null is not allowed.
+ */
+public class BoundedConcurrentQueue<D> {
+	/**
+	 * Number of longs between the counters and around them: 128 bytes, two
+	 * cache lines on most processors (the neighbouring line is often
+	 * prefetched as well).
+	 */
+	private static final int PAD = 16;
+	private static final int ENQUEUE = PAD, DEQUEUE = 3 * PAD;
+
+	private final Object[] buffer;
+	private final AtomicLongArray sequence;
+	private final int mask;
+	/**
+	 * The next positions to be claimed by producers and consumers, at indices
+	 * ENQUEUE and DEQUEUE; the rest of the array is padding.
+	 */
+	private final AtomicLongArray positions = new AtomicLongArray(4 * PAD);
+
+	/**
+	 * Creates an empty queue which can hold at least capacity elements, the
+	 * capacity is rounded up to a power of two.
+	 */
+	public BoundedConcurrentQueue(int capacity) {
+		if (capacity < 1 || capacity > 1 << 30)
+			throw new IllegalArgumentException("capacity: " + capacity);
+		int n = Integer.highestOneBit(capacity);
+		if (n < capacity)
+			n <<= 1;
+		buffer = new Object[n];
+		sequence = new AtomicLongArray(n);
+		for (int i = 0; i < n; i++)
+			sequence.set(i, i);
+		mask = n - 1;
+	}
+
+	/**
+	 * Returns the number of elements this queue can hold.
+	 */
+	public int capacity() {
+		return buffer.length;
+	}
+
+	/**
+	 * Checks whether the queue is empty. The answer may be outdated as soon as
+	 * it is returned if other threads use the queue.
+	 */
+	public boolean isempty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns the number of elements in the queue, this is only a snapshot if
+	 * other threads use the queue.
+	 */
+	public int size() {
+		while (true) {
+			long d = positions.get(DEQUEUE), e = positions.get(ENQUEUE);
+			if (d == positions.get(DEQUEUE))
+				return (int) Math.max(0, Math.min(e - d, buffer.length));
+		}
+	}
+
+	/**
+	 * Inserts the given element x at the end of this queue, if it is not full.
+	 * (lock-free)
+	 *
+	 * @param x
+	 *            The element to store in this queue, must be non-null.
+	 * @return false, iff the queue is full and x was not inserted.
+	 */
+	public boolean enqueue(D x) {
+		if (x == null)
+			throw new NullPointerException();
+		long p = positions.get(ENQUEUE);
+		while (true) {
+			int slot = (int) p & mask;
+			long diff = sequence.get(slot) - p;
+			if (diff == 0) {
+				if (positions.compareAndSet(ENQUEUE, p, p + 1)) {
+					buffer[slot] = x;
+					/*
+					 * the release store of the sequence number publishes x
+					 */
+					sequence.lazySet(slot, p + 1);
+					return true;
+				}
+				p = positions.get(ENQUEUE);
+			} else if (diff < 0)
+				/*
+				 * the slot still holds the element of the last round
+				 */
+				return false;
+			else
+				p = positions.get(ENQUEUE);
+		}
+	}
+
+	/**
+	 * Returns and removes the element at the front of this queue. (lock-free)
+	 *
+	 * @return The front element, or null if the queue is empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public D dequeue() {
+		long p = positions.get(DEQUEUE);
+		while (true) {
+			int slot = (int) p & mask;
+			long diff = sequence.get(slot) - (p + 1);
+			if (diff == 0) {
+				if (positions.compareAndSet(DEQUEUE, p, p + 1)) {
+					D x = (D) buffer[slot];
+					buffer[slot] = null;
+					sequence.lazySet(slot, p + buffer.length);
+					return x;
+				}
+				p = positions.get(DEQUEUE);
+			} else if (diff < 0)
+				/*
+				 * the slot has not been filled in this round yet
+				 */
+				return null;
+			else
+				p = positions.get(DEQUEUE);
+		}
+	}
+}
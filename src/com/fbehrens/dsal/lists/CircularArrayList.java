@@ -0,0 +1,370 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A circular array list stores its elements in an array that is used as a
+ * ring buffer: the list starts at some index head and continues to the end
+ * of the array and then, if necessary, at its beginning again. Prepending
+ * moves head one step to the left and appending writes behind the last
+ * element, so neither has to shift any elements. When the array is full, it
+ * is replaced by one of twice the size, which costs O(1) amortized per
+ * insertion. The capacity is always a power of two, so wrapping an index
+ * around is a single bit mask.
+ *
+ * Compared to the linked lists, there is no node object per element - the
+ * list needs one reference per slot instead of a node with a header and one
+ * or two links - and neighbouring elements are stored next to each other,
+ * so iterating touches far fewer cache lines.
+ *
+ * Runtimes:
+ * 	- append/prepend: O(1) amortized
+ * 	- pop/dequeue/get: O(1)
+ *  - contains/delete: O(n)
+ *  - appendAll/drainTo: O(n)
+ *  - removeFirst(k)/removeLast(k): O(k)
+ *  - equals/toString: O(n)
+ */
+public class CircularArrayList<VALUE> implements AbstractList<VALUE>{
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] elements;
+	// index of the first element, valid even if the list is empty
+	private int head;
+	private int size;
+
+	public CircularArrayList(){
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list which can hold at least the given number of
+	 * elements before it has to grow.
+	 */
+	public CircularArrayList(int capacity){
+		if(capacity < 0){
+			throw new IllegalArgumentException("negative capacity: " + capacity);
+		}
+		this.elements = new Object[capacityFor(capacity)];
+		this.head = 0;
+		this.size = 0;
+	}
+
+	/*
+	 * the smallest power of two >= max(capacity, 1)
+	 */
+	private static int capacityFor(int capacity){
+		if(capacity > 1 << 30){
+			throw new OutOfMemoryError("capacity too large: " + capacity);
+		}
+		return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	/*
+	 * the slot of the element at the given position of the list
+	 */
+	private int slot(int index){
+		return (head + index) & (elements.length - 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private VALUE at(int slot){
+		return (VALUE) elements[slot];
+	}
+
+	/*
+	 * makes room for at least the given number of elements, the elements
+	 * are moved to the beginning of the new array
+	 */
+	private void ensureCapacity(int capacity){
+		if(capacity <= elements.length){
+			return;
+		}
+		Object[] larger = new Object[capacityFor(capacity)];
+		copyTo(larger, 0);
+		elements = larger;
+		head = 0;
+	}
+
+	/*
+	 * copies all elements in order into target, starting at index from;
+	 * these are at most two array copies, one if the list does not wrap
+	 */
+	private void copyTo(Object[] target, int from){
+		int firstPart = Math.min(size, elements.length - head);
+		System.arraycopy(elements, head, target, from, firstPart);
+		System.arraycopy(elements, 0, target, from + firstPart, size - firstPart);
+	}
+
+	@Override
+	public void append(VALUE value){
+		if(size == elements.length){
+			ensureCapacity(size + 1);
+		}
+		elements[slot(size)] = value;
+		size++;
+	}
+
+	@Override
+	public void prepend(VALUE value){
+		if(size == elements.length){
+			ensureCapacity(size + 1);
+		}
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = value;
+		size++;
+	}
+
+	/**
+	 * Appends all values of the supplied list, in order, to the end of this
+	 * list. The array grows at most once, and if the other list is a
+	 * circular array list, too, its elements are copied in bulk.
+	 */
+	@Override
+	public void appendAll(AbstractList<? extends VALUE> values){
+		int count = values.size();
+		ensureCapacity(size + count);
+		if(values instanceof CircularArrayList){
+			CircularArrayList<?> other = (CircularArrayList<?>) values;
+			// if the free slots of this list wrap around, the elements go
+			// through a temporary array; other may be this list itself
+			int to = slot(size);
+			if(to + count <= elements.length){
+				other.copyTo(elements, to);
+			} else {
+				Object[] copy = new Object[count];
+				other.copyTo(copy, 0);
+				int firstPart = elements.length - to;
+				System.arraycopy(copy, 0, elements, to, firstPart);
+				System.arraycopy(copy, firstPart, elements, 0, count - firstPart);
+			}
+			size += count;
+			return;
+		}
+		for(VALUE value : values){
+			append(value);
+		}
+	}
+
+	/**
+	 * Removes all elements from this list and appends them, in order, to the
+	 * supplied list. A circular array list receives them in bulk.
+	 *
+	 * @return the number of elements that were moved
+	 */
+	@Override
+	public int drainTo(AbstractList<? super VALUE> target){
+		int count = size;
+		if(target == this){
+			throw new IllegalArgumentException("cannot drain a list into itself");
+		}
+		if(target instanceof CircularArrayList){
+			@SuppressWarnings("unchecked")
+			CircularArrayList<VALUE> other = (CircularArrayList<VALUE>) target;
+			other.appendAll(this);
+		} else {
+			for(int i = 0; i < count; i++){
+				target.append(at(slot(i)));
+			}
+		}
+		clear();
+		return count;
+	}
+
+	/**
+	 * Removes all elements from this list. The capacity is kept.
+	 */
+	@Override
+	public void clear(){
+		clearSlots(0, size);
+		head = 0;
+		size = 0;
+	}
+
+	@Override
+	public void removeFirst(int n){
+		if(n < 0 || n > size){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size);
+		}
+		clearSlots(0, n);
+		head = slot(n);
+		size -= n;
+	}
+
+	@Override
+	public void removeLast(int n){
+		if(n < 0 || n > size){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size);
+		}
+		clearSlots(size - n, n);
+		size -= n;
+	}
+
+	/*
+	 * nulls the slots of the n elements from the given position on, these
+	 * are at most two ranges of the array
+	 */
+	private void clearSlots(int index, int n){
+		int from = slot(index);
+		int firstPart = Math.min(n, elements.length - from);
+		Arrays.fill(elements, from, from + firstPart, null);
+		Arrays.fill(elements, 0, n - firstPart, null);
+	}
+
+	@Override
+	public VALUE get(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return at(slot(index));
+	}
+
+	@Override
+	public void delete(VALUE valueToDelete){
+		int index = indexOf(valueToDelete);
+		if(index < 0){
+			return;
+		}
+		// close the gap by shifting the shorter side of the list
+		int mask = elements.length - 1;
+		if(index < size / 2){
+			for(int i = index; i > 0; i--){
+				elements[slot(i)] = elements[slot(i - 1)];
+			}
+			elements[head] = null;
+			head = (head + 1) & mask;
+		} else {
+			for(int i = index; i < size - 1; i++){
+				elements[slot(i)] = elements[slot(i + 1)];
+			}
+			elements[slot(size - 1)] = null;
+		}
+		size--;
+	}
+
+	@Override
+	public boolean contains(VALUE toFind) {
+		return indexOf(toFind) >= 0;
+	}
+
+	private int indexOf(VALUE toFind){
+		for(int i = 0; i < size; i++){
+			VALUE value = at(slot(i));
+			if(toFind == null ? value == null : toFind.equals(value)){
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public VALUE firstElement(){
+		return size == 0 ? null : at(head);
+	}
+
+	@Override
+	public VALUE lastElement(){
+		return size == 0 ? null : at(slot(size - 1));
+	}
+
+	@Override
+	public VALUE pop(){
+		if(size == 0){
+			return null;
+		}
+		VALUE toReturn = at(head);
+		elements[head] = null;
+		head = (head + 1) & (elements.length - 1);
+		size--;
+		return toReturn;
+	}
+
+	@Override
+	public VALUE dequeue(){
+		if(size == 0){
+			return null;
+		}
+		int last = slot(size - 1);
+		VALUE toReturn = at(last);
+		elements[last] = null;
+		size--;
+		return toReturn;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the number of elements this list can hold before it has to grow.
+	 */
+	public int capacity(){
+		return elements.length;
+	}
+
+	@Override
+	public Iterator<VALUE> iterator() {
+		return new Iterator<VALUE>(){
+			private int index = 0;
+			@Override
+			public boolean hasNext(){
+				return index < size;
+			}
+			@Override
+			public VALUE next() {
+				if(index >= size){
+					throw new NoSuchElementException();
+				}
+				return at(slot(index++));
+			}
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(!(obj instanceof CircularArrayList)){
+			return false;
+		}
+		CircularArrayList<?> other = (CircularArrayList<?>) obj;
+		if(other.size != size){
+			return false;
+		}
+		for(int i = 0; i < size; i++){
+			Object selfVal = elements[slot(i)], otherVal = other.elements[other.slot(i)];
+			if(selfVal == null ? otherVal != null : !selfVal.equals(otherVal)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for(int i = 0; i < size; i++){
+			Object value = elements[slot(i)];
+			hash = 31 * hash + (value == null ? 0 : value.hashCode());
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for(int i = 0; i < size; i++){
+			if(i > 0){
+				result.append(',');
+			}
+			result.append(elements[slot(i)]);
+		}
+		return result.append(']').toString();
+	}
+}
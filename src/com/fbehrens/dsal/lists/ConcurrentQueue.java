@@ -0,0 +1,113 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free unbounded queue (FIFO-buffer) for many producer and consumer
+ * threads, the algorithm of Michael and Scott. The elements are stored in a
+ * singly linked list with a dummy node at the front: head points to the
+ * dummy, whose successor is the front element, and tail points to the last
+ * node or (temporarily) to the node before it.
+ *
+ * An element is enqueued by linking a new node behind the last node with a
+ * compare-and-set, afterwards tail is swung to the new node. A thread which
+ * finds tail lagging behind swings it itself before it continues, so no
+ * thread ever waits for another one. An element is dequeued by moving head
+ * to its successor, which becomes the new dummy node. Nodes are never
+ * reused, so the garbage collector rules out the ABA-problem.
+ *
+ * @param <D>
+ *            The type of the data to store in the queue, null is not allowed.
+ */
+public class ConcurrentQueue<D> {
+	private static class Node<D> {
+		D data;
+		volatile Node<D> next;
+
+		Node(D data) {
+			this.data = data;
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<Node, Node> NEXT = AtomicReferenceFieldUpdater
+			.newUpdater(Node.class, Node.class, "next");
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<ConcurrentQueue, Node> HEAD = AtomicReferenceFieldUpdater
+			.newUpdater(ConcurrentQueue.class, Node.class, "head");
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<ConcurrentQueue, Node> TAIL = AtomicReferenceFieldUpdater
+			.newUpdater(ConcurrentQueue.class, Node.class, "tail");
+
+	private volatile Node<D> head, tail;
+
+	/**
+	 * Creates an empty queue.
+	 */
+	public ConcurrentQueue() {
+		head = tail = new Node<D>(null);
+	}
+
+	/**
+	 * Checks whether the queue is empty. The answer may be outdated as soon as
+	 * it is returned if other threads use the queue.
+	 */
+	public boolean isempty() {
+		return head.next == null;
+	}
+
+	/**
+	 * Inserts the given element x at the end of this queue. (lock-free)
+	 *
+	 * @param x
+	 *            The element to store in this queue, must be non-null.
+	 */
+	public void enqueue(D x) {
+		if (x == null)
+			throw new NullPointerException();
+		Node<D> node = new Node<D>(x);
+		while (true) {
+			Node<D> t = tail, n = t.next;
+			if (t != tail)
+				continue;
+			if (n == null) {
+				if (NEXT.compareAndSet(t, null, node)) {
+					TAIL.compareAndSet(this, t, node);
+					return;
+				}
+			} else
+				/*
+				 * tail lags behind, help the other thread
+				 */
+				TAIL.compareAndSet(this, t, n);
+		}
+	}
+
+	/**
+	 * Returns and removes the element at the front of this queue. (lock-free)
+	 *
+	 * @return The front element, or null if the queue is empty.
+	 */
+	public D dequeue() {
+		while (true) {
+			Node<D> h = head, t = tail, n = h.next;
+			if (h != head)
+				continue;
+			if (n == null)
+				return null;
+			if (h == t) {
+				TAIL.compareAndSet(this, t, n);
+				continue;
+			}
+			D x = n.data;
+			if (HEAD.compareAndSet(this, h, n)) {
+				/*
+				 * n is the new dummy node; threads which still read its data
+				 * fail their compare-and-set on head
+				 */
+				n.data = null;
+				return x;
+			}
+		}
+	}
+}
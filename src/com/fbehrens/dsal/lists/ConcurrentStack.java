@@ -0,0 +1,142 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free stack (LIFO-buffer) for many threads, the algorithm of Treiber
+ * with elimination backoff. The elements are stored in a singly linked list
+ * whose first node is swapped by a compare-and-set.
+ *
+ * Under contention most of these compare-and-sets fail, so a thread whose
+ * attempt failed does not retry at once but visits a random slot of a small
+ * elimination array first. A push leaves its node there for a short while;
+ * a pop which finds such an offer takes it. Both operations are then done
+ * without touching the list at all: a push directly followed by a pop leaves
+ * the stack unchanged, so it does not matter that the element never was on
+ * top of it.
+ *
+ * @param <D>
+ *            The type of the data to store in the stack, null is not allowed.
+ */
+public class ConcurrentStack<D> {
+	private static class Node<D> {
+		final D data;
+		Node<D> next;
+
+		Node(D data) {
+			this.data = data;
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<ConcurrentStack, Node> TOP = AtomicReferenceFieldUpdater
+			.newUpdater(ConcurrentStack.class, Node.class, "top");
+
+	/**
+	 * How often a push polls its slot of the elimination array before it
+	 * withdraws its offer.
+	 */
+	private static final int SPINS = 64;
+
+	private volatile Node<D> top;
+	/**
+	 * The elimination array; a slot is empty (null) or holds the node of a
+	 * waiting push.
+	 */
+	private final AtomicReferenceArray<Node<D>> elimination;
+
+	/**
+	 * Creates an empty stack.
+	 */
+	public ConcurrentStack() {
+		top = null;
+		elimination = new AtomicReferenceArray<Node<D>>(
+				Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors() / 2)));
+	}
+
+	/**
+	 * Checks whether the stack is empty. The answer may be outdated as soon as
+	 * it is returned if other threads use the stack.
+	 */
+	public boolean isempty() {
+		return top == null;
+	}
+
+	/**
+	 * Puts the given element x on top of the stack. (lock-free)
+	 *
+	 * @param x
+	 *            The element to store in this stack, must be non-null.
+	 */
+	public void push(D x) {
+		if (x == null)
+			throw new NullPointerException();
+		Node<D> node = new Node<D>(x);
+		while (true) {
+			Node<D> t = top;
+			node.next = t;
+			if (TOP.compareAndSet(this, t, node))
+				return;
+			if (eliminatePush(node))
+				return;
+		}
+	}
+
+	/**
+	 * Returns and removes the top element of the stack. (lock-free)
+	 *
+	 * @return The top element, or null if the stack is empty.
+	 */
+	public D pop() {
+		while (true) {
+			Node<D> t = top;
+			if (t == null)
+				return null;
+			if (TOP.compareAndSet(this, t, t.next))
+				return t.data;
+			Node<D> offer = eliminatePop();
+			if (offer != null)
+				return offer.data;
+		}
+	}
+
+	/**
+	 * Returns the top element of the stack without removing it, or null if the
+	 * stack is empty.
+	 */
+	public D top() {
+		Node<D> t = top;
+		return t == null ? null : t.data;
+	}
+
+	/*
+	 * offers node in a random slot of the elimination array for a while;
+	 * returns true iff a pop has taken it
+	 */
+	private boolean eliminatePush(Node<D> node) {
+		int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+		if (!elimination.compareAndSet(slot, null, node))
+			return false;
+		for (int i = 0; i < SPINS; i++)
+			if (elimination.get(slot) != node)
+				return true;
+		/*
+		 * if withdrawing fails, a pop has taken the node just now
+		 */
+		return !elimination.compareAndSet(slot, node, null);
+	}
+
+	/*
+	 * takes the offer of a waiting push from a random slot of the
+	 * elimination array, or returns null if there is none
+	 */
+	private Node<D> eliminatePop() {
+		int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+		Node<D> offer = elimination.get(slot);
+		if (offer != null && elimination.compareAndSet(slot, offer, null))
+			return offer;
+		return null;
+	}
+}
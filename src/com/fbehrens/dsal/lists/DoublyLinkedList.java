@@ -16,6 +16,8 @@ import java.util.Iterator;
  * 
  * Runtimes:
  * 	- append/prepend/pop/dequeue: O(1)
+ * 	- clear, drainTo another doubly linked list: O(1)
+ * 	- get(k)/removeFirst(k)/removeLast(k): O(min(k, n-k))
  *  - contains/delete: O(n)
  *  - equals/toString: O(n)
  */
@@ -115,6 +117,84 @@ public class DoublyLinkedList<VALUE> implements AbstractList<VALUE>{
 		return this.size;
 	}
 	
+	@Override
+	public VALUE get(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException();
+		}
+		return nodeAt(index).value;
+	}
+	
+	@Override
+	public void removeFirst(int n){
+		if(n < 0 || n > size){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size);
+		}
+		Node<VALUE> first = nodeAt(n);
+		head.next = first;
+		first.previous = head;
+		this.size -= n;
+	}
+	
+	@Override
+	public void removeLast(int n){
+		if(n < 0 || n > size){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size);
+		}
+		Node<VALUE> last = nodeAt(size - n - 1);
+		head.previous = last;
+		last.next = head;
+		this.size -= n;
+	}
+	
+	@Override
+	public void clear(){
+		head.next = head;
+		head.previous = head;
+		this.size = 0;
+	}
+	
+	@Override
+	public int drainTo(AbstractList<? super VALUE> target){
+		if(!(target instanceof DoublyLinkedList) || target == this){
+			return AbstractList.super.drainTo(target);
+		}
+		// move the whole chain of nodes behind the last node of the other list;
+		// its element type is a supertype of VALUE, and nodes never change
+		// their value, so our nodes are valid nodes of the other list
+		@SuppressWarnings("unchecked")
+		DoublyLinkedList<VALUE> other = (DoublyLinkedList<VALUE>) target;
+		int count = this.size;
+		if(count > 0){
+			Node<VALUE> first = head.next, last = head.previous;
+			first.previous = other.head.previous;
+			other.head.previous.next = first;
+			last.next = other.head;
+			other.head.previous = last;
+			other.size += count;
+			clear();
+		}
+		return count;
+	}
+	
+	/*
+	 * the node at the given position, walking from the nearer end of the
+	 * list; the positions -1 and size are the head
+	 */
+	private Node<VALUE> nodeAt(int index){
+		Node<VALUE> currentlyAt = this.head;
+		if(index < size / 2){
+			for(int i = -1; i < index; i++){
+				currentlyAt = currentlyAt.next;
+			}
+		} else {
+			for(int i = size; i > index; i--){
+				currentlyAt = currentlyAt.previous;
+			}
+		}
+		return currentlyAt;
+	}
+	
 	private Node<VALUE> findFirstNodeWithValue(VALUE toFind){
 		Node<VALUE> currentlyAt = this.head.next;
 		while(currentlyAt != this.head){
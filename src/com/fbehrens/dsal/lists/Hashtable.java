@@ -101,7 +101,9 @@ class HashIterator<K, D> implements Iterator<K, D> {
  * allowing multiple entries per array element. Automatic reallocation of the
  * table is performed if the table is too empty or too crowded. Standard access
  * methods like insertion, deletion, etc. all have amortized cost O(1) if a good
- * hash-function, i.e. {@link Object#hashCode()} is used.
+ * hash-function, i.e. {@link Object#hashCode()} is used. The lists of the
+ * table can be made self-organizing, see
+ * {@link #setorganization(SelfOrganization)}.
  * 
  * @author Rossmanith
  *
@@ -129,6 +131,10 @@ public class Hashtable<K, D> extends Dictionary<K, D> {
 	 * The current nr of elements in the table.
 	 */
 	int size = 0;
+	/**
+	 * The self-organization of the lists in the table.
+	 */
+	SelfOrganization organization = SelfOrganization.NONE;
 
 	/**
 	 * Constructs an empty hashtable with initial tablesize s.
@@ -151,6 +157,29 @@ public class Hashtable<K, D> extends Dictionary<K, D> {
 		return new HashIterator<K, D>(table, tablesize);
 	}
 
+	/**
+	 * Lets the lists of this table reorder themselves on successful lookups,
+	 * which pays off if many keys share a slot and few of them are looked up
+	 * much more often than the others.
+	 * 
+	 * @see List#setorganization(SelfOrganization)
+	 */
+	public void setorganization(SelfOrganization o) {
+		organization = o;
+		for (int l = 0; l < tablesize; l++)
+			if (table.get(l) != null)
+				table.get(l).setorganization(o);
+	}
+
+	/**
+	 * Creates an empty list for a slot of the table.
+	 */
+	List<K, D> newlist() {
+		List<K, D> list = new List<K, D>();
+		list.setorganization(organization);
+		return list;
+	}
+
 	/**
 	 * Adjusts the table size if there are too few or to many elements in the
 	 * table.
@@ -174,7 +203,7 @@ public class Hashtable<K, D> extends Dictionary<K, D> {
 			if (l < 0)
 				l = -l;
 			if (newtable.get(l) == null)
-				newtable.set(l, new List<K, D>());
+				newtable.set(l, newlist());
 			newtable.get(l).insert(it.key(), it.data());
 		}
 		/*
@@ -217,7 +246,7 @@ public class Hashtable<K, D> extends Dictionary<K, D> {
 		 * if there is no list, create a new one for that slot.
 		 */
 		if (table.get(l) == null)
-			table.set(l, new List<K, D>());
+			table.set(l, newlist());
 		/*
 		 * there only is a increase in size, if k is not already present
 		 */
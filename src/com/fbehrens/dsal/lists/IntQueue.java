@@ -0,0 +1,87 @@
+package com.fbehrens.dsal.lists;
+
+/**
+ * A queue (FIFO-buffer) of primitive ints, see {@link ArrayQueue}. The
+ * elements are stored in an int array, so they are not boxed.
+ */
+public class IntQueue {
+	/**
+	 * The elements of the queue in a ring buffer: the front element is at
+	 * position head, the following ones behind it, wrapping around at the end
+	 * of the array. The length of the array is a power of two.
+	 */
+	private int[] queue;
+	private int head;
+	private int size;
+
+	/**
+	 * Creates an empty queue.
+	 */
+	public IntQueue() {
+		queue = new int[16];
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Checks whether the queue is empty.
+	 * 
+	 * @return true, iff there are no elements stored in this queue.
+	 */
+	public boolean isempty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns and removes the element at the front of this queue. Requires that
+	 * this queue is non-empty.
+	 */
+	public int dequeue() {
+		int x = queue[head];
+		head = (head + 1) & (queue.length - 1);
+		size--;
+		return x;
+	}
+
+	/**
+	 * Returns the element at the front of this queue without removing it.
+	 * Requires that this queue is non-empty.
+	 */
+	public int front() {
+		return queue[head];
+	}
+
+	/**
+	 * Inserts the given element x at the end of this queue. (amortized
+	 * constant time)
+	 * 
+	 * @param x
+	 *            The element to store in this queue.
+	 */
+	public void enqueue(int x) {
+		if (size == queue.length)
+			grow();
+		queue[(head + size) & (queue.length - 1)] = x;
+		size++;
+	}
+
+	/**
+	 * Doubles the length of the array, the elements are moved to its
+	 * beginning.
+	 */
+	private void grow() {
+		int[] larger = new int[2 * queue.length];
+		int firstpart = queue.length - head;
+		System.arraycopy(queue, head, larger, 0, firstpart);
+		System.arraycopy(queue, 0, larger, firstpart, head);
+		queue = larger;
+		head = 0;
+	}
+
+	/**
+	 * Returns the number of elements in this queue.
+	 */
+	public int size() {
+		return size;
+	}
+}
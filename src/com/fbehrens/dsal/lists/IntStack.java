@@ -0,0 +1,75 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.Arrays;
+
+/**
+ * A stack (LIFO-buffer) of primitive ints, see {@link ArrayStack}. The
+ * elements are stored in an int array, so they are not boxed.
+ */
+public class IntStack {
+	/**
+	 * The elements of the stack, the top-most one at position size-1.
+	 */
+	private int[] stack;
+	private int size;
+
+	/**
+	 * Creates an empty stack.
+	 */
+	public IntStack() {
+		stack = new int[16];
+		size = 0;
+	}
+
+	/**
+	 * Checks whether this stack is empty.
+	 * 
+	 * @return true, iff there are no elements stored in this stack.
+	 */
+	public boolean isempty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns and removes the top-most element of this stack. May only be
+	 * called if this stack is non-empty.
+	 */
+	public int pop() {
+		return stack[--size];
+	}
+
+	/**
+	 * Returns the top-most element of this stack without removing it. May only
+	 * be called if this stack is non-empty.
+	 */
+	public int top() {
+		return stack[size - 1];
+	}
+
+	/**
+	 * Pushes the given element x on the top of this stack. (amortized constant
+	 * time)
+	 * 
+	 * @param x
+	 *            The element to store in this stack.
+	 */
+	public void push(int x) {
+		if (size == stack.length)
+			stack = Arrays.copyOf(stack, 2 * size);
+		stack[size++] = x;
+	}
+
+	/**
+	 * Removes all elements from this stack.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of elements in this stack.
+	 */
+	public int size() {
+		return size;
+	}
+}
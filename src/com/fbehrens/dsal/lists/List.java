@@ -5,7 +5,8 @@ import com.fbehrens.dsal.Map;
 
 /**
  * A listnode stores a key of type K, a datum of type D, and links to a previous
- * and a succeeding listnode.
+ * and a succeeding listnode. The counter is only used by lists which are
+ * ordered by {@link SelfOrganization#FREQUENCY_COUNT}.
  * 
  * @param <K>
  * @param <D>
@@ -14,12 +15,14 @@ class Listnode<K, D> {
 	K key;
 	D data;
 	Listnode<K, D> pred, succ;
+	int count;
 
 	Listnode(K k, D d) {
 		key = k;
 		data = d;
 		pred = null;
 		succ = null;
+		count = 0;
 	}
 
 	/**
@@ -62,7 +65,15 @@ class Listnode<K, D> {
  * However, if these constant time operations are used, then the list is not a
  * {@link Map} any more, e.g., there might be multiple data-entries for the same
  * key. <BR>
- * Note, that {@code null}-values are not supported as keys.
+ * Note, that {@code null}-values are not supported as keys. <BR>
+ * Optionally, a list keeps the nodes of deleted elements in a bounded pool
+ * and reuses them for later insertions, so a list with many insertions and
+ * deletions allocates (and the garbage collector frees) fewer objects, see
+ * {@link #setpoolcapacity(int)}. <BR>
+ * A list which is used as a map with a skewed access pattern can reorder
+ * itself on successful calls of {@link #find(Object)} and
+ * {@link #contains(Object)}, so that frequent keys are found after few steps,
+ * see {@link #setorganization(SelfOrganization)}.
  * 
  * 
  * @author Rossmanith
@@ -81,18 +92,147 @@ class Listnode<K, D> {
  */
 public class List<K, D> extends Dictionary<K, D> {
 	Listnode<K, D> head;
+	/*
+	 * The pool of deleted nodes, chained by their succ-links, and its size.
+	 * At most poolcapacity nodes are kept, none by default.
+	 */
+	Listnode<K, D> pool;
+	int poolsize, poolcapacity;
+	SelfOrganization organization;
 
 	public List() {
 		head = new Listnode<K, D>(null, null);
 		head.pred = head.succ = head;
+		pool = null;
+		poolsize = poolcapacity = 0;
+		organization = SelfOrganization.NONE;
+	}
+
+	/**
+	 * Sets the heuristic by which this list reorders itself when a key is
+	 * found by {@link #find(Object)} or {@link #contains(Object)}. Switching to
+	 * {@link SelfOrganization#FREQUENCY_COUNT} starts with the current order
+	 * and all counters at 0.
+	 */
+	public void setorganization(SelfOrganization o) {
+		if (o == SelfOrganization.FREQUENCY_COUNT && organization != o)
+			for (Listnode<K, D> n = head.succ; n != head; n = n.succ)
+				n.count = 0;
+		organization = o;
+	}
+
+	/**
+	 * Returns the heuristic by which this list reorders itself on lookups.
+	 */
+	public SelfOrganization organization() {
+		return organization;
+	}
+
+	/**
+	 * Moves the node n, which has just been found, according to the
+	 * self-organization of this list. (constant time, or linear in the
+	 * distance moved for frequency counts)
+	 */
+	void accessed(Listnode<K, D> n) {
+		Listnode<K, D> p = n.pred;
+		switch (organization) {
+		case MOVE_TO_FRONT:
+			p = head;
+			break;
+		case TRANSPOSE:
+			if (p != head)
+				p = p.pred;
+			break;
+		case FREQUENCY_COUNT:
+			n.count++;
+			while (p != head && p.count < n.count)
+				p = p.pred;
+			break;
+		default:
+			return;
+		}
+		if (p != n.pred) {
+			n.delete();
+			p.append(n);
+		}
+	}
+
+	/**
+	 * Lets this list keep up to capacity nodes of deleted elements for reuse.
+	 * Nodes which are already pooled beyond a smaller capacity are released.
+	 * An iterator must not be used any more after the element at its position
+	 * has been deleted by other means than the iterator, since its node may be
+	 * reused.
+	 * 
+	 * @param capacity
+	 *            The maximal number of pooled nodes, 0 switches pooling off.
+	 */
+	public void setpoolcapacity(int capacity) {
+		poolcapacity = capacity;
+		while (poolsize > capacity) {
+			pool = pool.succ;
+			poolsize--;
+		}
+	}
+
+	/**
+	 * Releases all pooled nodes to the garbage collector; the pool capacity is
+	 * kept.
+	 */
+	public void releasepool() {
+		pool = null;
+		poolsize = 0;
+	}
+
+	/**
+	 * Returns the number of nodes which are pooled for reuse.
+	 */
+	public int poolsize() {
+		return poolsize;
+	}
+
+	/**
+	 * Returns a node with key k and data d, taken from the pool if possible.
+	 */
+	Listnode<K, D> newnode(K k, D d) {
+		Listnode<K, D> n = pool;
+		if (n == null)
+			return new Listnode<K, D>(k, d);
+		pool = n.succ;
+		poolsize--;
+		n.key = k;
+		n.data = d;
+		n.count = 0;
+		return n;
+	}
+
+	/**
+	 * Unlinks the node n from this list and puts it into the pool if there is
+	 * space.
+	 */
+	void deletenode(Listnode<K, D> n) {
+		n.delete();
+		if (poolsize < poolcapacity) {
+			n.key = null;
+			n.data = null;
+			n.pred = null;
+			n.succ = pool;
+			pool = n;
+			poolsize++;
+		}
 	}
 
 	public void insert(K k, D d) {
 		Listnode<K, D> n = findnode(k);
 		if (n != null)
-			n.copy(new Listnode<K, D>(k, d));
+			n.data = d;
+		else if (organization == SelfOrganization.FREQUENCY_COUNT)
+			/*
+			 * a new key has not been found yet, so it belongs behind all others
+			 */
+			head.pred.append(newnode(k, d));
 		else
-			head.append(new Listnode<K, D>(k, d));
+			head.append(newnode(k, d));
 	}
 
 	/**
@@ -104,7 +244,11 @@ public class List<K, D> extends Dictionary<K, D> {
 	 * @see Map#contains(Object)
 	 */
 	public boolean contains(K k) {
-		return findnode(k) != null;
+		Listnode<K, D> n = findnode(k);
+		if (n == null)
+			return false;
+		accessed(n);
+		return true;
 	}
 
 	/**
@@ -116,7 +260,7 @@ public class List<K, D> extends Dictionary<K, D> {
 	 * @param d
 	 */
 	public void append(K k, D d) {
-		head.pred.append(new Listnode<K, D>(k, d));
+		head.pred.append(newnode(k, d));
 	}
 
 	/**
@@ -128,7 +272,7 @@ public class List<K, D> extends Dictionary<K, D> {
 	 * @param d
 	 */
 	public void prepend(K k, D d) {
-		head.append(new Listnode<K, D>(k, d));
+		head.append(newnode(k, d));
 	}
 
 	/**
@@ -179,6 +323,7 @@ public class List<K, D> extends Dictionary<K, D> {
 		Listnode<K, D> n = findnode(k);
 		if (n == null)
 			return null;
+		accessed(n);
 		return n.data;
 	}
 
@@ -192,7 +337,7 @@ public class List<K, D> extends Dictionary<K, D> {
 	public void delete(K k) {
 		Listnode<K, D> n = findnode(k);
 		if (n != null)
-			n.delete();
+			deletenode(n);
 	}
 
 	public Listiterator<K, D> iterator() {
@@ -230,16 +375,17 @@ public class List<K, D> extends Dictionary<K, D> {
 		}
 
 		public void delete() {
-			n.delete();
+			Listnode<K, D> m = n;
 			n = n.succ;
+			deletenode(m);
 		}
 
 		public void append(K k, D d) {
-			n.append(new Listnode<K, D>(k, d));
+			n.append(newnode(k, d));
 		}
 
 		public void prepend(K k, D d) {
-			n.pred.append(new Listnode<K, D>(k, d));
+			n.pred.append(newnode(k, d));
 		}
 	}
 
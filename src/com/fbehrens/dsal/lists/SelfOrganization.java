@@ -0,0 +1,32 @@
+package com.fbehrens.dsal.lists;
+
+/**
+ * The heuristics by which a {@link List} can reorder itself on successful
+ * lookups, see {@link List#setorganization(SelfOrganization)}. If few keys
+ * are looked up much more often than the others, they move towards the front
+ * of the list, where a lookup finds them after few steps.
+ */
+public enum SelfOrganization {
+	/**
+	 * The list is never reordered by lookups.
+	 */
+	NONE,
+	/**
+	 * A key which is found is moved to the front of the list. Adapts fastest
+	 * to changing access patterns, but a single lookup of a rare key pushes
+	 * all frequent keys back by one position.
+	 */
+	MOVE_TO_FRONT,
+	/**
+	 * A key which is found is swapped with its predecessor. Frequent keys
+	 * move to the front slowly, but stay there.
+	 */
+	TRANSPOSE,
+	/**
+	 * Every key counts how often it was found, and the list is kept sorted
+	 * by these counts in descending order; new keys are inserted at the end.
+	 * Comes closest to the optimal static order, at the price of a counter
+	 * per element.
+	 */
+	FREQUENCY_COUNT
+}
@@ -2,6 +2,22 @@ package com.fbehrens.dsal.lists;
 
 import java.util.Iterator;
 
+/**
+ * A singly linked list: every node only knows its successor. The list keeps a
+ * pointer to its last node, so append and lastElement take constant time.
+ * Removing the last element still has to walk the whole list to find the
+ * node before it; {@link BankersQueue} removes at both ends in constant
+ * (amortized) time.
+ * 
+ * A list created with trackTail = false does not use the tail pointer and
+ * walks the list for append and lastElement, as a baseline for benchmarks.
+ * 
+ * Runtimes:
+ * 	- prepend/pop: O(1)
+ * 	- append/lastElement: O(1), O(n) without tail tracking
+ * 	- dequeue: O(n)
+ *  - contains/delete: O(n)
+ */
 public class SimpleLinkedList<VALUE> implements AbstractList<VALUE> {
 	
 	private static class Node<VALUE> {
@@ -13,12 +29,36 @@ public class SimpleLinkedList<VALUE> implements AbstractList<VALUE> {
 	}
 	
 	private final Node<VALUE> head;
+	// the last node, or head if the list is empty; always kept up to date,
+	// but only used if trackTail is set
+	private Node<VALUE> tail;
+	private final boolean trackTail;
 	private int size;
 	
 	public SimpleLinkedList(){
+		this(true);
+	}
+	
+	public SimpleLinkedList(boolean trackTail){
 		this.head = new Node<VALUE>(null);
+		this.tail = this.head;
+		this.trackTail = trackTail;
 		this.size = 0;
 	}
+	
+	/*
+	 * the last node, or head if the list is empty
+	 */
+	private Node<VALUE> lastNode(){
+		if(trackTail){
+			return tail;
+		}
+		Node<VALUE> lastNode = this.head;
+		while(lastNode.next != null){
+			lastNode = lastNode.next;
+		}
+		return lastNode;
+	}
 
 	@Override
 	public Iterator<VALUE> iterator() {
@@ -47,19 +87,20 @@ public class SimpleLinkedList<VALUE> implements AbstractList<VALUE> {
 
 	@Override
 	public void append(VALUE value) {
-		Node<VALUE> lastNode = this.head;
-		while(lastNode.next != null){
-			lastNode = lastNode.next;
-		}
-		lastNode.next = new Node(value);
+		Node<VALUE> newNode = new Node<>(value);
+		lastNode().next = newNode;
+		tail = newNode;
 		this.size++;
 	}
 
 	@Override
 	public void prepend(VALUE value) {
-		Node<VALUE> newNode = new Node(value);
+		Node<VALUE> newNode = new Node<>(value);
 		newNode.next = head.next;
 		head.next = newNode;
+		if(tail == head){
+			tail = newNode;
+		}
 		this.size++;
 	}
 
@@ -67,6 +108,9 @@ public class SimpleLinkedList<VALUE> implements AbstractList<VALUE> {
 	public void delete(VALUE value) {
 		Node<VALUE> nodeBefore = findNodeJustBeforeValue(value);
 		if(nodeBefore != null){
+			if(nodeBefore.next == tail){
+				tail = nodeBefore;
+			}
 			nodeBefore.next = nodeBefore.next.next;
 			this.size--;
 		}
@@ -102,11 +146,7 @@ public class SimpleLinkedList<VALUE> implements AbstractList<VALUE> {
 
 	@Override
 	public VALUE lastElement() {
-		Node<VALUE> lastNode = head;
-		while(lastNode.next != null){
-			lastNode = lastNode.next;
-		}
-		return lastNode.value;
+		return lastNode().value;
 	}
 
 	@Override
@@ -114,6 +154,9 @@ public class SimpleLinkedList<VALUE> implements AbstractList<VALUE> {
 		if(head.next != null){
 			VALUE toReturn = head.next.value;
 			head.next = head.next.next;
+			if(head.next == null){
+				tail = head;
+			}
 			this.size--;
 			return toReturn;
 		} else {
@@ -130,6 +173,7 @@ public class SimpleLinkedList<VALUE> implements AbstractList<VALUE> {
 				last = last.next;
 			}
 			prevLast.next = null;
+			tail = prevLast;
 			this.size--;
 			return last.value;
 		} else {
@@ -142,6 +186,63 @@ public class SimpleLinkedList<VALUE> implements AbstractList<VALUE> {
 		return this.size;
 	}
 	
+	@Override
+	public void removeFirst(int n) {
+		if(n < 0 || n > size){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size);
+		}
+		Node<VALUE> first = head.next;
+		for(int i = 0; i < n; i++){
+			first = first.next;
+		}
+		head.next = first;
+		if(first == null){
+			tail = head;
+		}
+		this.size -= n;
+	}
+	
+	@Override
+	public void removeLast(int n) {
+		if(n < 0 || n > size){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size);
+		}
+		Node<VALUE> last = head;
+		for(int i = 0; i < size - n; i++){
+			last = last.next;
+		}
+		last.next = null;
+		tail = last;
+		this.size -= n;
+	}
+	
+	@Override
+	public void clear() {
+		head.next = null;
+		tail = head;
+		this.size = 0;
+	}
+	
+	@Override
+	public int drainTo(AbstractList<? super VALUE> target) {
+		if(!(target instanceof SimpleLinkedList) || target == this){
+			return AbstractList.super.drainTo(target);
+		}
+		// hang our nodes behind the last node of the other list; its element
+		// type is a supertype of VALUE, and nodes never change their value, so
+		// our nodes are valid nodes of the other list
+		@SuppressWarnings("unchecked")
+		SimpleLinkedList<VALUE> other = (SimpleLinkedList<VALUE>) target;
+		int count = this.size;
+		if(count > 0){
+			other.lastNode().next = head.next;
+			other.tail = tail;
+			other.size += count;
+			clear();
+		}
+		return count;
+	}
+	
 	@Override
 	public boolean equals(Object obj) {
 		try {
@@ -0,0 +1,141 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only view of a range of positions of another list, see
+ * {@link AbstractList#subList(int, int)}. Positional access is delegated to
+ * {@link AbstractList#get(int)} of the underlying list, so it is as fast as
+ * there; iterating skips the elements in front of the range once.
+ */
+class SubList<VALUE> implements AbstractList<VALUE>{
+
+	private final AbstractList<VALUE> list;
+	private final int from, to;
+	// the size of list when the view was created, a change makes the view invalid
+	private final int expectedSize;
+
+	SubList(AbstractList<VALUE> list, int from, int to){
+		this.list = list;
+		this.from = from;
+		this.to = to;
+		this.expectedSize = list.size();
+	}
+
+	private void checkForChanges(){
+		if(list.size() != expectedSize){
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public VALUE get(int index){
+		if(index < 0 || index >= size()){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		checkForChanges();
+		return list.get(from + index);
+	}
+
+	@Override
+	public AbstractList<VALUE> subList(int from, int to){
+		if(from < 0 || to > size() || from > to){
+			throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + size());
+		}
+		checkForChanges();
+		return new SubList<>(list, this.from + from, this.from + to);
+	}
+
+	@Override
+	public void append(VALUE value){
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void prepend(VALUE value){
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void delete(VALUE value){
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean contains(VALUE toFind){
+		for(VALUE value : this){
+			if(toFind == null ? value == null : toFind.equals(value)){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public VALUE firstElement(){
+		return isEmpty() ? null : get(0);
+	}
+
+	@Override
+	public VALUE lastElement(){
+		return isEmpty() ? null : get(size() - 1);
+	}
+
+	@Override
+	public VALUE pop(){
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public VALUE dequeue(){
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int size(){
+		return to - from;
+	}
+
+	@Override
+	public Iterator<VALUE> iterator(){
+		checkForChanges();
+		final Iterator<VALUE> iterator = list.iterator();
+		for(int i = 0; i < from; i++){
+			iterator.next();
+		}
+		return new Iterator<VALUE>(){
+			private int remaining = to - from;
+			@Override
+			public boolean hasNext(){
+				return remaining > 0;
+			}
+			@Override
+			public VALUE next(){
+				if(remaining == 0){
+					throw new NoSuchElementException();
+				}
+				checkForChanges();
+				remaining--;
+				return iterator.next();
+			}
+			@Override
+			public void remove(){
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder result = new StringBuilder("[");
+		for(VALUE value : this){
+			if(result.length() > 1){
+				result.append(',');
+			}
+			result.append(value);
+		}
+		return result.append(']').toString();
+	}
+}
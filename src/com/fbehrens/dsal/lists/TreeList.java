@@ -0,0 +1,479 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A tree list (also called a rope) stores the elements of a list in an AVL
+ * tree, ordered by their position instead of by a key. Every node knows the
+ * size of its subtree, so the element at a given position is found by
+ * descending from the root: if the position is smaller than the size of the
+ * left subtree, it is there, otherwise it is the node itself or in the right
+ * subtree. Inserting and removing at a position work the same way as in an
+ * AVL tree and keep the tree balanced, so all of them take O(log n) time, no
+ * matter where in the list the position is.
+ *
+ * Two trees are concatenated by joining them below a middle node: the middle
+ * node is hung into the higher tree on the side of the lower one, at the
+ * first node that is about as high as the lower tree, and the path above is
+ * rebalanced. A tree is split at a position by joining the pieces left and
+ * right of the search path. Both take O(log n) time, and so does removing a
+ * whole range of positions.
+ *
+ * Runtimes:
+ * 	- append/prepend/pop/dequeue: O(log n)
+ * 	- get/set/insertAt/removeAt: O(log n)
+ * 	- split/concat/removeRange: O(log n)
+ * 	- removeFirst/removeLast/drainTo another tree list: O(log n)
+ *  - contains/delete: O(n)
+ *  - equals/toString: O(n)
+ */
+public class TreeList<VALUE> implements AbstractList<VALUE>{
+
+	private static class Node<VALUE> {
+		private VALUE value;
+		private Node<VALUE> left, right;
+		// height and size of the subtree of this node
+		private int height, size;
+
+		private Node(VALUE value){
+			this.value = value;
+			this.height = 1;
+			this.size = 1;
+		}
+
+		private void update(){
+			height = 1 + Math.max(height(left), height(right));
+			size = 1 + size(left) + size(right);
+		}
+	}
+
+	private Node<VALUE> root;
+
+	public TreeList(){
+		this.root = null;
+	}
+
+	private TreeList(Node<VALUE> root){
+		this.root = root;
+	}
+
+	private static int height(Node<?> n){
+		return n == null ? 0 : n.height;
+	}
+
+	private static int size(Node<?> n){
+		return n == null ? 0 : n.size;
+	}
+
+	private static <VALUE> Node<VALUE> rotateLeft(Node<VALUE> n){
+		Node<VALUE> r = n.right;
+		n.right = r.left;
+		n.update();
+		r.left = n;
+		r.update();
+		return r;
+	}
+
+	private static <VALUE> Node<VALUE> rotateRight(Node<VALUE> n){
+		Node<VALUE> l = n.left;
+		n.left = l.right;
+		n.update();
+		l.right = n;
+		l.update();
+		return l;
+	}
+
+	/*
+	 * restores the AVL condition at n if the heights of its subtrees differ
+	 * by 2, and returns the new root of the subtree
+	 */
+	private static <VALUE> Node<VALUE> balance(Node<VALUE> n){
+		int hl = height(n.left), hr = height(n.right);
+		if(hl > hr + 1){
+			if(height(n.left.left) < height(n.left.right)){
+				n.left = rotateLeft(n.left);
+			}
+			return rotateRight(n);
+		}
+		if(hr > hl + 1){
+			if(height(n.right.right) < height(n.right.left)){
+				n.right = rotateRight(n.right);
+			}
+			return rotateLeft(n);
+		}
+		n.update();
+		return n;
+	}
+
+	/*
+	 * the tree with the elements of l, then middle, then the elements of r;
+	 * O(|height(l) - height(r)| + 1) time
+	 */
+	private static <VALUE> Node<VALUE> join(Node<VALUE> l, Node<VALUE> middle, Node<VALUE> r){
+		int hl = height(l), hr = height(r);
+		if(hl > hr + 1){
+			l.right = join(l.right, middle, r);
+			return balance(l);
+		}
+		if(hr > hl + 1){
+			r.left = join(l, middle, r.left);
+			return balance(r);
+		}
+		middle.left = l;
+		middle.right = r;
+		middle.update();
+		return middle;
+	}
+
+	/*
+	 * the concatenation of l and r, the last node of l becomes the middle
+	 */
+	private static <VALUE> Node<VALUE> concat(Node<VALUE> l, Node<VALUE> r){
+		if(l == null){
+			return r;
+		}
+		if(r == null){
+			return l;
+		}
+		Node<VALUE> last = l;
+		while(last.right != null){
+			last = last.right;
+		}
+		return join(removeAt(l, l.size - 1), last, r);
+	}
+
+	/*
+	 * splits the tree n into the first index elements, stored in parts[0],
+	 * and the remaining ones, stored in parts[1]
+	 */
+	private static <VALUE> void split(Node<VALUE> n, int index, Node<VALUE>[] parts){
+		if(n == null){
+			parts[0] = parts[1] = null;
+			return;
+		}
+		int leftSize = size(n.left);
+		Node<VALUE> left = n.left, right = n.right;
+		if(index <= leftSize){
+			split(left, index, parts);
+			parts[1] = join(parts[1], n, right);
+		} else {
+			split(right, index - leftSize - 1, parts);
+			parts[0] = join(left, n, parts[0]);
+		}
+	}
+
+	private static <VALUE> Node<VALUE> insertAt(Node<VALUE> n, int index, Node<VALUE> insertMe){
+		if(n == null){
+			return insertMe;
+		}
+		int leftSize = size(n.left);
+		if(index <= leftSize){
+			n.left = insertAt(n.left, index, insertMe);
+		} else {
+			n.right = insertAt(n.right, index - leftSize - 1, insertMe);
+		}
+		return balance(n);
+	}
+
+	private static <VALUE> Node<VALUE> removeAt(Node<VALUE> n, int index){
+		int leftSize = size(n.left);
+		if(index < leftSize){
+			n.left = removeAt(n.left, index);
+			return balance(n);
+		}
+		if(index > leftSize){
+			n.right = removeAt(n.right, index - leftSize - 1);
+			return balance(n);
+		}
+		if(n.left == null){
+			return n.right;
+		}
+		if(n.right == null){
+			return n.left;
+		}
+		// two children: the first node of the right subtree takes the place of n
+		Node<VALUE> first = n.right;
+		while(first.left != null){
+			first = first.left;
+		}
+		first.right = removeAt(n.right, 0);
+		first.left = n.left;
+		return balance(first);
+	}
+
+	private Node<VALUE> node(int index){
+		if(index < 0 || index >= size()){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		Node<VALUE> n = root;
+		while(true){
+			int leftSize = size(n.left);
+			if(index < leftSize){
+				n = n.left;
+			} else if(index > leftSize){
+				index -= leftSize + 1;
+				n = n.right;
+			} else {
+				return n;
+			}
+		}
+	}
+
+	@Override
+	public VALUE get(int index){
+		return node(index).value;
+	}
+
+	/**
+	 * Replaces the element at the given position and returns the old one.
+	 */
+	public VALUE set(int index, VALUE value){
+		Node<VALUE> n = node(index);
+		VALUE old = n.value;
+		n.value = value;
+		return old;
+	}
+
+	/**
+	 * Inserts the value at the given position, the elements from this
+	 * position on move one position back. The index may be size(), then the
+	 * value is appended.
+	 */
+	public void insertAt(int index, VALUE value){
+		if(index < 0 || index > size()){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		root = insertAt(root, index, new Node<VALUE>(value));
+	}
+
+	/**
+	 * Removes the element at the given position and returns it.
+	 */
+	public VALUE removeAt(int index){
+		VALUE value = get(index);
+		root = removeAt(root, index);
+		return value;
+	}
+
+	/**
+	 * Removes the elements at the positions from (inclusive) to to
+	 * (exclusive).
+	 */
+	public void removeRange(int from, int to){
+		if(from < 0 || to > size() || from > to){
+			throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + size());
+		}
+		Node<VALUE>[] parts = newParts();
+		split(root, to, parts);
+		Node<VALUE> tail = parts[1];
+		split(parts[0], from, parts);
+		root = concat(parts[0], tail);
+	}
+
+	/**
+	 * Removes the elements from the given position on and returns them as a
+	 * new list.
+	 */
+	public TreeList<VALUE> split(int index){
+		if(index < 0 || index > size()){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		Node<VALUE>[] parts = newParts();
+		split(root, index, parts);
+		root = parts[0];
+		return new TreeList<VALUE>(parts[1]);
+	}
+
+	/**
+	 * Appends all elements of other to this list, other is empty afterwards.
+	 */
+	public void concat(TreeList<VALUE> other){
+		if(other == this){
+			throw new IllegalArgumentException("cannot concatenate a list with itself");
+		}
+		root = concat(root, other.root);
+		other.root = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <VALUE> Node<VALUE>[] newParts(){
+		return (Node<VALUE>[]) new Node<?>[2];
+	}
+
+	@Override
+	public void append(VALUE value){
+		root = insertAt(root, size(), new Node<VALUE>(value));
+	}
+
+	@Override
+	public void prepend(VALUE value){
+		root = insertAt(root, 0, new Node<VALUE>(value));
+	}
+
+	@Override
+	public void delete(VALUE valueToDelete){
+		int index = indexOf(valueToDelete);
+		if(index >= 0){
+			root = removeAt(root, index);
+		}
+	}
+
+	@Override
+	public boolean contains(VALUE toFind) {
+		return indexOf(toFind) >= 0;
+	}
+
+	/**
+	 * Returns the position of the first occurrence of the value, or -1 if it
+	 * is not contained in the list.
+	 */
+	public int indexOf(VALUE toFind){
+		int index = 0;
+		for(VALUE value : this){
+			if(toFind == null ? value == null : toFind.equals(value)){
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	@Override
+	public VALUE firstElement(){
+		return isEmpty() ? null : get(0);
+	}
+
+	@Override
+	public VALUE lastElement(){
+		return isEmpty() ? null : get(size() - 1);
+	}
+
+	@Override
+	public VALUE pop(){
+		return isEmpty() ? null : removeAt(0);
+	}
+
+	@Override
+	public VALUE dequeue(){
+		return isEmpty() ? null : removeAt(size() - 1);
+	}
+
+	@Override
+	public int size() {
+		return size(root);
+	}
+
+	@Override
+	public void removeFirst(int n){
+		if(n < 0 || n > size()){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size());
+		}
+		removeRange(0, n);
+	}
+
+	@Override
+	public void removeLast(int n){
+		if(n < 0 || n > size()){
+			throw new IndexOutOfBoundsException("n: " + n + ", Size: " + size());
+		}
+		removeRange(size() - n, size());
+	}
+
+	@Override
+	public void clear(){
+		root = null;
+	}
+
+	/**
+	 * Removes all elements from this list and appends them, in order, to the
+	 * supplied list. A tree list receives them by {@link #concat(TreeList)}.
+	 *
+	 * @return the number of elements that were moved
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int drainTo(AbstractList<? super VALUE> target){
+		if(!(target instanceof TreeList) || target == this){
+			return AbstractList.super.drainTo(target);
+		}
+		int count = size();
+		((TreeList<VALUE>) target).concat(this);
+		return count;
+	}
+
+	@Override
+	public Iterator<VALUE> iterator() {
+		// in-order traversal, the stack holds the nodes whose left subtree
+		// is being visited
+		return new Iterator<VALUE>(){
+			@SuppressWarnings("unchecked")
+			private final Node<VALUE>[] stack = (Node<VALUE>[]) new Node<?>[height(root)];
+			private int top = pushLeft(root, 0);
+
+			private int pushLeft(Node<VALUE> n, int top){
+				for(; n != null; n = n.left){
+					stack[top++] = n;
+				}
+				return top;
+			}
+			@Override
+			public boolean hasNext(){
+				return top > 0;
+			}
+			@Override
+			public VALUE next() {
+				if(top == 0){
+					throw new NoSuchElementException();
+				}
+				Node<VALUE> n = stack[--top];
+				top = pushLeft(n.right, top);
+				return n.value;
+			}
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(!(obj instanceof TreeList)){
+			return false;
+		}
+		TreeList<?> other = (TreeList<?>) obj;
+		if(other.size() != size()){
+			return false;
+		}
+		Iterator<?> otherIter = other.iterator();
+		for(VALUE selfVal : this){
+			Object otherVal = otherIter.next();
+			if(selfVal == null ? otherVal != null : !selfVal.equals(otherVal)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for(VALUE value : this){
+			hash = 31 * hash + (value == null ? 0 : value.hashCode());
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for(VALUE value : this){
+			if(result.length() > 1){
+				result.append(',');
+			}
+			result.append(value);
+		}
+		return result.append(']').toString();
+	}
+}
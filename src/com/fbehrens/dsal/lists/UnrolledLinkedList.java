@@ -0,0 +1,411 @@
+package com.fbehrens.dsal.lists;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unrolled linked list is a doubly linked list whose nodes do not hold a
+ * single element but a small array of them. Inside a node the elements are
+ * stored next to each other, so iterating loads a few cache lines per node
+ * instead of one node object per element, and there is only one node header
+ * and two links for a whole block of elements. Inserting or deleting in the
+ * middle only shifts the elements of one node.
+ *
+ * A node that overflows is split into two half full nodes. A node that
+ * underflows (is less than half full) takes an element from its successor
+ * or, if both fit into one node, is merged with it. Therefore all nodes
+ * except the first and the last one are at least half full. Appending to a
+ * full last node and prepending to a full first node start a new node
+ * instead of splitting, so a list built that way has full nodes.
+ *
+ * Elements in the middle of the list are edited with a {@link Cursor}.
+ *
+ * Runtimes (B is the node capacity):
+ * 	- append/prepend/pop/dequeue: O(B)
+ * 	- insert/remove at a cursor: O(B)
+ * 	- get: O(n/B)
+ *  - contains/delete: O(n)
+ *  - equals/toString: O(n)
+ */
+public class UnrolledLinkedList<VALUE> implements AbstractList<VALUE>{
+
+	/**
+	 * The default number of elements per node. With compressed references
+	 * these are two cache lines.
+	 */
+	public static final int DEFAULT_NODE_CAPACITY = 32;
+
+	private static class Node {
+		private final Object[] values;
+		private int count;
+		private Node previous, next;
+
+		private Node(int capacity){
+			this.values = new Object[capacity];
+		}
+
+		private void insert(int index, Object value){
+			System.arraycopy(values, index, values, index + 1, count - index);
+			values[index] = value;
+			count++;
+		}
+
+		private void remove(int index){
+			count--;
+			System.arraycopy(values, index + 1, values, index, count - index);
+			values[count] = null;
+		}
+
+		/*
+		 * moves the elements from index on to the beginning of other, which
+		 * has to be empty
+		 */
+		private void moveTail(int index, Node other){
+			other.count = count - index;
+			System.arraycopy(values, index, other.values, 0, other.count);
+			Arrays.fill(values, index, count, null);
+			count = index;
+		}
+
+		private void append(Node appendMe){
+			appendMe.next = this.next;
+			appendMe.previous = this;
+			this.next.previous = appendMe;
+			this.next = appendMe;
+		}
+
+		private void delete(){
+			this.previous.next = this.next;
+			this.next.previous = this.previous;
+		}
+	}
+
+	private final int nodeCapacity;
+	// empty head node, head.next is the first and head.previous the last node
+	private final Node head;
+	private int size;
+
+	public UnrolledLinkedList(){
+		this(DEFAULT_NODE_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list whose nodes hold the given number of elements. A
+	 * multiple of 16 fills whole cache lines.
+	 */
+	public UnrolledLinkedList(int nodeCapacity){
+		if(nodeCapacity < 4){
+			throw new IllegalArgumentException("node capacity must be at least 4: " + nodeCapacity);
+		}
+		this.nodeCapacity = nodeCapacity;
+		this.head = new Node(0);
+		this.head.next = this.head;
+		this.head.previous = this.head;
+		this.size = 0;
+	}
+
+	/**
+	 * A cursor is an iterator which can also insert and remove elements. It
+	 * stands between two elements: {@link #next()} returns the element behind
+	 * it, {@link #insert(Object)} inserts before it.
+	 */
+	public class Cursor implements Iterator<VALUE> {
+		// the next element is node.values[index]; index may equal node.count,
+		// then the next element is the first one of a following node
+		private Node node;
+		private int index;
+		// the position of the element last returned by next(), if it may be removed
+		private Node lastNode;
+		private int lastIndex;
+
+		private Cursor(Node node, int index){
+			this.node = node;
+			this.index = index;
+		}
+
+		/*
+		 * moves the position over the ends of nodes, stops at head
+		 */
+		private void normalize(){
+			while(index == node.count && node != head){
+				node = node.next;
+				index = 0;
+			}
+		}
+
+		@Override
+		public boolean hasNext(){
+			normalize();
+			return node != head;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public VALUE next(){
+			if(index == node.count){
+				normalize();
+				if(node == head){
+					throw new NoSuchElementException();
+				}
+			}
+			lastNode = node;
+			lastIndex = index;
+			return (VALUE) node.values[index++];
+		}
+
+		/**
+		 * Removes the element that was last returned by {@link #next()}.
+		 */
+		@Override
+		public void remove(){
+			if(lastNode == null){
+				throw new IllegalStateException("next() has not been called since the last edit");
+			}
+			node = lastNode;
+			index = lastIndex;
+			lastNode = null;
+			removeAt(this);
+		}
+
+		/**
+		 * Inserts the value before the cursor, i.e., behind the element that
+		 * was last returned by {@link #next()}. A following call of next() is
+		 * not affected.
+		 */
+		public void insert(VALUE value){
+			lastNode = null;
+			insertAt(this, value);
+		}
+	}
+
+	/**
+	 * Returns a cursor before the first element of the list.
+	 */
+	public Cursor cursor(){
+		return new Cursor(head.next, 0);
+	}
+
+	/*
+	 * inserts value at the position of the cursor and moves the cursor
+	 * behind it
+	 */
+	private void insertAt(Cursor at, VALUE value){
+		Node node = at.node;
+		int index = at.index;
+		if(node == head){
+			// the end of the list
+			node = head.previous;
+			index = node.count;
+		}
+		if(node == head || node.count == nodeCapacity && (node.next == head && index == node.count || node.previous == head && index == 0)){
+			// start a new node at an end of the list
+			Node fresh = new Node(nodeCapacity);
+			if(index == 0){
+				node.previous.append(fresh);
+			} else {
+				node.append(fresh);
+			}
+			node = fresh;
+			index = 0;
+		} else if(node.count == nodeCapacity){
+			Node split = new Node(nodeCapacity);
+			node.moveTail(nodeCapacity / 2, split);
+			node.append(split);
+			if(index > node.count){
+				index -= node.count;
+				node = split;
+			}
+		}
+		node.insert(index, value);
+		size++;
+		at.node = node;
+		at.index = index + 1;
+	}
+
+	/*
+	 * removes the element behind the cursor, the cursor then stands before
+	 * the following element
+	 */
+	private void removeAt(Cursor at){
+		Node node = at.node;
+		node.remove(at.index);
+		size--;
+		if(node.count < nodeCapacity / 2 && node.next != head){
+			Node next = node.next;
+			if(node.count + next.count <= nodeCapacity){
+				System.arraycopy(next.values, 0, node.values, node.count, next.count);
+				node.count += next.count;
+				next.delete();
+			} else {
+				node.values[node.count++] = next.values[0];
+				next.remove(0);
+			}
+		} else if(node.count == 0){
+			node.delete();
+			at.node = node.next;
+			at.index = 0;
+		}
+	}
+
+	@Override
+	public void append(VALUE value){
+		Node last = head.previous;
+		if(last != head && last.count < nodeCapacity){
+			last.values[last.count++] = value;
+			size++;
+		} else {
+			insertAt(new Cursor(head, 0), value);
+		}
+	}
+
+	@Override
+	public void prepend(VALUE value){
+		insertAt(new Cursor(head.next, 0), value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public VALUE get(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		Node node;
+		if(index < size / 2){
+			node = head.next;
+			while(index >= node.count){
+				index -= node.count;
+				node = node.next;
+			}
+		} else {
+			index = size - 1 - index;
+			node = head.previous;
+			while(index >= node.count){
+				index -= node.count;
+				node = node.previous;
+			}
+			index = node.count - 1 - index;
+		}
+		return (VALUE) node.values[index];
+	}
+
+	@Override
+	public void delete(VALUE valueToDelete){
+		Cursor at = find(valueToDelete);
+		if(at != null){
+			removeAt(at);
+		}
+	}
+
+	@Override
+	public boolean contains(VALUE toFind) {
+		return find(toFind) != null;
+	}
+
+	/*
+	 * a cursor before the first occurrence of toFind, or null
+	 */
+	private Cursor find(VALUE toFind){
+		for(Node node = head.next; node != head; node = node.next){
+			for(int i = 0; i < node.count; i++){
+				Object value = node.values[i];
+				if(toFind == null ? value == null : toFind.equals(value)){
+					return new Cursor(node, i);
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public VALUE firstElement(){
+		return size == 0 ? null : (VALUE) head.next.values[0];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public VALUE lastElement(){
+		return size == 0 ? null : (VALUE) head.previous.values[head.previous.count - 1];
+	}
+
+	@Override
+	public VALUE pop(){
+		if(size == 0){
+			return null;
+		}
+		VALUE toReturn = firstElement();
+		removeAt(new Cursor(head.next, 0));
+		return toReturn;
+	}
+
+	@Override
+	public VALUE dequeue(){
+		if(size == 0){
+			return null;
+		}
+		VALUE toReturn = lastElement();
+		Node last = head.previous;
+		removeAt(new Cursor(last, last.count - 1));
+		return toReturn;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public void clear(){
+		head.next = head;
+		head.previous = head;
+		size = 0;
+	}
+
+	@Override
+	public Iterator<VALUE> iterator() {
+		return cursor();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(!(obj instanceof UnrolledLinkedList)){
+			return false;
+		}
+		UnrolledLinkedList<?> other = (UnrolledLinkedList<?>) obj;
+		if(other.size != size){
+			return false;
+		}
+		Iterator<?> otherIter = other.iterator();
+		for(VALUE selfVal : this){
+			Object otherVal = otherIter.next();
+			if(selfVal == null ? otherVal != null : !selfVal.equals(otherVal)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for(VALUE value : this){
+			hash = 31 * hash + (value == null ? 0 : value.hashCode());
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for(Node node = head.next; node != head; node = node.next){
+			for(int i = 0; i < node.count; i++){
+				if(result.length() > 1){
+					result.append(',');
+				}
+				result.append(node.values[i]);
+			}
+		}
+		return result.append(']').toString();
+	}
+}
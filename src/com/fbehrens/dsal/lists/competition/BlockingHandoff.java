@@ -0,0 +1,177 @@
+package com.fbehrens.dsal.lists.competition;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.BoundedBlockingQueue;
+import com.fbehrens.dsal.lists.CircularArrayList;
+
+/**
+ * Producer threads hand a fixed number of elements over to the same number
+ * of consumer threads through one small blocking queue, so both sides wait
+ * for each other all the time. The consumers either take one element per
+ * call, or wait for one element and take up to BATCH elements with it. The
+ * {@link BoundedBlockingQueue} is compared with
+ * {@link java.util.concurrent.ArrayBlockingQueue} (whose batches are a take
+ * followed by a drainTo), for 1, 2, 4, ... producers and consumers up to the
+ * number of available cores.
+ */
+public class BlockingHandoff implements RuntimeComparator.CompetitorGroup {
+
+	private static final int ELEMENTS = 2000000;
+	private static final int CAPACITY = 256;
+	private static final int BATCH = 64;
+
+	/**
+	 * The operations of the queues which are used by the threads.
+	 */
+	private interface Handoff {
+		void put(Integer x) throws InterruptedException;
+
+		/*
+		 * waits for at least one element, returns the number of elements taken
+		 */
+		int take(boolean batched) throws InterruptedException;
+	}
+
+	private static class JavaQueue implements Handoff {
+		private final ArrayBlockingQueue<Integer> queue = new ArrayBlockingQueue<>(CAPACITY);
+		private final ThreadLocal<ArrayList<Integer>> batches = ThreadLocal.withInitial(ArrayList::new);
+
+		@Override
+		public void put(Integer x) throws InterruptedException {
+			queue.put(x);
+		}
+
+		@Override
+		public int take(boolean batched) throws InterruptedException {
+			queue.take();
+			if (!batched) {
+				return 1;
+			}
+			ArrayList<Integer> batch = batches.get();
+			batch.clear();
+			return 1 + queue.drainTo(batch, BATCH - 1);
+		}
+	}
+
+	private static class OwnQueue implements Handoff {
+		private final BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(CAPACITY);
+		private final ThreadLocal<CircularArrayList<Integer>> batches = ThreadLocal.withInitial(CircularArrayList::new);
+
+		@Override
+		public void put(Integer x) throws InterruptedException {
+			queue.put(x);
+		}
+
+		@Override
+		public int take(boolean batched) throws InterruptedException {
+			if (!batched) {
+				queue.take();
+				return 1;
+			}
+			CircularArrayList<Integer> batch = batches.get();
+			batch.clear();
+			return queue.takeBatch(batch, BATCH);
+		}
+	}
+
+	/*
+	 * moves ELEMENTS elements from the given number of producers to as many
+	 * consumers
+	 */
+	private static void produceAndConsume(final Handoff queue, int pairs, final boolean batched) {
+		Thread[] workers = new Thread[2 * pairs];
+		final int elements = ELEMENTS / pairs;
+		for (int t = 0; t < pairs; t++) {
+			workers[2 * t] = new Thread(() -> {
+				try {
+					for (int i = 0; i < elements; i++) {
+						queue.put(i);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			// a consumer never takes more than it is due, so that all
+			// consumers terminate
+			workers[2 * t + 1] = new Thread(() -> {
+				try {
+					int taken = 0;
+					while (taken < elements) {
+						taken += queue.take(batched && elements - taken >= BATCH);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		try {
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class HandoffCompetitor implements RuntimeComparator.Competitor {
+		private final boolean own, batched;
+		private final int pairs;
+		private Handoff queue;
+
+		HandoffCompetitor(boolean own, boolean batched, int pairs) {
+			this.own = own;
+			this.batched = batched;
+			this.pairs = pairs;
+		}
+
+		@Override
+		public String getName() {
+			return (own ? "BoundedBlockingQueue" : "ArrayBlockingQueue") + (batched ? " batched" : "") + " ("
+					+ pairs + " producers, " + pairs + " consumers)";
+		}
+
+		@Override
+		public void prepare() {
+			queue = own ? new OwnQueue() : new JavaQueue();
+		}
+
+		@Override
+		public void run() {
+			produceAndConsume(queue, pairs, batched);
+		}
+
+		@Override
+		public void takeDown() {
+			queue = null;
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int counts = 0;
+		for (int t = 1; t < cores; t *= 2) {
+			counts++;
+		}
+		Competitor[] competitors = new Competitor[4 * (counts + 1)];
+		int i = 0;
+		for (int t = 1; ; t = Math.min(2 * t, cores)) {
+			competitors[i++] = new HandoffCompetitor(false, false, t);
+			competitors[i++] = new HandoffCompetitor(true, false, t);
+			competitors[i++] = new HandoffCompetitor(false, true, t);
+			competitors[i++] = new HandoffCompetitor(true, true, t);
+			if (t == cores) {
+				break;
+			}
+		}
+		return competitors;
+	}
+
+}
@@ -0,0 +1,207 @@
+package com.fbehrens.dsal.lists.competition;
+
+import java.util.function.Supplier;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.BoundedConcurrentQueue;
+import com.fbehrens.dsal.lists.ConcurrentQueue;
+import com.fbehrens.dsal.lists.ConcurrentStack;
+import com.fbehrens.dsal.lists.Queue;
+import com.fbehrens.dsal.lists.Stack;
+
+/**
+ * Producer threads hand a fixed number of elements over to the same number
+ * of consumer threads through one shared buffer; a thread which finds the
+ * buffer full (or empty) yields and tries again. A {@link Queue} and a
+ * {@link Stack} which are guarded by one lock are compared with the
+ * lock-free {@link ConcurrentQueue}, {@link BoundedConcurrentQueue} and
+ * {@link ConcurrentStack}, for 1, 2, 4, ... producers and consumers up to
+ * the number of available cores.
+ */
+public class ConcurrentQueues implements RuntimeComparator.CompetitorGroup {
+
+	private static final int ELEMENTS = 4000000;
+	private static final int CAPACITY = 1024;
+
+	/**
+	 * The operations of the buffers which are used by the threads.
+	 */
+	private interface Buffer {
+		/*
+		 * false if the buffer is full
+		 */
+		boolean put(Integer x);
+
+		/*
+		 * null if the buffer is empty
+		 */
+		Integer take();
+	}
+
+	private static class LockedQueue implements Buffer {
+		private final Queue<Integer> queue = new Queue<>();
+
+		@Override
+		public synchronized boolean put(Integer x) {
+			queue.enqueue(x);
+			return true;
+		}
+
+		@Override
+		public synchronized Integer take() {
+			return queue.isempty() ? null : queue.dequeue();
+		}
+	}
+
+	private static class LockedStack implements Buffer {
+		private final Stack<Integer> stack = new Stack<>();
+
+		@Override
+		public synchronized boolean put(Integer x) {
+			stack.push(x);
+			return true;
+		}
+
+		@Override
+		public synchronized Integer take() {
+			return stack.isempty() ? null : stack.pop();
+		}
+	}
+
+	private static class LockFreeQueue implements Buffer {
+		private final ConcurrentQueue<Integer> queue = new ConcurrentQueue<>();
+
+		@Override
+		public boolean put(Integer x) {
+			queue.enqueue(x);
+			return true;
+		}
+
+		@Override
+		public Integer take() {
+			return queue.dequeue();
+		}
+	}
+
+	private static class LockFreeBoundedQueue implements Buffer {
+		private final BoundedConcurrentQueue<Integer> queue = new BoundedConcurrentQueue<>(CAPACITY);
+
+		@Override
+		public boolean put(Integer x) {
+			return queue.enqueue(x);
+		}
+
+		@Override
+		public Integer take() {
+			return queue.dequeue();
+		}
+	}
+
+	private static class LockFreeStack implements Buffer {
+		private final ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+
+		@Override
+		public boolean put(Integer x) {
+			stack.push(x);
+			return true;
+		}
+
+		@Override
+		public Integer take() {
+			return stack.pop();
+		}
+	}
+
+	/*
+	 * moves ELEMENTS elements from the given number of producers to as many
+	 * consumers
+	 */
+	private static void produceAndConsume(final Buffer buffer, int pairs) {
+		Thread[] workers = new Thread[2 * pairs];
+		final int elements = ELEMENTS / pairs;
+		for (int t = 0; t < pairs; t++) {
+			workers[2 * t] = new Thread(() -> {
+				for (int i = 0; i < elements; i++) {
+					Integer x = i;
+					while (!buffer.put(x)) {
+						Thread.yield();
+					}
+				}
+			});
+			workers[2 * t + 1] = new Thread(() -> {
+				for (int i = 0; i < elements; i++) {
+					while (buffer.take() == null) {
+						Thread.yield();
+					}
+				}
+			});
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		try {
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class BufferCompetitor implements RuntimeComparator.Competitor {
+		private final String name;
+		private final int pairs;
+		private final Supplier<Buffer> factory;
+		private Buffer buffer;
+
+		BufferCompetitor(String name, int pairs, Supplier<Buffer> factory) {
+			this.name = name;
+			this.pairs = pairs;
+			this.factory = factory;
+		}
+
+		@Override
+		public String getName() {
+			return name + " (" + pairs + " producers, " + pairs + " consumers)";
+		}
+
+		@Override
+		public void prepare() {
+			buffer = factory.get();
+		}
+
+		@Override
+		public void run() {
+			produceAndConsume(buffer, pairs);
+		}
+
+		@Override
+		public void takeDown() {
+			buffer = null;
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int counts = 0;
+		for (int t = 1; t < cores; t *= 2) {
+			counts++;
+		}
+		Competitor[] competitors = new Competitor[5 * (counts + 1)];
+		int i = 0;
+		for (int t = 1; ; t = Math.min(2 * t, cores)) {
+			competitors[i++] = new BufferCompetitor("LockedQueue", t, LockedQueue::new);
+			competitors[i++] = new BufferCompetitor("ConcurrentQueue", t, LockFreeQueue::new);
+			competitors[i++] = new BufferCompetitor("BoundedConcurrentQueue", t, LockFreeBoundedQueue::new);
+			competitors[i++] = new BufferCompetitor("LockedStack", t, LockedStack::new);
+			competitors[i++] = new BufferCompetitor("ConcurrentStack", t, LockFreeStack::new);
+			if (t == cores) {
+				break;
+			}
+		}
+		return competitors;
+	}
+
+}
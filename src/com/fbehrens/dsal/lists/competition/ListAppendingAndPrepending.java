@@ -5,6 +5,8 @@ import java.util.Random;
 import com.fbehrens.dsal.RuntimeComparator;
 import com.fbehrens.dsal.RuntimeComparator.Competitor;
 import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.BankersQueue;
+import com.fbehrens.dsal.lists.CircularArrayList;
 import com.fbehrens.dsal.lists.DoublyLinkedList;
 import com.fbehrens.dsal.lists.SimpleLinkedList;
 
@@ -35,6 +37,17 @@ public class ListAppendingAndPrepending implements RuntimeComparator.CompetitorG
 		
 	}
 	
+	// the old behaviour: append walks the whole list
+	private static class SimpleLinkedListWithoutTailCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new SimpleLinkedList<>(false);
+			fillListRandomly(list);
+		}
+		
+	}
+	
 	public static class DoublyLinkedListCompetitor implements RuntimeComparator.Competitor {
 
 		@Override
@@ -45,9 +58,30 @@ public class ListAppendingAndPrepending implements RuntimeComparator.CompetitorG
 		
 	}
 
+	public static class CircularArrayListCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new CircularArrayList<>();
+			fillListRandomly(list);
+		}
+		
+	}
+	
+	public static class BankersQueueCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new BankersQueue<>();
+			fillListRandomly(list);
+		}
+		
+	}
+	
 	@Override
 	public Competitor[] getCompetitors() {
-		return new Competitor[]{ new SimpleLinkedListCompetitor(), new DoublyLinkedListCompetitor() };
+		return new Competitor[]{ new SimpleLinkedListWithoutTailCompetitor(), new SimpleLinkedListCompetitor(), new DoublyLinkedListCompetitor(),
+				new CircularArrayListCompetitor(), new BankersQueueCompetitor() };
 	}
 
 }
@@ -0,0 +1,66 @@
+package com.fbehrens.dsal.lists.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.BankersQueue;
+import com.fbehrens.dsal.lists.CircularArrayList;
+import com.fbehrens.dsal.lists.DoublyLinkedList;
+
+/**
+ * Uses lists as FIFO queues: elements are prepended and taken from the end
+ * with dequeue. The SimpleLinkedList is not part of this group, its dequeue
+ * has to walk the whole list.
+ */
+public class ListAsQueue implements RuntimeComparator.CompetitorGroup {
+	
+	private static long seed = System.currentTimeMillis();
+	private static void useListAsQueue(AbstractList<Integer> list){
+		Random r = new Random(seed);
+		for(int opCount = 0; opCount < 20000000; opCount++){
+			if(!list.isEmpty() && r.nextBoolean()){
+				list.dequeue();
+			} else {
+				list.prepend(opCount);
+			}
+		}
+	}
+	
+	private static class DoublyLinkedListCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new DoublyLinkedList<>();
+			useListAsQueue(list);
+		}
+		
+	}
+	
+	private static class CircularArrayListCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new CircularArrayList<>();
+			useListAsQueue(list);
+		}
+		
+	}
+	
+	private static class BankersQueueCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new BankersQueue<>();
+			useListAsQueue(list);
+		}
+		
+	}
+	
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[]{new DoublyLinkedListCompetitor(), new CircularArrayListCompetitor(), new BankersQueueCompetitor()};
+	}
+
+}
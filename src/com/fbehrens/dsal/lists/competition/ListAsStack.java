@@ -5,20 +5,27 @@ import java.util.Random;
 import com.fbehrens.dsal.RuntimeComparator;
 import com.fbehrens.dsal.RuntimeComparator.Competitor;
 import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.CircularArrayList;
 import com.fbehrens.dsal.lists.DoublyLinkedList;
 import com.fbehrens.dsal.lists.SimpleLinkedList;
 
 public class ListAsStack implements RuntimeComparator.CompetitorGroup {
 	
 	private static long seed = System.currentTimeMillis();
-	private static void useListAsStack(AbstractList<Integer> list){
+	// with bulk set, the elements are removed by one call of removeFirst
+	// instead of popping them one at a time
+	private static void useListAsStack(AbstractList<Integer> list, boolean bulk){
 		Random r = new Random(seed);
 		int opCount = 0;
 		while(opCount < 100000000){
 			if(!list.isEmpty() && r.nextInt(5) % 5 == 0){
 				int remove = r.nextInt(list.size());
-				for(int i = 0; i < remove; i++){
-					list.pop();
+				if(bulk){
+					list.removeFirst(remove);
+				} else {
+					for(int i = 0; i < remove; i++){
+						list.pop();
+					}
 				}
 			} else {
 				list.prepend(r.nextInt());
@@ -32,7 +39,7 @@ public class ListAsStack implements RuntimeComparator.CompetitorGroup {
 		@Override
 		public void run() {
 			AbstractList<Integer> list = new SimpleLinkedList<>();
-			useListAsStack(list);
+			useListAsStack(list, false);
 		}
 		
 	}
@@ -42,14 +49,55 @@ public class ListAsStack implements RuntimeComparator.CompetitorGroup {
 		@Override
 		public void run() {
 			AbstractList<Integer> list = new DoublyLinkedList<>();
-			useListAsStack(list);
+			useListAsStack(list, false);
+		}
+		
+	}
+	
+	private static class CircularArrayListCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new CircularArrayList<>();
+			useListAsStack(list, false);
+		}
+		
+	}
+	
+	private static class SimpleLinkedListBulkCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new SimpleLinkedList<>();
+			useListAsStack(list, true);
+		}
+		
+	}
+	
+	private static class DoublyLinkedListBulkCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new DoublyLinkedList<>();
+			useListAsStack(list, true);
+		}
+		
+	}
+	
+	private static class CircularArrayListBulkCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			AbstractList<Integer> list = new CircularArrayList<>();
+			useListAsStack(list, true);
 		}
 		
 	}
 	
 	@Override
 	public Competitor[] getCompetitors() {
-		return new Competitor[]{new SimpleLinkedListCompetitor(), new DoublyLinkedListCompetitor()};
+		return new Competitor[]{new SimpleLinkedListCompetitor(), new DoublyLinkedListCompetitor(), new CircularArrayListCompetitor(),
+				new SimpleLinkedListBulkCompetitor(), new DoublyLinkedListBulkCompetitor(), new CircularArrayListBulkCompetitor()};
 	}
 
 }
@@ -0,0 +1,205 @@
+package com.fbehrens.dsal.lists.competition;
+
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.DoublyLinkedList;
+import com.fbehrens.dsal.lists.UnrolledLinkedList;
+
+/**
+ * Compares the {@link UnrolledLinkedList} with the {@link DoublyLinkedList} on
+ * long lists: iterating over the whole list, deleting and re-appending values
+ * (which searches the list), and passes over the list which insert and remove
+ * elements at a cursor. The {@link DoublyLinkedList} has no cursor, so in the
+ * last workload {@link LinkedList} with its list iterator is used instead.
+ */
+public class ListIterationAndEdits implements RuntimeComparator.CompetitorGroup {
+
+	private static final int SIZE = 200000;
+	private static final int ITERATIONS = 100;
+	private static final int DELETIONS = 500;
+	private static final int CURSOR_PASSES = 50;
+
+	// the same seed for all competitors, so that they do the same edits
+	private static long seed = System.currentTimeMillis();
+
+	private static void fillListRandomly(AbstractList<Integer> list){
+		Random random = new Random(seed);
+		for(int i = 0; i < SIZE; i++){
+			if(random.nextBoolean()){
+				list.append(i);
+			} else {
+				list.prepend(i);
+			}
+		}
+	}
+
+	private static long iterate(AbstractList<Integer> list){
+		long sum = 0;
+		for(int round = 0; round < ITERATIONS; round++){
+			for(int value : list){
+				sum += value;
+			}
+		}
+		return sum;
+	}
+
+	private static void deleteAndAppend(AbstractList<Integer> list){
+		Random random = new Random(seed);
+		for(int i = 0; i < DELETIONS; i++){
+			int value = random.nextInt(SIZE);
+			list.delete(value);
+			list.append(value);
+		}
+	}
+
+	/*
+	 * every pass removes about 10% of the elements and inserts as many new
+	 * ones
+	 */
+	private static void editWithCursor(UnrolledLinkedList<Integer> list){
+		Random random = new Random(seed);
+		for(int pass = 0; pass < CURSOR_PASSES; pass++){
+			UnrolledLinkedList<Integer>.Cursor cursor = list.cursor();
+			while(cursor.hasNext()){
+				int value = cursor.next();
+				int op = random.nextInt(10);
+				if(op == 0){
+					cursor.remove();
+				} else if(op == 1){
+					cursor.insert(value);
+				}
+			}
+		}
+	}
+
+	private static void editWithCursor(LinkedList<Integer> list){
+		Random random = new Random(seed);
+		for(int pass = 0; pass < CURSOR_PASSES; pass++){
+			ListIterator<Integer> cursor = list.listIterator();
+			while(cursor.hasNext()){
+				int value = cursor.next();
+				int op = random.nextInt(10);
+				if(op == 0){
+					cursor.remove();
+				} else if(op == 1){
+					cursor.add(value);
+				}
+			}
+		}
+	}
+
+	private static class IterationCompetitor implements RuntimeComparator.Competitor {
+		private final String name;
+		private final Supplier<AbstractList<Integer>> factory;
+		private AbstractList<Integer> list;
+
+		IterationCompetitor(String name, Supplier<AbstractList<Integer>> factory){
+			this.name = name;
+			this.factory = factory;
+		}
+
+		@Override
+		public String getName() {
+			return name + " iteration";
+		}
+
+		@Override
+		public void prepare() {
+			list = factory.get();
+			fillListRandomly(list);
+		}
+
+		@Override
+		public void run() {
+			iterate(list);
+		}
+	}
+
+	private static class DeletionCompetitor implements RuntimeComparator.Competitor {
+		private final String name;
+		private final Supplier<AbstractList<Integer>> factory;
+		private AbstractList<Integer> list;
+
+		DeletionCompetitor(String name, Supplier<AbstractList<Integer>> factory){
+			this.name = name;
+			this.factory = factory;
+		}
+
+		@Override
+		public String getName() {
+			return name + " delete/append";
+		}
+
+		@Override
+		public void prepare() {
+			list = factory.get();
+			fillListRandomly(list);
+		}
+
+		@Override
+		public void run() {
+			deleteAndAppend(list);
+		}
+	}
+
+	private static class LinkedListCursorCompetitor implements RuntimeComparator.Competitor {
+		private LinkedList<Integer> list;
+
+		@Override
+		public String getName() {
+			return "LinkedList cursor edits";
+		}
+
+		@Override
+		public void prepare() {
+			list = new LinkedList<>();
+			for(int i = 0; i < SIZE; i++){
+				list.add(i);
+			}
+		}
+
+		@Override
+		public void run() {
+			editWithCursor(list);
+		}
+	}
+
+	private static class UnrolledLinkedListCursorCompetitor implements RuntimeComparator.Competitor {
+		private UnrolledLinkedList<Integer> list;
+
+		@Override
+		public String getName() {
+			return "UnrolledLinkedList cursor edits";
+		}
+
+		@Override
+		public void prepare() {
+			list = new UnrolledLinkedList<>();
+			for(int i = 0; i < SIZE; i++){
+				list.append(i);
+			}
+		}
+
+		@Override
+		public void run() {
+			editWithCursor(list);
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[]{
+				new IterationCompetitor("DoublyLinkedList", DoublyLinkedList::new),
+				new IterationCompetitor("UnrolledLinkedList", UnrolledLinkedList::new),
+				new DeletionCompetitor("DoublyLinkedList", DoublyLinkedList::new),
+				new DeletionCompetitor("UnrolledLinkedList", UnrolledLinkedList::new),
+				new LinkedListCursorCompetitor(), new UnrolledLinkedListCursorCompetitor() };
+	}
+
+}
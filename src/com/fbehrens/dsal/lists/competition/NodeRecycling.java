@@ -0,0 +1,147 @@
+package com.fbehrens.dsal.lists.competition;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.List;
+import com.fbehrens.dsal.trees.Skiplist;
+
+/**
+ * A churn-heavy workload: random keys are inserted if they are missing and
+ * deleted if they are present, so the size of the map stays about the same
+ * while nodes are created and dropped all the time. A small {@link List} and
+ * a large {@link Skiplist} are run with and without their node pools; the
+ * report shows how often the garbage collector ran (and for how long) during
+ * the run.
+ */
+public class NodeRecycling implements RuntimeComparator.CompetitorGroup {
+
+	private static final int LIST_KEYS = 64;
+	private static final int LIST_OPERATIONS = 20000000;
+	private static final int SKIPLIST_KEYS = 100000;
+	private static final int SKIPLIST_OPERATIONS = 1000000;
+	private static final int POOL_CAPACITY = 1024;
+
+	private static long seed = System.currentTimeMillis();
+
+	/*
+	 * the keys are boxed once, so that only the nodes are allocated
+	 */
+	private static Integer[] keys(int n) {
+		Integer[] keys = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = i;
+		}
+		return keys;
+	}
+
+	private static long collections() {
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long collectionMillis() {
+		long time = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(0, gc.getCollectionTime());
+		}
+		return time;
+	}
+
+	/**
+	 * Counts the garbage collections between prepare and takeDown.
+	 */
+	private static abstract class ChurnCompetitor implements RuntimeComparator.Competitor {
+		private long collections, millis;
+		private String report;
+
+		@Override
+		public void prepare() {
+			System.gc();
+			collections = collections();
+			millis = collectionMillis();
+		}
+
+		@Override
+		public void takeDown() {
+			report = String.format("%d collections, %d ms", collections() - collections,
+					collectionMillis() - millis);
+		}
+
+		@Override
+		public String getReport() {
+			return report;
+		}
+	}
+
+	private static class ListCompetitor extends ChurnCompetitor {
+		private final int poolCapacity;
+
+		ListCompetitor(int poolCapacity) {
+			this.poolCapacity = poolCapacity;
+		}
+
+		@Override
+		public String getName() {
+			return poolCapacity == 0 ? "List" : "List with pool";
+		}
+
+		@Override
+		public void run() {
+			Integer[] keys = keys(LIST_KEYS);
+			Random r = new Random(seed);
+			List<Integer, Integer> list = new List<>();
+			list.setpoolcapacity(poolCapacity);
+			for (int i = 0; i < LIST_OPERATIONS; i++) {
+				Integer k = keys[r.nextInt(LIST_KEYS)];
+				if (list.contains(k)) {
+					list.delete(k);
+				} else {
+					list.prepend(k, k);
+				}
+			}
+		}
+	}
+
+	private static class SkiplistCompetitor extends ChurnCompetitor {
+		private final int poolCapacity;
+
+		SkiplistCompetitor(int poolCapacity) {
+			this.poolCapacity = poolCapacity;
+		}
+
+		@Override
+		public String getName() {
+			return poolCapacity == 0 ? "Skiplist" : "Skiplist with pool";
+		}
+
+		@Override
+		public void run() {
+			Integer[] keys = keys(SKIPLIST_KEYS);
+			Random r = new Random(seed);
+			Skiplist<Integer, Integer> skiplist = new Skiplist<>((int) seed);
+			skiplist.setpoolcapacity(poolCapacity);
+			for (int i = 0; i < SKIPLIST_OPERATIONS; i++) {
+				Integer k = keys[r.nextInt(SKIPLIST_KEYS)];
+				if (skiplist.contains(k)) {
+					skiplist.delete(k);
+				} else {
+					skiplist.insert(k, k);
+				}
+			}
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[] { new ListCompetitor(0), new ListCompetitor(POOL_CAPACITY),
+				new SkiplistCompetitor(0), new SkiplistCompetitor(POOL_CAPACITY) };
+	}
+
+}
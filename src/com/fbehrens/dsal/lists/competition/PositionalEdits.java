@@ -0,0 +1,98 @@
+package com.fbehrens.dsal.lists.competition;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.TreeList;
+
+/**
+ * Edits a list with a million entries at random positions, like an editor
+ * buffer: inserting, removing and reading single elements, and moving blocks
+ * of elements (cut and paste). The {@link TreeList} is compared with
+ * {@link ArrayList}, which has to shift the elements behind every edit.
+ */
+public class PositionalEdits implements RuntimeComparator.CompetitorGroup {
+
+	private static final int SIZE = 1000000;
+	private static final int OPERATIONS = 20000;
+	private static final int BLOCK = 1000;
+
+	// the same seed for all competitors, so that they do the same edits
+	private static long seed = System.currentTimeMillis();
+
+	private static class ArrayListCompetitor implements RuntimeComparator.Competitor {
+		private ArrayList<Integer> list;
+
+		@Override
+		public void prepare() {
+			list = new ArrayList<>();
+			for(int i = 0; i < SIZE; i++){
+				list.add(i);
+			}
+		}
+
+		@Override
+		public void run() {
+			Random random = new Random(seed);
+			for(int i = 0; i < OPERATIONS; i++){
+				int op = random.nextInt(10);
+				if(op < 4){
+					list.add(random.nextInt(list.size() + 1), i);
+				} else if(op < 8){
+					list.remove(random.nextInt(list.size()));
+				} else if(op < 9){
+					list.get(random.nextInt(list.size()));
+				} else {
+					int from = random.nextInt(list.size() - BLOCK);
+					ArrayList<Integer> block = new ArrayList<>(list.subList(from, from + BLOCK));
+					list.subList(from, from + BLOCK).clear();
+					list.addAll(random.nextInt(list.size() + 1), block);
+				}
+			}
+		}
+	}
+
+	private static class TreeListCompetitor implements RuntimeComparator.Competitor {
+		private TreeList<Integer> list;
+
+		@Override
+		public void prepare() {
+			list = new TreeList<>();
+			for(int i = 0; i < SIZE; i++){
+				list.append(i);
+			}
+		}
+
+		@Override
+		public void run() {
+			Random random = new Random(seed);
+			for(int i = 0; i < OPERATIONS; i++){
+				int op = random.nextInt(10);
+				if(op < 4){
+					list.insertAt(random.nextInt(list.size() + 1), i);
+				} else if(op < 8){
+					list.removeAt(random.nextInt(list.size()));
+				} else if(op < 9){
+					list.get(random.nextInt(list.size()));
+				} else {
+					int from = random.nextInt(list.size() - BLOCK);
+					TreeList<Integer> tail = list.split(from);
+					TreeList<Integer> rest = tail.split(BLOCK);
+					list.concat(rest);
+					int to = random.nextInt(list.size() + 1);
+					rest = list.split(to);
+					list.concat(tail);
+					list.concat(rest);
+				}
+			}
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[]{ new ArrayListCompetitor(), new TreeListCompetitor() };
+	}
+
+}
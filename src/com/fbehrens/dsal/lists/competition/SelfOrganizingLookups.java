@@ -0,0 +1,133 @@
+package com.fbehrens.dsal.lists.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.List;
+import com.fbehrens.dsal.lists.Listiterator;
+import com.fbehrens.dsal.lists.SelfOrganization;
+
+/**
+ * Looks up keys in a {@link List} which are drawn from a Zipf distribution:
+ * the key of rank r is looked up with probability proportional to 1/r, the
+ * ranks are assigned to the keys at random. The list is used without and
+ * with each {@link SelfOrganization}. The report shows the expected number
+ * of nodes a lookup visits in the order the list has at the end of the run;
+ * for the unordered list that is about half of its size.
+ */
+public class SelfOrganizingLookups implements RuntimeComparator.CompetitorGroup {
+
+	private static final int KEYS = 1000;
+	private static final int LOOKUPS = 2000000;
+
+	private static long seed = System.currentTimeMillis();
+
+	/*
+	 * the probability of each key, and the keys in the order they are
+	 * looked up
+	 */
+	private static double[] probabilities;
+	private static Integer[] lookups;
+
+	private static void generateLookups() {
+		if (lookups != null) {
+			return;
+		}
+		Random r = new Random(seed);
+		int[] rank = new int[KEYS];
+		for (int i = 0; i < KEYS; i++) {
+			int j = r.nextInt(i + 1);
+			rank[i] = rank[j];
+			rank[j] = i;
+		}
+		probabilities = new double[KEYS];
+		double sum = 0;
+		for (int k = 0; k < KEYS; k++) {
+			sum += probabilities[k] = 1.0 / (rank[k] + 1);
+		}
+		double[] cumulative = new double[KEYS];
+		double c = 0;
+		for (int k = 0; k < KEYS; k++) {
+			probabilities[k] /= sum;
+			cumulative[k] = c += probabilities[k];
+		}
+		Integer[] keys = new Integer[KEYS];
+		for (int k = 0; k < KEYS; k++) {
+			keys[k] = k;
+		}
+		lookups = new Integer[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			double x = r.nextDouble();
+			int lo = 0, hi = KEYS - 1;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (cumulative[mid] < x) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			lookups[i] = keys[lo];
+		}
+	}
+
+	private static class ListCompetitor implements RuntimeComparator.Competitor {
+		private final SelfOrganization organization;
+		private List<Integer, Integer> list;
+		private String report;
+
+		ListCompetitor(SelfOrganization organization) {
+			this.organization = organization;
+		}
+
+		@Override
+		public String getName() {
+			return "List (" + organization + ")";
+		}
+
+		@Override
+		public void prepare() {
+			generateLookups();
+			list = new List<>();
+			list.setorganization(organization);
+			for (int k = 0; k < KEYS; k++) {
+				list.insert(k, k);
+			}
+		}
+
+		@Override
+		public void run() {
+			for (Integer k : lookups) {
+				list.find(k);
+			}
+		}
+
+		@Override
+		public void takeDown() {
+			double probes = 0;
+			int position = 1;
+			for (Listiterator<Integer, Integer> it = list.iterator(); it.more(); it.step()) {
+				probes += probabilities[it.key()] * position++;
+			}
+			report = String.format("%.1f nodes per lookup", probes);
+			list = null;
+		}
+
+		@Override
+		public String getReport() {
+			return report;
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		SelfOrganization[] organizations = SelfOrganization.values();
+		Competitor[] competitors = new Competitor[organizations.length];
+		for (int i = 0; i < organizations.length; i++) {
+			competitors[i] = new ListCompetitor(organizations[i]);
+		}
+		return competitors;
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.fbehrens.dsal.lists.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.ArrayQueue;
+import com.fbehrens.dsal.lists.ArrayStack;
+import com.fbehrens.dsal.lists.IntQueue;
+import com.fbehrens.dsal.lists.IntStack;
+import com.fbehrens.dsal.lists.Queue;
+import com.fbehrens.dsal.lists.Stack;
+
+/**
+ * Pushes and pops (enqueues and dequeues) the same random sequence of ints
+ * on the list-based {@link Stack} and {@link Queue}, on their array-based
+ * counterparts and on the primitive int variants.
+ */
+public class StacksAndQueues implements RuntimeComparator.CompetitorGroup {
+
+	private static final int OPERATIONS = 20000000;
+
+	private static long seed = System.currentTimeMillis();
+
+	/*
+	 * true with probability 3/5, so the stacks and queues grow slowly
+	 */
+	private static boolean insert(Random r, boolean empty){
+		return empty || r.nextInt(5) < 3;
+	}
+
+	private static class StackCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			Random r = new Random(seed);
+			Stack<Integer> stack = new Stack<>();
+			for(int i = 0; i < OPERATIONS; i++){
+				if(insert(r, stack.isempty())){
+					stack.push(i);
+				} else {
+					stack.pop();
+				}
+			}
+		}
+	}
+
+	private static class ArrayStackCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			Random r = new Random(seed);
+			ArrayStack<Integer> stack = new ArrayStack<>();
+			for(int i = 0; i < OPERATIONS; i++){
+				if(insert(r, stack.isempty())){
+					stack.push(i);
+				} else {
+					stack.pop();
+				}
+			}
+		}
+	}
+
+	private static class IntStackCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			Random r = new Random(seed);
+			IntStack stack = new IntStack();
+			for(int i = 0; i < OPERATIONS; i++){
+				if(insert(r, stack.isempty())){
+					stack.push(i);
+				} else {
+					stack.pop();
+				}
+			}
+		}
+	}
+
+	private static class QueueCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			Random r = new Random(seed);
+			Queue<Integer> queue = new Queue<>();
+			for(int i = 0; i < OPERATIONS; i++){
+				if(insert(r, queue.isempty())){
+					queue.enqueue(i);
+				} else {
+					queue.dequeue();
+				}
+			}
+		}
+	}
+
+	private static class ArrayQueueCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			Random r = new Random(seed);
+			ArrayQueue<Integer> queue = new ArrayQueue<>();
+			for(int i = 0; i < OPERATIONS; i++){
+				if(insert(r, queue.isempty())){
+					queue.enqueue(i);
+				} else {
+					queue.dequeue();
+				}
+			}
+		}
+	}
+
+	private static class IntQueueCompetitor implements RuntimeComparator.Competitor {
+
+		@Override
+		public void run() {
+			Random r = new Random(seed);
+			IntQueue queue = new IntQueue();
+			for(int i = 0; i < OPERATIONS; i++){
+				if(insert(r, queue.isempty())){
+					queue.enqueue(i);
+				} else {
+					queue.dequeue();
+				}
+			}
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[]{ new StackCompetitor(), new ArrayStackCompetitor(), new IntStackCompetitor(),
+				new QueueCompetitor(), new ArrayQueueCompetitor(), new IntQueueCompetitor() };
+	}
+
+}
@@ -0,0 +1,249 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.AbstractList;
+
+/**
+ * The tests which every implementation of {@link AbstractList} has to pass,
+ * the subclasses provide the list and add their own tests.
+ */
+public abstract class AbstractListTest {
+
+	/**
+	 * Returns a new empty list of the class under test.
+	 */
+	public abstract <T> AbstractList<T> getList();
+
+	/**
+	 * Returns a new empty list which has to grow soon, for classes with a
+	 * capacity; by default the same as {@link #getList()}.
+	 */
+	public <T> AbstractList<T> getSmallList(){
+		return getList();
+	}
+
+	@Test
+	public void stringRep(){
+		AbstractList<Integer> list = getList();
+		assertEquals("[]", list.toString());
+		for(int i = 0; i < 5; i++){
+			list.append(i);
+		}
+		assertEquals("[0,1,2,3,4]", list.toString());
+	}
+
+	@Test
+	public void equality() {
+		AbstractList<Integer> one = getList(), two = getSmallList();
+		assertNotEquals(one, "A random object");
+		for(int i = 0; i < 5; i++){
+			one.append(i);
+			two.append(i);
+		}
+		assertEquals(one, two);
+		assertEquals(one.hashCode(), two.hashCode());
+		two.delete(2);
+		assertNotEquals(one, two);
+		one.delete(2);
+		assertEquals(one, two);
+		two.pop();
+		two.prepend(7);
+		assertNotEquals(one, two);
+	}
+
+	@Test
+	public void insertion(){
+		// test whether appending to an empty list is the same as prepending in reverse order
+		AbstractList<Character> charsOne = getList();
+		for(char c = 'a'; c <= 'z'; c++){
+			charsOne.append(c);
+		}
+		AbstractList<Character> charsTwo = getList();
+		for(char c = 'z'; c >= 'a'; c--){
+			charsTwo.prepend(c);
+		}
+		assertEquals(charsOne, charsTwo);
+
+		charsOne.append('1');
+		assertNotEquals(charsOne, charsTwo);
+		charsTwo.append('1');
+		assertEquals(charsOne, charsTwo);
+	}
+
+	@Test
+	public void retrieval(){
+		// insert the numbers 0 to 1023 and then check whether they are stored in that order
+		AbstractList<Integer> ints = getList();
+		for(int i = 0; i < 1024; i++){
+			ints.append(i);
+		}
+		int i = 0;
+		for(int r : ints){
+			if(r != i){
+				fail("Numbers could not be retrieved in the same order as they were inserted!");
+			}
+			i++;
+		}
+		if(i != 1024){
+			fail("The number of retrieved elements was not correct!");
+		}
+	}
+
+	@Test
+	public void deletion(){
+		AbstractList<String> strings = getList();
+		strings.delete("this should do nothing");
+		for(char c = 'a'; c <= 'z'; c++){
+			strings.append(c + "");
+		}
+		for(String c : new String[]{"f","l","o","r","i","a","n","z"}){
+			strings.delete(c);
+		}
+		AbstractList<String> stringsTwo = getList();
+		for(char c = 'a'; c <= 'z'; c++){
+			if("florianz".indexOf(c) < 0){
+				stringsTwo.append(c + "");
+			}
+		}
+		assertEquals(stringsTwo, strings);
+		strings.append(null);
+		strings.prepend(null);
+		strings.delete(null);
+		strings.delete(null);
+		assertEquals(stringsTwo, strings);
+	}
+
+	@Test
+	public void contains(){
+		AbstractList<Integer> list = getList();
+		for(int i = 0; i < 1024; i++){
+			list.prepend(i);
+		}
+		for(int i = 0; i < 1024; i++){
+			assertEquals(true, list.contains(i));
+		}
+		assertEquals(false, list.contains(0xE5E1));
+		assertEquals(false, list.contains(-1));
+		assertEquals(false, list.contains(null));
+	}
+
+	@Test
+	public void accessListEnds(){
+		AbstractList<String> strings = getList();
+		assertNull(strings.firstElement());
+		assertNull(strings.lastElement());
+		assertNull(strings.pop());
+		assertNull(strings.dequeue());
+		strings.append("Anfang");
+		assertEquals("Anfang", strings.firstElement());
+		assertEquals("Anfang", strings.lastElement());
+		assertEquals("Anfang", strings.pop());
+		assertEquals(false, strings.contains("Anfang"));
+		strings.append("Anfang");
+		assertEquals("Anfang", strings.dequeue());
+		assertNull(strings.dequeue());
+		strings.append("Anfang");
+		strings.append("Ende");
+		assertEquals("Anfang", strings.firstElement());
+		assertEquals("Ende", strings.lastElement());
+		assertEquals("Anfang", strings.pop());
+		strings.prepend("Anfang");
+		assertEquals("Ende", strings.dequeue());
+		strings.pop();
+		strings.pop();
+		strings.dequeue();
+		AbstractList<Integer> ints = getList();
+		for(int i = 0; i < 1024; i++){
+			ints.prepend(i);
+		}
+		for(int i = 1023; i >= 0; i--){
+			if(ints.pop() != i){
+				fail("Pop was not in the right order");
+			}
+		}
+		for(int i = 0; i < 655; i++){
+			ints.prepend(i);
+		}
+		for(int i = 0; i < 655; i++){
+			if(ints.dequeue() != i){
+				fail("Dequeue was not in the right order!");
+			}
+		}
+	}
+
+	@Test
+	public void size(){
+		AbstractList<Integer> list = getList();
+		assertEquals(0, list.size());
+		for(int i = 1; i < 1024; i++){
+			list.append(i);
+			assertEquals(i, list.size());
+		}
+		int i = 0;
+		while(!list.isEmpty()){
+			if(i % 4 == 0){
+				list.pop();
+			} else if (i % 4 == 1){
+				list.dequeue();
+			} else if (i % 4 == 2){
+				list.delete(list.firstElement());
+			} else if (i % 4 == 3){
+				list.delete(list.lastElement());
+			}
+			i++;
+		}
+		assertEquals(1023, i);
+		assertEquals(0, list.size());
+		list.delete(5);
+		list.delete(6);
+		assertEquals(0, list.size());
+		list.prepend(1);
+		assertEquals(1, list.size());
+	}
+
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void accessBadIndex(){
+		AbstractList<Integer> list = getList();
+		list.append(1);
+		list.pop();
+		list.get(0);
+	}
+
+	@Test
+	public void randomAccess(){
+		AbstractList<Integer> list = getList();
+		for(int i = 0; i < 1024; i++){
+			list.append(i);
+		}
+		for(int i = 1023; i >= 0; i--){
+			assertEquals(i, (int) list.get(i));
+		}
+	}
+
+	@Test
+	public void selfAppendAll(){
+		// appending a list to itself doubles it, also when the list has to
+		// grow or rebalance meanwhile
+		for(int n : new int[]{0, 1, 5, 10, 100}){
+			AbstractList<Integer> list = getList();
+			StringBuilder expected = new StringBuilder();
+			for(int i = 0; i < n; i++){
+				list.append(i);
+				expected.append(i).append(',');
+			}
+			list.appendAll(list);
+			assertEquals(2 * n, list.size());
+			expected.append(expected);
+			if(expected.length() > 0){
+				expected.setLength(expected.length() - 1);
+			}
+			assertEquals("[" + expected + "]", list.toString());
+		}
+	}
+}
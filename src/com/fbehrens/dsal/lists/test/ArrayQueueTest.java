@@ -0,0 +1,53 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.ArrayQueue;
+import com.fbehrens.dsal.lists.IntQueue;
+
+public class ArrayQueueTest {
+
+	@Test
+	public void queueOrder() {
+		ArrayQueue<String> queue = new ArrayQueue<>();
+		assertEquals(true, queue.isempty());
+		for (int i = 0; i < 100; i++)
+			queue.enqueue("s" + i);
+		assertEquals(100, queue.size());
+		assertEquals("s0", queue.front());
+		for (int i = 0; i < 100; i++)
+			assertEquals("s" + i, queue.dequeue());
+		assertEquals(true, queue.isempty());
+	}
+
+	@Test
+	public void randomOperations() {
+		// the queues grow while their elements wrap around the end of the array
+		Random r = new Random(42);
+		ArrayQueue<Integer> queue = new ArrayQueue<>();
+		IntQueue ints = new IntQueue();
+		ArrayDeque<Integer> expected = new ArrayDeque<>();
+		for (int i = 0; i < 100000; i++) {
+			if (!expected.isEmpty() && r.nextInt(5) < 2) {
+				int x = expected.removeFirst();
+				assertEquals(x, (int) queue.front());
+				assertEquals(x, (int) queue.dequeue());
+				assertEquals(x, ints.front());
+				assertEquals(x, ints.dequeue());
+			} else {
+				int x = r.nextInt();
+				expected.addLast(x);
+				queue.enqueue(x);
+				ints.enqueue(x);
+			}
+			assertEquals(expected.size(), queue.size());
+			assertEquals(expected.size(), ints.size());
+			assertEquals(expected.isEmpty(), ints.isempty());
+		}
+	}
+}
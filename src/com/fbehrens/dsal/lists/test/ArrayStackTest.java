@@ -0,0 +1,60 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.ArrayStack;
+import com.fbehrens.dsal.lists.IntStack;
+import com.fbehrens.dsal.lists.LongStack;
+
+public class ArrayStackTest {
+
+	@Test
+	public void stackOrder() {
+		ArrayStack<String> stack = new ArrayStack<>();
+		assertEquals(true, stack.isempty());
+		for (int i = 0; i < 100; i++)
+			stack.push("s" + i);
+		assertEquals(100, stack.size());
+		assertEquals("s99", stack.top());
+		for (int i = 99; i >= 0; i--)
+			assertEquals("s" + i, stack.pop());
+		assertEquals(true, stack.isempty());
+		stack.push("again");
+		stack.clear();
+		assertEquals(0, stack.size());
+	}
+
+	@Test
+	public void randomOperations() {
+		Random r = new Random(42);
+		ArrayStack<Integer> stack = new ArrayStack<>();
+		IntStack ints = new IntStack();
+		LongStack longs = new LongStack();
+		ArrayDeque<Integer> expected = new ArrayDeque<>();
+		for (int i = 0; i < 100000; i++) {
+			if (!expected.isEmpty() && r.nextInt(5) < 2) {
+				int x = expected.pop();
+				assertEquals(x, (int) stack.top());
+				assertEquals(x, (int) stack.pop());
+				assertEquals(x, ints.top());
+				assertEquals(x, ints.pop());
+				assertEquals(x + (1L << 40), longs.pop());
+			} else {
+				int x = r.nextInt();
+				expected.push(x);
+				stack.push(x);
+				ints.push(x);
+				longs.push(x + (1L << 40));
+			}
+			assertEquals(expected.size(), stack.size());
+			assertEquals(expected.size(), ints.size());
+			assertEquals(expected.size(), longs.size());
+			assertEquals(expected.isEmpty(), longs.isempty());
+		}
+	}
+}
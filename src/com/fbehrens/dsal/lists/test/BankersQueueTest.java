@@ -0,0 +1,49 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.BankersQueue;
+
+public class BankersQueueTest extends AbstractListTest {
+
+	@Override
+	public <T> AbstractList<T> getList(){
+		return new BankersQueue<>();
+	}
+
+	@Test
+	public void bothEnds(){
+		// compare random operations at both ends with java.util.ArrayDeque
+		Random r = new Random(42);
+		BankersQueue<Integer> queue = new BankersQueue<>();
+		ArrayDeque<Integer> reference = new ArrayDeque<>();
+		for(int round = 0; round < 100000; round++){
+			int op = r.nextInt(100);
+			if(op < 25){
+				queue.append(round);
+				reference.addLast(round);
+			} else if(op < 50){
+				queue.prepend(round);
+				reference.addFirst(round);
+			} else if(op < 70){
+				assertEquals(reference.pollFirst(), queue.pop());
+			} else if(op < 90){
+				assertEquals(reference.pollLast(), queue.dequeue());
+			} else if(op < 95){
+				assertEquals(reference.peekFirst(), queue.firstElement());
+			} else if(op < 99){
+				assertEquals(reference.peekLast(), queue.lastElement());
+			} else {
+				assertEquals(reference.toString().replace(" ", ""), queue.toString());
+			}
+			assertEquals(reference.size(), queue.size());
+		}
+	}
+
+}
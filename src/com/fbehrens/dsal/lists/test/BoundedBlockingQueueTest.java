@@ -0,0 +1,140 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.BoundedBlockingQueue;
+import com.fbehrens.dsal.lists.CircularArrayList;
+
+public class BoundedBlockingQueueTest {
+
+	@Test
+	public void queueOrder() throws InterruptedException {
+		BoundedBlockingQueue<String> queue = new BoundedBlockingQueue<>(5);
+		assertEquals(true, queue.isempty());
+		assertNull(queue.poll());
+		// several rounds through the ring
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < 5; i++)
+				queue.put("s" + i);
+			assertEquals(false, queue.offer("full"));
+			assertEquals(5, queue.size());
+			for (int i = 0; i < 5; i++)
+				assertEquals("s" + i, queue.take());
+			assertNull(queue.poll());
+		}
+	}
+
+	@Test
+	public void timeouts() throws InterruptedException {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(1);
+		long start = System.nanoTime();
+		assertNull(queue.poll(20, TimeUnit.MILLISECONDS));
+		assertTrue(queue.offer(1, 20, TimeUnit.MILLISECONDS));
+		assertEquals(false, queue.offer(2, 20, TimeUnit.MILLISECONDS));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+		assertEquals(1, (int) queue.poll(20, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void drainTo() throws InterruptedException {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(8);
+		CircularArrayList<Integer> batch = new CircularArrayList<>();
+		assertEquals(0, queue.drainTo(batch, 4));
+		queue.put(0);
+		queue.poll();
+		for (int i = 1; i <= 8; i++)
+			queue.put(i);
+		assertEquals(3, queue.drainTo(batch, 3));
+		assertEquals("[1,2,3]", batch.toString());
+		assertEquals(5, queue.takeBatch(batch, 10));
+		assertEquals("[1,2,3,4,5,6,7,8]", batch.toString());
+		assertEquals(true, queue.isempty());
+	}
+
+	@Test
+	public void nonPositiveMax() throws InterruptedException {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(4);
+		CircularArrayList<Integer> batch = new CircularArrayList<>();
+		queue.put(1);
+		assertEquals(0, queue.drainTo(batch, -1));
+		assertEquals(0, queue.drainTo(batch, 0));
+		assertEquals(0, queue.takeBatch(batch, -1));
+		assertEquals(0, queue.takeBatch(batch, 0));
+		assertEquals(0, batch.size());
+		assertEquals(1, queue.size());
+		assertEquals(1, (int) queue.poll());
+		assertNull(queue.poll());
+		// does not wait on an empty queue either
+		assertEquals(0, queue.takeBatch(batch, 0));
+	}
+
+	@Test
+	public void blockingHandoff() throws InterruptedException {
+		// a small queue, so the producer waits for space and the consumers for
+		// elements; every element has to arrive exactly once and in order
+		final int elements = 20000;
+		final BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(4);
+		final int[] received = new int[2];
+		final boolean[] inOrder = { true, true };
+		Thread producer = new Thread(() -> {
+			try {
+				for (int i = 0; i < elements; i++)
+					queue.put(i);
+				queue.put(-1);
+				queue.put(-1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		Thread single = new Thread(() -> {
+			try {
+				int last = -1;
+				for (Integer x; (x = queue.take()) != -1; last = x, received[0]++)
+					if (x <= last)
+						inOrder[0] = false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		Thread batched = new Thread(() -> {
+			try {
+				CircularArrayList<Integer> batch = new CircularArrayList<>();
+				int last = -1;
+				while (true) {
+					batch.clear();
+					queue.takeBatch(batch, 3);
+					for (Integer x : batch) {
+						if (x == -1) {
+							// the end mark of the other consumer may be in the batch too
+							if (batch.lastElement() == -1 && batch.size() > 1
+									&& batch.get(batch.size() - 2) == -1)
+								queue.put(-1);
+							return;
+						}
+						if (x <= last)
+							inOrder[1] = false;
+						last = x;
+						received[1]++;
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		producer.start();
+		single.start();
+		batched.start();
+		producer.join();
+		single.join();
+		batched.join();
+		assertTrue(inOrder[0]);
+		assertTrue(inOrder[1]);
+		assertEquals(elements, received[0] + received[1]);
+	}
+}
@@ -0,0 +1,118 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.CircularArrayList;
+import com.fbehrens.dsal.lists.DoublyLinkedList;
+
+public class CircularArrayListTest extends AbstractListTest {
+
+	@Override
+	public <T> AbstractList<T> getList(){
+		return new CircularArrayList<>();
+	}
+
+	@Override
+	public <T> AbstractList<T> getSmallList(){
+		return new CircularArrayList<>(2);
+	}
+
+	@Test
+	public void wrapAround(){
+		// keep the list small but move it around the array many times, with
+		// and without growing while it wraps
+		CircularArrayList<Integer> list = new CircularArrayList<>(4);
+		DoublyLinkedList<Integer> reference = new DoublyLinkedList<>();
+		for(int round = 0; round < 1000; round++){
+			if(round % 3 == 0){
+				list.prepend(round);
+				reference.prepend(round);
+			} else {
+				list.append(round);
+				reference.append(round);
+			}
+			if(round % 5 == 4){
+				assertEquals(reference.pop(), list.pop());
+				assertEquals(reference.dequeue(), list.dequeue());
+			}
+			if(round % 97 == 50){
+				Integer middle = reference.get(reference.size() / 2);
+				reference.delete(middle);
+				list.delete(middle);
+			}
+			assertEquals(reference.size(), list.size());
+			for(int i = 0; i < list.size(); i++){
+				assertEquals(reference.get(i), list.get(i));
+			}
+		}
+		assertEquals(1, Integer.bitCount(list.capacity()));
+	}
+
+	@Test
+	public void bulkOperations(){
+		CircularArrayList<Integer> one = new CircularArrayList<>(16), two = new CircularArrayList<>();
+		for(int i = 0; i < 12; i++){
+			one.append(i);
+		}
+		for(int i = 0; i < 10; i++){
+			one.pop();
+		}
+		for(int i = 6; i < 11; i++){
+			two.append(i);
+		}
+		// the free slots of one wrap around
+		one.appendAll(two);
+		assertEquals("[10,11,6,7,8,9,10]", one.toString());
+		assertEquals(16, one.capacity());
+		assertEquals(5, two.size());
+		one.appendAll(one);
+		assertEquals("[10,11,6,7,8,9,10,10,11,6,7,8,9,10]", one.toString());
+		one.appendAll(one);
+		assertEquals(28, one.size());
+		assertEquals((Integer) 10, one.lastElement());
+
+		DoublyLinkedList<Integer> linked = new DoublyLinkedList<>();
+		linked.append(-1);
+		assertEquals(5, two.drainTo(linked));
+		assertEquals("[-1,6,7,8,9,10]", linked.toString());
+		assertEquals(0, two.size());
+		assertNull(two.pop());
+		two.appendAll(linked);
+		assertEquals("[-1,6,7,8,9,10]", two.toString());
+
+		CircularArrayList<Integer> three = new CircularArrayList<>();
+		assertEquals(6, two.drainTo(three));
+		assertEquals("[-1,6,7,8,9,10]", three.toString());
+		assertEquals("[]", two.toString());
+		two.append(1);
+		assertEquals("[1]", two.toString());
+	}
+
+	@Test
+	public void bulkRemoval(){
+		CircularArrayList<Integer> list = new CircularArrayList<>(8);
+		for(int i = 0; i < 6; i++){
+			list.prepend(i);
+		}
+		list.append(6);
+		// the elements wrap around the end of the array
+		list.removeFirst(4);
+		assertEquals("[1,0,6]", list.toString());
+		list.removeLast(2);
+		assertEquals("[1]", list.toString());
+		for(int i = 2; i < 8; i++){
+			list.append(i);
+		}
+		assertEquals(8, list.capacity());
+		list.removeLast(6);
+		assertEquals("[1]", list.toString());
+		list.removeFirst(1);
+		assertEquals(0, list.size());
+		assertNull(list.firstElement());
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.BoundedConcurrentQueue;
+import com.fbehrens.dsal.lists.ConcurrentQueue;
+
+public class ConcurrentQueueTest {
+
+	private static final int PRODUCERS = 4, ELEMENTS = 20000;
+
+	@Test
+	public void queueOrder() {
+		ConcurrentQueue<String> queue = new ConcurrentQueue<>();
+		assertEquals(true, queue.isempty());
+		assertNull(queue.dequeue());
+		for (int i = 0; i < 100; i++)
+			queue.enqueue("s" + i);
+		assertEquals(false, queue.isempty());
+		for (int i = 0; i < 100; i++)
+			assertEquals("s" + i, queue.dequeue());
+		assertEquals(true, queue.isempty());
+		assertNull(queue.dequeue());
+	}
+
+	@Test
+	public void boundedQueueOrder() {
+		BoundedConcurrentQueue<String> queue = new BoundedConcurrentQueue<>(5);
+		assertEquals(8, queue.capacity());
+		assertEquals(true, queue.isempty());
+		assertNull(queue.dequeue());
+		// several rounds through the ring
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < 8; i++)
+				assertTrue(queue.enqueue("s" + i));
+			assertEquals(false, queue.enqueue("full"));
+			assertEquals(8, queue.size());
+			for (int i = 0; i < 8; i++)
+				assertEquals("s" + i, queue.dequeue());
+			assertNull(queue.dequeue());
+			assertEquals(0, queue.size());
+		}
+		queue.enqueue("a");
+		queue.enqueue("b");
+		assertEquals("a", queue.dequeue());
+		queue.enqueue("c");
+		assertEquals(2, queue.size());
+		assertEquals("b", queue.dequeue());
+		assertEquals("c", queue.dequeue());
+	}
+
+	private interface Buffer {
+		boolean put(Integer x);
+
+		Integer take();
+	}
+
+	/*
+	 * the elements of producer p are p * ELEMENTS + i, i = 0, 1, ...; every
+	 * element has to be taken exactly once and the elements of one producer
+	 * in the order in which they were put
+	 */
+	private static void producersAndConsumers(final Buffer buffer) throws InterruptedException {
+		final int[][] taken = new int[PRODUCERS][];
+		final boolean[] inOrder = new boolean[PRODUCERS];
+		Thread[] threads = new Thread[2 * PRODUCERS];
+		for (int t = 0; t < PRODUCERS; t++) {
+			final int p = t;
+			taken[p] = new int[PRODUCERS * ELEMENTS];
+			threads[2 * p] = new Thread(() -> {
+				for (int i = 0; i < ELEMENTS; i++)
+					while (!buffer.put(p * ELEMENTS + i))
+						Thread.yield();
+			});
+			threads[2 * p + 1] = new Thread(() -> {
+				int[] last = new int[PRODUCERS];
+				Arrays.fill(last, -1);
+				inOrder[p] = true;
+				for (int i = 0; i < ELEMENTS; i++) {
+					Integer x;
+					while ((x = buffer.take()) == null)
+						Thread.yield();
+					taken[p][x]++;
+					int from = x / ELEMENTS;
+					if (last[from] > x)
+						inOrder[p] = false;
+					last[from] = x;
+				}
+			});
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		for (int c = 0; c < PRODUCERS; c++)
+			assertTrue(inOrder[c]);
+		for (int x = 0; x < PRODUCERS * ELEMENTS; x++) {
+			int count = 0;
+			for (int c = 0; c < PRODUCERS; c++)
+				count += taken[c][x];
+			assertEquals(1, count);
+		}
+		assertNull(buffer.take());
+	}
+
+	@Test
+	public void concurrentQueue() throws InterruptedException {
+		final ConcurrentQueue<Integer> queue = new ConcurrentQueue<>();
+		producersAndConsumers(new Buffer() {
+			@Override
+			public boolean put(Integer x) {
+				queue.enqueue(x);
+				return true;
+			}
+
+			@Override
+			public Integer take() {
+				return queue.dequeue();
+			}
+		});
+		assertEquals(true, queue.isempty());
+	}
+
+	@Test
+	public void boundedConcurrentQueue() throws InterruptedException {
+		final BoundedConcurrentQueue<Integer> queue = new BoundedConcurrentQueue<>(64);
+		producersAndConsumers(new Buffer() {
+			@Override
+			public boolean put(Integer x) {
+				return queue.enqueue(x);
+			}
+
+			@Override
+			public Integer take() {
+				return queue.dequeue();
+			}
+		});
+		assertEquals(true, queue.isempty());
+	}
+}
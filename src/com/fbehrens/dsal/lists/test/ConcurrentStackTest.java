@@ -0,0 +1,72 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.ConcurrentStack;
+
+public class ConcurrentStackTest {
+
+	private static final int THREADS = 4, ELEMENTS = 20000;
+
+	@Test
+	public void stackOrder() {
+		ConcurrentStack<String> stack = new ConcurrentStack<>();
+		assertEquals(true, stack.isempty());
+		assertNull(stack.pop());
+		assertNull(stack.top());
+		for (int i = 0; i < 100; i++)
+			stack.push("s" + i);
+		assertEquals("s99", stack.top());
+		for (int i = 99; i >= 0; i--)
+			assertEquals("s" + i, stack.pop());
+		assertEquals(true, stack.isempty());
+		assertNull(stack.pop());
+	}
+
+	@Test
+	public void pushAndPopConcurrently() throws InterruptedException {
+		// every thread pushes its own elements and pops as many, in bursts,
+		// so pushes and pops meet in the elimination array
+		final ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+		final AtomicIntegerArray taken = new AtomicIntegerArray(THREADS * ELEMENTS);
+		Thread[] threads = new Thread[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			final int p = t;
+			threads[t] = new Thread(() -> {
+				int popped = 0;
+				for (int i = 0; i < ELEMENTS; i += 10) {
+					for (int j = i; j < i + 10; j++)
+						stack.push(p * ELEMENTS + j);
+					for (int j = 0; j < 10; j++) {
+						Integer x = stack.pop();
+						if (x != null) {
+							taken.incrementAndGet(x);
+							popped++;
+						}
+					}
+				}
+				while (popped < ELEMENTS) {
+					Integer x = stack.pop();
+					if (x == null)
+						break;
+					taken.incrementAndGet(x);
+					popped++;
+				}
+			});
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		Integer x;
+		while ((x = stack.pop()) != null)
+			taken.incrementAndGet(x);
+		for (int i = 0; i < THREADS * ELEMENTS; i++)
+			assertEquals(1, taken.get(i));
+	}
+}
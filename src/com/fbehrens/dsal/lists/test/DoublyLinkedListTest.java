@@ -5,8 +5,12 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
+import java.util.ConcurrentModificationException;
+
 import org.junit.Test;
 
+import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.CircularArrayList;
 import com.fbehrens.dsal.lists.DoublyLinkedList;
 
 public class DoublyLinkedListTest {
@@ -197,5 +201,96 @@ public class DoublyLinkedListTest {
 		}
 	}
 	
+	@Test
+	public void bulkRemoval(){
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+		for(int i = 0; i < 10; i++){
+			list.append(i);
+		}
+		list.removeFirst(3);
+		assertEquals("[3,4,5,6,7,8,9]", list.toString());
+		list.removeLast(2);
+		assertEquals("[3,4,5,6,7]", list.toString());
+		assertEquals(5, list.size());
+		list.removeFirst(0);
+		list.removeLast(0);
+		assertEquals((Integer) 3, list.firstElement());
+		assertEquals((Integer) 7, list.lastElement());
+		list.removeLast(5);
+		assertEquals(0, list.size());
+		assertNull(list.pop());
+		list.append(1);
+		list.prepend(0);
+		assertEquals("[0,1]", list.toString());
+		list.removeFirst(2);
+		assertEquals("[]", list.toString());
+		list.append(2);
+		list.clear();
+		assertEquals(0, list.size());
+		assertNull(list.firstElement());
+		list.prepend(3);
+		assertEquals("[3]", list.toString());
+	}
+	
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void removeTooMany(){
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+		list.append(1);
+		list.removeFirst(2);
+	}
+	
+	@Test
+	public void bulkAppending(){
+		DoublyLinkedList<Integer> one = new DoublyLinkedList<>(), two = new DoublyLinkedList<>();
+		for(int i = 0; i < 5; i++){
+			one.append(i);
+			two.append(i + 5);
+		}
+		one.appendAll(two);
+		assertEquals("[0,1,2,3,4,5,6,7,8,9]", one.toString());
+		assertEquals(5, two.size());
+		one.appendAll(one);
+		assertEquals(20, one.size());
+		assertEquals(20, one.drainTo(two));
+		assertEquals(0, one.size());
+		assertEquals(25, two.size());
+		assertEquals((Integer) 9, two.lastElement());
+		// the drained list can be used again
+		one.append(-1);
+		assertEquals("[-1]", one.toString());
+		assertEquals(0, new DoublyLinkedList<Integer>().drainTo(one));
+		assertEquals(1, one.drainTo(new CircularArrayList<Integer>()));
+	}
+	
+	@Test
+	public void subList(){
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+		for(int i = 0; i < 10; i++){
+			list.append(i);
+		}
+		AbstractList<Integer> view = list.subList(2, 7);
+		assertEquals(5, view.size());
+		assertEquals("[2,3,4,5,6]", view.toString());
+		assertEquals((Integer) 4, view.get(2));
+		assertEquals((Integer) 2, view.firstElement());
+		assertEquals((Integer) 6, view.lastElement());
+		assertEquals(true, view.contains(6));
+		assertEquals(false, view.contains(7));
+		assertEquals("[4,5]", view.subList(2, 4).toString());
+		assertEquals(0, list.subList(10, 10).size());
+		try {
+			view.pop();
+			fail("a view cannot be changed");
+		} catch (UnsupportedOperationException e){
+			// expected
+		}
+		list.append(10);
+		try {
+			view.get(0);
+			fail("the view should notice that the list was changed");
+		} catch (ConcurrentModificationException e){
+			// expected
+		}
+	}
 
 }
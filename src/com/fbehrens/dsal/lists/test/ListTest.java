@@ -0,0 +1,155 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.List;
+import com.fbehrens.dsal.lists.Hashtable;
+import com.fbehrens.dsal.lists.Listiterator;
+import com.fbehrens.dsal.lists.SelfOrganization;
+
+public class ListTest {
+
+	@Test
+	public void insertOverwrites() {
+		List<String, Integer> list = new List<>();
+		list.insert("a", 1);
+		list.insert("b", 2);
+		list.insert("a", 3);
+		assertEquals(3, (int) list.find("a"));
+		assertEquals(2, list.size());
+	}
+
+	@Test
+	public void pooledNodes() {
+		List<Integer, Integer> list = new List<>();
+		list.setpoolcapacity(3);
+		for (int i = 0; i < 5; i++)
+			list.append(i, i);
+		list.delete(0);
+		list.delete(4);
+		assertEquals(2, list.poolsize());
+		Listiterator<Integer, Integer> it = list.iterator();
+		it.delete();
+		it.delete();
+		assertEquals(3, list.poolsize());
+		// reused nodes must not keep their old keys or links
+		list.prepend(7, 7);
+		list.append(8, 8);
+		assertEquals(1, list.poolsize());
+		assertEquals("7 3 8", keys(list));
+		assertNull(list.find(1));
+		list.setpoolcapacity(0);
+		assertEquals(0, list.poolsize());
+		list.setpoolcapacity(10);
+		list.delete(3);
+		list.releasepool();
+		assertEquals(0, list.poolsize());
+		assertEquals("7 8", keys(list));
+	}
+
+	@Test
+	public void randomChurn() {
+		Random r = new Random(42);
+		List<Integer, Integer> list = new List<>();
+		list.setpoolcapacity(8);
+		HashMap<Integer, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 20000; i++) {
+			int k = r.nextInt(32);
+			if (expected.containsKey(k) && r.nextBoolean()) {
+				list.delete(k);
+				expected.remove(k);
+			} else {
+				list.insert(k, i);
+				expected.put(k, i);
+			}
+			assertEquals(expected.size(), list.size());
+		}
+		for (int k = 0; k < 32; k++)
+			assertEquals(expected.get(k), list.find(k));
+	}
+
+	private static List<Integer, Integer> organized(SelfOrganization o) {
+		List<Integer, Integer> list = new List<>();
+		list.setorganization(o);
+		for (int i = 1; i <= 4; i++)
+			list.append(i, i);
+		return list;
+	}
+
+	@Test
+	public void moveToFront() {
+		List<Integer, Integer> list = organized(SelfOrganization.MOVE_TO_FRONT);
+		assertEquals(3, (int) list.find(3));
+		assertEquals("3 1 2 4", keys(list));
+		assertEquals(true, list.contains(4));
+		assertEquals("4 3 1 2", keys(list));
+		assertEquals(false, list.contains(5));
+		assertEquals("4 3 1 2", keys(list));
+	}
+
+	@Test
+	public void transpose() {
+		List<Integer, Integer> list = organized(SelfOrganization.TRANSPOSE);
+		list.find(3);
+		assertEquals("1 3 2 4", keys(list));
+		list.find(3);
+		list.find(3);
+		assertEquals("3 1 2 4", keys(list));
+	}
+
+	@Test
+	public void frequencyCount() {
+		List<Integer, Integer> list = organized(SelfOrganization.FREQUENCY_COUNT);
+		list.find(4);
+		assertEquals("4 1 2 3", keys(list));
+		list.find(2);
+		assertEquals("4 2 1 3", keys(list));
+		list.find(2);
+		assertEquals("2 4 1 3", keys(list));
+		// new keys are inserted behind all keys which have been found
+		list.insert(5, 5);
+		assertEquals("2 4 1 3 5", keys(list));
+		list.find(5);
+		assertEquals("2 4 5 1 3", keys(list));
+		// insert and delete do not count as lookups
+		list.insert(1, 10);
+		list.delete(3);
+		assertEquals("2 4 5 1", keys(list));
+		assertEquals(10, (int) list.find(1));
+		assertEquals("2 4 5 1", keys(list));
+	}
+
+	@Test
+	public void selfOrganizingHashtable() {
+		Random r = new Random(42);
+		Hashtable<Integer, Integer> table = new Hashtable<>();
+		table.setorganization(SelfOrganization.MOVE_TO_FRONT);
+		HashMap<Integer, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 20000; i++) {
+			int k = r.nextInt(200);
+			int op = r.nextInt(3);
+			if (op == 0) {
+				table.delete(k);
+				expected.remove(k);
+			} else if (op == 1) {
+				table.insert(k, i);
+				expected.put(k, i);
+			} else
+				assertEquals(expected.get(k), table.find(k));
+			assertEquals(expected.size(), table.size());
+		}
+	}
+
+	private static String keys(List<Integer, Integer> list) {
+		StringBuilder result = new StringBuilder();
+		for (Listiterator<Integer, Integer> it = list.iterator(); it.more(); it.step())
+			result.append(result.length() == 0 ? "" : " ").append(it.key());
+		return result.toString();
+	}
+}
@@ -5,8 +5,12 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
+import java.util.ConcurrentModificationException;
+
 import org.junit.Test;
 
+import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.CircularArrayList;
 import com.fbehrens.dsal.lists.SimpleLinkedList;
 
 public class SimpleLinkedListTest {
@@ -196,5 +200,137 @@ public class SimpleLinkedListTest {
 			assertEquals((int) i, (int) list.get(i));
 		}
 	}
+	
+	@Test
+	public void bulkRemoval(){
+		SimpleLinkedList<Integer> list = new SimpleLinkedList<>();
+		for(int i = 0; i < 10; i++){
+			list.append(i);
+		}
+		list.removeFirst(3);
+		assertEquals("[3,4,5,6,7,8,9]", list.toString());
+		list.removeLast(2);
+		assertEquals("[3,4,5,6,7]", list.toString());
+		assertEquals(5, list.size());
+		list.removeFirst(0);
+		list.removeLast(0);
+		assertEquals((Integer) 3, list.firstElement());
+		assertEquals((Integer) 7, list.lastElement());
+		list.removeLast(5);
+		assertEquals(0, list.size());
+		assertNull(list.pop());
+		list.append(1);
+		list.prepend(0);
+		assertEquals("[0,1]", list.toString());
+		list.removeFirst(2);
+		assertEquals("[]", list.toString());
+		list.append(2);
+		list.clear();
+		assertEquals(0, list.size());
+		assertNull(list.firstElement());
+		list.prepend(3);
+		assertEquals("[3]", list.toString());
+	}
+	
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void removeTooMany(){
+		SimpleLinkedList<Integer> list = new SimpleLinkedList<>();
+		list.append(1);
+		list.removeFirst(2);
+	}
+	
+	@Test
+	public void bulkAppending(){
+		SimpleLinkedList<Integer> one = new SimpleLinkedList<>(), two = new SimpleLinkedList<>();
+		for(int i = 0; i < 5; i++){
+			one.append(i);
+			two.append(i + 5);
+		}
+		one.appendAll(two);
+		assertEquals("[0,1,2,3,4,5,6,7,8,9]", one.toString());
+		assertEquals(5, two.size());
+		one.appendAll(one);
+		assertEquals(20, one.size());
+		assertEquals(20, one.drainTo(two));
+		assertEquals(0, one.size());
+		assertEquals(25, two.size());
+		assertEquals((Integer) 9, two.lastElement());
+		// the drained list can be used again
+		one.append(-1);
+		assertEquals("[-1]", one.toString());
+		assertEquals(0, new SimpleLinkedList<Integer>().drainTo(one));
+		assertEquals(1, one.drainTo(new CircularArrayList<Integer>()));
+	}
+	
+	@Test
+	public void subList(){
+		SimpleLinkedList<Integer> list = new SimpleLinkedList<>();
+		for(int i = 0; i < 10; i++){
+			list.append(i);
+		}
+		AbstractList<Integer> view = list.subList(2, 7);
+		assertEquals(5, view.size());
+		assertEquals("[2,3,4,5,6]", view.toString());
+		assertEquals((Integer) 4, view.get(2));
+		assertEquals((Integer) 2, view.firstElement());
+		assertEquals((Integer) 6, view.lastElement());
+		assertEquals(true, view.contains(6));
+		assertEquals(false, view.contains(7));
+		assertEquals("[4,5]", view.subList(2, 4).toString());
+		assertEquals(0, list.subList(10, 10).size());
+		try {
+			view.pop();
+			fail("a view cannot be changed");
+		} catch (UnsupportedOperationException e){
+			// expected
+		}
+		list.append(10);
+		try {
+			view.get(0);
+			fail("the view should notice that the list was changed");
+		} catch (ConcurrentModificationException e){
+			// expected
+		}
+	}
+	
+	@Test
+	public void tailPointer(){
+		for(boolean trackTail : new boolean[]{true, false}){
+			SimpleLinkedList<Integer> list = new SimpleLinkedList<>(trackTail);
+			assertNull(list.lastElement());
+			list.prepend(1);
+			assertEquals((Integer) 1, list.lastElement());
+			list.append(2);
+			list.append(3);
+			assertEquals((Integer) 3, list.dequeue());
+			assertEquals((Integer) 2, list.lastElement());
+			list.append(4);
+			list.delete(4);
+			assertEquals((Integer) 2, list.lastElement());
+			list.pop();
+			list.pop();
+			assertNull(list.lastElement());
+			list.append(5);
+			assertEquals("[5]", list.toString());
+			for(int i = 6; i < 10; i++){
+				list.append(i);
+			}
+			list.removeLast(2);
+			assertEquals((Integer) 7, list.lastElement());
+			list.removeFirst(3);
+			list.append(10);
+			assertEquals("[10]", list.toString());
+			SimpleLinkedList<Integer> other = new SimpleLinkedList<>(trackTail);
+			other.append(11);
+			other.drainTo(list);
+			list.append(12);
+			assertEquals("[10,11,12]", list.toString());
+			other.append(13);
+			assertEquals("[13]", other.toString());
+			list.clear();
+			list.append(14);
+			assertEquals((Integer) 14, list.lastElement());
+		}
+	}
 
 }
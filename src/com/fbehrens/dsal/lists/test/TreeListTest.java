@@ -0,0 +1,124 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.TreeList;
+
+public class TreeListTest extends AbstractListTest {
+
+	@Override
+	public <T> AbstractList<T> getList(){
+		return new TreeList<>();
+	}
+
+	@Test
+	public void positionalEdits(){
+		TreeList<Integer> list = new TreeList<>();
+		for(int i = 0; i < 10; i++){
+			list.insertAt(i / 2, i);
+		}
+		assertEquals("[1,3,5,7,9,8,6,4,2,0]", list.toString());
+		assertEquals((Integer) 9, list.removeAt(4));
+		assertEquals((Integer) 7, list.set(3, 70));
+		assertEquals("[1,3,5,70,8,6,4,2,0]", list.toString());
+		list.removeRange(2, 6);
+		assertEquals("[1,3,4,2,0]", list.toString());
+		list.removeRange(0, 0);
+		list.removeRange(5, 5);
+		assertEquals(5, list.size());
+		assertEquals(3, list.indexOf(2));
+		assertEquals(-1, list.indexOf(70));
+	}
+
+	@Test
+	public void splitAndConcat(){
+		TreeList<Integer> list = new TreeList<>();
+		for(int i = 0; i < 1000; i++){
+			list.append(i);
+		}
+		TreeList<Integer> tail = list.split(300);
+		assertEquals(300, list.size());
+		assertEquals(700, tail.size());
+		assertEquals((Integer) 299, list.lastElement());
+		assertEquals((Integer) 300, tail.firstElement());
+		TreeList<Integer> empty = tail.split(700);
+		assertEquals(0, empty.size());
+		// put the tail in front
+		tail.concat(list);
+		assertEquals(0, list.size());
+		assertEquals(1000, tail.size());
+		for(int i = 0; i < 1000; i++){
+			assertEquals((Integer) ((i + 300) % 1000), tail.get(i));
+		}
+		tail.concat(empty);
+		assertEquals(1000, tail.size());
+	}
+
+	@Test
+	public void randomEdits(){
+		// compare random positional edits with java.util.ArrayList
+		Random r = new Random(42);
+		TreeList<Integer> list = new TreeList<>();
+		ArrayList<Integer> reference = new ArrayList<>();
+		for(int round = 0; round < 20000; round++){
+			int op = r.nextInt(100);
+			int size = reference.size();
+			if(op < 50 || size == 0){
+				int index = r.nextInt(size + 1);
+				list.insertAt(index, round);
+				reference.add(index, round);
+			} else if(op < 85){
+				int index = r.nextInt(size);
+				assertEquals(reference.remove(index), list.removeAt(index));
+			} else if(op < 90){
+				int from = r.nextInt(size + 1), to = from + r.nextInt(Math.min(size - from, 20) + 1);
+				list.removeRange(from, to);
+				reference.subList(from, to).clear();
+			} else if(op < 95){
+				int index = r.nextInt(size + 1);
+				TreeList<Integer> tail = list.split(index);
+				assertEquals(index, list.size());
+				// swap the two parts
+				tail.concat(list);
+				list = tail;
+				ArrayList<Integer> swapped = new ArrayList<>(reference.subList(index, size));
+				swapped.addAll(reference.subList(0, index));
+				reference = swapped;
+			} else {
+				int index = r.nextInt(size);
+				assertEquals(reference.get(index), list.get(index));
+			}
+			assertEquals(reference.size(), list.size());
+			if(round % 1000 == 0){
+				assertEquals(reference.toString().replace(" ", ""), list.toString());
+			}
+		}
+		assertEquals(reference.toString().replace(" ", ""), list.toString());
+	}
+
+	@Test
+	public void bulkOperations(){
+		TreeList<Integer> list = new TreeList<>(), other = new TreeList<>();
+		for(int i = 0; i < 100; i++){
+			list.append(i);
+			other.append(-i);
+		}
+		list.removeFirst(10);
+		list.removeLast(80);
+		assertEquals("[10,11,12,13,14,15,16,17,18,19]", list.toString());
+		assertEquals("[12,13]", list.subList(2, 4).toString());
+		assertEquals(100, other.drainTo(list));
+		assertEquals(110, list.size());
+		assertEquals((Integer) (-99), list.lastElement());
+		assertEquals(0, other.size());
+		list.clear();
+		assertEquals("[]", list.toString());
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.fbehrens.dsal.lists.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.ListIterator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.lists.AbstractList;
+import com.fbehrens.dsal.lists.UnrolledLinkedList;
+
+public class UnrolledLinkedListTest extends AbstractListTest {
+
+	@Override
+	public <T> AbstractList<T> getList(){
+		return new UnrolledLinkedList<>();
+	}
+
+	@Override
+	public <T> AbstractList<T> getSmallList(){
+		return new UnrolledLinkedList<>(4);
+	}
+
+	@Test
+	public void cursor(){
+		UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+		UnrolledLinkedList<Integer>.Cursor cursor = list.cursor();
+		assertFalse(cursor.hasNext());
+		for(int i = 0; i < 10; i++){
+			cursor.insert(i);
+		}
+		assertEquals("[0,1,2,3,4,5,6,7,8,9]", list.toString());
+		cursor = list.cursor();
+		while(cursor.hasNext()){
+			int value = cursor.next();
+			if(value % 2 == 0){
+				cursor.remove();
+			} else {
+				cursor.insert(-value);
+			}
+		}
+		assertEquals("[1,-1,3,-3,5,-5,7,-7,9,-9]", list.toString());
+		assertEquals(10, list.size());
+		try {
+			cursor.remove();
+			fail("remove after insert should not be allowed");
+		} catch (IllegalStateException e){
+			// expected
+		}
+	}
+
+	@Test
+	public void randomEdits(){
+		// compare many random edits at cursors with java.util.ArrayList, with
+		// small nodes so that they are split and merged often
+		Random r = new Random(42);
+		for(int capacity : new int[]{4, 5, 16}){
+			UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(capacity);
+			ArrayList<Integer> reference = new ArrayList<>();
+			for(int round = 0; round < 200; round++){
+				UnrolledLinkedList<Integer>.Cursor cursor = list.cursor();
+				ListIterator<Integer> referenceCursor = reference.listIterator();
+				// keep the list at a few hundred elements, then shrink it
+				int insertPercent = round >= 150 ? 5 : reference.size() < 300 ? 25 : 15;
+				int removePercent = 40 - insertPercent;
+				while(referenceCursor.hasNext()){
+					assertEquals(true, cursor.hasNext());
+					assertEquals(referenceCursor.next(), cursor.next());
+					int op = r.nextInt(100);
+					if(op < insertPercent){
+						int value = r.nextInt(1000);
+						cursor.insert(value);
+						referenceCursor.add(value);
+					} else if(op < insertPercent + removePercent){
+						cursor.remove();
+						referenceCursor.remove();
+					}
+				}
+				assertFalse(cursor.hasNext());
+				if(round % 7 == 0){
+					list.prepend(round);
+					reference.add(0, round);
+				} else if(round % 7 == 1 && !reference.isEmpty()){
+					assertEquals(reference.remove(reference.size() - 1), list.dequeue());
+				} else if(round % 7 == 2 && !reference.isEmpty()){
+					assertEquals(reference.remove(0), list.pop());
+				} else {
+					list.append(round);
+					reference.add(round);
+				}
+				assertEquals(reference.size(), list.size());
+				assertEquals(reference.toString().replace(" ", ""), list.toString());
+				for(int i = 0; i < reference.size(); i += 3){
+					assertEquals(reference.get(i), list.get(i));
+				}
+			}
+		}
+	}
+
+}
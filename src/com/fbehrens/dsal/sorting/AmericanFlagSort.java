@@ -0,0 +1,142 @@
+package com.fbehrens.dsal.sorting;
+
+/**
+ * In-place most significant digit first radix sort with 8-bit digits (American flag sort). The keys of a range are
+ * counted by their current digit, then moved directly into their buckets by following the permutation cycles, and every
+ * bucket is sorted recursively by the next digit. Small ranges are sorted by insertion sort. Needs only O(log(n))
+ * additional memory, but is not stable.
+ */
+public class AmericanFlagSort extends PrimitiveSortingAlgorithm {
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+
+    @Override
+    public void sort(int[] keys, int[] values) {
+        sort(keys, values, 0, keys.length, 24);
+    }
+
+    @Override
+    public void sort(long[] keys, int[] values) {
+        sort(keys, values, 0, keys.length, 56);
+    }
+
+    /*
+     * sorts keys[lower..upper) whose digits above shift are all the same
+     */
+    private void sort(int[] keys, int[] values, int lower, int upper, int shift) {
+        if (upper - lower < INSERTION_SORT_THRESHOLD) {
+            insertionSort(keys, values, lower, upper);
+            return;
+        }
+        // flip the sign bit, so that the negative numbers come first
+        int flip = shift == 24 ? 0x80 : 0;
+        int[] end = new int[257];
+        for (int i = lower; i < upper; i++) {
+            end[((keys[i] >>> shift & 0xFF) ^ flip) + 1]++;
+        }
+        end[0] = lower;
+        for (int d = 0; d < 256; d++) {
+            end[d + 1] += end[d];
+        }
+        // next[d] is the first position of bucket d which may still hold a key of another bucket
+        int[] next = new int[256];
+        System.arraycopy(end, 0, next, 0, 256);
+        for (int d = 0; d < 256; d++) {
+            while (next[d] < end[d + 1]) {
+                int b = (keys[next[d]] >>> shift & 0xFF) ^ flip;
+                if (b == d) {
+                    next[d]++;
+                } else {
+                    int j = next[b]++;
+                    swap(keys, next[d], j);
+                    if (values != null) {
+                        swap(values, next[d], j);
+                    }
+                }
+            }
+        }
+        if (shift > 0) {
+            for (int d = 0; d < 256; d++) {
+                if (end[d + 1] - end[d] > 1) {
+                    sort(keys, values, end[d], end[d + 1], shift - 8);
+                }
+            }
+        }
+    }
+
+    private void sort(long[] keys, int[] values, int lower, int upper, int shift) {
+        if (upper - lower < INSERTION_SORT_THRESHOLD) {
+            insertionSort(keys, values, lower, upper);
+            return;
+        }
+        int flip = shift == 56 ? 0x80 : 0;
+        int[] end = new int[257];
+        for (int i = lower; i < upper; i++) {
+            end[((int) (keys[i] >>> shift & 0xFF) ^ flip) + 1]++;
+        }
+        end[0] = lower;
+        for (int d = 0; d < 256; d++) {
+            end[d + 1] += end[d];
+        }
+        int[] next = new int[256];
+        System.arraycopy(end, 0, next, 0, 256);
+        for (int d = 0; d < 256; d++) {
+            while (next[d] < end[d + 1]) {
+                int b = (int) (keys[next[d]] >>> shift & 0xFF) ^ flip;
+                if (b == d) {
+                    next[d]++;
+                } else {
+                    int j = next[b]++;
+                    swap(keys, next[d], j);
+                    if (values != null) {
+                        swap(values, next[d], j);
+                    }
+                }
+            }
+        }
+        if (shift > 0) {
+            for (int d = 0; d < 256; d++) {
+                if (end[d + 1] - end[d] > 1) {
+                    sort(keys, values, end[d], end[d + 1], shift - 8);
+                }
+            }
+        }
+    }
+
+    private void insertionSort(int[] keys, int[] values, int lower, int upper) {
+        for (int i = lower + 1; i < upper; i++) {
+            int k = keys[i];
+            int v = values == null ? 0 : values[i];
+            int j = i - 1;
+            while (j >= lower && k < keys[j]) {
+                keys[j + 1] = keys[j];
+                if (values != null) {
+                    values[j + 1] = values[j];
+                }
+                j--;
+            }
+            keys[j + 1] = k;
+            if (values != null) {
+                values[j + 1] = v;
+            }
+        }
+    }
+
+    private void insertionSort(long[] keys, int[] values, int lower, int upper) {
+        for (int i = lower + 1; i < upper; i++) {
+            long k = keys[i];
+            int v = values == null ? 0 : values[i];
+            int j = i - 1;
+            while (j >= lower && k < keys[j]) {
+                keys[j + 1] = keys[j];
+                if (values != null) {
+                    values[j + 1] = values[j];
+                }
+                j--;
+            }
+            keys[j + 1] = k;
+            if (values != null) {
+                values[j + 1] = v;
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.fbehrens.dsal.sorting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorts files of fixed-width records which do not fit into memory. The input is read in chunks of a fixed number of
+ * records, every chunk is decoded, sorted in memory (by default with {@link ParallelMergeSort}, so with all cores) and
+ * written to a temporary run file. Then up to fanIn runs at a time are merged with a {@link LoserTree} until one
+ * merge writes the output. All files are read and written sequentially through {@link FileChannel}s with large
+ * direct buffers. The temporary runs need as much space as the input and are stored next to the output unless
+ * another (local) directory is given. With a stable chunk sorter the whole sort is stable.
+ */
+public class ExternalMergeSort<T> {
+    public static final int DEFAULT_CHUNK_RECORDS = 1 << 20;
+    public static final int DEFAULT_FAN_IN = 64;
+
+    // the size of the buffer of every file which is read or written
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final RecordCodec<T> codec;
+    private final Comparator<? super T> comparator;
+    private final int chunkRecords;
+    private final int fanIn;
+    private final SortingAlgorithm<T> chunkSorter;
+
+    public ExternalMergeSort(RecordCodec<T> codec, Comparator<? super T> comparator) {
+        this(codec, comparator, DEFAULT_CHUNK_RECORDS, DEFAULT_FAN_IN, new ParallelMergeSort<T>());
+    }
+
+    /**
+     * @param chunkRecords
+     *            The number of records which are sorted in memory at once.
+     * @param fanIn
+     *            The maximal number of runs which are merged at once; every run needs a buffer while it is merged.
+     * @param chunkSorter
+     *            Sorts the chunks in memory.
+     */
+    public ExternalMergeSort(RecordCodec<T> codec, Comparator<? super T> comparator, int chunkRecords, int fanIn,
+            SortingAlgorithm<T> chunkSorter) {
+        if (chunkRecords < 1 || fanIn < 2) {
+            throw new IllegalArgumentException("chunkRecords must be positive and fanIn at least 2");
+        }
+        this.codec = codec;
+        this.comparator = comparator;
+        this.chunkRecords = chunkRecords;
+        this.fanIn = fanIn;
+        this.chunkSorter = chunkSorter;
+    }
+
+    /**
+     * Sorts the records of input into output, using the directory of output for the temporary runs.
+     */
+    public void sort(Path input, Path output) throws IOException {
+        Path directory = output.toAbsolutePath().getParent();
+        sort(input, output, directory);
+    }
+
+    /**
+     * Sorts the records of input into output, using directory for the temporary runs.
+     */
+    public void sort(Path input, Path output, Path directory) throws IOException {
+        long size = Files.size(input);
+        if (size % codec.recordSize() != 0) {
+            throw new IllegalArgumentException(
+                    input + " does not consist of records of " + codec.recordSize() + " bytes");
+        }
+        // all temporary files, which are deleted at the end, even if the sort fails
+        List<Path> files = new ArrayList<>();
+        try {
+            List<Path> runs = createRuns(input, directory, files);
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    Path run = createTempFile(directory, files);
+                    merged.add(run);
+                    merge(group, run);
+                    for (Path p : group) {
+                        Files.delete(p);
+                    }
+                }
+                runs = merged;
+            }
+            merge(runs, output);
+        } finally {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static Path createTempFile(Path directory, List<Path> files) throws IOException {
+        Path file = Files.createTempFile(directory, "run", ".tmp");
+        files.add(file);
+        return file;
+    }
+
+    /*
+     * sorts the chunks of input into new runs in directory
+     */
+    @SuppressWarnings("unchecked")
+    private List<Path> createRuns(Path input, Path directory, List<Path> files) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        T[] chunk = (T[]) new Object[(int) Math.min(chunkRecords, Files.size(input) / codec.recordSize())];
+        try (Reader reader = new Reader(input)) {
+            while (true) {
+                int n = 0;
+                T record;
+                while (n < chunk.length && (record = reader.next()) != null) {
+                    chunk[n++] = record;
+                }
+                if (n == 0) {
+                    return runs;
+                }
+                T[] sorted = n == chunk.length ? chunk : Arrays.copyOf(chunk, n);
+                chunkSorter.inPlace(sorted, comparator);
+                Path run = createTempFile(directory, files);
+                runs.add(run);
+                try (Writer writer = new Writer(run)) {
+                    for (T t : sorted) {
+                        writer.write(t);
+                    }
+                }
+                if (n < chunk.length) {
+                    return runs;
+                }
+            }
+        }
+    }
+
+    /*
+     * merges the sorted runs into output
+     */
+    @SuppressWarnings("unchecked")
+    private void merge(List<Path> runs, Path output) throws IOException {
+        List<Reader> readers = new ArrayList<>();
+        try (Writer writer = new Writer(output)) {
+            T[] heads = (T[]) new Object[runs.size()];
+            for (int i = 0; i < heads.length; i++) {
+                readers.add(new Reader(runs.get(i)));
+                heads[i] = readers.get(i).next();
+            }
+            LoserTree<T> tree = new LoserTree<>(heads, comparator);
+            int i;
+            while ((i = tree.winner()) >= 0) {
+                writer.write(tree.min());
+                tree.replace(readers.get(i).next());
+            }
+        } finally {
+            for (Reader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the records of a file one after another.
+     */
+    private class Reader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        Reader(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            int recordSize = codec.recordSize();
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE / recordSize * recordSize + recordSize);
+            buffer.flip();
+        }
+
+        /**
+         * Returns the next record, or null at the end of the file.
+         */
+        T next() throws IOException {
+            if (buffer.remaining() < codec.recordSize()) {
+                buffer.compact();
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // fill the whole buffer
+                }
+                buffer.flip();
+                if (buffer.remaining() < codec.recordSize()) {
+                    if (buffer.hasRemaining()) {
+                        throw new IOException("truncated record");
+                    }
+                    return null;
+                }
+            }
+            return codec.decode(buffer);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes records to a new file, replacing an existing file.
+     */
+    private class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        Writer(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_SIZE / codec.recordSize(), 1) * codec.recordSize());
+        }
+
+        void write(T record) throws IOException {
+            if (buffer.remaining() < codec.recordSize()) {
+                flush();
+            }
+            codec.encode(record, buffer);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -1,20 +1,13 @@
 package com.fbehrens.dsal.sorting;
 
-import java.util.Arrays;
+import java.util.Comparator;
 
-public class InsertionSort<T extends Comparable<T>> extends SortingAlgorithm<T> {
+public class InsertionSort<T> extends SortingAlgorithm<T> {
     @Override
-    public T[] sorted(T[] input) {
-        T[] other = Arrays.copyOf(input, input.length);
-        inPlace(other);
-        return other;
-    }
-
-    @Override
-    public void inPlace(T[] input) {
+    protected void sort(T[] input, Comparator<? super T> comparator) {
         for (int i = 0; i < input.length; i++) {
             int j = i;
-            while (j >= 1 && input[j].compareTo(input[j - 1]) < 0) {
+            while (j >= 1 && comparator.compare(input[j], input[j - 1]) < 0) {
                 swap(input, j - 1, j);
                 j--;
             }
@@ -0,0 +1,153 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Quicksort with a pivot which is the median of three elements (or of nine
+ * elements for large ranges), insertion sort for small ranges, and heapsort
+ * for ranges where the partitioning went too deep (more than 2 log(n) levels),
+ * so the worst case is O(n log(n)). The ranges which are still to be sorted are
+ * kept on an explicit stack of ints; the smaller part of each partition is
+ * sorted first, so the stack never holds more than log(n) ranges.
+ */
+public class IntroSort<T> extends SortingAlgorithm<T> {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int NINTHER_THRESHOLD = 128;
+
+    @Override
+    protected void sort(T[] input, Comparator<? super T> comparator) {
+        sort(input, 0, input.length - 1, comparator);
+    }
+
+    void sort(T[] input, int lower, int upper, Comparator<? super T> comparator) {
+        if (upper - lower < 1) {
+            return;
+        }
+        // lower, upper and depth of each pending range; at most one range per bit of the length
+        int[] stack = new int[3 * 32];
+        int top = 0;
+        int depth = 2 * (31 - Integer.numberOfLeadingZeros(upper - lower + 1));
+        while (true) {
+            if (upper - lower < INSERTION_SORT_THRESHOLD) {
+                insertionSort(input, lower, upper, comparator);
+            } else if (depth == 0) {
+                heapSort(input, lower, upper, comparator);
+            } else {
+                depth--;
+                int p = partition(input, lower, upper, comparator);
+                if (p - lower < upper - p) {
+                    stack[top++] = p + 1;
+                    stack[top++] = upper;
+                    stack[top++] = depth;
+                    upper = p - 1;
+                } else {
+                    stack[top++] = lower;
+                    stack[top++] = p - 1;
+                    stack[top++] = depth;
+                    lower = p + 1;
+                }
+                continue;
+            }
+            if (top == 0) {
+                return;
+            }
+            depth = stack[--top];
+            upper = stack[--top];
+            lower = stack[--top];
+        }
+    }
+
+    /**
+     * Partitions input[lower..upper] around the chosen pivot and returns its final position. Elements equal to the
+     * pivot stop both scans, so many duplicates still give balanced parts.
+     */
+    int partition(T[] input, int lower, int upper, Comparator<? super T> comparator) {
+        int middle = (lower + upper) >>> 1;
+        int m;
+        if (upper - lower < NINTHER_THRESHOLD) {
+            m = median(input, lower, middle, upper, comparator);
+        } else {
+            int s = (upper - lower) / 8;
+            m = median(input, median(input, lower, lower + s, lower + 2 * s, comparator),
+                    median(input, middle - s, middle, middle + s, comparator),
+                    median(input, upper - 2 * s, upper - s, upper, comparator), comparator);
+        }
+        swap(input, lower, m);
+        T pivot = input[lower];
+        int i = lower, j = upper + 1;
+        while (true) {
+            while (comparator.compare(input[++i], pivot) < 0) {
+                if (i == upper) {
+                    break;
+                }
+            }
+            while (comparator.compare(pivot, input[--j]) < 0) {
+                // stops at the pivot at the latest
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(input, i, j);
+        }
+        swap(input, lower, j);
+        return j;
+    }
+
+    private int median(T[] input, int a, int b, int c, Comparator<? super T> comparator) {
+        if (comparator.compare(input[a], input[b]) < 0) {
+            if (comparator.compare(input[b], input[c]) < 0) {
+                return b;
+            }
+            return comparator.compare(input[a], input[c]) < 0 ? c : a;
+        }
+        if (comparator.compare(input[a], input[c]) < 0) {
+            return a;
+        }
+        return comparator.compare(input[b], input[c]) < 0 ? c : b;
+    }
+
+    private void insertionSort(T[] input, int lower, int upper, Comparator<? super T> comparator) {
+        for (int i = lower + 1; i <= upper; i++) {
+            T t = input[i];
+            int j = i - 1;
+            while (j >= lower && comparator.compare(t, input[j]) < 0) {
+                input[j + 1] = input[j];
+                j--;
+            }
+            input[j + 1] = t;
+            counter.moved(i - j);
+        }
+    }
+
+    private void heapSort(T[] input, int lower, int upper, Comparator<? super T> comparator) {
+        int n = upper - lower + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(input, lower, i, n, comparator);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            swap(input, lower, lower + last);
+            siftDown(input, lower, 0, last, comparator);
+        }
+    }
+
+    /**
+     * Sifts down the element at position i of the max-heap of size n which starts at input[offset].
+     */
+    private void siftDown(T[] input, int offset, int i, int n, Comparator<? super T> comparator) {
+        T t = input[offset + i];
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && comparator.compare(input[offset + child], input[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(t, input[offset + child]) >= 0) {
+                break;
+            }
+            input[offset + i] = input[offset + child];
+            counter.moved(1);
+            i = child;
+        }
+        input[offset + i] = t;
+        counter.moved(1);
+    }
+}
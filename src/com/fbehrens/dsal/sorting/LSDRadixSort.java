@@ -0,0 +1,106 @@
+package com.fbehrens.dsal.sorting;
+
+/**
+ * Least significant digit first radix sort with 8-bit digits. One counting pass computes the histograms of all digits,
+ * then every digit is distributed stably from the array into a buffer and back. Digits on which all keys agree are
+ * skipped, so small keys need fewer passes. O(n) time for a fixed key width, n additional memory, stable.
+ */
+public class LSDRadixSort extends PrimitiveSortingAlgorithm {
+
+    @Override
+    public void sort(int[] keys, int[] values) {
+        int n = keys.length;
+        int[][] counts = new int[4][257];
+        for (int k : keys) {
+            counts[0][(k & 0xFF) + 1]++;
+            counts[1][(k >>> 8 & 0xFF) + 1]++;
+            counts[2][(k >>> 16 & 0xFF) + 1]++;
+            // flip the sign bit, so that the negative numbers come first
+            counts[3][(k >>> 24 ^ 0x80) + 1]++;
+        }
+        int[] from = keys, to = new int[n];
+        int[] fromValues = values, toValues = values == null ? null : new int[n];
+        for (int digit = 0; digit < 4; digit++) {
+            int[] count = counts[digit];
+            if (single(count, n)) {
+                continue;
+            }
+            int shift = 8 * digit, flip = digit == 3 ? 0x80 : 0;
+            for (int i = 0; i < n; i++) {
+                int position = count[(from[i] >>> shift & 0xFF) ^ flip]++;
+                to[position] = from[i];
+                if (values != null) {
+                    toValues[position] = fromValues[i];
+                }
+            }
+            int[] temp = from;
+            from = to;
+            to = temp;
+            temp = fromValues;
+            fromValues = toValues;
+            toValues = temp;
+        }
+        if (from != keys) {
+            System.arraycopy(from, 0, keys, 0, n);
+            if (values != null) {
+                System.arraycopy(fromValues, 0, values, 0, n);
+            }
+        }
+    }
+
+    @Override
+    public void sort(long[] keys, int[] values) {
+        int n = keys.length;
+        int[][] counts = new int[8][257];
+        for (long k : keys) {
+            for (int digit = 0; digit < 7; digit++) {
+                counts[digit][(int) (k >>> 8 * digit & 0xFF) + 1]++;
+            }
+            counts[7][(int) (k >>> 56 ^ 0x80) + 1]++;
+        }
+        long[] from = keys, to = new long[n];
+        int[] fromValues = values, toValues = values == null ? null : new int[n];
+        for (int digit = 0; digit < 8; digit++) {
+            int[] count = counts[digit];
+            if (single(count, n)) {
+                continue;
+            }
+            int shift = 8 * digit, flip = digit == 7 ? 0x80 : 0;
+            for (int i = 0; i < n; i++) {
+                int position = count[(int) (from[i] >>> shift & 0xFF) ^ flip]++;
+                to[position] = from[i];
+                if (values != null) {
+                    toValues[position] = fromValues[i];
+                }
+            }
+            long[] temp = from;
+            from = to;
+            to = temp;
+            int[] tempValues = fromValues;
+            fromValues = toValues;
+            toValues = tempValues;
+        }
+        if (from != keys) {
+            System.arraycopy(from, 0, keys, 0, n);
+            if (values != null) {
+                System.arraycopy(fromValues, 0, values, 0, n);
+            }
+        }
+    }
+
+    /*
+     * Checks whether all n keys have the same digit, otherwise turns the histogram count[d+1] into the start
+     * positions count[d] of the buckets.
+     */
+    private static boolean single(int[] count, int n) {
+        for (int d = 1; d <= 256; d++) {
+            if (count[d] == n) {
+                return true;
+            }
+        }
+        for (int d = 0; d < 256; d++) {
+            count[d + 1] += count[d];
+        }
+        return false;
+    }
+}
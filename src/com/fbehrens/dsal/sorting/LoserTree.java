@@ -0,0 +1,85 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Tournament tree for merging k sorted sequences. Leaf i holds the current head of sequence i (null once it is
+ * exhausted, which loses against everything), every inner node the loser of the match played there, and the overall
+ * winner is kept separately. Replacing the winner's head replays only the matches on its path to the root, which are
+ * log(k) comparisons, each against a stored loser, so unlike a binary heap there is one comparison per level. Ties go
+ * to the sequence with the smaller index, so merging consecutive runs is stable.
+ */
+final class LoserTree<T> {
+    private final T[] heads;
+    private final Comparator<? super T> comparator;
+
+    // losers[0] is the winner, losers[n] for 1 <= n < k the loser at inner node n; node n has the children 2n and
+    // 2n + 1, and the nodes k ... 2k - 1 are the leaves 0 ... k - 1
+    private final int[] losers;
+
+    LoserTree(T[] heads, Comparator<? super T> comparator) {
+        this.heads = heads;
+        this.comparator = comparator;
+        this.losers = new int[heads.length];
+        if (heads.length > 0) {
+            losers[0] = play(1);
+        }
+    }
+
+    /*
+     * plays all matches in the subtree of node and returns its winner
+     */
+    private int play(int node) {
+        if (node >= heads.length) {
+            return node - heads.length;
+        }
+        int left = play(2 * node), right = play(2 * node + 1);
+        if (beats(left, right)) {
+            losers[node] = right;
+            return left;
+        }
+        losers[node] = left;
+        return right;
+    }
+
+    private boolean beats(int i, int j) {
+        if (heads[i] == null) {
+            return false;
+        }
+        if (heads[j] == null) {
+            return true;
+        }
+        int c = comparator.compare(heads[i], heads[j]);
+        return c < 0 || c == 0 && i < j;
+    }
+
+    /**
+     * Returns the index of the sequence with the smallest head, or -1 if all sequences are exhausted.
+     */
+    int winner() {
+        return heads.length == 0 || heads[losers[0]] == null ? -1 : losers[0];
+    }
+
+    /**
+     * Returns the smallest head.
+     */
+    T min() {
+        return heads[losers[0]];
+    }
+
+    /**
+     * Replaces the smallest head by the next element of its sequence, or by null if the sequence is exhausted.
+     */
+    void replace(T next) {
+        int winner = losers[0];
+        heads[winner] = next;
+        for (int node = (winner + heads.length) >>> 1; node > 0; node >>>= 1) {
+            if (beats(losers[node], winner)) {
+                int t = losers[node];
+                losers[node] = winner;
+                winner = t;
+            }
+        }
+        losers[0] = winner;
+    }
+}
@@ -0,0 +1,176 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable merge sort where both halves are sorted by separate fork-join tasks and the two sorted halves are merged in
+ * parallel as well: the middle element of the longer run is located in the other run by binary search, which splits
+ * the merge into two independent merges. Uses a buffer of the size of the input.
+ */
+public class ParallelMergeSort<T> extends ParallelSortingAlgorithm<T> {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    public ParallelMergeSort() {
+        super();
+    }
+
+    public ParallelMergeSort(ForkJoinPool pool, int cutoff) {
+        super(pool, cutoff);
+    }
+
+    @Override
+    protected void sort(T[] input, Comparator<? super T> comparator) {
+        if (input.length > 1) {
+            pool.invoke(new SortTask(input.clone(), input, 0, input.length, comparator));
+        }
+    }
+
+    /**
+     * Sorts src[lower..upper) into dst[lower..upper); both arrays must hold the same elements in this range, src is
+     * used as buffer.
+     */
+    private class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] src, dst;
+        private final int lower, upper;
+        private final Comparator<? super T> comparator;
+
+        SortTask(T[] src, T[] dst, int lower, int upper, Comparator<? super T> comparator) {
+            this.src = src;
+            this.dst = dst;
+            this.lower = lower;
+            this.upper = upper;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (upper - lower <= cutoff) {
+                sort(src, dst, lower, upper, comparator);
+                return;
+            }
+            int middle = (lower + upper) >>> 1;
+            invokeAll(new SortTask(dst, src, lower, middle, comparator),
+                    new SortTask(dst, src, middle, upper, comparator));
+            new MergeTask(src, lower, middle, middle, upper, dst, lower, comparator).compute();
+        }
+    }
+
+    /**
+     * Merges the sorted runs src[lower1..upper1) and src[lower2..upper2) into dst starting at position to. On equal
+     * elements the first run comes first.
+     */
+    private class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] src, dst;
+        private final int lower1, upper1, lower2, upper2, to;
+        private final Comparator<? super T> comparator;
+
+        MergeTask(T[] src, int lower1, int upper1, int lower2, int upper2, T[] dst, int to,
+                Comparator<? super T> comparator) {
+            this.src = src;
+            this.lower1 = lower1;
+            this.upper1 = upper1;
+            this.lower2 = lower2;
+            this.upper2 = upper2;
+            this.dst = dst;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = upper1 - lower1, length2 = upper2 - lower2;
+            if (length1 + length2 <= Math.max(cutoff, 2)) {
+                merge(src, lower1, upper1, lower2, upper2, dst, to, comparator);
+                return;
+            }
+            int split1, split2;
+            if (length1 >= length2) {
+                // elements of the second run which are equal to the split element go to the right
+                split1 = (lower1 + upper1) >>> 1;
+                split2 = lowerBound(src, lower2, upper2, src[split1], comparator);
+            } else {
+                // elements of the first run which are equal to the split element go to the left
+                split2 = (lower2 + upper2) >>> 1;
+                split1 = upperBound(src, lower1, upper1, src[split2], comparator);
+            }
+            int middle = to + (split1 - lower1) + (split2 - lower2);
+            invokeAll(new MergeTask(src, lower1, split1, lower2, split2, dst, to, comparator),
+                    new MergeTask(src, split1, upper1, split2, upper2, dst, middle, comparator));
+        }
+    }
+
+    /**
+     * Sequential merge sort of src[lower..upper) into dst[lower..upper), with the same requirements as
+     * {@link SortTask}.
+     */
+    private void sort(T[] src, T[] dst, int lower, int upper, Comparator<? super T> comparator) {
+        if (upper - lower <= INSERTION_SORT_THRESHOLD) {
+            for (int i = lower + 1; i < upper; i++) {
+                T t = dst[i];
+                int j = i - 1;
+                while (j >= lower && comparator.compare(t, dst[j]) < 0) {
+                    dst[j + 1] = dst[j];
+                    j--;
+                }
+                dst[j + 1] = t;
+                counter.moved(i - j);
+            }
+            return;
+        }
+        int middle = (lower + upper) >>> 1;
+        sort(dst, src, lower, middle, comparator);
+        sort(dst, src, middle, upper, comparator);
+        merge(src, lower, middle, middle, upper, dst, lower, comparator);
+    }
+
+    private void merge(T[] src, int lower1, int upper1, int lower2, int upper2, T[] dst, int to,
+            Comparator<? super T> comparator) {
+        int i = lower1, j = lower2;
+        while (i < upper1 && j < upper2) {
+            if (comparator.compare(src[j], src[i]) < 0) {
+                dst[to++] = src[j++];
+            } else {
+                dst[to++] = src[i++];
+            }
+        }
+        System.arraycopy(src, i, dst, to, upper1 - i);
+        System.arraycopy(src, j, dst, to + upper1 - i, upper2 - j);
+        counter.moved(upper1 - lower1 + upper2 - lower2);
+    }
+
+    /**
+     * Returns the first position in the sorted range a[lower..upper) whose element is not smaller than key.
+     */
+    private int lowerBound(T[] a, int lower, int upper, T key, Comparator<? super T> comparator) {
+        while (lower < upper) {
+            int middle = (lower + upper) >>> 1;
+            if (comparator.compare(a[middle], key) < 0) {
+                lower = middle + 1;
+            } else {
+                upper = middle;
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Returns the first position in the sorted range a[lower..upper) whose element is larger than key.
+     */
+    private int upperBound(T[] a, int lower, int upper, T key, Comparator<? super T> comparator) {
+        while (lower < upper) {
+            int middle = (lower + upper) >>> 1;
+            if (comparator.compare(key, a[middle]) < 0) {
+                upper = middle;
+            } else {
+                lower = middle + 1;
+            }
+        }
+        return lower;
+    }
+}
@@ -0,0 +1,64 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Quicksort where the two parts of each partition are sorted by separate fork-join tasks. The partitioning itself is
+ * sequential, so the first levels limit the speedup. Ranges up to the cutoff, and ranges which are more than 2 log(n)
+ * partitioning levels deep, are sorted by {@link IntroSort}.
+ */
+public class ParallelQuickSort<T> extends ParallelSortingAlgorithm<T> {
+    private final IntroSort<T> sequential = new IntroSort<>();
+
+    public ParallelQuickSort() {
+        super();
+    }
+
+    public ParallelQuickSort(ForkJoinPool pool, int cutoff) {
+        super(pool, cutoff);
+    }
+
+    @Override
+    public void setCounter(SortCounter counter) {
+        super.setCounter(counter);
+        // the sequential sorts and partitions run inside the tasks of this algorithm
+        sequential.setCounter(counter);
+    }
+
+    @Override
+    protected void sort(T[] input, Comparator<? super T> comparator) {
+        if (input.length > 1) {
+            pool.invoke(new SortTask(input, 0, input.length - 1, 2 * (31 - Integer.numberOfLeadingZeros(input.length)),
+                    comparator));
+        }
+    }
+
+    private class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] input;
+        private final int lower, upper, depth;
+        private final Comparator<? super T> comparator;
+
+        SortTask(T[] input, int lower, int upper, int depth, Comparator<? super T> comparator) {
+            this.input = input;
+            this.lower = lower;
+            this.upper = upper;
+            this.depth = depth;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (upper - lower < cutoff || depth == 0) {
+                sequential.sort(input, lower, upper, comparator);
+                return;
+            }
+            int p = sequential.partition(input, lower, upper, comparator);
+            invokeAll(new SortTask(input, lower, p - 1, depth - 1, comparator),
+                    new SortTask(input, p + 1, upper, depth - 1, comparator));
+        }
+    }
+}
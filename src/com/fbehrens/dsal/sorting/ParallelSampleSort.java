@@ -0,0 +1,146 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sample sort: a random sample of the input is sorted and determines splitters which divide the key range into
+ * buckets of about equal size. Every block of the input is classified in parallel, the elements are moved to their
+ * buckets in parallel, and then all buckets are sorted in parallel by {@link IntroSort}. Each element is moved only
+ * twice, so unlike quicksort there is no sequential partitioning step.
+ * <p>
+ * Every splitter also has an equality bucket for the keys which are equal to it. These buckets are already sorted, so
+ * inputs with many duplicates do not end up in a few large buckets which would have to be sorted sequentially.
+ */
+public class ParallelSampleSort<T> extends ParallelSortingAlgorithm<T> {
+    private static final int OVERSAMPLING = 32;
+
+    private final IntroSort<T> sequential = new IntroSort<>();
+
+    public ParallelSampleSort() {
+        super();
+    }
+
+    public ParallelSampleSort(ForkJoinPool pool, int cutoff) {
+        super(pool, cutoff);
+    }
+
+    @Override
+    public void setCounter(SortCounter counter) {
+        super.setCounter(counter);
+        // the sequential sorts and partitions run inside the tasks of this algorithm
+        sequential.setCounter(counter);
+    }
+
+    @Override
+    protected void sort(T[] input, Comparator<? super T> comparator) {
+        if (input.length <= cutoff) {
+            sequential.sort(input, 0, input.length - 1, comparator);
+            return;
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> sampleSort(input, comparator)));
+    }
+
+    private void sampleSort(T[] input, Comparator<? super T> comparator) {
+        int n = input.length;
+        // enough buckets to keep every thread busy, but no bucket below the cutoff on average
+        int buckets = (int) Math.max(2, Math.min(4L * pool.getParallelism(), n / cutoff));
+        T[] splitters = splitters(input, buckets, comparator);
+        // bucket 2k holds the keys between splitters k - 1 and k, bucket 2k + 1 the keys equal to splitter k
+        int classes = 2 * buckets - 1;
+
+        // classify each block and count the elements per bucket and block
+        int blocks = buckets;
+        int blockSize = (n + blocks - 1) / blocks;
+        int[] bucketOf = new int[n];
+        int[][] counts = new int[blocks][classes];
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[blocks];
+        for (int b = 0; b < blocks; b++) {
+            final int block = b;
+            tasks[b] = ForkJoinTask.adapt(() -> {
+                int[] count = counts[block];
+                for (int i = block * blockSize, end = Math.min(n, i + blockSize); i < end; i++) {
+                    int bucket = bucket(splitters, input[i], comparator);
+                    bucketOf[i] = bucket;
+                    count[bucket]++;
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // bucket k starts at starts[k]; block b writes its elements of bucket k from offsets[b][k] on
+        int[] starts = new int[classes + 1];
+        int[][] offsets = new int[blocks][classes];
+        int position = 0;
+        for (int k = 0; k < classes; k++) {
+            starts[k] = position;
+            for (int b = 0; b < blocks; b++) {
+                offsets[b][k] = position;
+                position += counts[b][k];
+            }
+        }
+        starts[classes] = n;
+
+        T[] buffer = Arrays.copyOf(input, n);
+        for (int b = 0; b < blocks; b++) {
+            final int block = b;
+            tasks[b] = ForkJoinTask.adapt(() -> {
+                int[] offset = offsets[block];
+                int start = block * blockSize, end = Math.min(n, start + blockSize);
+                for (int i = start; i < end; i++) {
+                    input[offset[bucketOf[i]]++] = buffer[i];
+                }
+                counter.moved(Math.max(0, end - start));
+            });
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // only the buckets between the splitters have to be sorted
+        ForkJoinTask<?>[] sorts = new ForkJoinTask<?>[buckets];
+        for (int k = 0; k < buckets; k++) {
+            final int lower = starts[2 * k], upper = starts[2 * k + 1] - 1;
+            sorts[k] = ForkJoinTask.adapt(() -> sequential.sort(input, lower, upper, comparator));
+        }
+        ForkJoinTask.invokeAll(sorts);
+    }
+
+    /**
+     * Chooses buckets - 1 splitters from a sorted random sample.
+     */
+    private T[] splitters(T[] input, int buckets, Comparator<? super T> comparator) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        T[] sample = Arrays.copyOf(input, OVERSAMPLING * buckets);
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = input[random.nextInt(input.length)];
+        }
+        sequential.sort(sample, 0, sample.length - 1, comparator);
+        T[] splitters = Arrays.copyOf(sample, buckets - 1);
+        for (int k = 1; k < buckets; k++) {
+            splitters[k - 1] = sample[k * OVERSAMPLING];
+        }
+        return splitters;
+    }
+
+    /**
+     * Returns the bucket of t: 2k + 1 if t is equal to splitter k (the last one of equal splitters), otherwise 2k where
+     * k is the number of splitters which are smaller than t.
+     */
+    private int bucket(T[] splitters, T t, Comparator<? super T> comparator) {
+        int lower = 0, upper = splitters.length;
+        while (lower < upper) {
+            int middle = (lower + upper) >>> 1;
+            if (comparator.compare(t, splitters[middle]) < 0) {
+                upper = middle;
+            } else {
+                lower = middle + 1;
+            }
+        }
+        if (lower > 0 && comparator.compare(t, splitters[lower - 1]) == 0) {
+            return 2 * lower - 1;
+        }
+        return 2 * lower;
+    }
+}
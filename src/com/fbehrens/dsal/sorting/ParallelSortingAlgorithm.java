@@ -0,0 +1,26 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Base class of the sorting algorithms which split the work into tasks for a {@link ForkJoinPool}. Ranges which are
+ * not longer than the cutoff are sorted sequentially in the task that reaches them.
+ */
+public abstract class ParallelSortingAlgorithm<T> extends SortingAlgorithm<T> {
+    public static final int DEFAULT_CUTOFF = 8192;
+
+    protected final ForkJoinPool pool;
+    protected final int cutoff;
+
+    protected ParallelSortingAlgorithm() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CUTOFF);
+    }
+
+    protected ParallelSortingAlgorithm(ForkJoinPool pool, int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        }
+        this.pool = pool;
+        this.cutoff = cutoff;
+    }
+}
@@ -0,0 +1,282 @@
+package com.fbehrens.dsal.sorting;
+
+/**
+ * The comparison sort for primitive keys: {@link IntroSort} on int and long keys, which moves the values along with the
+ * keys. O(n log(n)) in the worst case and in place, but not stable. Beats the radix sorts on small arrays and on keys
+ * which are spread over the whole range of the type.
+ */
+public class PrimitiveIntroSort extends PrimitiveSortingAlgorithm {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int NINTHER_THRESHOLD = 128;
+
+    @Override
+    public void sort(int[] keys, int[] values) {
+        int lower = 0, upper = keys.length - 1;
+        if (upper < 1) {
+            return;
+        }
+        int[] stack = new int[3 * 32];
+        int top = 0;
+        int depth = 2 * (31 - Integer.numberOfLeadingZeros(keys.length));
+        while (true) {
+            if (upper - lower < INSERTION_SORT_THRESHOLD) {
+                insertionSort(keys, values, lower, upper);
+            } else if (depth == 0) {
+                heapSort(keys, values, lower, upper);
+            } else {
+                depth--;
+                int p = partition(keys, values, lower, upper);
+                if (p - lower < upper - p) {
+                    stack[top++] = p + 1;
+                    stack[top++] = upper;
+                    stack[top++] = depth;
+                    upper = p - 1;
+                } else {
+                    stack[top++] = lower;
+                    stack[top++] = p - 1;
+                    stack[top++] = depth;
+                    lower = p + 1;
+                }
+                continue;
+            }
+            if (top == 0) {
+                return;
+            }
+            depth = stack[--top];
+            upper = stack[--top];
+            lower = stack[--top];
+        }
+    }
+
+    @Override
+    public void sort(long[] keys, int[] values) {
+        int lower = 0, upper = keys.length - 1;
+        if (upper < 1) {
+            return;
+        }
+        int[] stack = new int[3 * 32];
+        int top = 0;
+        int depth = 2 * (31 - Integer.numberOfLeadingZeros(keys.length));
+        while (true) {
+            if (upper - lower < INSERTION_SORT_THRESHOLD) {
+                insertionSort(keys, values, lower, upper);
+            } else if (depth == 0) {
+                heapSort(keys, values, lower, upper);
+            } else {
+                depth--;
+                int p = partition(keys, values, lower, upper);
+                if (p - lower < upper - p) {
+                    stack[top++] = p + 1;
+                    stack[top++] = upper;
+                    stack[top++] = depth;
+                    upper = p - 1;
+                } else {
+                    stack[top++] = lower;
+                    stack[top++] = p - 1;
+                    stack[top++] = depth;
+                    lower = p + 1;
+                }
+                continue;
+            }
+            if (top == 0) {
+                return;
+            }
+            depth = stack[--top];
+            upper = stack[--top];
+            lower = stack[--top];
+        }
+    }
+
+    private int partition(int[] keys, int[] values, int lower, int upper) {
+        int middle = (lower + upper) >>> 1;
+        int m;
+        if (upper - lower < NINTHER_THRESHOLD) {
+            m = median(keys, lower, middle, upper);
+        } else {
+            int s = (upper - lower) / 8;
+            m = median(keys, median(keys, lower, lower + s, lower + 2 * s),
+                    median(keys, middle - s, middle, middle + s), median(keys, upper - 2 * s, upper - s, upper));
+        }
+        swap(keys, values, lower, m);
+        int pivot = keys[lower];
+        int i = lower, j = upper + 1;
+        while (true) {
+            while (keys[++i] < pivot) {
+                if (i == upper) {
+                    break;
+                }
+            }
+            while (pivot < keys[--j]) {
+                // stops at the pivot at the latest
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(keys, values, i, j);
+        }
+        swap(keys, values, lower, j);
+        return j;
+    }
+
+    private int partition(long[] keys, int[] values, int lower, int upper) {
+        int middle = (lower + upper) >>> 1;
+        int m;
+        if (upper - lower < NINTHER_THRESHOLD) {
+            m = median(keys, lower, middle, upper);
+        } else {
+            int s = (upper - lower) / 8;
+            m = median(keys, median(keys, lower, lower + s, lower + 2 * s),
+                    median(keys, middle - s, middle, middle + s), median(keys, upper - 2 * s, upper - s, upper));
+        }
+        swap(keys, values, lower, m);
+        long pivot = keys[lower];
+        int i = lower, j = upper + 1;
+        while (true) {
+            while (keys[++i] < pivot) {
+                if (i == upper) {
+                    break;
+                }
+            }
+            while (pivot < keys[--j]) {
+                // stops at the pivot at the latest
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(keys, values, i, j);
+        }
+        swap(keys, values, lower, j);
+        return j;
+    }
+
+    private static int median(int[] keys, int a, int b, int c) {
+        if (keys[a] < keys[b]) {
+            if (keys[b] < keys[c]) {
+                return b;
+            }
+            return keys[a] < keys[c] ? c : a;
+        }
+        if (keys[a] < keys[c]) {
+            return a;
+        }
+        return keys[b] < keys[c] ? c : b;
+    }
+
+    private static int median(long[] keys, int a, int b, int c) {
+        if (keys[a] < keys[b]) {
+            if (keys[b] < keys[c]) {
+                return b;
+            }
+            return keys[a] < keys[c] ? c : a;
+        }
+        if (keys[a] < keys[c]) {
+            return a;
+        }
+        return keys[b] < keys[c] ? c : b;
+    }
+
+    private void insertionSort(int[] keys, int[] values, int lower, int upper) {
+        for (int i = lower + 1; i <= upper; i++) {
+            int k = keys[i];
+            int v = values == null ? 0 : values[i];
+            int j = i - 1;
+            while (j >= lower && k < keys[j]) {
+                keys[j + 1] = keys[j];
+                if (values != null) {
+                    values[j + 1] = values[j];
+                }
+                j--;
+            }
+            keys[j + 1] = k;
+            if (values != null) {
+                values[j + 1] = v;
+            }
+        }
+    }
+
+    private void insertionSort(long[] keys, int[] values, int lower, int upper) {
+        for (int i = lower + 1; i <= upper; i++) {
+            long k = keys[i];
+            int v = values == null ? 0 : values[i];
+            int j = i - 1;
+            while (j >= lower && k < keys[j]) {
+                keys[j + 1] = keys[j];
+                if (values != null) {
+                    values[j + 1] = values[j];
+                }
+                j--;
+            }
+            keys[j + 1] = k;
+            if (values != null) {
+                values[j + 1] = v;
+            }
+        }
+    }
+
+    private void heapSort(int[] keys, int[] values, int lower, int upper) {
+        int n = upper - lower + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(keys, values, lower, i, n);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            swap(keys, values, lower, lower + last);
+            siftDown(keys, values, lower, 0, last);
+        }
+    }
+
+    private void heapSort(long[] keys, int[] values, int lower, int upper) {
+        int n = upper - lower + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(keys, values, lower, i, n);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            swap(keys, values, lower, lower + last);
+            siftDown(keys, values, lower, 0, last);
+        }
+    }
+
+    /**
+     * Sifts down the key at position i of the max-heap of size n which starts at keys[offset].
+     */
+    private void siftDown(int[] keys, int[] values, int offset, int i, int n) {
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && keys[offset + child] < keys[offset + child + 1]) {
+                child++;
+            }
+            if (keys[offset + i] >= keys[offset + child]) {
+                break;
+            }
+            swap(keys, values, offset + i, offset + child);
+            i = child;
+        }
+    }
+
+    private void siftDown(long[] keys, int[] values, int offset, int i, int n) {
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && keys[offset + child] < keys[offset + child + 1]) {
+                child++;
+            }
+            if (keys[offset + i] >= keys[offset + child]) {
+                break;
+            }
+            swap(keys, values, offset + i, offset + child);
+            i = child;
+        }
+    }
+
+    private void swap(int[] keys, int[] values, int i, int j) {
+        swap(keys, i, j);
+        if (values != null) {
+            swap(values, i, j);
+        }
+    }
+
+    private void swap(long[] keys, int[] values, int i, int j) {
+        swap(keys, i, j);
+        if (values != null) {
+            swap(values, i, j);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Sorting of primitive arrays, which avoids the boxing and the virtual compareTo calls of {@link SortingAlgorithm}.
+ * Keys can be sorted alone or together with a parallel array of int values (e.g. record indices), which are permuted
+ * in the same way as the keys. doubles are sorted in the order of {@link Double#compare(double, double)}. Arrays of
+ * objects can be sorted by an int or long key with sortByInt or sortByLong, which extracts every key only once.
+ */
+public abstract class PrimitiveSortingAlgorithm {
+
+    /**
+     * Sorts keys and applies the same permutation to values, unless values is null.
+     */
+    public abstract void sort(int[] keys, int[] values);
+
+    /**
+     * Sorts keys and applies the same permutation to values, unless values is null.
+     */
+    public abstract void sort(long[] keys, int[] values);
+
+    public void sort(int[] keys) {
+        sort(keys, null);
+    }
+
+    public void sort(long[] keys) {
+        sort(keys, null);
+    }
+
+    public void sort(double[] keys) {
+        sort(keys, null);
+    }
+
+    /**
+     * Sorts keys and applies the same permutation to values, unless values is null. The doubles are mapped to longs
+     * with the same order, which are sorted instead.
+     */
+    public void sort(double[] keys, int[] values) {
+        long[] bits = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            long b = Double.doubleToLongBits(keys[i]);
+            // negative numbers: reverse their order by flipping all bits; positive numbers: move above the negatives
+            bits[i] = b < 0 ? ~b ^ Long.MIN_VALUE : b;
+        }
+        sort(bits, values);
+        for (int i = 0; i < keys.length; i++) {
+            long b = bits[i];
+            keys[i] = Double.longBitsToDouble(b < 0 ? ~(b ^ Long.MIN_VALUE) : b);
+        }
+    }
+
+    /**
+     * Sorts records by the given keys: the keys are extracted into an array once, sorted together with the original
+     * positions, and then the records are permuted accordingly. Stable if the algorithm is stable.
+     */
+    public <T> void sortByInt(T[] records, ToIntFunction<? super T> key) {
+        int[] keys = new int[records.length];
+        int[] positions = new int[records.length];
+        for (int i = 0; i < records.length; i++) {
+            keys[i] = key.applyAsInt(records[i]);
+            positions[i] = i;
+        }
+        sort(keys, positions);
+        permute(records, positions);
+    }
+
+    /**
+     * Sorts records by the given keys like {@link #sortByInt(Object[], ToIntFunction)}.
+     */
+    public <T> void sortByLong(T[] records, ToLongFunction<? super T> key) {
+        long[] keys = new long[records.length];
+        int[] positions = new int[records.length];
+        for (int i = 0; i < records.length; i++) {
+            keys[i] = key.applyAsLong(records[i]);
+            positions[i] = i;
+        }
+        sort(keys, positions);
+        permute(records, positions);
+    }
+
+    /*
+     * moves the record at positions[i] to i
+     */
+    private static <T> void permute(T[] records, int[] positions) {
+        T[] copy = records.clone();
+        for (int i = 0; i < records.length; i++) {
+            records[i] = copy[positions[i]];
+        }
+    }
+
+    void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -1,55 +1,61 @@
 package com.fbehrens.dsal.sorting;
 
-import java.util.Arrays;
+import java.util.Comparator;
 
-public class QuickSort<T extends Comparable<T>> extends SortingAlgorithm<T> {
+public class QuickSort<T> extends SortingAlgorithm<T> {
 
     @Override
-    public T[] sorted(T[] input) {
-        T[] other = Arrays.copyOf(input, input.length);
-        inPlace(other);
-        return other;
+    protected void sort(T[] input, Comparator<? super T> comparator) {
+        sort(input, 0, input.length - 1, comparator);
     }
 
-    @Override
-    public void inPlace(T[] input) {
-        if (input.length == 0) {
-            return;
-        }
-
-        int maxIndex = 0;
-        T maximum = input[0];
-        for (int i = 1; i < input.length; i++) {
-            if (input[i].compareTo(maximum) > 0) {
-                maxIndex = i;
-                maximum = input[i];
+    /**
+     * Sorts input[lower..upper] around the median of the first, middle and last element. Elements equal to the pivot
+     * stop both scans, so many duplicates still give balanced parts. Only the smaller part is sorted recursively, so
+     * the recursion depth is at most log(n).
+     */
+    private void sort(T[] input, int lower, int upper, Comparator<? super T> comparator) {
+        while (lower < upper) {
+            int middle = (lower + upper) >>> 1;
+            sortThree(input, lower, middle, upper, comparator);
+            swap(input, lower, middle);
+            T pivot = input[lower];
+            int l = lower;
+            int r = upper + 1;
+            while (true) {
+                while (comparator.compare(input[++l], pivot) < 0) {
+                    if (l == upper) {
+                        break;
+                    }
+                }
+                while (comparator.compare(input[--r], pivot) > 0) {
+                    // stops at the pivot at the latest
+                }
+                if (l >= r) {
+                    break;
+                }
+                swap(input, l, r);
+            }
+            swap(input, lower, r);
+            if (r - lower < upper - r) {
+                sort(input, lower, r - 1, comparator);
+                lower = r + 1;
+            } else {
+                sort(input, r + 1, upper, comparator);
+                upper = r - 1;
             }
         }
-        swap(input, maxIndex, input.length - 1);
-        sort(input, 0, input.length - 1);
     }
 
-    private void sort(T[] input, int lower, int upper) {
-        if (lower >= upper) {
-            return;
+    private void sortThree(T[] input, int a, int b, int c, Comparator<? super T> comparator) {
+        if (comparator.compare(input[b], input[a]) < 0) {
+            swap(input, a, b);
         }
-
-        int l = lower + 1;
-        int r = upper;
-        while (l <= r) {
-            while (input[l].compareTo(input[lower]) < 0) {
-                l++;
-            }
-            while (input[r].compareTo(input[lower]) > 0) {
-                r--;
+        if (comparator.compare(input[c], input[b]) < 0) {
+            swap(input, b, c);
+            if (comparator.compare(input[b], input[a]) < 0) {
+                swap(input, a, b);
             }
-            swap(input, l, r);
-            r--;
         }
-        r++;
-        swap(input, l, r);
-        swap(input, r, lower);
-        sort(input, lower, r - 1);
-        sort(input, r + 1, upper);
     }
 }
@@ -0,0 +1,24 @@
+package com.fbehrens.dsal.sorting;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts between records of a file with fixed-width records and the objects which {@link ExternalMergeSort}
+ * compares.
+ */
+public interface RecordCodec<T> {
+    /**
+     * Returns the number of bytes of every record.
+     */
+    int recordSize();
+
+    /**
+     * Reads one record from the current position of buffer, which advances by exactly recordSize() bytes.
+     */
+    T decode(ByteBuffer buffer);
+
+    /**
+     * Writes record at the current position of buffer, which advances by exactly recordSize() bytes.
+     */
+    void encode(T record, ByteBuffer buffer);
+}
@@ -0,0 +1,180 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Finds elements by their rank without sorting the whole array. select moves the k-th smallest element to position k
+ * with the smaller elements before and the larger ones behind it (nth_element), in expected O(n) time with the
+ * Floyd-Rivest algorithm: a small random-like sample around the expected position of the k-th element is selected
+ * recursively, so the partition around it leaves only a small range which still contains position k. Ranges which
+ * shrink too slowly are sorted by {@link IntroSort}, so the worst case is O(n log(n)). Elements are rearranged in
+ * place, and the order of equal elements is not preserved. The comparisons and swaps can be counted with a
+ * {@link SortCounter}.
+ */
+public class Selection<T> {
+    // ranges above this size are narrowed down by sampling first
+    private static final int SAMPLING_THRESHOLD = 600;
+
+    private final IntroSort<T> sequential = new IntroSort<>();
+    private SortCounter counter = SortCounter.NONE;
+
+    /**
+     * Counts the work of all following selections with counter, or stops counting if it is {@link SortCounter#NONE}.
+     */
+    public void setCounter(SortCounter counter) {
+        this.counter = counter;
+        sequential.setCounter(counter);
+    }
+
+    public T select(T[] input, int k) {
+        return select(input, k, SortingAlgorithm.<T> naturalOrder());
+    }
+
+    /**
+     * Rearranges input such that input[k] is the element which would be at position k in the sorted array, no
+     * element before k is larger and no element behind k is smaller. (expected O(n) time)
+     *
+     * @return input[k]
+     */
+    public T select(T[] input, int k, Comparator<? super T> comparator) {
+        checkRank(input, k);
+        select(input, 0, input.length - 1, k, counter.counting(comparator));
+        return input[k];
+    }
+
+    public void partialSort(T[] input, int k) {
+        partialSort(input, k, SortingAlgorithm.<T> naturalOrder());
+    }
+
+    /**
+     * Moves the k smallest elements in sorted order to input[0..k), the other elements follow in arbitrary order.
+     * (expected O(n + k log(k)) time)
+     */
+    public void partialSort(T[] input, int k, Comparator<? super T> comparator) {
+        if (k < 0 || k > input.length) {
+            throw new IllegalArgumentException("k must be between 0 and " + input.length + ": " + k);
+        }
+        if (k == 0) {
+            return;
+        }
+        comparator = counter.counting(comparator);
+        select(input, 0, input.length - 1, k - 1, comparator);
+        sequential.sort(input, 0, k - 2, comparator);
+    }
+
+    public void selectAll(T[] input, int[] ranks) {
+        selectAll(input, ranks, SortingAlgorithm.<T> naturalOrder());
+    }
+
+    /**
+     * Does {@link #select(Object[], int, Comparator)} for all ranks at once: afterwards input[r] is the element of
+     * rank r for every r in ranks, e.g. for several quantiles. Every select splits the array and the remaining ranks
+     * in two, so q ranks take expected O(n log(q)) time.
+     */
+    public void selectAll(T[] input, int[] ranks, Comparator<? super T> comparator) {
+        int[] sorted = ranks.clone();
+        Arrays.sort(sorted);
+        // without duplicates, every rank lies in the range which is left for it
+        int distinct = 0;
+        for (int r : sorted) {
+            checkRank(input, r);
+            if (distinct == 0 || sorted[distinct - 1] != r) {
+                sorted[distinct++] = r;
+            }
+        }
+        selectAll(input, 0, input.length - 1, sorted, 0, distinct - 1, counter.counting(comparator));
+    }
+
+    /**
+     * Returns the rank of the q-quantile, 0 &le; q &le; 1, in an array of n elements (the lower median for q = 0.5
+     * and even n).
+     */
+    public static int rank(double q, int n) {
+        if (!(q >= 0 && q <= 1) || n < 1) {
+            throw new IllegalArgumentException("no " + q + "-quantile of " + n + " elements");
+        }
+        return Math.max(0, (int) Math.ceil(q * n) - 1);
+    }
+
+    private static void checkRank(Object[] input, int k) {
+        if (k < 0 || k >= input.length) {
+            throw new IllegalArgumentException("rank must be between 0 and " + (input.length - 1) + ": " + k);
+        }
+    }
+
+    private void selectAll(T[] input, int lower, int upper, int[] ranks, int first, int last,
+            Comparator<? super T> comparator) {
+        if (first > last) {
+            return;
+        }
+        int middle = (first + last) >>> 1;
+        int k = ranks[middle];
+        select(input, lower, upper, k, comparator);
+        selectAll(input, lower, k - 1, ranks, first, middle - 1, comparator);
+        selectAll(input, k + 1, upper, ranks, middle + 1, last, comparator);
+    }
+
+    /**
+     * Floyd-Rivest selection of rank k in input[lower..upper].
+     */
+    private void select(T[] input, int lower, int upper, int k, Comparator<? super T> comparator) {
+        int rounds = 2 * (32 - Integer.numberOfLeadingZeros(upper - lower + 1));
+        while (upper > lower) {
+            if (rounds-- == 0) {
+                sequential.sort(input, lower, upper, comparator);
+                return;
+            }
+            if (upper - lower > SAMPLING_THRESHOLD) {
+                // select from a range of about n^(2/3) elements around the expected position of the k-th element,
+                // which contains it with high probability, to get a pivot close to it
+                int n = upper - lower + 1;
+                int i = k - lower + 1;
+                double z = Math.log(n);
+                double s = 0.5 * Math.exp(2 * z / 3);
+                double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2);
+                int sampleLower = Math.max(lower, (int) (k - i * s / n + sd));
+                int sampleUpper = Math.min(upper, (int) (k + (n - i) * s / n + sd));
+                select(input, sampleLower, sampleUpper, k, comparator);
+            }
+            // partition around t = input[k]; equal elements stop both scans
+            T t = input[k];
+            int i = lower, j = upper;
+            swap(input, lower, k);
+            if (comparator.compare(input[upper], t) > 0) {
+                swap(input, upper, lower);
+            }
+            while (i < j) {
+                swap(input, i, j);
+                i++;
+                j--;
+                while (comparator.compare(input[i], t) < 0) {
+                    i++;
+                }
+                while (comparator.compare(input[j], t) > 0) {
+                    j--;
+                }
+            }
+            if (comparator.compare(input[lower], t) == 0) {
+                swap(input, lower, j);
+            } else {
+                j++;
+                swap(input, j, upper);
+            }
+            // now t is at position j
+            if (j <= k) {
+                lower = j + 1;
+            }
+            if (k <= j) {
+                upper = j - 1;
+            }
+        }
+    }
+
+    private void swap(T[] input, int i, int j) {
+        counter.swapped();
+        T temp = input[i];
+        input[i] = input[j];
+        input[j] = temp;
+    }
+}
@@ -1,22 +1,15 @@
 package com.fbehrens.dsal.sorting;
 
-import java.util.Arrays;
+import java.util.Comparator;
 
-public class SelectionSort<T extends Comparable<T>> extends SortingAlgorithm<T> {
+public class SelectionSort<T> extends SortingAlgorithm<T> {
     @Override
-    public T[] sorted(T[] input) {
-        T[] other = Arrays.copyOf(input, input.length);
-        inPlace(other);
-        return other;
-    }
-
-    @Override
-    public void inPlace(T[] input) {
+    protected void sort(T[] input, Comparator<? super T> comparator) {
         for (int i = 0; i < input.length; i++) {
             int minIndex = i;
             T minValue = input[i];
             for (int j = i + 1; j < input.length; j++) {
-                if (minValue.compareTo(input[j]) > 0) {
+                if (comparator.compare(minValue, input[j]) > 0) {
                     minIndex = j;
                     minValue = input[j];
                 }
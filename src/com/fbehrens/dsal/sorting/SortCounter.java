@@ -0,0 +1,90 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the work of a sorting algorithm: comparisons, swaps and moves (elements which are written to the array
+ * alone, e.g. when insertion sort shifts elements, or by a merge). Together with the running time, the counts show
+ * how much of the time goes to memory accesses: an algorithm which needs more time per operation on larger inputs
+ * misses the caches. Algorithms report to {@link #NONE} unless a counter is set; its methods are empty, so the JIT
+ * removes the calls. The counts are kept in {@link LongAdder}s, so the tasks of a parallel algorithm can share a
+ * counter and its counts are exact; they should only be read when the sort is done.
+ */
+public class SortCounter {
+    /**
+     * Ignores everything.
+     */
+    public static final SortCounter NONE = new SortCounter() {
+        @Override
+        public void compared() {
+        }
+
+        @Override
+        public void swapped() {
+        }
+
+        @Override
+        public void moved(int n) {
+        }
+
+        @Override
+        public <T> Comparator<T> counting(Comparator<T> comparator) {
+            return comparator;
+        }
+    };
+
+    private final LongAdder comparisons = new LongAdder(), swaps = new LongAdder(), moves = new LongAdder();
+
+    public void compared() {
+        comparisons.increment();
+    }
+
+    public void swapped() {
+        swaps.increment();
+    }
+
+    public void moved(int n) {
+        moves.add(n);
+    }
+
+    /**
+     * Returns a comparator which counts its calls with this counter.
+     */
+    public <T> Comparator<T> counting(Comparator<T> comparator) {
+        return (a, b) -> {
+            comparisons.increment();
+            return comparator.compare(a, b);
+        };
+    }
+
+    public long comparisons() {
+        return comparisons.sum();
+    }
+
+    public long swaps() {
+        return swaps.sum();
+    }
+
+    public long moves() {
+        return moves.sum();
+    }
+
+    /**
+     * Returns the number of elements written to the array, two per swap and one per move.
+     */
+    public long writes() {
+        return 2 * swaps() + moves();
+    }
+
+    public void reset() {
+        comparisons.reset();
+        swaps.reset();
+        moves.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "comparisons: " + comparisons() + ", swaps: " + swaps() + ", moves: " + moves();
+    }
+}
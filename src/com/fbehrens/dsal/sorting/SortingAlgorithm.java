@@ -1,12 +1,56 @@
 package com.fbehrens.dsal.sorting;
 
-public abstract class SortingAlgorithm<T extends Comparable<T>> {
-    public abstract T[] sorted(T[] input);
-    public abstract void inPlace(T[] input);
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts arrays in the order of a {@link Comparator}, or in the natural order of the elements, which must then be
+ * {@link Comparable} (otherwise a ClassCastException is thrown). To sort records by an int or long field, extract the
+ * keys once with {@link PrimitiveSortingAlgorithm#sortByInt(Object[], java.util.function.ToIntFunction)} instead. The
+ * comparisons and swaps can be counted with a {@link SortCounter}.
+ */
+public abstract class SortingAlgorithm<T> {
+    protected SortCounter counter = SortCounter.NONE;
+
+    /**
+     * Counts the work of all following sorts with counter, or stops counting if it is {@link SortCounter#NONE}.
+     */
+    public void setCounter(SortCounter counter) {
+        this.counter = counter;
+    }
+
+    public T[] sorted(T[] input) {
+        return sorted(input, naturalOrder());
+    }
+
+    public void inPlace(T[] input) {
+        inPlace(input, naturalOrder());
+    }
+
+    public T[] sorted(T[] input, Comparator<? super T> comparator) {
+        T[] other = Arrays.copyOf(input, input.length);
+        inPlace(other, comparator);
+        return other;
+    }
+
+    public final void inPlace(T[] input, Comparator<? super T> comparator) {
+        sort(input, counter.counting(comparator));
+    }
+
+    /**
+     * Sorts input in place; the algorithms implement this.
+     */
+    protected abstract void sort(T[] input, Comparator<? super T> comparator);
 
     <U> void swap(U[] array, int i, int j) {
+        counter.swapped();
         U temp = array[i];
         array[i] = array[j];
         array[j] = temp;
     }
+
+    @SuppressWarnings("unchecked")
+    static <T> Comparator<? super T> naturalOrder() {
+        return (Comparator<T>) Comparator.<Comparable<Object>> naturalOrder();
+    }
 }
@@ -0,0 +1,472 @@
+package com.fbehrens.dsal.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Adaptive stable merge sort (TimSort). The input is split into natural runs, which are ascending or strictly
+ * descending (and then reversed); runs shorter than a minimum length (between 16 and 32) are extended by binary
+ * insertion sort. The runs are kept on a stack whose lengths grow at least like the Fibonacci numbers and merged
+ * with their neighbours. A merge copies only the shorter run into a buffer, and when one run wins many comparisons
+ * in a row it switches to galloping: exponential search for the position where the other run continues. Sorted
+ * input takes n - 1 comparisons, a few out-of-order elements cost little more, and the worst case is O(n log(n)).
+ */
+public class TimSort<T> extends SortingAlgorithm<T> {
+    private static final int MIN_MERGE = 32;
+    private static final int MIN_GALLOP = 7;
+
+    @Override
+    protected void sort(T[] input, Comparator<? super T> comparator) {
+        new Merger<T>(input, comparator, counter).sort();
+    }
+
+    /**
+     * The state of one sort: the stack of pending runs and the merge buffer.
+     */
+    private static class Merger<T> {
+        private final T[] a;
+        private final Comparator<? super T> comparator;
+        private final SortCounter counter;
+
+        // the number of consecutive wins after which a merge starts galloping; adapts to the input
+        private int minGallop = MIN_GALLOP;
+
+        private T[] buffer;
+
+        // run i starts at runBase[i] and has runLength[i] elements; with the run lengths growing like the Fibonacci
+        // numbers, 49 runs are more than an int can count
+        private final int[] runBase = new int[49];
+        private final int[] runLength = new int[49];
+        private int runs = 0;
+
+        @SuppressWarnings("unchecked")
+        Merger(T[] a, Comparator<? super T> comparator, SortCounter counter) {
+            this.a = a;
+            this.comparator = comparator;
+            this.counter = counter;
+            this.buffer = (T[]) new Object[0];
+        }
+
+        void sort() {
+            int n = a.length;
+            if (n < 2) {
+                return;
+            }
+            if (n < MIN_MERGE) {
+                binaryInsertionSort(0, n, countRun(0, n));
+                return;
+            }
+            int minRun = minRun(n);
+            int lower = 0;
+            while (lower < n) {
+                int length = countRun(lower, n);
+                if (length < minRun) {
+                    int forced = Math.min(n - lower, minRun);
+                    binaryInsertionSort(lower, lower + forced, lower + length);
+                    length = forced;
+                }
+                runBase[runs] = lower;
+                runLength[runs] = length;
+                runs++;
+                collapse();
+                lower += length;
+            }
+            while (runs > 1) {
+                int i = runs - 2;
+                if (i > 0 && runLength[i - 1] < runLength[i + 1]) {
+                    i--;
+                }
+                mergeAt(i);
+            }
+        }
+
+        /**
+         * Returns n if n < MIN_MERGE, otherwise a length k between MIN_MERGE/2 and MIN_MERGE such that n/k is a
+         * power of 2 or a bit less, so that the final merges are balanced.
+         */
+        private static int minRun(int n) {
+            int r = 0;
+            while (n >= MIN_MERGE) {
+                r |= n & 1;
+                n >>= 1;
+            }
+            return n + r;
+        }
+
+        /**
+         * Returns the length of the run starting at lower, which is reversed if it is descending. Only strictly
+         * descending runs are reversed, so the sort stays stable.
+         */
+        private int countRun(int lower, int upper) {
+            int i = lower + 1;
+            if (i == upper) {
+                return 1;
+            }
+            if (comparator.compare(a[i++], a[lower]) < 0) {
+                while (i < upper && comparator.compare(a[i], a[i - 1]) < 0) {
+                    i++;
+                }
+                for (int l = lower, r = i - 1; l < r; l++, r--) {
+                    T t = a[l];
+                    a[l] = a[r];
+                    a[r] = t;
+                    counter.swapped();
+                }
+            } else {
+                while (i < upper && comparator.compare(a[i], a[i - 1]) >= 0) {
+                    i++;
+                }
+            }
+            return i - lower;
+        }
+
+        /**
+         * Sorts a[lower..upper) whose prefix a[lower..start) is already sorted. The insertion position is found by
+         * binary search behind equal elements, so this is stable and needs O(n log(n)) comparisons.
+         */
+        private void binaryInsertionSort(int lower, int upper, int start) {
+            for (; start < upper; start++) {
+                T pivot = a[start];
+                int l = lower, r = start;
+                while (l < r) {
+                    int middle = (l + r) >>> 1;
+                    if (comparator.compare(pivot, a[middle]) < 0) {
+                        r = middle;
+                    } else {
+                        l = middle + 1;
+                    }
+                }
+                System.arraycopy(a, l, a, l + 1, start - l);
+                a[l] = pivot;
+                counter.moved(start - l + 1);
+            }
+        }
+
+        /**
+         * Merges runs until the lengths X, Y, Z of the topmost runs satisfy Y > Z and X > Y + Z (also one level
+         * further down the stack), always merging Y with the shorter of X and Z.
+         */
+        private void collapse() {
+            while (runs > 1) {
+                int i = runs - 2;
+                if (i > 0 && runLength[i - 1] <= runLength[i] + runLength[i + 1]
+                        || i > 1 && runLength[i - 2] <= runLength[i - 1] + runLength[i]) {
+                    if (runLength[i - 1] < runLength[i + 1]) {
+                        i--;
+                    }
+                } else if (runLength[i] > runLength[i + 1]) {
+                    break;
+                }
+                mergeAt(i);
+            }
+        }
+
+        /**
+         * Merges the runs i and i + 1 of the stack. The elements of the first run which are not larger than the
+         * first element of the second run, and the elements of the second run which are not smaller than the last
+         * element of the first run, are already in place.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i], length1 = runLength[i];
+            int base2 = runBase[i + 1], length2 = runLength[i + 1];
+            runLength[i] = length1 + length2;
+            if (i == runs - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            runs--;
+
+            int k = gallopRight(a[base2], a, base1, length1, 0);
+            base1 += k;
+            length1 -= k;
+            if (length1 == 0) {
+                return;
+            }
+            length2 = gallopLeft(a[base1 + length1 - 1], a, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+            // the shorter run is copied to the buffer, then every element is written once
+            counter.moved(length1 + length2 + Math.min(length1, length2));
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Returns the position k in the sorted range r[base..base+length) such that r[base+k-1] < key &le;
+         * r[base+k], searching exponentially from base+hint and then binary.
+         */
+        private int gallopLeft(T key, T[] r, int base, int length, int hint) {
+            int lastOffset = 0, offset = 1;
+            if (comparator.compare(key, r[base + hint]) > 0) {
+                // gallop to the right until r[base+hint+lastOffset] < key <= r[base+hint+offset]
+                int maxOffset = length - hint;
+                while (offset < maxOffset && comparator.compare(key, r[base + hint + offset]) > 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                // gallop to the left until r[base+hint-offset] < key <= r[base+hint-lastOffset]
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && comparator.compare(key, r[base + hint - offset]) <= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                int t = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - t;
+            }
+            // now r[base+lastOffset] < key <= r[base+offset]
+            lastOffset++;
+            while (lastOffset < offset) {
+                int middle = lastOffset + ((offset - lastOffset) >>> 1);
+                if (comparator.compare(key, r[base + middle]) > 0) {
+                    lastOffset = middle + 1;
+                } else {
+                    offset = middle;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Like gallopLeft, but returns the position behind the elements equal to key: r[base+k-1] &le; key <
+         * r[base+k].
+         */
+        private int gallopRight(T key, T[] r, int base, int length, int hint) {
+            int lastOffset = 0, offset = 1;
+            if (comparator.compare(key, r[base + hint]) < 0) {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && comparator.compare(key, r[base + hint - offset]) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                int t = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - t;
+            } else {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && comparator.compare(key, r[base + hint + offset]) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                lastOffset += hint;
+                offset += hint;
+            }
+            lastOffset++;
+            while (lastOffset < offset) {
+                int middle = lastOffset + ((offset - lastOffset) >>> 1);
+                if (comparator.compare(key, r[base + middle]) < 0) {
+                    offset = middle;
+                } else {
+                    lastOffset = middle + 1;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Merges from left to right; the shorter first run is copied to the buffer. Requires that the first element
+         * of the second run is smaller than the first element of the first run, and that the last element of the
+         * first run is larger than all elements of the second run.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            T[] b = buffer(length1);
+            System.arraycopy(a, base1, b, 0, length1);
+            int cursor1 = 0, cursor2 = base2, destination = base1;
+            a[destination++] = a[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(b, cursor1, a, destination, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, destination, length2);
+                a[destination + length2] = b[cursor1];
+                return;
+            }
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int wins1 = 0, wins2 = 0;
+                // one element at a time until one run wins minGallop times in a row
+                do {
+                    if (comparator.compare(a[cursor2], b[cursor1]) < 0) {
+                        a[destination++] = a[cursor2++];
+                        wins2++;
+                        wins1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        a[destination++] = b[cursor1++];
+                        wins1++;
+                        wins2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((wins1 | wins2) < minGallop);
+                // gallop while it copies long stretches; every success makes galloping start earlier next time
+                do {
+                    wins1 = gallopRight(a[cursor2], b, cursor1, length1, 0);
+                    if (wins1 != 0) {
+                        System.arraycopy(b, cursor1, a, destination, wins1);
+                        destination += wins1;
+                        cursor1 += wins1;
+                        length1 -= wins1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    a[destination++] = a[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+                    wins2 = gallopLeft(b[cursor1], a, cursor2, length2, 0);
+                    if (wins2 != 0) {
+                        System.arraycopy(a, cursor2, a, destination, wins2);
+                        destination += wins2;
+                        cursor2 += wins2;
+                        length2 -= wins2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    a[destination++] = b[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, destination, length2);
+                a[destination + length2] = b[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("comparator is inconsistent");
+            } else {
+                System.arraycopy(b, cursor1, a, destination, length1);
+            }
+        }
+
+        /**
+         * Merges from right to left; the shorter second run is copied to the buffer. Same requirements as
+         * {@link #mergeLow(int, int, int, int)}.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            T[] b = buffer(length2);
+            System.arraycopy(a, base2, b, 0, length2);
+            int cursor1 = base1 + length1 - 1, cursor2 = length2 - 1, destination = base2 + length2 - 1;
+            a[destination--] = a[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(b, 0, a, destination - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, destination + 1, length1);
+                a[destination] = b[cursor2];
+                return;
+            }
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int wins1 = 0, wins2 = 0;
+                do {
+                    if (comparator.compare(b[cursor2], a[cursor1]) < 0) {
+                        a[destination--] = a[cursor1--];
+                        wins1++;
+                        wins2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        a[destination--] = b[cursor2--];
+                        wins2++;
+                        wins1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((wins1 | wins2) < minGallop);
+                do {
+                    wins1 = length1 - gallopRight(b[cursor2], a, base1, length1, length1 - 1);
+                    if (wins1 != 0) {
+                        destination -= wins1;
+                        cursor1 -= wins1;
+                        length1 -= wins1;
+                        System.arraycopy(a, cursor1 + 1, a, destination + 1, wins1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    a[destination--] = b[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+                    wins2 = length2 - gallopLeft(a[cursor1], b, 0, length2, length2 - 1);
+                    if (wins2 != 0) {
+                        destination -= wins2;
+                        cursor2 -= wins2;
+                        length2 -= wins2;
+                        System.arraycopy(b, cursor2 + 1, a, destination + 1, wins2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    a[destination--] = a[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, destination + 1, length1);
+                a[destination] = b[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("comparator is inconsistent");
+            } else {
+                System.arraycopy(b, 0, a, destination - (length2 - 1), length2);
+            }
+        }
+
+        /**
+         * Returns a buffer for at least length elements, which grows geometrically up to the size of the input.
+         */
+        @SuppressWarnings("unchecked")
+        private T[] buffer(int length) {
+            if (buffer.length < length) {
+                buffer = (T[]) new Object[Math.max(length, Math.min(2 * buffer.length, a.length >>> 1))];
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.fbehrens.dsal.sorting.competition;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.sorting.ExternalMergeSort;
+import com.fbehrens.dsal.sorting.ParallelMergeSort;
+import com.fbehrens.dsal.sorting.RecordCodec;
+
+/**
+ * Generates a file of 16-byte records (a random long key and a long payload) and sorts it with
+ * {@link ExternalMergeSort}, with different chunk sizes and fan-ins. The file has 2 GB unless the system property
+ * dsal.externalsort.bytes gives another size; the heap must hold one chunk twice.
+ * <p>
+ * The files are written to a new directory below the one given by the system property dsal.externalsort.dir, which
+ * must be on the disk to be measured and have room for about three times the input. The group is skipped if the
+ * property is not set, and it deletes its files when it is done.
+ */
+public class ExternalSort implements RuntimeComparator.CompetitorGroup {
+    private static final String DIRECTORY = System.getProperty("dsal.externalsort.dir");
+    private static final long BYTES = Long.getLong("dsal.externalsort.bytes", 2L << 30);
+    private static final int RECORD_SIZE = 16;
+
+    private static Path directory, input;
+
+    private static class Record {
+        final long key;
+        final long payload;
+
+        Record(long key, long payload) {
+            this.key = key;
+            this.payload = payload;
+        }
+    }
+
+    private static class Codec implements RecordCodec<Record> {
+        @Override
+        public int recordSize() {
+            return RECORD_SIZE;
+        }
+
+        @Override
+        public Record decode(ByteBuffer buffer) {
+            return new Record(buffer.getLong(), buffer.getLong());
+        }
+
+        @Override
+        public void encode(Record record, ByteBuffer buffer) {
+            buffer.putLong(record.key).putLong(record.payload);
+        }
+    }
+
+    /*
+     * generates the input file once for all competitors
+     */
+    private static void generate() throws IOException {
+        if (input != null) {
+            return;
+        }
+        directory = Files.createTempDirectory(Paths.get(DIRECTORY), "externalsort");
+        input = directory.resolve("input");
+        Random r = new Random(42);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)) {
+            for (long record = 0; record < BYTES / RECORD_SIZE; record++) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                buffer.putLong(r.nextLong()).putLong(record);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static class ExternalMergeSortCompetitor implements RuntimeComparator.Competitor {
+        private final int chunkRecords, fanIn;
+        private Path output;
+
+        ExternalMergeSortCompetitor(int chunkRecords, int fanIn) {
+            this.chunkRecords = chunkRecords;
+            this.fanIn = fanIn;
+        }
+
+        @Override
+        public String getName() {
+            return "ExternalMergeSortCompetitor (chunks of " + chunkRecords + " records, fan-in " + fanIn + ")";
+        }
+
+        @Override
+        public void prepare() {
+            try {
+                generate();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            output = directory.resolve("output");
+        }
+
+        @Override
+        public void run() {
+            ExternalMergeSort<Record> sorter = new ExternalMergeSort<>(new Codec(),
+                    Comparator.comparingLong(record -> record.key), chunkRecords, fanIn,
+                    new ParallelMergeSort<Record>());
+            try {
+                sorter.sort(input, output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void takeDown() {
+            try {
+                Files.deleteIfExists(output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public RuntimeComparator.Competitor[] getCompetitors() {
+        if (DIRECTORY == null) {
+            return new RuntimeComparator.Competitor[0];
+        }
+        return new RuntimeComparator.Competitor[] { new ExternalMergeSortCompetitor(1 << 20, 256),
+                new ExternalMergeSortCompetitor(1 << 20, 8), new ExternalMergeSortCompetitor(1 << 22, 256) };
+    }
+
+    @Override
+    public void takeDown() {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(directory.resolve("output"));
+            Files.deleteIfExists(input);
+            Files.delete(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            directory = input = null;
+        }
+    }
+}
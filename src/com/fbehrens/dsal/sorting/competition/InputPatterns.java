@@ -0,0 +1,122 @@
+package com.fbehrens.dsal.sorting.competition;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.arrays.OArray;
+import com.fbehrens.dsal.sorting.IntroSort;
+import com.fbehrens.dsal.sorting.QuickSort;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+
+/**
+ * Sorts inputs which are bad for naive pivot choices: sorted, reverse sorted, organ pipe (ascending then descending)
+ * and many duplicates. Every competitor sorts each pattern once; the time is the sum over all patterns.
+ */
+public class InputPatterns implements RuntimeComparator.CompetitorGroup {
+    private static final int SIZE = 1000000;
+
+    private static Integer[][] patterns() {
+        Random r = new Random(42);
+        Integer[][] patterns = new Integer[4][SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            patterns[0][i] = i;
+            patterns[1][i] = SIZE - i;
+            patterns[2][i] = i < SIZE / 2 ? i : SIZE - i;
+            patterns[3][i] = r.nextInt(10);
+        }
+        return patterns;
+    }
+
+    private static abstract class PatternCompetitor implements RuntimeComparator.Competitor {
+        protected Integer[][] patterns;
+
+        @Override
+        public void prepare() {
+            patterns = patterns();
+        }
+
+        @Override
+        public void takeDown() {
+            for (Integer[] pattern : patterns) {
+                for (int i = 1; i < pattern.length; i++) {
+                    if (pattern[i - 1] > pattern[i]) {
+                        throw new IllegalStateException(getName() + " did not sort");
+                    }
+                }
+            }
+            patterns = null;
+        }
+    }
+
+    private static class SortingAlgorithmCompetitor extends PatternCompetitor {
+        private final SortingAlgorithm<Integer> alg;
+
+        SortingAlgorithmCompetitor(SortingAlgorithm<Integer> alg) {
+            this.alg = alg;
+        }
+
+        @Override
+        public String getName() {
+            return alg.getClass().getSimpleName() + "Competitor";
+        }
+
+        @Override
+        public void run() {
+            for (Integer[] pattern : patterns) {
+                alg.inPlace(pattern);
+            }
+        }
+    }
+
+    private static class OArrayQuicksortCompetitor extends PatternCompetitor {
+        private OArray<Integer>[] arrays;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void prepare() {
+            super.prepare();
+            arrays = (OArray<Integer>[]) new OArray<?>[patterns.length];
+            for (int p = 0; p < patterns.length; p++) {
+                arrays[p] = new OArray<Integer>();
+                arrays[p].resize(SIZE);
+                for (int i = 0; i < SIZE; i++) {
+                    arrays[p].set(i, patterns[p][i]);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (OArray<Integer> array : arrays) {
+                array.quicksort();
+            }
+        }
+
+        @Override
+        public void takeDown() {
+            for (int p = 0; p < patterns.length; p++) {
+                for (int i = 0; i < SIZE; i++) {
+                    patterns[p][i] = arrays[p].get(i);
+                }
+            }
+            arrays = null;
+            super.takeDown();
+        }
+    }
+
+    private static class ArraysSortCompetitor extends PatternCompetitor {
+        @Override
+        public void run() {
+            for (Integer[] pattern : patterns) {
+                Arrays.sort(pattern);
+            }
+        }
+    }
+
+    public RuntimeComparator.Competitor[] getCompetitors() {
+        return new RuntimeComparator.Competitor[] { new SortingAlgorithmCompetitor(new QuickSort<>()),
+                new SortingAlgorithmCompetitor(new IntroSort<>()), new OArrayQuicksortCompetitor(),
+                new ArraysSortCompetitor() };
+    }
+}
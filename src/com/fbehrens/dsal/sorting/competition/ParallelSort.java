@@ -0,0 +1,64 @@
+package com.fbehrens.dsal.sorting.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.sorting.IntroSort;
+import com.fbehrens.dsal.sorting.ParallelMergeSort;
+import com.fbehrens.dsal.sorting.ParallelQuickSort;
+import com.fbehrens.dsal.sorting.ParallelSampleSort;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+
+/**
+ * Sorts one large random array with the parallel sorting algorithms (on the common fork-join pool, i.e. on all
+ * cores) and, for reference, sequentially with introsort.
+ */
+public class ParallelSort implements RuntimeComparator.CompetitorGroup {
+    private static final int SIZE = 5000000;
+    private static long seed = System.currentTimeMillis();
+
+    private static class SortingAlgorithmCompetitor implements RuntimeComparator.Competitor {
+        private final SortingAlgorithm<Integer> alg;
+        private Integer[] input;
+
+        SortingAlgorithmCompetitor(SortingAlgorithm<Integer> alg) {
+            this.alg = alg;
+        }
+
+        @Override
+        public String getName() {
+            return alg.getClass().getSimpleName() + "Competitor";
+        }
+
+        @Override
+        public void prepare() {
+            Random r = new Random(seed);
+            input = new Integer[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                input[i] = r.nextInt();
+            }
+        }
+
+        @Override
+        public void run() {
+            alg.inPlace(input);
+        }
+
+        @Override
+        public void takeDown() {
+            for (int i = 1; i < SIZE; i++) {
+                if (input[i - 1] > input[i]) {
+                    throw new IllegalStateException(getName() + " did not sort");
+                }
+            }
+            input = null;
+        }
+    }
+
+    public RuntimeComparator.Competitor[] getCompetitors() {
+        return new RuntimeComparator.Competitor[] { new SortingAlgorithmCompetitor(new IntroSort<>()),
+                new SortingAlgorithmCompetitor(new ParallelQuickSort<>()),
+                new SortingAlgorithmCompetitor(new ParallelMergeSort<>()),
+                new SortingAlgorithmCompetitor(new ParallelSampleSort<>()) };
+    }
+}
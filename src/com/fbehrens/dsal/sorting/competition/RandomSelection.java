@@ -0,0 +1,76 @@
+package com.fbehrens.dsal.sorting.competition;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.sorting.IntroSort;
+import com.fbehrens.dsal.sorting.Selection;
+
+/**
+ * Finds the median, the 99 percentiles and the 100 smallest elements of random arrays with {@link Selection},
+ * compared with sorting the whole array, which answers all three questions.
+ */
+public class RandomSelection implements RuntimeComparator.CompetitorGroup {
+    private static final int SIZE = 1000000;
+    private static final int ITERATIONS = 5;
+
+    private static long seed = System.currentTimeMillis();
+
+    private static final int[] PERCENTILES = new int[99];
+
+    static {
+        for (int p = 1; p < 100; p++) {
+            PERCENTILES[p - 1] = Selection.rank(p / 100.0, SIZE);
+        }
+    }
+
+    private static class TaskCompetitor implements RuntimeComparator.Competitor {
+        private final String name;
+        private final Consumer<Integer[]> task;
+        private Integer[][] inputs;
+
+        TaskCompetitor(String name, Consumer<Integer[]> task) {
+            this.name = name;
+            this.task = task;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void prepare() {
+            Random r = new Random(seed);
+            inputs = new Integer[ITERATIONS][SIZE];
+            for (Integer[] input : inputs) {
+                for (int i = 0; i < SIZE; i++) {
+                    input[i] = r.nextInt();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (Integer[] input : inputs) {
+                task.accept(input);
+            }
+        }
+
+        @Override
+        public void takeDown() {
+            inputs = null;
+        }
+    }
+
+    public RuntimeComparator.Competitor[] getCompetitors() {
+        IntroSort<Integer> sort = new IntroSort<>();
+        Selection<Integer> selection = new Selection<>();
+        return new RuntimeComparator.Competitor[] {
+                new TaskCompetitor("IntroSortCompetitor", input -> sort.inPlace(input)),
+                new TaskCompetitor("SelectMedianCompetitor", input -> selection.select(input, SIZE / 2)),
+                new TaskCompetitor("SelectAllPercentilesCompetitor", input -> selection.selectAll(input, PERCENTILES)),
+                new TaskCompetitor("PartialSortTop100Competitor", input -> selection.partialSort(input, 100)) };
+    }
+}
@@ -3,10 +3,16 @@ package com.fbehrens.dsal.sorting.competition;
 import java.util.Random;
 
 import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.sorting.AmericanFlagSort;
 import com.fbehrens.dsal.sorting.InsertionSort;
+import com.fbehrens.dsal.sorting.IntroSort;
+import com.fbehrens.dsal.sorting.LSDRadixSort;
+import com.fbehrens.dsal.sorting.PrimitiveIntroSort;
+import com.fbehrens.dsal.sorting.PrimitiveSortingAlgorithm;
 import com.fbehrens.dsal.sorting.QuickSort;
 import com.fbehrens.dsal.sorting.SelectionSort;
 import com.fbehrens.dsal.sorting.SortingAlgorithm;
+import com.fbehrens.dsal.sorting.TimSort;
 
 public class RandomSort implements RuntimeComparator.CompetitorGroup {
     private static long seed = System.currentTimeMillis();
@@ -22,6 +28,34 @@ public class RandomSort implements RuntimeComparator.CompetitorGroup {
         }
     }
 
+    /*
+     * ascending numbers where every 100th number is replaced by a random one, like appended log records
+     */
+    private static void sortNearlySortedArrays(SortingAlgorithm<Integer> sorter) {
+        Random r = new Random(seed);
+        Integer[] test = new Integer[10000];
+        for (int iteration = 0; iteration < 10; iteration++) {
+            for (int i = 0; i < 10000; i++) {
+                test[i] = r.nextInt(100) == 0 ? r.nextInt(200001) - 100000 : 20 * i - 100000;
+            }
+            sorter.inPlace(test);
+        }
+    }
+
+    /*
+     * the same numbers as sortRandomArrays, but unboxed
+     */
+    private static void sortRandomPrimitiveArrays(PrimitiveSortingAlgorithm sorter) {
+        Random r = new Random(seed);
+        int[] test = new int[10000];
+        for (int iteration = 0; iteration < 10; iteration++) {
+            for (int i = 0; i < 10000; i++) {
+                test[i] = r.nextInt(200001) - 100000; // -100000 ... 100000
+            }
+            sorter.sort(test);
+        }
+    }
+
     private static class SelectionSortCompetitor implements RuntimeComparator.Competitor {
         @Override
         public void run() {
@@ -46,7 +80,67 @@ public class RandomSort implements RuntimeComparator.CompetitorGroup {
         }
     }
 
+    private static class IntroSortCompetitor implements RuntimeComparator.Competitor {
+        @Override
+        public void run() {
+            SortingAlgorithm<Integer> alg = new IntroSort<>();
+            sortRandomArrays(alg);
+        }
+    }
+
+    private static class TimSortCompetitor implements RuntimeComparator.Competitor {
+        @Override
+        public void run() {
+            SortingAlgorithm<Integer> alg = new TimSort<>();
+            sortRandomArrays(alg);
+        }
+    }
+
+    private static class NearlySortedInsertionSortCompetitor implements RuntimeComparator.Competitor {
+        @Override
+        public void run() {
+            sortNearlySortedArrays(new InsertionSort<>());
+        }
+    }
+
+    private static class NearlySortedQuickSortCompetitor implements RuntimeComparator.Competitor {
+        @Override
+        public void run() {
+            sortNearlySortedArrays(new QuickSort<>());
+        }
+    }
+
+    private static class NearlySortedTimSortCompetitor implements RuntimeComparator.Competitor {
+        @Override
+        public void run() {
+            sortNearlySortedArrays(new TimSort<>());
+        }
+    }
+
+    private static class PrimitiveIntroSortCompetitor implements RuntimeComparator.Competitor {
+        @Override
+        public void run() {
+            sortRandomPrimitiveArrays(new PrimitiveIntroSort());
+        }
+    }
+
+    private static class LSDRadixSortCompetitor implements RuntimeComparator.Competitor {
+        @Override
+        public void run() {
+            sortRandomPrimitiveArrays(new LSDRadixSort());
+        }
+    }
+
+    private static class AmericanFlagSortCompetitor implements RuntimeComparator.Competitor {
+        @Override
+        public void run() {
+            sortRandomPrimitiveArrays(new AmericanFlagSort());
+        }
+    }
+
     public RuntimeComparator.Competitor[] getCompetitors() {
-        return new RuntimeComparator.Competitor[] { new SelectionSortCompetitor(), new InsertionSortCompetitor(), new QuickSortCompetitor() };
+        return new RuntimeComparator.Competitor[] { new SelectionSortCompetitor(), new InsertionSortCompetitor(), new QuickSortCompetitor(), new IntroSortCompetitor(),
+                new TimSortCompetitor(), new PrimitiveIntroSortCompetitor(), new LSDRadixSortCompetitor(), new AmericanFlagSortCompetitor(),
+                new NearlySortedInsertionSortCompetitor(), new NearlySortedQuickSortCompetitor(), new NearlySortedTimSortCompetitor() };
     }
 }
@@ -0,0 +1,95 @@
+package com.fbehrens.dsal.sorting.competition;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.sorting.IntroSort;
+import com.fbehrens.dsal.sorting.LSDRadixSort;
+import com.fbehrens.dsal.sorting.PrimitiveIntroSort;
+import com.fbehrens.dsal.sorting.PrimitiveSortingAlgorithm;
+import com.fbehrens.dsal.sorting.QuickSort;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+
+/**
+ * Sorts records by an int field: with a comparator, which loads the field of both records in every comparison, and
+ * with sortByInt, which extracts all fields into an int array once and sorts that together with the positions.
+ */
+public class RecordSort implements RuntimeComparator.CompetitorGroup {
+    private static final int SIZE = 1000000;
+
+    private static class Record {
+        final int id;
+        final int priority;
+
+        Record(int id, int priority) {
+            this.id = id;
+            this.priority = priority;
+        }
+    }
+
+    private static abstract class RecordCompetitor implements RuntimeComparator.Competitor {
+        protected Record[] records;
+
+        @Override
+        public void prepare() {
+            Random r = new Random(42);
+            records = new Record[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                records[i] = new Record(i, r.nextInt(SIZE));
+            }
+        }
+
+        @Override
+        public void takeDown() {
+            for (int i = 1; i < SIZE; i++) {
+                if (records[i - 1].priority > records[i].priority) {
+                    throw new IllegalStateException(getName() + " did not sort");
+                }
+            }
+            records = null;
+        }
+    }
+
+    private static class ComparatorCompetitor extends RecordCompetitor {
+        private final SortingAlgorithm<Record> alg;
+
+        ComparatorCompetitor(SortingAlgorithm<Record> alg) {
+            this.alg = alg;
+        }
+
+        @Override
+        public String getName() {
+            return alg.getClass().getSimpleName() + "ComparatorCompetitor";
+        }
+
+        @Override
+        public void run() {
+            alg.inPlace(records, Comparator.comparingInt(record -> record.priority));
+        }
+    }
+
+    private static class SortByCompetitor extends RecordCompetitor {
+        private final PrimitiveSortingAlgorithm alg;
+
+        SortByCompetitor(PrimitiveSortingAlgorithm alg) {
+            this.alg = alg;
+        }
+
+        @Override
+        public String getName() {
+            return alg.getClass().getSimpleName() + "SortByCompetitor";
+        }
+
+        @Override
+        public void run() {
+            alg.sortByInt(records, record -> record.priority);
+        }
+    }
+
+    public RuntimeComparator.Competitor[] getCompetitors() {
+        return new RuntimeComparator.Competitor[] { new ComparatorCompetitor(new QuickSort<>()),
+                new ComparatorCompetitor(new IntroSort<>()), new SortByCompetitor(new PrimitiveIntroSort()),
+                new SortByCompetitor(new LSDRadixSort()) };
+    }
+}
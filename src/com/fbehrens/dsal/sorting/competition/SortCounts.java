@@ -0,0 +1,189 @@
+package com.fbehrens.dsal.sorting.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.arrays.OArray;
+import com.fbehrens.dsal.sorting.InsertionSort;
+import com.fbehrens.dsal.sorting.IntroSort;
+import com.fbehrens.dsal.sorting.QuickSort;
+import com.fbehrens.dsal.sorting.SelectionSort;
+import com.fbehrens.dsal.sorting.SortCounter;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+import com.fbehrens.dsal.sorting.TimSort;
+
+/**
+ * Sorts several input distributions, small inputs (10^4 elements, 100 times) which fit into the caches and large
+ * inputs (10^6 elements, once) which do not. The timed run follows an untimed warm-up and does not count;
+ * afterwards the same inputs are sorted again with a {@link SortCounter}, and the report shows the comparisons and
+ * element writes per element and the time per comparison. When the time per comparison of an algorithm grows with
+ * the input size, it waits for memory. The quadratic algorithms sort only one small input.
+ */
+public class SortCounts implements RuntimeComparator.CompetitorGroup {
+    private static final int SMALL = 10000, SMALL_ROUNDS = 100;
+    private static final int LARGE = 1000000;
+
+    private enum Distribution {
+        RANDOM, SORTED, REVERSE, FEW_UNIQUE, NEARLY_SORTED;
+
+        Integer[] generate(Random r, int n) {
+            Integer[] a = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                switch (this) {
+                case RANDOM:
+                    a[i] = r.nextInt();
+                    break;
+                case SORTED:
+                    a[i] = i;
+                    break;
+                case REVERSE:
+                    a[i] = n - i;
+                    break;
+                case FEW_UNIQUE:
+                    a[i] = r.nextInt(10);
+                    break;
+                default:
+                    a[i] = r.nextInt(100) == 0 ? r.nextInt(n) : i;
+                }
+            }
+            return a;
+        }
+    }
+
+    private static abstract class CountingCompetitor implements RuntimeComparator.Competitor {
+        private final Distribution distribution;
+        private final int n, rounds;
+        private Integer[][] inputs;
+        private long time;
+        private String report;
+
+        CountingCompetitor(Distribution distribution, int n, int rounds) {
+            this.distribution = distribution;
+            this.n = n;
+            this.rounds = rounds;
+        }
+
+        abstract String algorithm();
+
+        abstract void sort(Integer[] input, SortCounter counter);
+
+        @Override
+        public String getName() {
+            return algorithm() + " (" + distribution + ", " + n + ")";
+        }
+
+        private void generate() {
+            Random r = new Random(42);
+            inputs = new Integer[rounds][];
+            for (int i = 0; i < rounds; i++) {
+                inputs[i] = distribution.generate(r, n);
+            }
+        }
+
+        @Override
+        public void prepare() {
+            // sort everything once, so that the timed run is compiled
+            generate();
+            for (Integer[] input : inputs) {
+                sort(input, SortCounter.NONE);
+            }
+            generate();
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            for (Integer[] input : inputs) {
+                sort(input, SortCounter.NONE);
+            }
+            time = System.nanoTime() - start;
+        }
+
+        @Override
+        public void takeDown() {
+            generate();
+            SortCounter counter = new SortCounter();
+            for (Integer[] input : inputs) {
+                sort(input, counter);
+            }
+            inputs = null;
+            double elements = (double) n * rounds;
+            report = String.format("%.1f comparisons and %.1f writes per element, %.2f ns per comparison",
+                    counter.comparisons() / elements, counter.writes() / elements,
+                    (double) time / Math.max(counter.comparisons(), 1));
+        }
+
+        @Override
+        public String getReport() {
+            return report;
+        }
+    }
+
+    private static class SortingAlgorithmCompetitor extends CountingCompetitor {
+        private final SortingAlgorithm<Integer> alg;
+
+        SortingAlgorithmCompetitor(SortingAlgorithm<Integer> alg, Distribution distribution, int n, int rounds) {
+            super(distribution, n, rounds);
+            this.alg = alg;
+        }
+
+        @Override
+        String algorithm() {
+            return alg.getClass().getSimpleName();
+        }
+
+        @Override
+        void sort(Integer[] input, SortCounter counter) {
+            alg.setCounter(counter);
+            alg.inPlace(input);
+        }
+    }
+
+    private static class OArrayCompetitor extends CountingCompetitor {
+        private final boolean heapsort;
+
+        OArrayCompetitor(boolean heapsort, Distribution distribution, int n, int rounds) {
+            super(distribution, n, rounds);
+            this.heapsort = heapsort;
+        }
+
+        @Override
+        String algorithm() {
+            return heapsort ? "OArray.heapsort" : "OArray.quicksort";
+        }
+
+        @Override
+        void sort(Integer[] input, SortCounter counter) {
+            OArray<Integer> array = new OArray<>();
+            array.resize(input.length);
+            for (int i = 0; i < input.length; i++) {
+                array.set(i, input[i]);
+            }
+            array.setCounter(counter);
+            if (heapsort) {
+                array.heapsort();
+            } else {
+                array.quicksort();
+            }
+        }
+    }
+
+    public RuntimeComparator.Competitor[] getCompetitors() {
+        Distribution[] distributions = Distribution.values();
+        RuntimeComparator.Competitor[] competitors = new RuntimeComparator.Competitor[12 * distributions.length];
+        int c = 0;
+        for (Distribution d : distributions) {
+            competitors[c++] = new SortingAlgorithmCompetitor(new SelectionSort<>(), d, SMALL, 1);
+            competitors[c++] = new SortingAlgorithmCompetitor(new InsertionSort<>(), d, SMALL, 1);
+            for (int n : new int[] { SMALL, LARGE }) {
+                int rounds = n == SMALL ? SMALL_ROUNDS : 1;
+                competitors[c++] = new SortingAlgorithmCompetitor(new QuickSort<>(), d, n, rounds);
+                competitors[c++] = new SortingAlgorithmCompetitor(new IntroSort<>(), d, n, rounds);
+                competitors[c++] = new SortingAlgorithmCompetitor(new TimSort<>(), d, n, rounds);
+                competitors[c++] = new OArrayCompetitor(false, d, n, rounds);
+                competitors[c++] = new OArrayCompetitor(true, d, n, rounds);
+            }
+        }
+        return competitors;
+    }
+}
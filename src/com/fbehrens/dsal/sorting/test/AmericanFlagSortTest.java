@@ -0,0 +1,11 @@
+package com.fbehrens.dsal.sorting.test;
+
+import com.fbehrens.dsal.sorting.AmericanFlagSort;
+import com.fbehrens.dsal.sorting.PrimitiveSortingAlgorithm;
+
+public class AmericanFlagSortTest extends PrimitiveSortingTest {
+
+    public PrimitiveSortingAlgorithm getAlg() {
+        return new AmericanFlagSort();
+    }
+}
@@ -0,0 +1,139 @@
+package com.fbehrens.dsal.sorting.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fbehrens.dsal.sorting.ExternalMergeSort;
+import com.fbehrens.dsal.sorting.RecordCodec;
+import com.fbehrens.dsal.sorting.TimSort;
+
+public class ExternalMergeSortTest {
+    private Path directory, input, output;
+
+    /**
+     * A long key and the position of the record in the input.
+     */
+    private static class Record {
+        final long key;
+        final int position;
+
+        Record(long key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+    }
+
+    private static class Codec implements RecordCodec<Record> {
+        @Override
+        public int recordSize() {
+            return 12;
+        }
+
+        @Override
+        public Record decode(ByteBuffer buffer) {
+            return new Record(buffer.getLong(), buffer.getInt());
+        }
+
+        @Override
+        public void encode(Record record, ByteBuffer buffer) {
+            buffer.putLong(record.key).putInt(record.position);
+        }
+    }
+
+    private final Comparator<Record> byKey = Comparator.comparingLong(record -> record.key);
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("sort");
+        input = directory.resolve("input");
+        output = directory.resolve("output");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private void write(int n, int keys) throws IOException {
+        Random random = new Random();
+        ByteBuffer buffer = ByteBuffer.allocate(12 * n);
+        for (int i = 0; i < n; i++) {
+            buffer.putLong(random.nextInt(keys) - keys / 2).putInt(i);
+        }
+        Files.write(input, buffer.array());
+    }
+
+    /**
+     * Checks that output is a stable sorted permutation of n records.
+     */
+    private void check(int n) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertEquals(12 * n, buffer.remaining());
+        boolean[] seen = new boolean[n];
+        long lastKey = Long.MIN_VALUE;
+        int lastPosition = -1;
+        for (int i = 0; i < n; i++) {
+            long key = buffer.getLong();
+            int position = buffer.getInt();
+            assertTrue(lastKey < key || lastKey == key && lastPosition < position);
+            assertTrue(!seen[position]);
+            seen[position] = true;
+            lastKey = key;
+            lastPosition = position;
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        write(0, 1);
+        new ExternalMergeSort<>(new Codec(), byKey).sort(input, output);
+        check(0);
+    }
+
+    @Test
+    public void testOneChunk() throws IOException {
+        write(1000, 100);
+        new ExternalMergeSort<>(new Codec(), byKey).sort(input, output);
+        check(1000);
+    }
+
+    /**
+     * 100 runs with a fan-in of 4 need several merge passes. No temporary run may be left over.
+     */
+    @Test
+    public void testMergePasses() throws IOException {
+        write(100000, 1000);
+        new ExternalMergeSort<>(new Codec(), byKey, 1000, 4, new TimSort<Record>()).sort(input, output);
+        check(100000);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            int count = 0;
+            for (Path file : files) {
+                count++;
+            }
+            assertEquals(2, count);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncated() throws IOException {
+        Files.write(input, new byte[25]);
+        new ExternalMergeSort<>(new Codec(), byKey).sort(input, output);
+    }
+}
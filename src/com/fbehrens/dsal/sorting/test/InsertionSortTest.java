@@ -5,7 +5,7 @@ import com.fbehrens.dsal.sorting.SortingAlgorithm;
 
 public class InsertionSortTest extends SortingTest {
 
-    public <T extends Comparable<T>> SortingAlgorithm<T> getAlg() {
+    public <T> SortingAlgorithm<T> getAlg() {
         return new InsertionSort<>();
     }
 }
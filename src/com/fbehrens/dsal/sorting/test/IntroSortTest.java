@@ -0,0 +1,11 @@
+package com.fbehrens.dsal.sorting.test;
+
+import com.fbehrens.dsal.sorting.IntroSort;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+
+public class IntroSortTest extends SortingTest {
+
+    public <T> SortingAlgorithm<T> getAlg() {
+        return new IntroSort<>();
+    }
+}
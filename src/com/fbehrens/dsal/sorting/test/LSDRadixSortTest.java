@@ -0,0 +1,32 @@
+package com.fbehrens.dsal.sorting.test;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.sorting.LSDRadixSort;
+import com.fbehrens.dsal.sorting.PrimitiveSortingAlgorithm;
+
+public class LSDRadixSortTest extends PrimitiveSortingTest {
+
+    public PrimitiveSortingAlgorithm getAlg() {
+        return new LSDRadixSort();
+    }
+
+    @Test
+    public void testStable() {
+        Random random = new Random();
+        long[] keys = new long[10000];
+        int[] positions = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(100) - 50;
+            positions[i] = i;
+        }
+        getAlg().sort(keys, positions);
+        for (int i = 1; i < keys.length; i++) {
+            assertTrue(keys[i - 1] < keys[i] || keys[i - 1] == keys[i] && positions[i - 1] < positions[i]);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.fbehrens.dsal.sorting.test;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import com.fbehrens.dsal.sorting.ParallelMergeSort;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+
+public class ParallelMergeSortTest extends SortingTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutDown() {
+        POOL.shutdown();
+    }
+
+    // a small cutoff, so that the tests reach the parallel code
+    public <T> SortingAlgorithm<T> getAlg() {
+        return new ParallelMergeSort<>(POOL, 8);
+    }
+
+    private static class Tagged implements Comparable<Tagged> {
+        final int key, tag;
+
+        Tagged(int key, int tag) {
+            this.key = key;
+            this.tag = tag;
+        }
+
+        @Override
+        public int compareTo(Tagged o) {
+            return Integer.compare(key, o.key);
+        }
+    }
+
+    @Test
+    public void testStable() {
+        Random random = new Random();
+        Tagged[] input = new Tagged[5000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = new Tagged(random.nextInt(20), i);
+        }
+        SortingAlgorithm<Tagged> sorter = getAlg();
+        sorter.inPlace(input);
+        for (int i = 1; i < input.length; i++) {
+            assertTrue(input[i - 1].key < input[i].key
+                    || input[i - 1].key == input[i].key && input[i - 1].tag < input[i].tag);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.fbehrens.dsal.sorting.test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+
+import com.fbehrens.dsal.sorting.ParallelQuickSort;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+
+public class ParallelQuickSortTest extends SortingTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutDown() {
+        POOL.shutdown();
+    }
+
+    // a small cutoff, so that the tests reach the parallel code
+    public <T> SortingAlgorithm<T> getAlg() {
+        return new ParallelQuickSort<>(POOL, 8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fbehrens.dsal.sorting.test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import com.fbehrens.dsal.sorting.ParallelSampleSort;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+
+public class ParallelSampleSortTest extends SortingTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutDown() {
+        POOL.shutdown();
+    }
+
+    // a small cutoff, so that the tests reach the parallel code
+    public <T> SortingAlgorithm<T> getAlg() {
+        return new ParallelSampleSort<>(POOL, 8);
+    }
+
+    @Test
+    public void testFewDistinctKeys() {
+        // most splitters are equal, so nearly all keys go to the equality buckets
+        Random random = new Random(1);
+        SortingAlgorithm<Integer> sorter = getAlg();
+        for (int distinct : new int[] { 1, 2, 3, 17 }) {
+            Integer[] testCase = new Integer[5000];
+            for (int i = 0; i < testCase.length; i++) {
+                testCase[i] = random.nextInt(distinct);
+            }
+            Integer[] expected = testCase.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, sorter.sorted(testCase));
+        }
+    }
+}
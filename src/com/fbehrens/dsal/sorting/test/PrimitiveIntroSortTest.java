@@ -0,0 +1,11 @@
+package com.fbehrens.dsal.sorting.test;
+
+import com.fbehrens.dsal.sorting.PrimitiveIntroSort;
+import com.fbehrens.dsal.sorting.PrimitiveSortingAlgorithm;
+
+public class PrimitiveIntroSortTest extends PrimitiveSortingTest {
+
+    public PrimitiveSortingAlgorithm getAlg() {
+        return new PrimitiveIntroSort();
+    }
+}
@@ -0,0 +1,143 @@
+package com.fbehrens.dsal.sorting.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.sorting.PrimitiveSortingAlgorithm;
+
+public abstract class PrimitiveSortingTest {
+    private static Random random = new Random();
+
+    public abstract PrimitiveSortingAlgorithm getAlg();
+
+    @Test
+    public void testEmpty() {
+        int[] ints = new int[] { };
+        getAlg().sort(ints);
+        assertArrayEquals(new int[] { }, ints);
+        long[] longs = new long[] { };
+        getAlg().sort(longs, new int[] { });
+        assertArrayEquals(new long[] { }, longs);
+    }
+
+    @Test
+    public void testInts() {
+        int[] ints = new int[] { 5, -3, Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 256, 255, 1 << 24, -(1 << 24) };
+        getAlg().sort(ints);
+        assertArrayEquals(
+                new int[] { Integer.MIN_VALUE, -(1 << 24), -3, -1, 0, 5, 255, 256, 1 << 24, Integer.MAX_VALUE }, ints);
+    }
+
+    @Test
+    public void testLongs() {
+        long[] longs = new long[] { 5, -3, Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, 1L << 40, -(1L << 56),
+                Integer.MIN_VALUE };
+        getAlg().sort(longs);
+        assertArrayEquals(new long[] { Long.MIN_VALUE, -(1L << 56), Integer.MIN_VALUE, -3, -1, 0, 5, 1L << 40,
+                Long.MAX_VALUE }, longs);
+    }
+
+    @Test
+    public void testDoubles() {
+        double[] doubles = new double[] { 1.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -1.5, Double.MIN_VALUE,
+                -Double.MAX_VALUE, -2.0, Double.POSITIVE_INFINITY };
+        double[] expected = doubles.clone();
+        Arrays.sort(expected);
+        getAlg().sort(doubles);
+        assertArrayEquals(expected, doubles, 0.0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(doubles[4]));
+        assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(doubles[5]));
+    }
+
+    @Test
+    public void testRandomInts() {
+        for (int n : new int[] { 10, 100, 1000, 100000 }) {
+            int[] ints = new int[n];
+            for (int i = 0; i < n; i++) {
+                ints[i] = random.nextInt();
+            }
+            int[] expected = ints.clone();
+            Arrays.sort(expected);
+            getAlg().sort(ints);
+            assertArrayEquals(expected, ints);
+        }
+    }
+
+    @Test
+    public void testRandomLongs() {
+        for (int n : new int[] { 10, 100, 1000, 100000 }) {
+            long[] longs = new long[n];
+            for (int i = 0; i < n; i++) {
+                longs[i] = i % 2 == 0 ? random.nextLong() : random.nextInt(1000) - 500;
+            }
+            long[] expected = longs.clone();
+            Arrays.sort(expected);
+            getAlg().sort(longs);
+            assertArrayEquals(expected, longs);
+        }
+    }
+
+    @Test
+    public void testDuplicates() {
+        int[] ints = new int[50000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt(3) - 1;
+        }
+        int[] expected = ints.clone();
+        Arrays.sort(expected);
+        getAlg().sort(ints);
+        assertArrayEquals(expected, ints);
+    }
+
+    /**
+     * The values must still belong to their keys after sorting.
+     */
+    @Test
+    public void testValues() {
+        int n = 20000;
+        int[] ints = new int[n];
+        long[] longs = new long[n];
+        double[] doubles = new double[n];
+        int[] intValues = new int[n], longValues = new int[n], doubleValues = new int[n];
+        for (int i = 0; i < n; i++) {
+            ints[i] = random.nextInt(n) - n / 2;
+            longs[i] = (long) ints[i] << 20;
+            doubles[i] = ints[i] / 3.0;
+            intValues[i] = longValues[i] = doubleValues[i] = ints[i];
+        }
+        getAlg().sort(ints, intValues);
+        getAlg().sort(longs, longValues);
+        getAlg().sort(doubles, doubleValues);
+        for (int i = 0; i < n; i++) {
+            assertEquals(ints[i], intValues[i]);
+            assertEquals(longs[i], (long) longValues[i] << 20);
+            assertEquals(doubles[i], doubleValues[i] / 3.0, 0.0);
+        }
+        for (int i = 1; i < n; i++) {
+            assertTrue(ints[i - 1] <= ints[i]);
+            assertTrue(longs[i - 1] <= longs[i]);
+            assertTrue(doubles[i - 1] <= doubles[i]);
+        }
+    }
+
+    @Test
+    public void testSortBy() {
+        String[] words = new String[] { "ccc", "a", "dddd", "bb", "" };
+        getAlg().sortByInt(words, String::length);
+        assertArrayEquals(new String[] { "", "a", "bb", "ccc", "dddd" }, words);
+        Long[] longs = new Long[1000];
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = random.nextLong();
+        }
+        Long[] expected = longs.clone();
+        Arrays.sort(expected);
+        getAlg().sortByLong(longs, l -> l);
+        assertArrayEquals(expected, longs);
+    }
+}
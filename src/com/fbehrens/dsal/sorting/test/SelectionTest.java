@@ -0,0 +1,131 @@
+package com.fbehrens.dsal.sorting.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.sorting.Selection;
+
+public class SelectionTest {
+    private static Random random = new Random();
+    private final Selection<Integer> selection = new Selection<>();
+
+    private static Integer[] randomArray(int n, int range) {
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(range);
+        }
+        return a;
+    }
+
+    /**
+     * Checks that a[k] has rank k and that a is split around it.
+     */
+    private static void assertSelected(Integer[] original, Integer[] a, int k) {
+        Integer[] sorted = original.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted[k], a[k]);
+        for (int i = 0; i < k; i++) {
+            assertTrue(a[i] <= a[k]);
+        }
+        for (int i = k + 1; i < a.length; i++) {
+            assertTrue(a[i] >= a[k]);
+        }
+        Integer[] permutation = a.clone();
+        Arrays.sort(permutation);
+        assertArrayEquals(sorted, permutation);
+    }
+
+    @Test
+    public void testSelect() {
+        for (int n : new int[] { 1, 2, 10, 601, 1000, 100000 }) {
+            for (int range : new int[] { 3, Integer.MAX_VALUE }) {
+                Integer[] original = randomArray(n, range);
+                for (int k : new int[] { 0, n / 2, n - 1, random.nextInt(n) }) {
+                    Integer[] a = original.clone();
+                    Integer selected = selection.select(a, k);
+                    assertEquals(a[k], selected);
+                    assertSelected(original, a, k);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPatterns() {
+        int n = 50000;
+        Integer[][] patterns = new Integer[3][n];
+        for (int i = 0; i < n; i++) {
+            patterns[0][i] = i;
+            patterns[1][i] = n - i;
+            patterns[2][i] = i < n / 2 ? i : n - i;
+        }
+        for (Integer[] pattern : patterns) {
+            Integer[] a = pattern.clone();
+            selection.select(a, n / 3);
+            assertSelected(pattern, a, n / 3);
+        }
+    }
+
+    @Test
+    public void testComparator() {
+        Integer[] a = new Integer[] { 5, 1, 4, 2, 3 };
+        assertEquals(Integer.valueOf(4), selection.select(a, 1, Comparator.reverseOrder()));
+    }
+
+    @Test
+    public void testPartialSort() {
+        Integer[] original = randomArray(10000, 1000);
+        Integer[] sorted = original.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[] { 0, 1, 10, 5000, 10000 }) {
+            Integer[] a = original.clone();
+            selection.partialSort(a, k);
+            assertArrayEquals(Arrays.copyOf(sorted, k), Arrays.copyOf(a, k));
+            for (int i = k; i < a.length; i++) {
+                assertTrue(a[i] >= sorted[Math.max(k - 1, 0)]);
+            }
+        }
+    }
+
+    @Test
+    public void testSelectAll() {
+        Integer[] original = randomArray(100000, 100000);
+        Integer[] sorted = original.clone();
+        Arrays.sort(sorted);
+        int[] ranks = new int[99];
+        for (int p = 1; p < 100; p++) {
+            ranks[p - 1] = Selection.rank(p / 100.0, original.length);
+        }
+        Integer[] a = original.clone();
+        selection.selectAll(a, new int[] { ranks[98], 0, ranks[49], ranks[49], ranks[0] });
+        assertEquals(sorted[0], a[0]);
+        assertEquals(sorted[ranks[0]], a[ranks[0]]);
+        assertEquals(sorted[ranks[49]], a[ranks[49]]);
+        assertEquals(sorted[ranks[98]], a[ranks[98]]);
+        a = original.clone();
+        selection.selectAll(a, ranks);
+        for (int r : ranks) {
+            assertEquals(sorted[r], a[r]);
+        }
+    }
+
+    @Test
+    public void testRank() {
+        assertEquals(0, Selection.rank(0, 10));
+        assertEquals(4, Selection.rank(0.5, 10));
+        assertEquals(5, Selection.rank(0.5, 11));
+        assertEquals(9, Selection.rank(1, 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRank() {
+        selection.select(new Integer[] { 1, 2 }, 2);
+    }
+}
@@ -0,0 +1,135 @@
+package com.fbehrens.dsal.sorting.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.arrays.OArray;
+import com.fbehrens.dsal.sorting.InsertionSort;
+import com.fbehrens.dsal.sorting.ParallelMergeSort;
+import com.fbehrens.dsal.sorting.ParallelQuickSort;
+import com.fbehrens.dsal.sorting.ParallelSampleSort;
+import com.fbehrens.dsal.sorting.Selection;
+import com.fbehrens.dsal.sorting.SortCounter;
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+import com.fbehrens.dsal.sorting.TimSort;
+
+public class SortCounterTest {
+    private static Integer[] ascending(int n) {
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = i;
+        }
+        return a;
+    }
+
+    private static Integer[] descending(int n) {
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = n - i;
+        }
+        return a;
+    }
+
+    @Test
+    public void testInsertionSort() {
+        SortCounter counter = new SortCounter();
+        SortingAlgorithm<Integer> alg = new InsertionSort<>();
+        alg.setCounter(counter);
+        alg.inPlace(descending(100));
+        assertEquals(100 * 99 / 2, counter.comparisons());
+        assertEquals(100 * 99 / 2, counter.swaps());
+        assertEquals(100 * 99, counter.writes());
+        counter.reset();
+        alg.inPlace(ascending(100), Comparator.naturalOrder());
+        assertEquals(99, counter.comparisons());
+        assertEquals(0, counter.swaps());
+    }
+
+    @Test
+    public void testTimSort() {
+        SortCounter counter = new SortCounter();
+        SortingAlgorithm<Integer> alg = new TimSort<>();
+        alg.setCounter(counter);
+        alg.inPlace(ascending(1000));
+        assertEquals(999, counter.comparisons());
+        assertEquals(0, counter.writes());
+        counter.reset();
+        alg.inPlace(descending(1000));
+        assertEquals(999, counter.comparisons());
+        assertEquals(500, counter.swaps());
+    }
+
+    @Test
+    public void testOArray() {
+        SortCounter counter = new SortCounter();
+        OArray<Integer> array = new OArray<>();
+        array.resize(1000);
+        for (int i = 0; i < 1000; i++) {
+            array.set(i, 1000 - i);
+        }
+        array.setCounter(counter);
+        array.heapsort();
+        long comparisons = counter.comparisons();
+        assertTrue(comparisons > 1000 && comparisons < 2 * 1000 * 10);
+        assertTrue(counter.writes() > 0);
+    }
+
+    private static Integer[] random(int n) {
+        Random random = new Random(n);
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(n);
+        }
+        return a;
+    }
+
+    @Test
+    public void testParallel() {
+        // the tasks share the counter, and the sequential sorts inside them report to it as well
+        ForkJoinPool pool = new ForkJoinPool(4);
+        for (SortingAlgorithm<Integer> alg : Arrays.asList(new ParallelQuickSort<Integer>(pool, 64),
+                new ParallelMergeSort<Integer>(pool, 64), new ParallelSampleSort<Integer>(pool, 64))) {
+            SortCounter counter = new SortCounter();
+            AtomicLong calls = new AtomicLong();
+            alg.setCounter(counter);
+            alg.inPlace(random(100000), (a, b) -> {
+                calls.incrementAndGet();
+                return a.compareTo(b);
+            });
+            assertEquals(calls.get(), counter.comparisons());
+            assertTrue(counter.writes() >= 100000);
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSelection() {
+        SortCounter counter = new SortCounter();
+        AtomicLong calls = new AtomicLong();
+        Selection<Integer> selection = new Selection<>();
+        selection.setCounter(counter);
+        selection.partialSort(random(10000), 100, (a, b) -> {
+            calls.incrementAndGet();
+            return a.compareTo(b);
+        });
+        assertEquals(calls.get(), counter.comparisons());
+        assertTrue(counter.swaps() > 0);
+    }
+
+    @Test
+    public void testNone() {
+        SortingAlgorithm<Integer> alg = new InsertionSort<>();
+        alg.setCounter(SortCounter.NONE);
+        alg.inPlace(descending(100));
+        assertEquals(0, SortCounter.NONE.comparisons());
+        assertEquals(0, SortCounter.NONE.writes());
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
 
 import org.junit.Before;
@@ -16,7 +18,7 @@ public abstract class SortingTest {
     private SortingAlgorithm<Integer> intSorter;
     private SortingAlgorithm<String> stringSorter;
 
-    public abstract <T extends Comparable<T>> SortingAlgorithm<T> getAlg();
+    public abstract <T> SortingAlgorithm<T> getAlg();
 
     @Before
     public void setUp() {
@@ -90,4 +92,54 @@ public abstract class SortingTest {
             assertTrue(sorted[i] <= sorted[i + 1]);
         }
     }
+
+    @Test
+    public void testPatterns() {
+        int n = 2000;
+        Integer[][] patterns = new Integer[4][n];
+        for (int i = 0; i < n; i++) {
+            patterns[0][i] = i;                           // sorted
+            patterns[1][i] = n - i;                       // reverse
+            patterns[2][i] = i < n / 2 ? i : n - i;       // organ pipe
+            patterns[3][i] = random.nextInt(4);           // many duplicates
+        }
+        for (Integer[] pattern : patterns) {
+            Integer[] expected = pattern.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, intSorter.sorted(pattern));
+        }
+    }
+
+    @Test
+    public void testComparator() {
+        Integer[] testCase = new Integer[] { 17, 5, -3, 9, -55, 5 };
+        Integer[] sorted = intSorter.sorted(testCase, Comparator.reverseOrder());
+        assertArrayEquals(new Integer[] { 17, 9, 5, 5, -3, -55 }, sorted);
+        String[] words = new String[] { "ccc", "a", "dddd", "bb" };
+        stringSorter.inPlace(words, Comparator.comparingInt(String::length));
+        assertArrayEquals(new String[] { "a", "bb", "ccc", "dddd" }, words);
+    }
+
+    private static class Point {
+        final int x, y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @Test
+    public void testNotComparable() {
+        Point[] points = new Point[500];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Point(random.nextInt(100), random.nextInt(100));
+        }
+        SortingAlgorithm<Point> pointSorter = getAlg();
+        pointSorter.inPlace(points, Comparator.<Point> comparingInt(p -> p.x).thenComparingInt(p -> p.y));
+        for (int i = 1; i < points.length; i++) {
+            assertTrue(points[i - 1].x < points[i].x
+                    || points[i - 1].x == points[i].x && points[i - 1].y <= points[i].y);
+        }
+    }
 }
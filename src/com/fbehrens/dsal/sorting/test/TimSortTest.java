@@ -0,0 +1,60 @@
+package com.fbehrens.dsal.sorting.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.sorting.SortingAlgorithm;
+import com.fbehrens.dsal.sorting.TimSort;
+
+public class TimSortTest extends SortingTest {
+
+    public <T> SortingAlgorithm<T> getAlg() {
+        return new TimSort<>();
+    }
+
+    @Test
+    public void testStable() {
+        Random random = new Random();
+        int[][] pairs = new int[20000][];
+        for (int i = 0; i < pairs.length; i++) {
+            // ascending stretches with few distinct keys, so that the merges gallop over equal keys
+            pairs[i] = new int[] { i % 1000 < 500 ? i / 100 % 20 : random.nextInt(20), i };
+        }
+        SortingAlgorithm<int[]> sorter = getAlg();
+        sorter.inPlace(pairs, Comparator.comparingInt(pair -> pair[0]));
+        for (int i = 1; i < pairs.length; i++) {
+            assertTrue(pairs[i - 1][0] < pairs[i][0]
+                    || pairs[i - 1][0] == pairs[i][0] && pairs[i - 1][1] < pairs[i][1]);
+        }
+    }
+
+    /**
+     * Inputs with long runs in both directions, which exercise run detection and galloping.
+     */
+    @Test
+    public void testRuns() {
+        Random random = new Random();
+        for (int n : new int[] { 31, 32, 1000, 65537, 100000 }) {
+            Integer[][] inputs = new Integer[5][n];
+            int run = 1 + random.nextInt(200);
+            for (int i = 0; i < n; i++) {
+                inputs[0][i] = i % 100 == 0 ? random.nextInt(n) : i;             // sorted with noise
+                inputs[1][i] = i / run % 2 == 0 ? i % run : run - i % run;       // ascending and descending runs
+                inputs[2][i] = i < n / 2 ? 2 * i : 2 * (i - n / 2) + 1;          // two interleaved sorted halves
+                inputs[3][i] = i < n - 10 ? i : random.nextInt(n);               // appended records
+                inputs[4][i] = random.nextInt(n);
+            }
+            for (Integer[] input : inputs) {
+                Integer[] expected = input.clone();
+                Arrays.sort(expected);
+                assertArrayEquals(expected, getAlg().sorted(input));
+            }
+        }
+    }
+}
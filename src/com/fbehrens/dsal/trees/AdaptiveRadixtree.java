@@ -0,0 +1,809 @@
+package com.fbehrens.dsal.trees;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import com.fbehrens.dsal.Dictionary;
+import com.fbehrens.dsal.Iterator;
+import com.fbehrens.dsal.Map;
+import com.fbehrens.dsal.arrays.Array;
+
+/**
+ * A node of an {@link AdaptiveRadixtree}, i.e., either a leaf or an inner node.
+ */
+abstract class ARTnode {
+}
+
+/**
+ * A leaf of an {@link AdaptiveRadixtree}. It stores the original key, the
+ * data, and the complete byte representation of the key, so that a lookup can
+ * finish with a single comparison.
+ */
+class ARTleaf<K, D> extends ARTnode {
+	final byte[] bytes;
+	K key;
+	D data;
+
+	ARTleaf(byte[] b, K k, D d) {
+		bytes = b;
+		key = k;
+		data = d;
+	}
+
+	/**
+	 * Checks whether this leaf stores exactly the byte sequence b.
+	 */
+	boolean matches(byte[] b) {
+		if (b.length != bytes.length)
+			return false;
+		for (int i = 0; i < b.length; i++)
+			if (b[i] != bytes[i])
+				return false;
+		return true;
+	}
+}
+
+/**
+ * An inner node of an {@link AdaptiveRadixtree}. All keys below an inner node
+ * share the bytes of the path to the node, followed by the (compressed)
+ * prefix stored in the node. A key which ends right after the prefix is stored
+ * in the terminal leaf, all other keys are stored below the child for their
+ * next byte. The subclasses differ in how the children are stored: 4, 16, 48,
+ * or 256 child slots. Bytes are handled as unsigned values 0..255.
+ */
+abstract class ARTinner extends ARTnode {
+	byte[] prefix;
+	ARTleaf<?, ?> terminal;
+	int count;
+
+	ARTinner(byte[] p) {
+		prefix = p;
+	}
+
+	/**
+	 * Returns the child for byte b, or null if there is none.
+	 */
+	abstract ARTnode find(int b);
+
+	/**
+	 * Stores c as child for byte b. If there is no child for b yet, this node
+	 * must not be {@link #full()}.
+	 */
+	abstract void put(int b, ARTnode c);
+
+	/**
+	 * Removes the child for byte b, which must be present.
+	 */
+	abstract void remove(int b);
+
+	/**
+	 * Returns the smallest byte &ge; b which has a child, or 256 if there is
+	 * none.
+	 */
+	abstract int nextkey(int b);
+
+	/**
+	 * Returns the largest byte which has a child, or -1 if there is none.
+	 */
+	abstract int lastkey();
+
+	abstract boolean full();
+
+	/**
+	 * Returns a node of the next larger type with the same content.
+	 */
+	abstract ARTinner grow();
+
+	/**
+	 * Returns a node of a smaller type with the same content if this node is
+	 * sparsely filled, or this node, otherwise.
+	 */
+	abstract ARTinner shrink();
+
+	/**
+	 * Copies prefix, terminal and all children of this node into n.
+	 */
+	ARTinner copyto(ARTinner n) {
+		n.terminal = terminal;
+		for (int b = nextkey(0); b < 256; b = nextkey(b + 1))
+			n.put(b, find(b));
+		return n;
+	}
+}
+
+/**
+ * Inner node with up to 4 children, stored with their bytes in sorted order.
+ */
+class ARTnode4 extends ARTinner {
+	final byte[] keys = new byte[4];
+	final ARTnode[] children = new ARTnode[4];
+
+	ARTnode4(byte[] p) {
+		super(p);
+	}
+
+	ARTnode find(int b) {
+		for (int i = 0; i < count; i++)
+			if ((keys[i] & 0xff) == b)
+				return children[i];
+		return null;
+	}
+
+	void put(int b, ARTnode c) {
+		int i = 0;
+		while (i < count && (keys[i] & 0xff) < b)
+			i++;
+		if (i < count && (keys[i] & 0xff) == b) {
+			children[i] = c;
+			return;
+		}
+		for (int j = count; j > i; j--) {
+			keys[j] = keys[j - 1];
+			children[j] = children[j - 1];
+		}
+		keys[i] = (byte) b;
+		children[i] = c;
+		count++;
+	}
+
+	void remove(int b) {
+		int i = 0;
+		while ((keys[i] & 0xff) != b)
+			i++;
+		count--;
+		for (; i < count; i++) {
+			keys[i] = keys[i + 1];
+			children[i] = children[i + 1];
+		}
+		children[count] = null;
+	}
+
+	int nextkey(int b) {
+		for (int i = 0; i < count; i++)
+			if ((keys[i] & 0xff) >= b)
+				return keys[i] & 0xff;
+		return 256;
+	}
+
+	int lastkey() {
+		return count == 0 ? -1 : keys[count - 1] & 0xff;
+	}
+
+	boolean full() {
+		return count == 4;
+	}
+
+	ARTinner grow() {
+		return copyto(new ARTnode16(prefix));
+	}
+
+	ARTinner shrink() {
+		return this;
+	}
+}
+
+/**
+ * Inner node with up to 16 children, stored with their bytes in sorted order.
+ */
+class ARTnode16 extends ARTinner {
+	final byte[] keys = new byte[16];
+	final ARTnode[] children = new ARTnode[16];
+
+	ARTnode16(byte[] p) {
+		super(p);
+	}
+
+	/*
+	 * binary search for the position of b, or the position where b has to be
+	 * inserted
+	 */
+	private int position(int b) {
+		int l = 0, r = count;
+		while (l < r) {
+			int m = (l + r) >>> 1;
+			if ((keys[m] & 0xff) < b)
+				l = m + 1;
+			else
+				r = m;
+		}
+		return l;
+	}
+
+	ARTnode find(int b) {
+		int i = position(b);
+		return i < count && (keys[i] & 0xff) == b ? children[i] : null;
+	}
+
+	void put(int b, ARTnode c) {
+		int i = position(b);
+		if (i < count && (keys[i] & 0xff) == b) {
+			children[i] = c;
+			return;
+		}
+		System.arraycopy(keys, i, keys, i + 1, count - i);
+		System.arraycopy(children, i, children, i + 1, count - i);
+		keys[i] = (byte) b;
+		children[i] = c;
+		count++;
+	}
+
+	void remove(int b) {
+		int i = position(b);
+		count--;
+		System.arraycopy(keys, i + 1, keys, i, count - i);
+		System.arraycopy(children, i + 1, children, i, count - i);
+		children[count] = null;
+	}
+
+	int nextkey(int b) {
+		int i = position(b);
+		return i < count ? keys[i] & 0xff : 256;
+	}
+
+	int lastkey() {
+		return count == 0 ? -1 : keys[count - 1] & 0xff;
+	}
+
+	boolean full() {
+		return count == 16;
+	}
+
+	ARTinner grow() {
+		return copyto(new ARTnode48(prefix));
+	}
+
+	ARTinner shrink() {
+		return count <= 3 ? copyto(new ARTnode4(prefix)) : this;
+	}
+}
+
+/**
+ * Inner node with up to 48 children. A table with 256 entries maps each byte
+ * to the slot of its child (plus 1, so that 0 means no child).
+ */
+class ARTnode48 extends ARTinner {
+	final byte[] index = new byte[256];
+	final ARTnode[] children = new ARTnode[48];
+
+	ARTnode48(byte[] p) {
+		super(p);
+	}
+
+	ARTnode find(int b) {
+		int i = index[b];
+		return i == 0 ? null : children[i - 1];
+	}
+
+	void put(int b, ARTnode c) {
+		int i = index[b];
+		if (i != 0) {
+			children[i - 1] = c;
+			return;
+		}
+		/*
+		 * look for a free slot, slots become free again by remove()
+		 */
+		int s = 0;
+		while (children[s] != null)
+			s++;
+		children[s] = c;
+		index[b] = (byte) (s + 1);
+		count++;
+	}
+
+	void remove(int b) {
+		children[index[b] - 1] = null;
+		index[b] = 0;
+		count--;
+	}
+
+	int nextkey(int b) {
+		while (b < 256 && index[b] == 0)
+			b++;
+		return b;
+	}
+
+	int lastkey() {
+		int b = 255;
+		while (b >= 0 && index[b] == 0)
+			b--;
+		return b;
+	}
+
+	boolean full() {
+		return count == 48;
+	}
+
+	ARTinner grow() {
+		return copyto(new ARTnode256(prefix));
+	}
+
+	ARTinner shrink() {
+		return count <= 12 ? copyto(new ARTnode16(prefix)) : this;
+	}
+}
+
+/**
+ * Inner node with a child slot for every possible byte.
+ */
+class ARTnode256 extends ARTinner {
+	final ARTnode[] children = new ARTnode[256];
+
+	ARTnode256(byte[] p) {
+		super(p);
+	}
+
+	ARTnode find(int b) {
+		return children[b];
+	}
+
+	void put(int b, ARTnode c) {
+		if (children[b] == null)
+			count++;
+		children[b] = c;
+	}
+
+	void remove(int b) {
+		children[b] = null;
+		count--;
+	}
+
+	int nextkey(int b) {
+		while (b < 256 && children[b] == null)
+			b++;
+		return b;
+	}
+
+	int lastkey() {
+		int b = 255;
+		while (b >= 0 && children[b] == null)
+			b--;
+		return b;
+	}
+
+	boolean full() {
+		return false;
+	}
+
+	ARTinner grow() {
+		return this;
+	}
+
+	ARTinner shrink() {
+		return count <= 37 ? copyto(new ARTnode48(prefix)) : this;
+	}
+}
+
+/**
+ * An adaptive radix tree (ART) is a {@link Map} that does not compare whole
+ * keys, but branches on one byte of the key in each inner node. Hence,
+ * insertion, deletion and lookup need O(length of the key) time, independent
+ * of the number of entries, whereas a {@link Searchtree} needs O(length of the
+ * key * log n) time for comparing long keys with common prefixes, e.g. URLs.
+ *
+ * To save memory, inner nodes adapt their size to the number of children
+ * (nodes with 4, 16, 48, and 256 slots). Moreover, a chain of inner nodes with
+ * only one child is compressed into a prefix of a single node (path
+ * compression), and a subtree which contains only one key is replaced by its
+ * leaf (lazy expansion).
+ *
+ * The keys are converted into byte sequences by an encoder, see
+ * {@link #strings()} and {@link #bytes()}. The iterator returns the entries in
+ * lexicographic order of these byte sequences (bytes compared unsigned, a
+ * prefix before its extensions). For strings this is the order of the unicode
+ * code points, which is the order of {@link String#compareTo(String)} except
+ * for characters outside of the basic multilingual plane.
+ *
+ * @param <K>
+ *            The type of the keys.
+ * @param <D>
+ *            The type of the data.
+ */
+public class AdaptiveRadixtree<K, D> extends Dictionary<K, D> {
+	private static final byte[] EMPTY = new byte[0];
+
+	/**
+	 * Converts the keys into byte sequences. Different keys must yield
+	 * different byte sequences.
+	 */
+	private final Function<K, byte[]> encoder;
+	private ARTnode root;
+	private int size;
+
+	/**
+	 * Creates an empty tree for keys which are converted to bytes by the given
+	 * encoder.
+	 *
+	 * @param encoder
+	 *            Converts a key into its byte sequence. Two keys must be equal
+	 *            iff their byte sequences are equal.
+	 */
+	public AdaptiveRadixtree(Function<K, byte[]> encoder) {
+		this.encoder = encoder;
+		root = null;
+		size = 0;
+	}
+
+	/**
+	 * Creates an empty tree for String keys (stored as UTF-8).
+	 */
+	public static <D> AdaptiveRadixtree<String, D> strings() {
+		return new AdaptiveRadixtree<String, D>(s -> s.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Creates an empty tree for byte[] keys. Note that the keys must not be
+	 * changed after insertion.
+	 */
+	public static <D> AdaptiveRadixtree<byte[], D> bytes() {
+		return new AdaptiveRadixtree<byte[], D>(b -> b);
+	}
+
+	/**
+	 * Associates the data d to the key k in this tree. (O(length of k))
+	 *
+	 * @see Map#insert(Object, Object)
+	 */
+	public void insert(K k, D d) {
+		root = insert(root, encoder.apply(k), 0, k, d);
+	}
+
+	/**
+	 * Inserts the entry into the subtree n, where the first depth bytes of
+	 * the key are already consumed by the path to n.
+	 *
+	 * @return The new root of the subtree, which has to replace n.
+	 */
+	@SuppressWarnings("unchecked")
+	private ARTnode insert(ARTnode n, byte[] key, int depth, K k, D d) {
+		if (n == null) {
+			size++;
+			return new ARTleaf<K, D>(key, k, d);
+		}
+		if (n instanceof ARTleaf) {
+			ARTleaf<K, D> l = (ARTleaf<K, D>) n;
+			if (l.matches(key)) {
+				l.key = k;
+				l.data = d;
+				return l;
+			}
+			/*
+			 * lazy expansion: two keys share this subtree now, so the leaf is
+			 * replaced by an inner node holding their common prefix.
+			 */
+			int i = depth;
+			while (i < key.length && i < l.bytes.length && key[i] == l.bytes[i])
+				i++;
+			ARTinner m = new ARTnode4(copyrange(key, depth, i));
+			attach(m, l, i);
+			attach(m, new ARTleaf<K, D>(key, k, d), i);
+			size++;
+			return m;
+		}
+		ARTinner m = (ARTinner) n;
+		int p = 0;
+		while (p < m.prefix.length && depth + p < key.length && m.prefix[p] == key[depth + p])
+			p++;
+		if (p < m.prefix.length) {
+			/*
+			 * the key leaves the compressed path: split the prefix
+			 */
+			ARTinner s = new ARTnode4(copyrange(m.prefix, 0, p));
+			int b = m.prefix[p] & 0xff;
+			m.prefix = copyrange(m.prefix, p + 1, m.prefix.length);
+			s.put(b, m);
+			attach(s, new ARTleaf<K, D>(key, k, d), depth + p);
+			size++;
+			return s;
+		}
+		depth += p;
+		if (depth == key.length) {
+			if (m.terminal == null) {
+				m.terminal = new ARTleaf<K, D>(key, k, d);
+				size++;
+			} else {
+				ARTleaf<K, D> t = (ARTleaf<K, D>) m.terminal;
+				t.key = k;
+				t.data = d;
+			}
+			return m;
+		}
+		int b = key[depth] & 0xff;
+		ARTnode c = m.find(b);
+		if (c != null) {
+			ARTnode nc = insert(c, key, depth + 1, k, d);
+			if (nc != c)
+				m.put(b, nc);
+			return m;
+		}
+		if (m.full())
+			m = m.grow();
+		m.put(b, new ARTleaf<K, D>(key, k, d));
+		size++;
+		return m;
+	}
+
+	/*
+	 * stores the leaf l below m, where the first depth bytes of l are
+	 * consumed by the path to m and its prefix
+	 */
+	private static void attach(ARTinner m, ARTleaf<?, ?> l, int depth) {
+		if (depth == l.bytes.length)
+			m.terminal = l;
+		else
+			m.put(l.bytes[depth] & 0xff, l);
+	}
+
+	private static byte[] copyrange(byte[] b, int from, int to) {
+		if (from == to)
+			return EMPTY;
+		byte[] c = new byte[to - from];
+		System.arraycopy(b, from, c, 0, to - from);
+		return c;
+	}
+
+	/**
+	 * Removes the entry for the key k, if present. (O(length of k))
+	 *
+	 * @see Map#delete(Object)
+	 */
+	public void delete(K k) {
+		root = delete(root, encoder.apply(k), 0);
+	}
+
+	/**
+	 * Deletes the key from the subtree n, where the first depth bytes of the
+	 * key are already consumed by the path to n.
+	 *
+	 * @return The new root of the subtree, which has to replace n.
+	 */
+	private ARTnode delete(ARTnode n, byte[] key, int depth) {
+		if (n == null)
+			return null;
+		if (n instanceof ARTleaf) {
+			if (!((ARTleaf<?, ?>) n).matches(key))
+				return n;
+			size--;
+			return null;
+		}
+		ARTinner m = (ARTinner) n;
+		int p = m.prefix.length;
+		if (depth + p > key.length)
+			return n;
+		for (int i = 0; i < p; i++)
+			if (m.prefix[i] != key[depth + i])
+				return n;
+		depth += p;
+		if (depth == key.length) {
+			if (m.terminal == null)
+				return n;
+			m.terminal = null;
+			size--;
+			return collapse(m);
+		}
+		int b = key[depth] & 0xff;
+		ARTnode c = m.find(b);
+		if (c == null)
+			return n;
+		ARTnode nc = delete(c, key, depth + 1);
+		if (nc == c)
+			return n;
+		if (nc == null)
+			m.remove(b);
+		else
+			m.put(b, nc);
+		return collapse(m);
+	}
+
+	/**
+	 * Restores path compression and lazy expansion after a deletion below m.
+	 *
+	 * @return The node which has to replace m.
+	 */
+	private static ARTnode collapse(ARTinner m) {
+		if (m.count == 0)
+			return m.terminal;
+		if (m.count == 1 && m.terminal == null) {
+			int b = m.nextkey(0);
+			ARTnode c = m.find(b);
+			if (c instanceof ARTleaf)
+				return c;
+			/*
+			 * merge prefix of m, the byte b, and prefix of the only child
+			 */
+			ARTinner ci = (ARTinner) c;
+			byte[] p = new byte[m.prefix.length + 1 + ci.prefix.length];
+			System.arraycopy(m.prefix, 0, p, 0, m.prefix.length);
+			p[m.prefix.length] = (byte) b;
+			System.arraycopy(ci.prefix, 0, p, m.prefix.length + 1, ci.prefix.length);
+			ci.prefix = p;
+			return ci;
+		}
+		return m.shrink();
+	}
+
+	/**
+	 * Finds the leaf for the given key, or null if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	private ARTleaf<K, D> findleaf(byte[] key) {
+		ARTnode n = root;
+		int depth = 0;
+		/*
+		 * the prefixes of the inner nodes are skipped without comparing them,
+		 * as the leaf at the end is compared with the whole key anyway.
+		 */
+		while (n instanceof ARTinner) {
+			ARTinner m = (ARTinner) n;
+			depth += m.prefix.length;
+			if (depth > key.length)
+				return null;
+			if (depth == key.length) {
+				n = m.terminal;
+				break;
+			}
+			n = m.find(key[depth] & 0xff);
+			depth++;
+		}
+		if (n == null)
+			return null;
+		ARTleaf<K, D> l = (ARTleaf<K, D>) n;
+		return l.matches(key) ? l : null;
+	}
+
+	/**
+	 * Looks up the data stored under k. (O(length of k))
+	 *
+	 * @see Map#find(Object)
+	 */
+	public D find(K k) {
+		ARTleaf<K, D> l = findleaf(encoder.apply(k));
+		return l == null ? null : l.data;
+	}
+
+	/**
+	 * Checks whether the key k is present in this tree. (O(length of k))
+	 *
+	 * @see Map#contains(Object)
+	 */
+	public boolean contains(K k) {
+		return findleaf(encoder.apply(k)) != null;
+	}
+
+	/**
+	 * Returns the number of entries (constant time).
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isempty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the smallest key of this tree, or null if this tree is empty.
+	 * (O(length of the key))
+	 */
+	public K min() {
+		ARTnode n = root;
+		while (n instanceof ARTinner) {
+			ARTinner m = (ARTinner) n;
+			n = m.terminal != null ? m.terminal : m.find(m.nextkey(0));
+		}
+		return n == null ? null : key(n);
+	}
+
+	/**
+	 * Returns the largest key of this tree, or null if this tree is empty.
+	 * (O(length of the key))
+	 */
+	public K max() {
+		ARTnode n = root;
+		while (n instanceof ARTinner) {
+			ARTinner m = (ARTinner) n;
+			n = m.count == 0 ? m.terminal : m.find(m.lastkey());
+		}
+		return n == null ? null : key(n);
+	}
+
+	@SuppressWarnings("unchecked")
+	private K key(ARTnode l) {
+		return ((ARTleaf<K, D>) l).key;
+	}
+
+	/**
+	 * Returns an iterator over all entries in the order of their byte
+	 * sequences.
+	 */
+	public Iterator<K, D> iterator() {
+		return new ARTiterator();
+	}
+
+	/**
+	 * Traverses the tree in order. For each inner node on the path to the
+	 * current leaf the next byte to visit is kept on a stack.
+	 */
+	private class ARTiterator implements Iterator<K, D> {
+		private final Array<ARTinner> nodes = new Array<ARTinner>();
+		/*
+		 * next[i] is the next byte to look at in nodes[i], -1 if the terminal
+		 * leaf has not been visited yet.
+		 */
+		private int[] next = new int[16];
+		private int top = -1;
+		private ARTleaf<K, D> leaf;
+
+		@SuppressWarnings("unchecked")
+		ARTiterator() {
+			if (root instanceof ARTleaf)
+				leaf = (ARTleaf<K, D>) root;
+			else {
+				if (root != null)
+					push((ARTinner) root);
+				advance();
+			}
+		}
+
+		private void push(ARTinner m) {
+			top++;
+			if (top == next.length) {
+				int[] n = new int[2 * next.length];
+				System.arraycopy(next, 0, n, 0, next.length);
+				next = n;
+			}
+			nodes.set(top, m);
+			next[top] = -1;
+		}
+
+		/*
+		 * moves to the next leaf in order, or sets leaf to null if there is
+		 * none.
+		 */
+		@SuppressWarnings("unchecked")
+		private void advance() {
+			while (top >= 0) {
+				ARTinner m = nodes.get(top);
+				if (next[top] == -1) {
+					next[top] = 0;
+					if (m.terminal != null) {
+						leaf = (ARTleaf<K, D>) m.terminal;
+						return;
+					}
+				}
+				int b = m.nextkey(next[top]);
+				if (b == 256) {
+					nodes.set(top--, null);
+					continue;
+				}
+				next[top] = b + 1;
+				ARTnode c = m.find(b);
+				if (c instanceof ARTleaf) {
+					leaf = (ARTleaf<K, D>) c;
+					return;
+				}
+				push((ARTinner) c);
+			}
+			leaf = null;
+		}
+
+		public void step() {
+			if (top < 0)
+				leaf = null;
+			else
+				advance();
+		}
+
+		public boolean more() {
+			return leaf != null;
+		}
+
+		public K key() {
+			return leaf.key;
+		}
+
+		public D data() {
+			return leaf.data;
+		}
+	}
+}
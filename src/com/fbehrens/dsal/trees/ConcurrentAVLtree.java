@@ -0,0 +1,888 @@
+package com.fbehrens.dsal.trees;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fbehrens.dsal.Dictionary;
+import com.fbehrens.dsal.Iterator;
+import com.fbehrens.dsal.Map;
+
+/**
+ * A node of a {@link ConcurrentAVLtree}. Like an {@link AVLtreenode} it stores
+ * the height of its subtree. Additionally, there is a version number which is
+ * changed whenever the node is moved downwards by a rotation (i.e., the set of
+ * keys in its subtree shrinks) or whenever it is unlinked from the tree. The
+ * node itself is used as lock by the writers.
+ *
+ * All links and values are volatile, so that readers can traverse the tree
+ * without locking. A node whose value is null is a routing node, i.e., its key
+ * has been deleted, but the node is still needed because it has two children.
+ *
+ * @param <K>
+ *            Type of the keys.
+ */
+class ConcurrentAVLtreenode<K extends Comparable<K>> {
+	/*
+	 * bits of the version: the node is unlinked, the node is currently moved
+	 * downwards by a rotation, and a counter for finished rotations
+	 */
+	static final long UNLINKED = 0x1L;
+	static final long SHRINKING = 0x2L;
+	static final long SHRINK_COUNT = 0x4L;
+
+	final K key;
+	volatile Object value;
+	volatile int h;
+	volatile long version;
+	volatile ConcurrentAVLtreenode<K> left, right, parent;
+
+	ConcurrentAVLtreenode(K k, Object v, ConcurrentAVLtreenode<K> p) {
+		key = k;
+		value = v;
+		parent = p;
+		h = 1;
+		version = 0;
+	}
+
+	/**
+	 * Returns the left child if dir &lt; 0, and the right child, otherwise.
+	 */
+	ConcurrentAVLtreenode<K> child(int dir) {
+		return dir < 0 ? left : right;
+	}
+
+	void setchild(int dir, ConcurrentAVLtreenode<K> c) {
+		if (dir < 0)
+			left = c;
+		else
+			right = c;
+	}
+
+	static int height(ConcurrentAVLtreenode<?> n) {
+		return n == null ? 0 : n.h;
+	}
+
+	/**
+	 * Waits until a rotation which moves this node downwards has finished.
+	 * Rotations are done while the node is locked, so after a short spin the
+	 * lock is used to wait.
+	 */
+	void waituntilnotchanging() {
+		for (int i = 0; i < 100; i++)
+			if ((version & SHRINKING) == 0)
+				return;
+		synchronized (this) {
+			// the rotation is finished as soon as we get the lock
+		}
+	}
+}
+
+/**
+ * A concurrent AVL-tree allows many threads to read and update the tree at
+ * the same time, following Bronson, Casper, Chafi and Olukotun, "A Practical
+ * Concurrent Binary Search Tree" (PPoPP 2010).
+ *
+ * Readers never lock. Instead, they validate the version of each node on the
+ * search path hand-over-hand: a version only changes if the node is moved
+ * downwards by a rotation or unlinked, so if the version of the parent did
+ * not change while reading the child, the child is still the right subtree
+ * to search in. Otherwise the search is retried one level above. Writers lock
+ * only the nodes they change: an update of an existing key locks one node, an
+ * insertion locks the parent of the new leaf, and a rotation locks the nodes
+ * which are rotated together with their parent. Deleting a key with two
+ * children just turns the node into a routing node without value, which is
+ * unlinked later as soon as it has at most one child.
+ *
+ * Rebalancing is relaxed: heights are repaired after each update walking
+ * upwards, so during concurrent updates the tree may temporarily be
+ * unbalanced. All operations need O(log n) time if there is no contention.
+ *
+ * The iterator is weakly consistent: it returns the keys in increasing order
+ * without duplicates, it returns all keys which are present during the whole
+ * iteration, and it may or may not return keys which are inserted or deleted
+ * concurrently.
+ *
+ * @param <K>
+ *            Type of the keys.
+ * @param <D>
+ *            Type of the data.
+ * @see Map
+ */
+public class ConcurrentAVLtree<K extends Comparable<K>, D> extends Dictionary<K, D> {
+	/*
+	 * Marker for failed optimistic attempts, which have to be retried.
+	 */
+	private static final Object RETRY = new Object();
+	/*
+	 * As null-values mark routing nodes, null-data is stored as this object.
+	 */
+	private static final Object NULL = new Object();
+
+	/*
+	 * results of nodecondition()
+	 */
+	private static final int UNLINK_REQUIRED = -1;
+	private static final int REBALANCE_REQUIRED = -2;
+	private static final int NOTHING_REQUIRED = -3;
+
+	/*
+	 * The holder is a node without key whose right child is the root. Its
+	 * version never changes, and it is never rotated.
+	 */
+	private final ConcurrentAVLtreenode<K> holder = new ConcurrentAVLtreenode<K>(null, null, null);
+	private final LongAdder size = new LongAdder();
+
+	private static Object encode(Object d) {
+		return d == null ? NULL : d;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <D> D decode(Object v) {
+		return v == NULL ? null : (D) v;
+	}
+
+	/**
+	 * Looks up the data stored under k without locking. (Logarithmic time)
+	 *
+	 * @see Map#find(Object)
+	 */
+	public D find(K k) {
+		Object v = attemptget(k, holder, 1, 0);
+		return decode(v);
+	}
+
+	/**
+	 * Checks whether the key k is present in this tree without locking.
+	 * (Logarithmic time)
+	 *
+	 * @see Map#contains(Object)
+	 */
+	public boolean contains(K k) {
+		return attemptget(k, holder, 1, 0) != null;
+	}
+
+	/**
+	 * Searches k in the subtree of the child of n in direction dir, where n
+	 * had the version nv when the search entered it.
+	 *
+	 * @return The value stored for k, null if k is not present, or RETRY if
+	 *         the version of n changed, so the search has to be restarted
+	 *         from the parent of n.
+	 */
+	private Object attemptget(K k, ConcurrentAVLtreenode<K> n, int dir, long nv) {
+		while (true) {
+			ConcurrentAVLtreenode<K> c = n.child(dir);
+			if (n.version != nv)
+				return RETRY;
+			if (c == null)
+				return null;
+			int nextdir = k.compareTo(c.key);
+			if (nextdir == 0)
+				return c.value;
+			long cv = c.version;
+			if ((cv & ConcurrentAVLtreenode.SHRINKING) != 0)
+				c.waituntilnotchanging();
+			else if (cv != ConcurrentAVLtreenode.UNLINKED && c == n.child(dir)) {
+				/*
+				 * hand-over-hand: n is still the parent of c, so continue in c
+				 * and only fall back to n if c was changed meanwhile.
+				 */
+				if (n.version != nv)
+					return RETRY;
+				Object v = attemptget(k, c, nextdir, cv);
+				if (v != RETRY)
+					return v;
+			}
+		}
+	}
+
+	/**
+	 * Associates the data d to the key k. (Logarithmic time)
+	 *
+	 * @see Map#insert(Object, Object)
+	 */
+	public void insert(K k, D d) {
+		Object v = encode(d);
+		Object p;
+		do
+			p = attemptput(k, v, holder, 1, 0);
+		while (p == RETRY);
+		if (p == null)
+			size.increment();
+	}
+
+	/**
+	 * Stores the value v under k in the subtree of the child of n in direction
+	 * dir, where n had the version nv.
+	 *
+	 * @return The previous value of k, null if k was not present, or RETRY.
+	 */
+	private Object attemptput(K k, Object v, ConcurrentAVLtreenode<K> n, int dir, long nv) {
+		Object p;
+		do {
+			p = RETRY;
+			ConcurrentAVLtreenode<K> c = n.child(dir);
+			if (n.version != nv)
+				return RETRY;
+			if (c == null)
+				p = attemptinsert(k, v, n, dir, nv);
+			else {
+				int nextdir = k.compareTo(c.key);
+				if (nextdir == 0)
+					p = attemptupdate(c, v);
+				else {
+					long cv = c.version;
+					if ((cv & ConcurrentAVLtreenode.SHRINKING) != 0)
+						c.waituntilnotchanging();
+					else if (cv != ConcurrentAVLtreenode.UNLINKED && c == n.child(dir)) {
+						if (n.version != nv)
+							return RETRY;
+						p = attemptput(k, v, c, nextdir, cv);
+					}
+				}
+			}
+		} while (p == RETRY);
+		return p;
+	}
+
+	/**
+	 * Adds a new leaf for k as child of n in direction dir, if n did not
+	 * change. Then the heights above are repaired.
+	 */
+	private Object attemptinsert(K k, Object v, ConcurrentAVLtreenode<K> n, int dir, long nv) {
+		synchronized (n) {
+			if (n.version != nv || n.child(dir) != null)
+				return RETRY;
+			n.setchild(dir, new ConcurrentAVLtreenode<K>(k, v, n));
+		}
+		fixheightandrebalance(n);
+		return null;
+	}
+
+	/**
+	 * Replaces the value of the node n, which stores the key to update.
+	 *
+	 * @return The previous value, which is null if n was a routing node.
+	 */
+	private Object attemptupdate(ConcurrentAVLtreenode<K> n, Object v) {
+		synchronized (n) {
+			if (n.version == ConcurrentAVLtreenode.UNLINKED)
+				return RETRY;
+			Object p = n.value;
+			n.value = v;
+			return p;
+		}
+	}
+
+	/**
+	 * Removes the entry for the key k. (Logarithmic time)
+	 *
+	 * @see Map#delete(Object)
+	 */
+	public void delete(K k) {
+		Object p;
+		do
+			p = attemptremove(k, holder, 1, 0);
+		while (p == RETRY);
+		if (p != null)
+			size.decrement();
+	}
+
+	/**
+	 * Removes k from the subtree of the child of n in direction dir, where n
+	 * had the version nv.
+	 *
+	 * @return The previous value of k, null if k was not present, or RETRY.
+	 */
+	private Object attemptremove(K k, ConcurrentAVLtreenode<K> n, int dir, long nv) {
+		Object p;
+		do {
+			p = RETRY;
+			ConcurrentAVLtreenode<K> c = n.child(dir);
+			if (n.version != nv)
+				return RETRY;
+			if (c == null)
+				return null;
+			int nextdir = k.compareTo(c.key);
+			if (nextdir == 0)
+				p = attemptremovenode(n, c);
+			else {
+				long cv = c.version;
+				if ((cv & ConcurrentAVLtreenode.SHRINKING) != 0)
+					c.waituntilnotchanging();
+				else if (cv != ConcurrentAVLtreenode.UNLINKED && c == n.child(dir)) {
+					if (n.version != nv)
+						return RETRY;
+					p = attemptremove(k, c, nextdir, cv);
+				}
+			}
+		} while (p == RETRY);
+		return p;
+	}
+
+	/**
+	 * Removes the value of node n with parent p. If n has at most one child,
+	 * it is unlinked, otherwise it becomes a routing node.
+	 */
+	private Object attemptremovenode(ConcurrentAVLtreenode<K> p, ConcurrentAVLtreenode<K> n) {
+		if (n.value == null)
+			return null;
+		Object prev;
+		if (!canunlink(n)) {
+			synchronized (n) {
+				if (n.version == ConcurrentAVLtreenode.UNLINKED || canunlink(n))
+					return RETRY;
+				prev = n.value;
+				n.value = null;
+			}
+		} else {
+			synchronized (p) {
+				if (p.version == ConcurrentAVLtreenode.UNLINKED || n.parent != p)
+					return RETRY;
+				synchronized (n) {
+					if (n.version == ConcurrentAVLtreenode.UNLINKED)
+						return RETRY;
+					prev = n.value;
+					n.value = null;
+					if (canunlink(n)) {
+						ConcurrentAVLtreenode<K> c = n.left == null ? n.right : n.left;
+						if (p.left == n)
+							p.left = c;
+						else
+							p.right = c;
+						if (c != null)
+							c.parent = p;
+						n.version = ConcurrentAVLtreenode.UNLINKED;
+					}
+				}
+			}
+			fixheightandrebalance(p);
+		}
+		return prev;
+	}
+
+	private static boolean canunlink(ConcurrentAVLtreenode<?> n) {
+		return n.left == null || n.right == null;
+	}
+
+	/**
+	 * Determines what has to be done at node n: either it is a routing node
+	 * which can be unlinked, or it needs a rotation, or its height has to be
+	 * set to the returned value, or nothing has to be done.
+	 */
+	private static int nodecondition(ConcurrentAVLtreenode<?> n) {
+		ConcurrentAVLtreenode<?> l = n.left, r = n.right;
+		if ((l == null || r == null) && n.value == null)
+			return UNLINK_REQUIRED;
+		int hl = ConcurrentAVLtreenode.height(l), hr = ConcurrentAVLtreenode.height(r);
+		int hrepl = 1 + Math.max(hl, hr);
+		int bal = hl - hr;
+		if (bal < -1 || bal > 1)
+			return REBALANCE_REQUIRED;
+		return n.h != hrepl ? hrepl : NOTHING_REQUIRED;
+	}
+
+	/**
+	 * Repairs heights, balance and routing nodes from n upwards, locking at
+	 * most the nodes involved in one rotation at a time.
+	 */
+	private void fixheightandrebalance(ConcurrentAVLtreenode<K> n) {
+		while (n != null && n != holder) {
+			int c = nodecondition(n);
+			if (c == NOTHING_REQUIRED || n.version == ConcurrentAVLtreenode.UNLINKED)
+				return;
+			if (c != UNLINK_REQUIRED && c != REBALANCE_REQUIRED) {
+				synchronized (n) {
+					n = fixheight(n);
+				}
+			} else {
+				ConcurrentAVLtreenode<K> p = n.parent;
+				synchronized (p) {
+					if (p.version != ConcurrentAVLtreenode.UNLINKED && n.parent == p) {
+						synchronized (n) {
+							n = rebalance(p, n);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sets the height of the locked node n.
+	 *
+	 * @return The next node to repair, or null if nothing has to be done.
+	 */
+	private static <K extends Comparable<K>> ConcurrentAVLtreenode<K> fixheight(ConcurrentAVLtreenode<K> n) {
+		int c = nodecondition(n);
+		switch (c) {
+		case REBALANCE_REQUIRED:
+		case UNLINK_REQUIRED:
+			return n;
+		case NOTHING_REQUIRED:
+			return null;
+		default:
+			n.h = c;
+			return n.parent;
+		}
+	}
+
+	/**
+	 * Unlinks or rotates the locked node n with locked parent p, or repairs
+	 * its height.
+	 *
+	 * @return The next node to repair, or null if nothing has to be done.
+	 */
+	private ConcurrentAVLtreenode<K> rebalance(ConcurrentAVLtreenode<K> p, ConcurrentAVLtreenode<K> n) {
+		ConcurrentAVLtreenode<K> l = n.left, r = n.right;
+		if ((l == null || r == null) && n.value == null) {
+			if (attemptunlink(p, n))
+				return fixheight(p);
+			return n;
+		}
+		int hn = n.h;
+		int hl = ConcurrentAVLtreenode.height(l), hr = ConcurrentAVLtreenode.height(r);
+		int hrepl = 1 + Math.max(hl, hr);
+		int bal = hl - hr;
+		if (bal > 1)
+			return rebalancetoright(p, n, l, hr);
+		else if (bal < -1)
+			return rebalancetoleft(p, n, r, hl);
+		else if (hrepl != hn) {
+			n.h = hrepl;
+			return fixheight(p);
+		}
+		return null;
+	}
+
+	/**
+	 * Unlinks the locked routing node n with locked parent p, if it has at
+	 * most one child.
+	 */
+	private static <K extends Comparable<K>> boolean attemptunlink(ConcurrentAVLtreenode<K> p,
+			ConcurrentAVLtreenode<K> n) {
+		ConcurrentAVLtreenode<K> pl = p.left, pr = p.right;
+		if (pl != n && pr != n)
+			return false;
+		ConcurrentAVLtreenode<K> l = n.left, r = n.right;
+		if (l != null && r != null)
+			return false;
+		ConcurrentAVLtreenode<K> splice = l != null ? l : r;
+		if (pl == n)
+			p.left = splice;
+		else
+			p.right = splice;
+		if (splice != null)
+			splice.parent = p;
+		n.version = ConcurrentAVLtreenode.UNLINKED;
+		n.value = null;
+		return true;
+	}
+
+	/*
+	 * The left subtree l of n is too high: rotate n to the right, or do a
+	 * double rotation if the inner grandchild lr is the higher one.
+	 */
+	private ConcurrentAVLtreenode<K> rebalancetoright(ConcurrentAVLtreenode<K> p, ConcurrentAVLtreenode<K> n,
+			ConcurrentAVLtreenode<K> l, int hr) {
+		synchronized (l) {
+			int hl = l.h;
+			if (hl - hr <= 1)
+				return n;
+			ConcurrentAVLtreenode<K> lr = l.right;
+			int hll = ConcurrentAVLtreenode.height(l.left);
+			int hlr = ConcurrentAVLtreenode.height(lr);
+			if (hll >= hlr)
+				return rotateright(p, n, l, hr, hll, lr, hlr);
+			synchronized (lr) {
+				hlr = lr.h;
+				if (hll >= hlr)
+					return rotateright(p, n, l, hr, hll, lr, hlr);
+				int hlrl = ConcurrentAVLtreenode.height(lr.left);
+				int b = hll - hlrl;
+				if (b >= -1 && b <= 1)
+					return rotaterightoverleft(p, n, l, hr, hll, lr, hlrl);
+			}
+			/*
+			 * the double rotation would leave l unbalanced, so first rotate l
+			 * to the left on its own
+			 */
+			return rebalancetoleft(n, l, lr, hll);
+		}
+	}
+
+	/*
+	 * mirror image of rebalancetoright
+	 */
+	private ConcurrentAVLtreenode<K> rebalancetoleft(ConcurrentAVLtreenode<K> p, ConcurrentAVLtreenode<K> n,
+			ConcurrentAVLtreenode<K> r, int hl) {
+		synchronized (r) {
+			int hr = r.h;
+			if (hl - hr >= -1)
+				return n;
+			ConcurrentAVLtreenode<K> rl = r.left;
+			int hrl = ConcurrentAVLtreenode.height(rl);
+			int hrr = ConcurrentAVLtreenode.height(r.right);
+			if (hrr >= hrl)
+				return rotateleft(p, n, hl, r, rl, hrl, hrr);
+			synchronized (rl) {
+				hrl = rl.h;
+				if (hrr >= hrl)
+					return rotateleft(p, n, hl, r, rl, hrl, hrr);
+				int hrlr = ConcurrentAVLtreenode.height(rl.right);
+				int b = hrr - hrlr;
+				if (b >= -1 && b <= 1)
+					return rotateleftoverright(p, n, hl, r, rl, hrr, hrlr);
+			}
+			return rebalancetoright(n, r, rl, hrr);
+		}
+	}
+
+	/**
+	 * Rotates n to the right, see {@link Searchtreenode#rotateright()}. The
+	 * nodes p, n, and l are locked. n is marked as shrinking during the
+	 * rotation, so that readers in the subtree of n retry.
+	 *
+	 * @return The next node to repair, or null if nothing has to be done.
+	 */
+	private static <K extends Comparable<K>> ConcurrentAVLtreenode<K> rotateright(ConcurrentAVLtreenode<K> p,
+			ConcurrentAVLtreenode<K> n, ConcurrentAVLtreenode<K> l, int hr, int hll, ConcurrentAVLtreenode<K> lr,
+			int hlr) {
+		long nv = n.version;
+		ConcurrentAVLtreenode<K> pl = p.left;
+		n.version = nv | ConcurrentAVLtreenode.SHRINKING;
+
+		n.left = lr;
+		if (lr != null)
+			lr.parent = n;
+		l.right = n;
+		n.parent = l;
+		if (pl == n)
+			p.left = l;
+		else
+			p.right = l;
+		l.parent = p;
+
+		int hnrepl = 1 + Math.max(hlr, hr);
+		n.h = hnrepl;
+		l.h = 1 + Math.max(hll, hnrepl);
+
+		n.version = nv + ConcurrentAVLtreenode.SHRINK_COUNT;
+
+		/*
+		 * check which node has to be repaired next
+		 */
+		int baln = hlr - hr;
+		if (baln < -1 || baln > 1)
+			return n;
+		if ((lr == null || hr == 0) && n.value == null) {
+			/*
+			 * n is a routing node which lost a child, so unlink it right away
+			 * (all nodes involved are locked)
+			 */
+			attemptunlink(l, n);
+			hnrepl = Math.max(hlr, hr);
+			l.h = 1 + Math.max(hll, hnrepl);
+		}
+		int ball = hll - hnrepl;
+		if (ball < -1 || ball > 1)
+			return l;
+		if (l.value == null && canunlink(l))
+			attemptunlink(p, l);
+		return fixheight(p);
+	}
+
+	/*
+	 * mirror image of rotateright
+	 */
+	private static <K extends Comparable<K>> ConcurrentAVLtreenode<K> rotateleft(ConcurrentAVLtreenode<K> p,
+			ConcurrentAVLtreenode<K> n, int hl, ConcurrentAVLtreenode<K> r, ConcurrentAVLtreenode<K> rl, int hrl,
+			int hrr) {
+		long nv = n.version;
+		ConcurrentAVLtreenode<K> pl = p.left;
+		n.version = nv | ConcurrentAVLtreenode.SHRINKING;
+
+		n.right = rl;
+		if (rl != null)
+			rl.parent = n;
+		r.left = n;
+		n.parent = r;
+		if (pl == n)
+			p.left = r;
+		else
+			p.right = r;
+		r.parent = p;
+
+		int hnrepl = 1 + Math.max(hl, hrl);
+		n.h = hnrepl;
+		r.h = 1 + Math.max(hnrepl, hrr);
+
+		n.version = nv + ConcurrentAVLtreenode.SHRINK_COUNT;
+
+		int baln = hrl - hl;
+		if (baln < -1 || baln > 1)
+			return n;
+		if ((rl == null || hl == 0) && n.value == null) {
+			attemptunlink(r, n);
+			hnrepl = Math.max(hrl, hl);
+			r.h = 1 + Math.max(hnrepl, hrr);
+		}
+		int balr = hrr - hnrepl;
+		if (balr < -1 || balr > 1)
+			return r;
+		if (r.value == null && canunlink(r))
+			attemptunlink(p, r);
+		return fixheight(p);
+	}
+
+	/**
+	 * Double rotation: lr becomes the parent of l and n. The nodes p, n, l,
+	 * and lr are locked, n and l are shrinking.
+	 */
+	private static <K extends Comparable<K>> ConcurrentAVLtreenode<K> rotaterightoverleft(
+			ConcurrentAVLtreenode<K> p, ConcurrentAVLtreenode<K> n, ConcurrentAVLtreenode<K> l, int hr, int hll,
+			ConcurrentAVLtreenode<K> lr, int hlrl) {
+		long nv = n.version, lv = l.version;
+		ConcurrentAVLtreenode<K> pl = p.left;
+		ConcurrentAVLtreenode<K> lrl = lr.left, lrr = lr.right;
+		int hlrr = ConcurrentAVLtreenode.height(lrr);
+
+		n.version = nv | ConcurrentAVLtreenode.SHRINKING;
+		l.version = lv | ConcurrentAVLtreenode.SHRINKING;
+
+		n.left = lrr;
+		if (lrr != null)
+			lrr.parent = n;
+		l.right = lrl;
+		if (lrl != null)
+			lrl.parent = l;
+		lr.left = l;
+		l.parent = lr;
+		lr.right = n;
+		n.parent = lr;
+		if (pl == n)
+			p.left = lr;
+		else
+			p.right = lr;
+		lr.parent = p;
+
+		int hnrepl = 1 + Math.max(hlrr, hr);
+		n.h = hnrepl;
+		int hlrepl = 1 + Math.max(hll, hlrl);
+		l.h = hlrepl;
+		lr.h = 1 + Math.max(hlrepl, hnrepl);
+
+		n.version = nv + ConcurrentAVLtreenode.SHRINK_COUNT;
+		l.version = lv + ConcurrentAVLtreenode.SHRINK_COUNT;
+
+		int baln = hlrr - hr;
+		if (baln < -1 || baln > 1)
+			return n;
+		/*
+		 * routing nodes n and l which lost a child are unlinked right away
+		 */
+		if ((lrr == null || hr == 0) && n.value == null) {
+			attemptunlink(lr, n);
+			hnrepl = Math.max(hlrr, hr);
+		}
+		if ((hll == 0 || hlrl == 0) && l.value == null) {
+			attemptunlink(lr, l);
+			hlrepl = Math.max(hll, hlrl);
+		}
+		lr.h = 1 + Math.max(hlrepl, hnrepl);
+		int ballr = hlrepl - hnrepl;
+		if (ballr < -1 || ballr > 1)
+			return lr;
+		if (lr.value == null && canunlink(lr))
+			attemptunlink(p, lr);
+		return fixheight(p);
+	}
+
+	/*
+	 * mirror image of rotaterightoverleft
+	 */
+	private static <K extends Comparable<K>> ConcurrentAVLtreenode<K> rotateleftoverright(
+			ConcurrentAVLtreenode<K> p, ConcurrentAVLtreenode<K> n, int hl, ConcurrentAVLtreenode<K> r,
+			ConcurrentAVLtreenode<K> rl, int hrr, int hrlr) {
+		long nv = n.version, rv = r.version;
+		ConcurrentAVLtreenode<K> pl = p.left;
+		ConcurrentAVLtreenode<K> rll = rl.left, rlr = rl.right;
+		int hrll = ConcurrentAVLtreenode.height(rll);
+
+		n.version = nv | ConcurrentAVLtreenode.SHRINKING;
+		r.version = rv | ConcurrentAVLtreenode.SHRINKING;
+
+		n.right = rll;
+		if (rll != null)
+			rll.parent = n;
+		r.left = rlr;
+		if (rlr != null)
+			rlr.parent = r;
+		rl.right = r;
+		r.parent = rl;
+		rl.left = n;
+		n.parent = rl;
+		if (pl == n)
+			p.left = rl;
+		else
+			p.right = rl;
+		rl.parent = p;
+
+		int hnrepl = 1 + Math.max(hl, hrll);
+		n.h = hnrepl;
+		int hrrepl = 1 + Math.max(hrlr, hrr);
+		r.h = hrrepl;
+		rl.h = 1 + Math.max(hnrepl, hrrepl);
+
+		n.version = nv + ConcurrentAVLtreenode.SHRINK_COUNT;
+		r.version = rv + ConcurrentAVLtreenode.SHRINK_COUNT;
+
+		int baln = hrll - hl;
+		if (baln < -1 || baln > 1)
+			return n;
+		if ((rll == null || hl == 0) && n.value == null) {
+			attemptunlink(rl, n);
+			hnrepl = Math.max(hrll, hl);
+		}
+		if ((hrr == 0 || hrlr == 0) && r.value == null) {
+			attemptunlink(rl, r);
+			hrrepl = Math.max(hrlr, hrr);
+		}
+		rl.h = 1 + Math.max(hnrepl, hrrepl);
+		int balrl = hrrepl - hnrepl;
+		if (balrl < -1 || balrl > 1)
+			return rl;
+		if (rl.value == null && canunlink(rl))
+			attemptunlink(p, rl);
+		return fixheight(p);
+	}
+
+	/**
+	 * Returns the number of entries (constant time if there are no concurrent
+	 * updates).
+	 */
+	public int size() {
+		return size.intValue();
+	}
+
+	public boolean isempty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns the node with the smallest key larger than k (or the smallest
+	 * node, if k is null), including routing nodes. The versions of all nodes
+	 * on the search path are validated at the end, if one of them changed,
+	 * the search is restarted at the root.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private ConcurrentAVLtreenode<K> higher(K k) {
+		ConcurrentAVLtreenode<K>[] path = new ConcurrentAVLtreenode[64];
+		long[] versions = new long[64];
+		retry: while (true) {
+			int depth = 0;
+			ConcurrentAVLtreenode<K> best = null, n = holder.right;
+			while (n != null) {
+				long v = n.version;
+				if ((v & ConcurrentAVLtreenode.SHRINKING) != 0) {
+					n.waituntilnotchanging();
+					continue retry;
+				}
+				if (v == ConcurrentAVLtreenode.UNLINKED)
+					continue retry;
+				if (depth == path.length) {
+					path = java.util.Arrays.copyOf(path, 2 * depth);
+					versions = java.util.Arrays.copyOf(versions, 2 * depth);
+				}
+				path[depth] = n;
+				versions[depth++] = v;
+				if (k == null || k.compareTo(n.key) < 0) {
+					best = n;
+					n = n.left;
+				} else
+					n = n.right;
+			}
+			for (int i = 0; i < depth; i++)
+				if (path[i].version != versions[i])
+					continue retry;
+			return best;
+		}
+	}
+
+	/**
+	 * Returns a weakly consistent iterator over the entries in increasing
+	 * order of the keys. Each step needs logarithmic time.
+	 */
+	public Iterator<K, D> iterator() {
+		return new ConcurrentAVLtreeIterator();
+	}
+
+	private class ConcurrentAVLtreeIterator implements Iterator<K, D> {
+		private K key;
+		private Object value;
+
+		ConcurrentAVLtreeIterator() {
+			advance(null);
+		}
+
+		/*
+		 * moves to the first entry with a key larger than k which has a value
+		 */
+		private void advance(K k) {
+			ConcurrentAVLtreenode<K> n = higher(k);
+			while (n != null) {
+				Object v = n.value;
+				if (v != null) {
+					key = n.key;
+					value = v;
+					return;
+				}
+				n = higher(n.key);
+			}
+			key = null;
+			value = null;
+		}
+
+		public void step() {
+			advance(key);
+		}
+
+		public boolean more() {
+			return key != null;
+		}
+
+		public K key() {
+			return key;
+		}
+
+		public D data() {
+			return decode(value);
+		}
+	}
+
+	/**
+	 * Checks the invariants of this tree: it is balanced, every node stores
+	 * its correct height, no unlinked node is reachable, and the parent links
+	 * are consistent. Every tree built by the public methods passes this check
+	 * once the updates have finished, so it is meant for tests and debugging.
+	 * Must only be called if there are no concurrent updates. (O(n) time)
+	 *
+	 * @return true iff all invariants hold.
+	 */
+	public boolean check() {
+		return check(holder.right, holder) >= 0;
+	}
+
+	/*
+	 * returns the height of n, or -1 if something is wrong
+	 */
+	private static int check(ConcurrentAVLtreenode<?> n, ConcurrentAVLtreenode<?> p) {
+		if (n == null)
+			return 0;
+		if (n.parent != p || n.version == ConcurrentAVLtreenode.UNLINKED)
+			return -1;
+		int l = check(n.left, n), r = check(n.right, n);
+		if (l < 0 || r < 0 || l < r - 1 || r < l - 1 || n.h != 1 + Math.max(l, r))
+			return -1;
+		return n.h;
+	}
+}
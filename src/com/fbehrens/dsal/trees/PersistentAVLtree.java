@@ -0,0 +1,399 @@
+package com.fbehrens.dsal.trees;
+
+import com.fbehrens.dsal.Dictionary;
+import com.fbehrens.dsal.Iterator;
+import com.fbehrens.dsal.Map;
+import com.fbehrens.dsal.lists.ArrayStack;
+
+/**
+ * A node of a {@link PersistentAVLtree}. In contrast to an {@link AVLtreenode}
+ * a persistent node is never changed after its creation, so there are no
+ * parent links, and all rotations create new nodes instead of relinking the
+ * old ones. Besides the height, the size of the subtree is stored.
+ *
+ * @param <K>
+ *            Type of the keys.
+ * @param <D>
+ *            Type of the data.
+ */
+class PersistentAVLtreenode<K extends Comparable<K>, D> {
+	final K key;
+	final D data;
+	final PersistentAVLtreenode<K, D> left, right;
+	/*
+	 * height and size of the tree represented by this node
+	 */
+	final int h, s;
+
+	/**
+	 * Creates a new node with key k, data d and the subtrees l and r. Height
+	 * and size are computed from the subtrees (constant time).
+	 *
+	 * @param k
+	 *            The key for the new node, must be non-null.
+	 * @param d
+	 *            The data for the new node.
+	 * @param l
+	 *            The left subtree, may be null.
+	 * @param r
+	 *            The right subtree, may be null.
+	 */
+	PersistentAVLtreenode(K k, D d, PersistentAVLtreenode<K, D> l, PersistentAVLtreenode<K, D> r) {
+		key = k;
+		data = d;
+		left = l;
+		right = r;
+		h = 1 + Math.max(height(l), height(r));
+		s = 1 + size(l) + size(r);
+	}
+
+	/**
+	 * Returns the height of the tree represented by n (0 if n is null).
+	 */
+	static int height(PersistentAVLtreenode<?, ?> n) {
+		return n == null ? 0 : n.h;
+	}
+
+	/**
+	 * Returns the size of the tree represented by n (0 if n is null).
+	 */
+	static int size(PersistentAVLtreenode<?, ?> n) {
+		return n == null ? 0 : n.s;
+	}
+
+	/**
+	 * Creates a node with key k and data d and the subtrees l and r. If the
+	 * heights of l and r differ by 2, a single or double rotation is performed
+	 * on the new nodes, so the result is balanced. (Constant time, at most
+	 * three new nodes)
+	 */
+	static <K extends Comparable<K>, D> PersistentAVLtreenode<K, D> balance(K k, D d, PersistentAVLtreenode<K, D> l,
+			PersistentAVLtreenode<K, D> r) {
+		int hl = height(l), hr = height(r);
+		if (hl > hr + 1) {
+			if (height(l.left) >= height(l.right))
+				return new PersistentAVLtreenode<K, D>(l.key, l.data, l.left,
+						new PersistentAVLtreenode<K, D>(k, d, l.right, r));
+			PersistentAVLtreenode<K, D> c = l.right;
+			return new PersistentAVLtreenode<K, D>(c.key, c.data,
+					new PersistentAVLtreenode<K, D>(l.key, l.data, l.left, c.left),
+					new PersistentAVLtreenode<K, D>(k, d, c.right, r));
+		} else if (hr > hl + 1) {
+			if (height(r.right) >= height(r.left))
+				return new PersistentAVLtreenode<K, D>(r.key, r.data, new PersistentAVLtreenode<K, D>(k, d, l, r.left),
+						r.right);
+			PersistentAVLtreenode<K, D> c = r.left;
+			return new PersistentAVLtreenode<K, D>(c.key, c.data, new PersistentAVLtreenode<K, D>(k, d, l, c.left),
+					new PersistentAVLtreenode<K, D>(r.key, r.data, c.right, r.right));
+		}
+		return new PersistentAVLtreenode<K, D>(k, d, l, r);
+	}
+
+	/**
+	 * Returns a tree which contains all entries of the tree n and
+	 * additionally the entry k -> d. Only the nodes on the search path of k
+	 * are copied, all other nodes are shared with n. (Logarithmic time)
+	 */
+	static <K extends Comparable<K>, D> PersistentAVLtreenode<K, D> insert(PersistentAVLtreenode<K, D> n, K k, D d) {
+		if (n == null)
+			return new PersistentAVLtreenode<K, D>(k, d, null, null);
+		int c = k.compareTo(n.key);
+		if (c < 0)
+			return balance(n.key, n.data, insert(n.left, k, d), n.right);
+		else if (c > 0)
+			return balance(n.key, n.data, n.left, insert(n.right, k, d));
+		else if (n.data == d)
+			return n;
+		else
+			return new PersistentAVLtreenode<K, D>(k, d, n.left, n.right);
+	}
+
+	/**
+	 * Returns a tree which contains all entries of the tree n except the one
+	 * for the key k. If k is not present, n itself is returned and nothing is
+	 * copied. (Logarithmic time)
+	 */
+	static <K extends Comparable<K>, D> PersistentAVLtreenode<K, D> delete(PersistentAVLtreenode<K, D> n, K k) {
+		if (n == null)
+			return null;
+		int c = k.compareTo(n.key);
+		if (c < 0) {
+			PersistentAVLtreenode<K, D> l = delete(n.left, k);
+			return l == n.left ? n : balance(n.key, n.data, l, n.right);
+		} else if (c > 0) {
+			PersistentAVLtreenode<K, D> r = delete(n.right, k);
+			return r == n.right ? n : balance(n.key, n.data, n.left, r);
+		}
+		if (n.left == null)
+			return n.right;
+		if (n.right == null)
+			return n.left;
+		/*
+		 * two children: the smallest node of the right subtree takes the place
+		 * of n.
+		 */
+		PersistentAVLtreenode<K, D> min = n.right;
+		while (min.left != null)
+			min = min.left;
+		return balance(min.key, min.data, n.left, deletemin(n.right));
+	}
+
+	/**
+	 * Returns the tree n without its smallest entry. n must be non-null.
+	 */
+	static <K extends Comparable<K>, D> PersistentAVLtreenode<K, D> deletemin(PersistentAVLtreenode<K, D> n) {
+		if (n.left == null)
+			return n.right;
+		return balance(n.key, n.data, deletemin(n.left), n.right);
+	}
+
+	/**
+	 * Finds the node which stores the key k below n, or null if there is no
+	 * such node.
+	 */
+	static <K extends Comparable<K>, D> PersistentAVLtreenode<K, D> findsubtree(PersistentAVLtreenode<K, D> n, K k) {
+		while (n != null) {
+			int c = k.compareTo(n.key);
+			if (c < 0)
+				n = n.left;
+			else if (c > 0)
+				n = n.right;
+			else
+				return n;
+		}
+		return null;
+	}
+
+	/**
+	 * Prints the tree below this node with the given indention.
+	 */
+	void printindent(int indent) {
+		if (left != null)
+			left.printindent(indent + 2);
+		for (int i = 0; i < indent; i++)
+			System.out.print(" ");
+		System.out.println(key + "(" + data + ")");
+		if (right != null)
+			right.printindent(indent + 2);
+	}
+}
+
+/**
+ * A persistent AVL-tree is a balanced search tree like {@link AVLtree}, but
+ * its nodes are never modified. Instead, {@link #insert(Comparable, Object)}
+ * and {@link #delete(Comparable)} copy the O(log n) nodes on the search path
+ * (path-copying) and share all other nodes with the previous version. Therefore, old versions stay intact:
+ * {@link #snapshot()} returns a consistent point-in-time copy of this tree in
+ * constant time, and readers of a snapshot need no locking, even if a writer
+ * keeps updating this tree concurrently. Each update costs O(log n) time and
+ * O(log n) new nodes.
+ *
+ * Alternatively, {@link #inserted(Comparable, Object)} and
+ * {@link #deleted(Comparable)} leave this tree untouched and return the new
+ * version.
+ *
+ * Note that concurrent updates of the same PersistentAVLtree object must be
+ * synchronized externally, only reading is lock-free.
+ *
+ * @param <K>
+ *            Type of the keys.
+ * @param <D>
+ *            Type of the data.
+ * @see Map
+ */
+public class PersistentAVLtree<K extends Comparable<K>, D> extends Dictionary<K, D> {
+	/*
+	 * The root of the current version. As nodes are immutable, a reader just
+	 * has to read this reference once to see a consistent version.
+	 */
+	private volatile PersistentAVLtreenode<K, D> root;
+
+	/**
+	 * Creates a new, empty tree.
+	 */
+	public PersistentAVLtree() {
+		root = null;
+	}
+
+	/**
+	 * Creates a version with the given root.
+	 */
+	private PersistentAVLtree(PersistentAVLtreenode<K, D> r) {
+		root = r;
+	}
+
+	/**
+	 * Associates the data d to the key k in this tree. Versions returned by
+	 * {@link #snapshot()} before are not affected. (Logarithmic time)
+	 *
+	 * @see Map#insert(Object, Object)
+	 */
+	public void insert(K k, D d) {
+		root = PersistentAVLtreenode.insert(root, k, d);
+	}
+
+	/**
+	 * Removes the entry for the key k from this tree. Versions returned by
+	 * {@link #snapshot()} before are not affected. (Logarithmic time)
+	 *
+	 * @see Map#delete(Object)
+	 */
+	public void delete(K k) {
+		root = PersistentAVLtreenode.delete(root, k);
+	}
+
+	/**
+	 * Returns a new version which additionally contains the entry k -> d. This
+	 * tree is not changed. (Logarithmic time)
+	 *
+	 * @param k
+	 *            The key to store.
+	 * @param d
+	 *            The data associated to the key k.
+	 * @return The new version.
+	 */
+	public PersistentAVLtree<K, D> inserted(K k, D d) {
+		return new PersistentAVLtree<K, D>(PersistentAVLtreenode.insert(root, k, d));
+	}
+
+	/**
+	 * Returns a new version which does not contain the key k. This tree is not
+	 * changed. (Logarithmic time)
+	 *
+	 * @param k
+	 *            The key to delete.
+	 * @return The new version.
+	 */
+	public PersistentAVLtree<K, D> deleted(K k) {
+		return new PersistentAVLtree<K, D>(PersistentAVLtreenode.delete(root, k));
+	}
+
+	/**
+	 * Returns a copy of the current version of this tree in constant time. The
+	 * copy shares all nodes with this tree, later changes to this tree are not
+	 * visible in the copy and vice versa.
+	 */
+	public PersistentAVLtree<K, D> snapshot() {
+		return new PersistentAVLtree<K, D>(root);
+	}
+
+	/**
+	 * Looks up the data for the given key k. (Logarithmic time)
+	 *
+	 * @see Map#find(Object)
+	 */
+	public D find(K k) {
+		PersistentAVLtreenode<K, D> n = PersistentAVLtreenode.findsubtree(root, k);
+		return n == null ? null : n.data;
+	}
+
+	/**
+	 * Checks whether the given key k is present in this tree. (Logarithmic
+	 * time)
+	 *
+	 * @see Map#contains(Object)
+	 */
+	public boolean contains(K k) {
+		return PersistentAVLtreenode.findsubtree(root, k) != null;
+	}
+
+	/**
+	 * Returns the number of entries (constant time).
+	 */
+	public int size() {
+		return PersistentAVLtreenode.size(root);
+	}
+
+	public boolean isempty() {
+		return root == null;
+	}
+
+	/**
+	 * Returns the height of this tree (constant time).
+	 */
+	public int height() {
+		return PersistentAVLtreenode.height(root);
+	}
+
+	/**
+	 * Returns an in-order iterator over the version which is current at the
+	 * time of this call. Later changes of this tree do not affect the
+	 * iterator.
+	 */
+	public Iterator<K, D> iterator() {
+		return new PersistentAVLtreeIterator<K, D>(root);
+	}
+
+	public void print() {
+		PersistentAVLtreenode<K, D> r = root;
+		if (r != null)
+			r.printindent(0);
+	}
+
+	/**
+	 * Checks the invariants of this version of the tree: every node satisfies
+	 * the AVL property and stores its correct height and size. Every tree
+	 * built by the public methods passes this check, so it is meant for tests
+	 * and debugging. (O(n) time)
+	 *
+	 * @return true iff all invariants hold.
+	 */
+	public boolean check() {
+		return check(root);
+	}
+
+	private static boolean check(PersistentAVLtreenode<?, ?> n) {
+		if (n == null)
+			return true;
+		int l = PersistentAVLtreenode.height(n.left), r = PersistentAVLtreenode.height(n.right);
+		if (l < r - 1 || r < l - 1 || n.h != 1 + Math.max(l, r))
+			return false;
+		if (n.s != 1 + PersistentAVLtreenode.size(n.left) + PersistentAVLtreenode.size(n.right))
+			return false;
+		return check(n.left) && check(n.right);
+	}
+}
+
+/**
+ * Traverses a persistent AVL-tree in-order. As there are no parent links in
+ * persistent nodes, the path to the current node is kept on a stack
+ * (logarithmic space).
+ */
+class PersistentAVLtreeIterator<K extends Comparable<K>, D> implements Iterator<K, D> {
+	private final ArrayStack<PersistentAVLtreenode<K, D>> path = new ArrayStack<PersistentAVLtreenode<K, D>>();
+	private PersistentAVLtreenode<K, D> node;
+
+	PersistentAVLtreeIterator(PersistentAVLtreenode<K, D> root) {
+		pushleft(root);
+		step();
+	}
+
+	/*
+	 * pushes n and its chain of left children onto the stack
+	 */
+	private void pushleft(PersistentAVLtreenode<K, D> n) {
+		for (; n != null; n = n.left)
+			path.push(n);
+	}
+
+	public void step() {
+		if (path.isempty()) {
+			node = null;
+			return;
+		}
+		node = path.pop();
+		pushleft(node.right);
+	}
+
+	public boolean more() {
+		return node != null;
+	}
+
+	public K key() {
+		return node.key;
+	}
+
+	public D data() {
+		return node.data;
+	}
+}
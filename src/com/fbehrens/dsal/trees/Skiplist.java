@@ -17,6 +17,9 @@ import com.fbehrens.dsal.arrays.Array;
  * All standard operations like insertion, deletion, finding, etc. need O(log n)
  * time in average.
  * 
+ * Optionally, a skiplist keeps the nodes of deleted keys in a bounded pool and
+ * reuses them for later insertions, see {@link #setpoolcapacity(int)}.
+ * 
  * @author Rossmanith
  *
  * @param <K>
@@ -59,6 +62,14 @@ public class Skiplist<K extends Comparable<K>, D> extends Dictionary<K, D> {
 	 */
 	Node head, tail;
 
+	/*
+	 * The pool of deleted nodes: pool.get(h - 1) is a chain (linked on level
+	 * 0) of nodes with h levels. At most poolcapacity nodes are kept, none by
+	 * default.
+	 */
+	Array<Node> pool;
+	int poolsize, poolcapacity;
+
 	/**
 	 * Creates a new empty skiplist with default geometric distribution (where p
 	 * = 0.5).
@@ -74,6 +85,69 @@ public class Skiplist<K extends Comparable<K>, D> extends Dictionary<K, D> {
 		head.succ.set(0, tail);
 		size = 0;
 		rand = new Random();
+		pool = new Array<Node>();
+		poolsize = poolcapacity = 0;
+	}
+
+	/**
+	 * Lets this skiplist keep up to capacity nodes of deleted keys for reuse.
+	 * A node is only reused for a key with the same number of levels. If the
+	 * pool holds more nodes than the new capacity, it is released.
+	 * 
+	 * @param capacity
+	 *            The maximal number of pooled nodes, 0 switches pooling off.
+	 */
+	public void setpoolcapacity(int capacity) {
+		poolcapacity = capacity;
+		if (poolsize > capacity)
+			releasepool();
+	}
+
+	/**
+	 * Releases all pooled nodes to the garbage collector; the pool capacity is
+	 * kept.
+	 */
+	public void releasepool() {
+		pool = new Array<Node>();
+		poolsize = 0;
+	}
+
+	/**
+	 * Returns the number of nodes which are pooled for reuse.
+	 */
+	public int poolsize() {
+		return poolsize;
+	}
+
+	/**
+	 * Returns a node with s levels, taken from the pool if possible.
+	 */
+	Node newnode(int s) {
+		Node n = pool.get(s - 1);
+		if (n == null) {
+			n = new Node();
+			n.succ = new Array<Node>(s);
+			return n;
+		}
+		pool.set(s - 1, n.succ.get(0));
+		poolsize--;
+		return n;
+	}
+
+	/**
+	 * Puts the unlinked node n into the pool if there is space.
+	 */
+	void recycle(Node n) {
+		if (poolsize >= poolcapacity)
+			return;
+		int s = n.succ.size();
+		n.key = null;
+		n.data = null;
+		for (int i = 1; i < s; i++)
+			n.succ.set(i, null);
+		n.succ.set(0, pool.get(s - 1));
+		pool.set(s - 1, n);
+		poolsize++;
 	}
 
 	/**
@@ -153,9 +227,13 @@ public class Skiplist<K extends Comparable<K>, D> extends Dictionary<K, D> {
 	 */
 	public void insert(K k, D d) {
 		/*
-		 * first delete the old entry, if it exists
+		 * if k is present, just overwrite its data
 		 */
-		delete(k);
+		Node n = findnode(k);
+		if (n != null) {
+			n.data = d;
+			return;
+		}
 		/*
 		 * then generate the nr of levels s on which the new node should be
 		 * inserted
@@ -164,12 +242,11 @@ public class Skiplist<K extends Comparable<K>, D> extends Dictionary<K, D> {
 		while (rand.nextDouble() >= prob)
 			s++;
 		/*
-		 * and create the new node
+		 * and create the new node (or reuse a pooled one)
 		 */
-		Node n = new Node();
+		n = newnode(s);
 		n.key = k;
 		n.data = d;
-		n.succ = new Array<Node>(s);
 		/*
 		 * now adjust the nr of successors of the head such the head has at
 		 * least s successors. This is done by creating new links to the tail on
@@ -179,6 +256,13 @@ public class Skiplist<K extends Comparable<K>, D> extends Dictionary<K, D> {
 		for (int i = 0; i < s; i++)
 			if (i >= head.succ.size())
 				head.succ.set(i, tail);
+		/*
+		 * step forwards on the levels above s, so that the search on the
+		 * lower levels does not start at the head again
+		 */
+		for (int i = head.succ.size() - 1; i >= s; i--)
+			while (m.succ.get(i) != tail && m.succ.get(i).key.compareTo(k) < 0)
+				m = m.succ.get(i);
 		/*
 		 * finally insert the new node on the lower s levels, starting from the
 		 * highest.
@@ -268,7 +352,7 @@ public class Skiplist<K extends Comparable<K>, D> extends Dictionary<K, D> {
 	 * @see Map#delete(Object)
 	 */
 	public void delete(K k) {
-		Node n = head;
+		Node n = head, deleted = null;
 		/*
 		 * if the key is not present in this list, then do nothing, otherwise
 		 * decrease size of this list and continue
@@ -292,9 +376,12 @@ public class Skiplist<K extends Comparable<K>, D> extends Dictionary<K, D> {
 			 * if the successor has the key we want to delete, then delete it
 			 * from the i-th level
 			 */
-			if (n.succ.get(i) != tail && n.succ.get(i).key.equals(k))
-				n.succ.set(i, n.succ.get(i).succ.get(i));
+			if (n.succ.get(i) != tail && n.succ.get(i).key.equals(k)) {
+				deleted = n.succ.get(i);
+				n.succ.set(i, deleted.succ.get(i));
+			}
 		}
+		recycle(deleted);
 	}
 
 	/**
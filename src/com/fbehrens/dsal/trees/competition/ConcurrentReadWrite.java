@@ -0,0 +1,155 @@
+package com.fbehrens.dsal.trees.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.Map;
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.trees.AVLtree;
+import com.fbehrens.dsal.trees.ConcurrentAVLtree;
+
+/**
+ * Many threads read and update one ordered map (90% lookups, 10% insertions
+ * and deletions). The total number of operations is the same for each
+ * competitor and is split evenly among the threads, so with good scaling the
+ * time drops with the number of threads. An {@link AVLtree} which is guarded
+ * by one lock is compared with the {@link ConcurrentAVLtree}, for 1, 2, 4, ...
+ * threads up to the number of available cores.
+ */
+public class ConcurrentReadWrite implements RuntimeComparator.CompetitorGroup {
+
+	private static final int KEYS = 100000;
+	private static final int OPERATIONS = 4000000;
+	private static final int READ_PERCENT = 90;
+
+	private static long seed = System.currentTimeMillis();
+
+	private static void fill(Map<Integer, Integer> map) {
+		Random r = new Random(seed);
+		for (int i = 0; i < KEYS / 2; i++) {
+			int k = r.nextInt(KEYS);
+			map.insert(k, k);
+		}
+	}
+
+	/*
+	 * runs the mixed workload on the given number of threads
+	 */
+	private static void readAndWrite(final Map<Integer, Integer> map, int threads) {
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			final Random r = new Random(seed + t);
+			final int operations = OPERATIONS / threads;
+			workers[t] = new Thread(() -> {
+				for (int i = 0; i < operations; i++) {
+					int k = r.nextInt(KEYS);
+					int op = r.nextInt(100);
+					if (op < READ_PERCENT) {
+						map.find(k);
+					} else if (op % 2 == 0) {
+						map.insert(k, k);
+					} else {
+						map.delete(k);
+					}
+				}
+			});
+			workers[t].start();
+		}
+		try {
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * An AVL-tree where every operation holds the same lock.
+	 */
+	private static class LockedAVLtree extends AVLtree<Integer, Integer> {
+		@Override
+		public synchronized void insert(Integer k, Integer d) {
+			super.insert(k, d);
+		}
+
+		@Override
+		public synchronized void delete(Integer k) {
+			super.delete(k);
+		}
+
+		@Override
+		public synchronized Integer find(Integer k) {
+			return super.find(k);
+		}
+	}
+
+	private static class LockedAVLtreeCompetitor implements RuntimeComparator.Competitor {
+		private final int threads;
+		private Map<Integer, Integer> map;
+
+		LockedAVLtreeCompetitor(int threads) {
+			this.threads = threads;
+		}
+
+		@Override
+		public String getName() {
+			return "LockedAVLtreeCompetitor (" + threads + " threads)";
+		}
+
+		@Override
+		public void prepare() {
+			map = new LockedAVLtree();
+			fill(map);
+		}
+
+		@Override
+		public void run() {
+			readAndWrite(map, threads);
+		}
+	}
+
+	private static class ConcurrentAVLtreeCompetitor implements RuntimeComparator.Competitor {
+		private final int threads;
+		private Map<Integer, Integer> map;
+
+		ConcurrentAVLtreeCompetitor(int threads) {
+			this.threads = threads;
+		}
+
+		@Override
+		public String getName() {
+			return "ConcurrentAVLtreeCompetitor (" + threads + " threads)";
+		}
+
+		@Override
+		public void prepare() {
+			map = new ConcurrentAVLtree<>();
+			fill(map);
+		}
+
+		@Override
+		public void run() {
+			readAndWrite(map, threads);
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int counts = 0;
+		for (int t = 1; t < cores; t *= 2) {
+			counts++;
+		}
+		Competitor[] competitors = new Competitor[2 * (counts + 1)];
+		int i = 0;
+		for (int t = 1; t < cores; t *= 2) {
+			competitors[i++] = new LockedAVLtreeCompetitor(t);
+			competitors[i++] = new ConcurrentAVLtreeCompetitor(t);
+		}
+		competitors[i++] = new LockedAVLtreeCompetitor(cores);
+		competitors[i++] = new ConcurrentAVLtreeCompetitor(cores);
+		return competitors;
+	}
+
+}
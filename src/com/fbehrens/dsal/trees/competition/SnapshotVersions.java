@@ -0,0 +1,132 @@
+package com.fbehrens.dsal.trees.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.Iterator;
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.trees.AVLtree;
+import com.fbehrens.dsal.trees.PersistentAVLtree;
+
+/**
+ * Keeps many point-in-time versions of an ordered map alive while it is being
+ * updated. With an {@link AVLtree} each version is a full copy, the
+ * {@link PersistentAVLtree} just takes a snapshot. Besides the time, the
+ * memory overhead per version is reported.
+ */
+public class SnapshotVersions implements RuntimeComparator.CompetitorGroup {
+
+	private static final int KEYS = 20000;
+	private static final int VERSIONS = 200;
+	private static final int UPDATES_PER_VERSION = 10;
+
+	private static long seed = System.currentTimeMillis();
+
+	/*
+	 * Returns the currently used heap memory after trying hard to collect all
+	 * garbage.
+	 */
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static String report(long before, long after) {
+		return String.format("%d bytes per version", (after - before) / VERSIONS);
+	}
+
+	private static class AVLtreeCopyCompetitor implements RuntimeComparator.Competitor {
+		private AVLtree<Integer, Integer> tree;
+		private Object[] versions;
+		private long before;
+		private String report;
+
+		@Override
+		public void prepare() {
+			Random r = new Random(seed);
+			tree = new AVLtree<>();
+			for (int i = 0; i < KEYS; i++) {
+				tree.insert(r.nextInt(), i);
+			}
+			versions = new Object[VERSIONS];
+			before = usedMemory();
+		}
+
+		@Override
+		public void run() {
+			Random r = new Random(seed + 1);
+			for (int v = 0; v < VERSIONS; v++) {
+				for (int i = 0; i < UPDATES_PER_VERSION; i++) {
+					tree.insert(r.nextInt(), i);
+				}
+				AVLtree<Integer, Integer> copy = new AVLtree<>();
+				for (Iterator<Integer, Integer> it = tree.iterator(); it.more(); it.step()) {
+					copy.insert(it.key(), it.data());
+				}
+				versions[v] = copy;
+			}
+		}
+
+		@Override
+		public void takeDown() {
+			report = report(before, usedMemory());
+			versions = null;
+			tree = null;
+		}
+
+		@Override
+		public String getReport() {
+			return report;
+		}
+	}
+
+	private static class PersistentAVLtreeCompetitor implements RuntimeComparator.Competitor {
+		private PersistentAVLtree<Integer, Integer> tree;
+		private Object[] versions;
+		private long before;
+		private String report;
+
+		@Override
+		public void prepare() {
+			Random r = new Random(seed);
+			tree = new PersistentAVLtree<>();
+			for (int i = 0; i < KEYS; i++) {
+				tree.insert(r.nextInt(), i);
+			}
+			versions = new Object[VERSIONS];
+			before = usedMemory();
+		}
+
+		@Override
+		public void run() {
+			Random r = new Random(seed + 1);
+			for (int v = 0; v < VERSIONS; v++) {
+				for (int i = 0; i < UPDATES_PER_VERSION; i++) {
+					tree.insert(r.nextInt(), i);
+				}
+				versions[v] = tree.snapshot();
+			}
+		}
+
+		@Override
+		public void takeDown() {
+			report = report(before, usedMemory());
+			versions = null;
+			tree = null;
+		}
+
+		@Override
+		public String getReport() {
+			return report;
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[] { new AVLtreeCopyCompetitor(), new PersistentAVLtreeCompetitor() };
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.fbehrens.dsal.trees.competition;
+
+import java.util.Random;
+
+import com.fbehrens.dsal.Map;
+import com.fbehrens.dsal.RuntimeComparator;
+import com.fbehrens.dsal.RuntimeComparator.Competitor;
+import com.fbehrens.dsal.lists.Hashtable;
+import com.fbehrens.dsal.trees.AVLtree;
+import com.fbehrens.dsal.trees.AdaptiveRadixtree;
+
+/**
+ * Stores a corpus of URLs, which share long prefixes, in different maps and
+ * looks all of them up (plus the same number of missing keys) several times.
+ */
+public class UrlLookup implements RuntimeComparator.CompetitorGroup {
+
+	private static final int URLS = 200000;
+	private static final int LOOKUP_ROUNDS = 5;
+
+	private static final String[] HOSTS = { "www.example.com", "www.example.org", "shop.example.com",
+			"api.example.com", "static.example.net", "docs.example.com", "blog.example.org", "cdn.example.net" };
+	private static final String[] SEGMENTS = { "api", "v1", "v2", "users", "orders", "products", "items", "search",
+			"assets", "images", "css", "js", "docs", "reference", "guide", "blog", "2016", "2017", "archive",
+			"category", "tag", "download", "static", "account", "settings", "help" };
+
+	private static String[] urls, missing;
+
+	/*
+	 * Generates the same corpus for all competitors: https://host/seg/seg/.../id
+	 */
+	private static void generateCorpus() {
+		if (urls != null) {
+			return;
+		}
+		Random r = new Random(42);
+		urls = new String[URLS];
+		missing = new String[URLS];
+		for (int i = 0; i < URLS; i++) {
+			StringBuilder url = new StringBuilder("https://").append(HOSTS[r.nextInt(HOSTS.length)]);
+			int depth = 1 + r.nextInt(5);
+			for (int j = 0; j < depth; j++) {
+				url.append('/').append(SEGMENTS[r.nextInt(SEGMENTS.length)]);
+			}
+			url.append('/').append(i);
+			urls[i] = url.toString();
+			missing[i] = url.append(".html").toString();
+		}
+	}
+
+	private static void storeAndLookUp(Map<String, Integer> map) {
+		for (int i = 0; i < URLS; i++) {
+			map.insert(urls[i], i);
+		}
+		for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+			for (int i = 0; i < URLS; i++) {
+				if (!Integer.valueOf(i).equals(map.find(urls[i])) || map.contains(missing[i])) {
+					throw new IllegalStateException("lookup failed for " + urls[i]);
+				}
+			}
+		}
+	}
+
+	private static class AVLtreeCompetitor implements RuntimeComparator.Competitor {
+		@Override
+		public void prepare() {
+			generateCorpus();
+		}
+
+		@Override
+		public void run() {
+			storeAndLookUp(new AVLtree<String, Integer>());
+		}
+	}
+
+	private static class HashtableCompetitor implements RuntimeComparator.Competitor {
+		@Override
+		public void prepare() {
+			generateCorpus();
+		}
+
+		@Override
+		public void run() {
+			storeAndLookUp(new Hashtable<String, Integer>());
+		}
+	}
+
+	private static class AdaptiveRadixtreeCompetitor implements RuntimeComparator.Competitor {
+		@Override
+		public void prepare() {
+			generateCorpus();
+		}
+
+		@Override
+		public void run() {
+			storeAndLookUp(AdaptiveRadixtree.<Integer> strings());
+		}
+	}
+
+	@Override
+	public Competitor[] getCompetitors() {
+		return new Competitor[] { new AVLtreeCompetitor(), new HashtableCompetitor(),
+				new AdaptiveRadixtreeCompetitor() };
+	}
+
+}
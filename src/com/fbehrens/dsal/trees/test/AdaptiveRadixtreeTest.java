@@ -0,0 +1,139 @@
+package com.fbehrens.dsal.trees.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.Iterator;
+import com.fbehrens.dsal.trees.AdaptiveRadixtree;
+
+public class AdaptiveRadixtreeTest extends DictionaryTest<byte[], AdaptiveRadixtree<byte[], Integer>> {
+
+	/*
+	 * the order of the tree: unsigned lexicographic, a prefix comes first
+	 */
+	private static final Comparator<byte[]> UNSIGNED = (a, b) -> {
+		for (int i = 0; i < Math.min(a.length, b.length); i++) {
+			int c = (a[i] & 0xff) - (b[i] & 0xff);
+			if (c != 0)
+				return c;
+		}
+		return a.length - b.length;
+	};
+
+	/*
+	 * a small alphabet produces many common prefixes and keys which are
+	 * prefixes of others, a large one makes the nodes grow to 48 and 256
+	 * children and shrink again
+	 */
+	private int alphabet = 256;
+
+	@Override
+	public AdaptiveRadixtree<byte[], Integer> getDictionary() {
+		return AdaptiveRadixtree.bytes();
+	}
+
+	@Override
+	public byte[] randomKey(Random r) {
+		byte[] k = new byte[r.nextInt(5)];
+		for (int i = 0; i < k.length; i++)
+			k[i] = (byte) r.nextInt(alphabet);
+		return k;
+	}
+
+	@Override
+	public Comparator<? super byte[]> order() {
+		return UNSIGNED;
+	}
+
+	/*
+	 * also compares the minimum and maximum
+	 */
+	@Override
+	protected void assertSameEntries(TreeMap<byte[], Integer> expected, AdaptiveRadixtree<byte[], Integer> tree) {
+		super.assertSameEntries(expected, tree);
+		if (expected.isEmpty()) {
+			assertNull(tree.min());
+			assertNull(tree.max());
+		} else {
+			assertArrayEquals(expected.firstKey(), tree.min());
+			assertArrayEquals(expected.lastKey(), tree.max());
+		}
+	}
+
+	@Test
+	public void randomSmallAlphabet() {
+		alphabet = 3;
+		randomOperations(1);
+	}
+
+	@Test
+	public void growAndShrink() {
+		// the children of the root and of the node below prefix 7 pass
+		// through all node sizes, in both directions
+		AdaptiveRadixtree<byte[], Integer> tree = AdaptiveRadixtree.bytes();
+		TreeMap<byte[], Integer> expected = new TreeMap<>(UNSIGNED);
+		for (int c = 255; c >= 0; c--) {
+			byte[] k = { (byte) c }, l = { 7, (byte) c, 1 };
+			tree.insert(k, c);
+			expected.put(k, c);
+			tree.insert(l, -c);
+			expected.put(l, -c);
+			if (c % 4 == 0)
+				assertSameEntries(expected, tree);
+		}
+		for (int c = 0; c < 256; c++) {
+			byte[] k = { (byte) c }, l = { 7, (byte) c, 1 };
+			tree.delete(k);
+			expected.remove(k);
+			tree.delete(l);
+			expected.remove(l);
+			if (c % 4 == 0 || c > 250)
+				assertSameEntries(expected, tree);
+		}
+		assertEquals(true, tree.isempty());
+	}
+
+	@Test
+	public void prefixes() {
+		AdaptiveRadixtree<String, Integer> tree = AdaptiveRadixtree.strings();
+		String[] keys = { "", "a", "ab", "abc", "abcd", "abd", "b" };
+		for (int i = keys.length - 1; i >= 0; i--)
+			tree.insert(keys[i], i);
+		assertEquals(keys.length, tree.size());
+		assertEquals("", tree.min());
+		assertEquals("b", tree.max());
+		int i = 0;
+		for (Iterator<String, Integer> it = tree.iterator(); it.more(); it.step(), i++) {
+			assertEquals(keys[i], it.key());
+			assertEquals(i, (int) it.data());
+		}
+		assertEquals(keys.length, i);
+		tree.delete("ab");
+		assertEquals(false, tree.contains("ab"));
+		assertEquals(true, tree.contains("abc"));
+		assertEquals(true, tree.contains("a"));
+		assertNull(tree.find("abce"));
+		tree.delete("");
+		assertEquals("a", tree.min());
+		tree.insert("a", 42);
+		assertEquals(42, (int) tree.find("a"));
+		assertEquals(keys.length - 2, tree.size());
+	}
+
+	@Test
+	public void unsignedOrder() {
+		AdaptiveRadixtree<byte[], Integer> tree = AdaptiveRadixtree.bytes();
+		tree.insert(new byte[] { (byte) 0x80 }, 1);
+		tree.insert(new byte[] { 0x7f }, 2);
+		tree.insert(new byte[] { (byte) 0xff, 0 }, 3);
+		assertArrayEquals(new byte[] { 0x7f }, tree.min());
+		assertArrayEquals(new byte[] { (byte) 0xff, 0 }, tree.max());
+	}
+}
@@ -0,0 +1,139 @@
+package com.fbehrens.dsal.trees.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.trees.ConcurrentAVLtree;
+
+public class ConcurrentAVLtreeTest extends DictionaryTest<Integer, ConcurrentAVLtree<Integer, Integer>> {
+
+	private static final int THREADS = 4;
+
+	@Override
+	public ConcurrentAVLtree<Integer, Integer> getDictionary() {
+		return new ConcurrentAVLtree<>();
+	}
+
+	@Override
+	public Integer randomKey(Random r) {
+		return r.nextInt(2000);
+	}
+
+	@Override
+	public Comparator<? super Integer> order() {
+		return Comparator.naturalOrder();
+	}
+
+	@Override
+	public boolean check(ConcurrentAVLtree<Integer, Integer> tree) {
+		return tree.check();
+	}
+
+	@Test
+	public void nullData() {
+		ConcurrentAVLtree<Integer, Integer> tree = new ConcurrentAVLtree<>();
+		tree.insert(1, null);
+		assertEquals(true, tree.contains(1));
+		assertNull(tree.find(1));
+		assertEquals(1, tree.size());
+		tree.delete(1);
+		assertEquals(false, tree.contains(1));
+		assertEquals(true, tree.isempty());
+	}
+
+	@Test
+	public void concurrentUpdates() throws InterruptedException {
+		// every thread owns the keys k with k % THREADS == t and mirrors its
+		// updates in its own TreeMap, while all threads also look up the keys
+		// of the others; afterwards the tree has to hold the union
+		final ConcurrentAVLtree<Integer, Integer> tree = new ConcurrentAVLtree<>();
+		final TreeMap<Integer, Integer>[] expected = newMaps(THREADS);
+		final AtomicInteger wrong = new AtomicInteger();
+		Thread[] threads = new Thread[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			final int own = t;
+			threads[t] = new Thread(() -> {
+				Random r = new Random(own);
+				for (int i = 0; i < 50000; i++) {
+					int k = r.nextInt(1000) * THREADS + own;
+					int op = r.nextInt(4);
+					if (op == 0) {
+						tree.insert(k, i);
+						expected[own].put(k, i);
+					} else if (op == 1) {
+						tree.delete(k);
+						expected[own].remove(k);
+					} else if (op == 2) {
+						Integer d = tree.find(k);
+						if (d == null ? expected[own].containsKey(k) : !d.equals(expected[own].get(k)))
+							wrong.incrementAndGet();
+					} else
+						tree.find(r.nextInt(1000 * THREADS));
+				}
+			});
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(0, wrong.get());
+		assertTrue(tree.check());
+		TreeMap<Integer, Integer> all = new TreeMap<>();
+		for (TreeMap<Integer, Integer> map : expected)
+			all.putAll(map);
+		assertSameEntries(all, tree);
+	}
+
+	@Test
+	public void concurrentInsertsAndDeletesOfSameKeys() throws InterruptedException {
+		// all threads insert and delete the same small range of keys, which
+		// forces conflicting rotations and unlinks; every thread finally
+		// inserts the even keys and deletes the odd ones
+		final ConcurrentAVLtree<Integer, Integer> tree = new ConcurrentAVLtree<>();
+		final int keys = 200;
+		Thread[] threads = new Thread[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			final int own = t;
+			threads[t] = new Thread(() -> {
+				Random r = new Random(100 + own);
+				for (int i = 0; i < 50000; i++) {
+					int k = r.nextInt(keys);
+					if (r.nextBoolean())
+						tree.insert(k, k);
+					else
+						tree.delete(k);
+				}
+				for (int k = 0; k < keys; k++)
+					if (k % 2 == 0)
+						tree.insert(k, k);
+					else
+						tree.delete(k);
+			});
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		assertTrue(tree.check());
+		TreeMap<Integer, Integer> expected = new TreeMap<>();
+		for (int k = 0; k < keys; k += 2)
+			expected.put(k, k);
+		assertSameEntries(expected, tree);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static TreeMap<Integer, Integer>[] newMaps(int n) {
+		TreeMap<Integer, Integer>[] maps = new TreeMap[n];
+		for (int i = 0; i < n; i++)
+			maps[i] = new TreeMap<>();
+		return maps;
+	}
+}
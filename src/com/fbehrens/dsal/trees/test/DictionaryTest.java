@@ -0,0 +1,118 @@
+package com.fbehrens.dsal.trees.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Comparator;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.Dictionary;
+import com.fbehrens.dsal.Iterator;
+
+/**
+ * The tests which every ordered {@link Dictionary} has to pass: random
+ * updates and lookups are compared with a {@link TreeMap}. The subclasses
+ * provide the dictionary, its keys and its invariant check, and add their own
+ * tests.
+ *
+ * @param <K>
+ *            The type of the keys.
+ * @param <T>
+ *            The type of the dictionary under test.
+ */
+public abstract class DictionaryTest<K, T extends Dictionary<K, Integer>> {
+
+	/**
+	 * Returns a new empty dictionary of the class under test.
+	 */
+	public abstract T getDictionary();
+
+	/**
+	 * Returns a random key, from a range small enough that keys are inserted
+	 * and deleted again many times.
+	 */
+	public abstract K randomKey(Random r);
+
+	/**
+	 * Returns the order in which the iterator of the dictionary returns the
+	 * keys.
+	 */
+	public abstract Comparator<? super K> order();
+
+	/**
+	 * Checks the invariants of the dictionary; by default there are none.
+	 */
+	public boolean check(T dictionary) {
+		return true;
+	}
+
+	/**
+	 * Compares the entries of dictionary, in the order of its iterator, with
+	 * expected.
+	 */
+	protected void assertSameEntries(TreeMap<K, Integer> expected, T dictionary) {
+		Iterator<K, Integer> it = dictionary.iterator();
+		for (Entry<K, Integer> e : expected.entrySet()) {
+			assertTrue(it.more());
+			assertEquals(0, order().compare(e.getKey(), it.key()));
+			assertEquals(e.getValue(), it.data());
+			it.step();
+		}
+		assertEquals(false, it.more());
+		assertEquals(expected.size(), dictionary.size());
+		assertEquals(expected.isEmpty(), dictionary.isempty());
+	}
+
+	/**
+	 * Applies 50000 random inserts, deletes and lookups to a new dictionary
+	 * and to a TreeMap, and compares both every 1000 operations.
+	 *
+	 * @return The dictionary after the operations.
+	 */
+	protected T randomOperations(long seed) {
+		Random r = new Random(seed);
+		T dictionary = getDictionary();
+		TreeMap<K, Integer> expected = new TreeMap<>(order());
+		for (int i = 0; i < 50000; i++) {
+			K k = randomKey(r);
+			switch (r.nextInt(3)) {
+			case 0:
+				dictionary.insert(k, i);
+				expected.put(k, i);
+				break;
+			case 1:
+				dictionary.delete(k);
+				expected.remove(k);
+				break;
+			default:
+				assertEquals(expected.get(k), dictionary.find(k));
+				assertEquals(expected.containsKey(k), dictionary.contains(k));
+			}
+			if (i % 1000 == 0) {
+				assertTrue(check(dictionary));
+				assertSameEntries(expected, dictionary);
+			}
+		}
+		assertTrue(check(dictionary));
+		assertSameEntries(expected, dictionary);
+		return dictionary;
+	}
+
+	@Test
+	public void randomOperations() {
+		randomOperations(42);
+	}
+
+	@Test
+	public void empty() {
+		T dictionary = getDictionary();
+		assertEquals(true, dictionary.isempty());
+		assertEquals(0, dictionary.size());
+		assertEquals(false, dictionary.iterator().more());
+		assertTrue(check(dictionary));
+	}
+}
@@ -0,0 +1,109 @@
+package com.fbehrens.dsal.trees.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.fbehrens.dsal.Iterator;
+import com.fbehrens.dsal.trees.PersistentAVLtree;
+
+public class PersistentAVLtreeTest extends DictionaryTest<Integer, PersistentAVLtree<Integer, Integer>> {
+
+	@Override
+	public PersistentAVLtree<Integer, Integer> getDictionary() {
+		return new PersistentAVLtree<>();
+	}
+
+	@Override
+	public Integer randomKey(Random r) {
+		return r.nextInt(2000);
+	}
+
+	@Override
+	public Comparator<? super Integer> order() {
+		return Comparator.naturalOrder();
+	}
+
+	@Override
+	public boolean check(PersistentAVLtree<Integer, Integer> tree) {
+		return tree.check();
+	}
+
+	@Test
+	public void logarithmicHeight() {
+		PersistentAVLtree<Integer, Integer> tree = randomOperations(1);
+		for (int k = 0; k < 10000; k++)
+			tree.insert(k, k);
+		// an AVL tree with n nodes has height < 1.45 log2(n + 2)
+		assertTrue(tree.height() < 1.45 * Math.log(tree.size() + 2) / Math.log(2));
+	}
+
+	@Test
+	public void snapshotsAreNotAffectedByLaterUpdates() {
+		Random r = new Random(7);
+		PersistentAVLtree<Integer, Integer> tree = new PersistentAVLtree<>();
+		TreeMap<Integer, Integer> expected = new TreeMap<>();
+		ArrayList<PersistentAVLtree<Integer, Integer>> snapshots = new ArrayList<>();
+		ArrayList<TreeMap<Integer, Integer>> contents = new ArrayList<>();
+		for (int v = 0; v < 50; v++) {
+			for (int i = 0; i < 100; i++) {
+				int k = r.nextInt(500);
+				if (r.nextInt(3) == 0) {
+					tree.delete(k);
+					expected.remove(k);
+				} else {
+					tree.insert(k, v);
+					expected.put(k, v);
+				}
+			}
+			snapshots.add(tree.snapshot());
+			contents.add(new TreeMap<>(expected));
+		}
+		for (int v = 0; v < snapshots.size(); v++) {
+			assertTrue(snapshots.get(v).check());
+			assertSameEntries(contents.get(v), snapshots.get(v));
+		}
+		// and updates of a snapshot do not affect the tree
+		PersistentAVLtree<Integer, Integer> copy = tree.snapshot();
+		copy.insert(-1, -1);
+		copy.delete(expected.firstKey());
+		assertSameEntries(expected, tree);
+	}
+
+	@Test
+	public void insertedAndDeletedReturnNewVersions() {
+		PersistentAVLtree<Integer, Integer> empty = new PersistentAVLtree<>();
+		PersistentAVLtree<Integer, Integer> one = empty.inserted(1, 10);
+		PersistentAVLtree<Integer, Integer> two = one.inserted(2, 20);
+		PersistentAVLtree<Integer, Integer> back = two.deleted(1);
+		assertEquals(true, empty.isempty());
+		assertEquals(1, one.size());
+		assertNull(one.find(2));
+		assertEquals(20, (int) two.find(2));
+		assertEquals(10, (int) two.find(1));
+		assertEquals(false, back.contains(1));
+		assertEquals(true, two.contains(1));
+	}
+
+	@Test
+	public void iteratorSeesTheVersionOfItsCreation() {
+		PersistentAVLtree<Integer, Integer> tree = new PersistentAVLtree<>();
+		for (int k = 0; k < 10; k++)
+			tree.insert(k, k);
+		Iterator<Integer, Integer> it = tree.iterator();
+		for (int k = 0; k < 10; k++)
+			tree.delete(k);
+		int count = 0;
+		for (; it.more(); it.step())
+			assertEquals(count++, (int) it.key());
+		assertEquals(10, count);
+		assertEquals(true, tree.isempty());
+	}
+}